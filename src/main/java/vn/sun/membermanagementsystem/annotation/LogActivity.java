@@ -11,4 +11,12 @@ public @interface LogActivity {
     String action();
     String entityType();
     String description() default "";
+
+    /**
+     * Where the audited entity id comes from: {@code #result}, a method argument by name
+     * ({@code #teamId}) or position ({@code #p0}), optionally followed by property getters
+     * ({@code #result.id}, {@code #p0.id}). Empty means {@code #result.id} when the return type has one.
+     * The expression is resolved once per method and any numeric value is stored as a Long.
+     */
+    String entityId() default "";
 }
@@ -6,64 +6,55 @@ import lombok.extern.slf4j.Slf4j;
 import org.aspectj.lang.JoinPoint;
 import org.aspectj.lang.annotation.AfterReturning;
 import org.aspectj.lang.annotation.Aspect;
+import org.aspectj.lang.reflect.MethodSignature;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Component;
 import org.springframework.web.context.request.RequestContextHolder;
 import org.springframework.web.context.request.ServletRequestAttributes;
 import vn.sun.membermanagementsystem.annotation.LogActivity;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
 import vn.sun.membermanagementsystem.entities.ActivityLog;
-import vn.sun.membermanagementsystem.entities.User;
-import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
-import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.ActivityLogWriter;
 
 import java.lang.reflect.Method;
 import java.time.LocalDateTime;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
 
 @Aspect
 @Component
 @Slf4j
 @RequiredArgsConstructor
 public class ActivityLogAspect {
-    private final ActivityLogRepository activityLogRepository;
-    private final UserRepository userRepository;
+    private final ActivityLogWriter activityLogWriter;
+
+    private final Map<Method, LogActivityMetadata> metadataCache = new ConcurrentHashMap<>();
 
     @AfterReturning(pointcut = "@annotation(logActivity)", returning = "result")
     public void logAfter(JoinPoint joinPoint, LogActivity logActivity, Object result) {
         try{
             Authentication auth = SecurityContextHolder.getContext().getAuthentication();
-            Long currentUserId = null;
-            if (auth != null && auth.isAuthenticated()) {
-                String email = auth.getName();
-                currentUserId = userRepository.findByEmail(email).map(User::getId).orElse(null);
-            }
+            Long currentUserId = UserPrincipal.currentUserId(auth);
 
             HttpServletRequest request = ((ServletRequestAttributes)RequestContextHolder.currentRequestAttributes()).getRequest();
 
-            Long entityId = null;
-            if (result != null) {
-                try {
-                    Method getIdMethod = result.getClass().getMethod("getId");
-                    Object idObj = getIdMethod.invoke(result);
-                    if (idObj instanceof Integer) {
-                        entityId = (Long) idObj;
-                    }
-                } catch (Exception e) {
-                }
-            }
+            MethodSignature signature = (MethodSignature) joinPoint.getSignature();
+            LogActivityMetadata metadata = metadataCache.computeIfAbsent(signature.getMethod(),
+                    method -> LogActivityMetadata.compile(method, signature.getParameterNames(), logActivity));
 
             ActivityLog newLog = new ActivityLog();
             newLog.setAction(logActivity.action());
             newLog.setEntityType(logActivity.entityType());
-            newLog.setEntityId(entityId);
+            newLog.setEntityId(metadata.resolveEntityId(joinPoint.getArgs(), result));
             newLog.setUserId(currentUserId);
-            newLog.setDescription(logActivity.description() + " - Method: " + joinPoint.getSignature().getName());
+            newLog.setDescription(metadata.getDescription());
             newLog.setIpAddress(request.getRemoteAddr());
             newLog.setUserAgent(request.getHeader("User-Agent"));
             newLog.setCreatedAt(LocalDateTime.now());
 
-            activityLogRepository.save(newLog);
-            log.info("Activity logged: {}", newLog);
+            activityLogWriter.write(newLog);
+            log.debug("Activity queued: {}", newLog);
         }catch (Exception e) {
              log.error("Failed to log activity: {}", e.getMessage());
         }
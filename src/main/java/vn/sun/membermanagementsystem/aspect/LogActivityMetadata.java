@@ -0,0 +1,169 @@
+package vn.sun.membermanagementsystem.aspect;
+
+import lombok.extern.slf4j.Slf4j;
+import vn.sun.membermanagementsystem.annotation.LogActivity;
+
+import java.lang.invoke.MethodHandle;
+import java.lang.invoke.MethodHandles;
+import java.lang.invoke.MethodType;
+import java.lang.reflect.Method;
+import java.util.regex.Matcher;
+import java.util.regex.Pattern;
+
+/**
+ * Everything the aspect needs for one {@link LogActivity} method, worked out on the first call.
+ * The entity id expression is compiled into a chain of getter MethodHandles typed against the
+ * declared return or parameter types, so an audited call costs a few handle invocations and no lookups.
+ */
+@Slf4j
+final class LogActivityMetadata {
+
+    private static final String RESULT = "result";
+    private static final String DEFAULT_EXPRESSION = "#result.id";
+    private static final Pattern POSITIONAL = Pattern.compile("[pa](\\d+)");
+    private static final MethodType GETTER_TYPE = MethodType.methodType(Object.class, Object.class);
+    private static final MethodHandle[] NO_GETTERS = new MethodHandle[0];
+
+    private static final int NO_SOURCE = -2;
+    private static final int RESULT_SOURCE = -1;
+
+    private final String description;
+    private final int source;
+    private final MethodHandle[] getters;
+
+    private LogActivityMetadata(String description, int source, MethodHandle[] getters) {
+        this.description = description;
+        this.source = source;
+        this.getters = getters;
+    }
+
+    String getDescription() {
+        return description;
+    }
+
+    static LogActivityMetadata compile(Method method, String[] parameterNames, LogActivity logActivity) {
+        String description = logActivity.description() + " - Method: " + method.getName();
+        String expression = logActivity.entityId().trim();
+        boolean explicit = !expression.isEmpty();
+        if (!explicit) {
+            expression = DEFAULT_EXPRESSION;
+        }
+
+        try {
+            return compileExpression(description, method, parameterNames, expression);
+        } catch (IllegalArgumentException | ReflectiveOperationException e) {
+            // Without an explicit expression a return type lacking getId() simply has no entity id
+            if (explicit) {
+                log.warn("Invalid @LogActivity entityId '{}' on {}.{}: {}", expression,
+                        method.getDeclaringClass().getSimpleName(), method.getName(), e.getMessage());
+            }
+            return new LogActivityMetadata(description, NO_SOURCE, NO_GETTERS);
+        }
+    }
+
+    private static LogActivityMetadata compileExpression(String description, Method method, String[] parameterNames,
+                                                         String expression) throws ReflectiveOperationException {
+        if (!expression.startsWith("#")) {
+            throw new IllegalArgumentException("expression must start with '#'");
+        }
+        String[] parts = expression.substring(1).split("\\.");
+
+        int source;
+        Class<?> type;
+        String root = parts[0];
+        Matcher positional = POSITIONAL.matcher(root);
+        if (RESULT.equals(root)) {
+            source = RESULT_SOURCE;
+            type = method.getReturnType();
+            if (type == void.class) {
+                throw new IllegalArgumentException("method returns void");
+            }
+        } else if (positional.matches()) {
+            source = Integer.parseInt(positional.group(1));
+            if (source >= method.getParameterCount()) {
+                throw new IllegalArgumentException("no parameter at position " + source);
+            }
+            type = method.getParameterTypes()[source];
+        } else {
+            source = indexOf(parameterNames, root);
+            if (source < 0) {
+                throw new IllegalArgumentException("no parameter named " + root);
+            }
+            type = method.getParameterTypes()[source];
+        }
+
+        MethodHandles.Lookup lookup = MethodHandles.publicLookup();
+        MethodHandle[] getters = new MethodHandle[parts.length - 1];
+        for (int i = 1; i < parts.length; i++) {
+            if (parts[i].isEmpty()) {
+                throw new IllegalArgumentException("empty property name");
+            }
+            Method getter = findGetter(type, parts[i]);
+            getters[i - 1] = lookup.unreflect(getter).asType(GETTER_TYPE);
+            type = getter.getReturnType();
+        }
+        return new LogActivityMetadata(description, source, getters);
+    }
+
+    /**
+     * Evaluates the compiled expression. Null intermediate values, non-numeric results and getter
+     * failures all yield null: a missing entity id must never break the audited call.
+     */
+    Long resolveEntityId(Object[] args, Object result) {
+        Object value;
+        if (source == RESULT_SOURCE) {
+            value = result;
+        } else if (source >= 0 && args != null && source < args.length) {
+            value = args[source];
+        } else {
+            return null;
+        }
+
+        try {
+            for (MethodHandle getter : getters) {
+                if (value == null) {
+                    return null;
+                }
+                value = (Object) getter.invokeExact(value);
+            }
+        } catch (Throwable e) {
+            log.debug("Entity id getter failed: {}", e.getMessage());
+            return null;
+        }
+
+        if (value instanceof Long id) {
+            return id;
+        }
+        if (value instanceof Number number) {
+            return number.longValue();
+        }
+        return null;
+    }
+
+    private static Method findGetter(Class<?> type, String property) throws NoSuchMethodException {
+        String suffix = Character.toUpperCase(property.charAt(0)) + property.substring(1);
+        for (String name : new String[]{"get" + suffix, "is" + suffix, property}) {
+            try {
+                Method method = type.getMethod(name);
+                if (method.getReturnType() != void.class) {
+                    return method;
+                }
+            } catch (NoSuchMethodException ignored) {
+                // try the next naming convention
+            }
+        }
+        throw new NoSuchMethodException(type.getSimpleName() + " has no getter for " + property);
+    }
+
+    private static int indexOf(String[] parameterNames, String name) {
+        if (parameterNames == null) {
+            return -1;
+        }
+        for (int i = 0; i < parameterNames.length; i++) {
+            if (name.equals(parameterNames[i])) {
+                return i;
+            }
+        }
+        return -1;
+    }
+}
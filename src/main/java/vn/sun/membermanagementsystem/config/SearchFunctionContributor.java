@@ -0,0 +1,22 @@
+package vn.sun.membermanagementsystem.config;
+
+import org.hibernate.boot.model.FunctionContributions;
+import org.hibernate.boot.model.FunctionContributor;
+import org.hibernate.type.StandardBasicTypes;
+
+/**
+ * Exposes MySQL full-text matching to JPQL as {@code match_against(column, query)}, so queries using
+ * the FULLTEXT indexes keep their entity paths and Pageable sorting instead of turning native.
+ * Registered through META-INF/services.
+ */
+public class SearchFunctionContributor implements FunctionContributor {
+
+    @Override
+    public void contributeFunctions(FunctionContributions functionContributions) {
+        functionContributions.getFunctionRegistry().registerPattern(
+                "match_against",
+                "match(?1) against(?2 in boolean mode)",
+                functionContributions.getTypeConfiguration().getBasicTypeRegistry()
+                        .resolve(StandardBasicTypes.DOUBLE));
+    }
+}
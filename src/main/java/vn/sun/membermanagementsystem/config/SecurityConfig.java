@@ -1,6 +1,8 @@
 package vn.sun.membermanagementsystem.config;
 
+import com.fasterxml.jackson.databind.ObjectMapper;
 import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.core.annotation.Order;
@@ -11,14 +13,16 @@ import org.springframework.security.config.annotation.method.configuration.Enabl
 import org.springframework.security.config.annotation.web.builders.HttpSecurity;
 import org.springframework.security.config.annotation.web.configuration.EnableWebSecurity;
 import org.springframework.security.config.http.SessionCreationPolicy;
-import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
-import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.security.web.SecurityFilterChain;
 import org.springframework.security.web.authentication.UsernamePasswordAuthenticationFilter;
 import vn.sun.membermanagementsystem.config.jwt.JwtAuthenticationFilter;
 import vn.sun.membermanagementsystem.config.security.AuthenticationLoggingHandler;
+import vn.sun.membermanagementsystem.config.security.BoundedPasswordEncoder;
 import vn.sun.membermanagementsystem.config.security.JwtAccessDeniedHandler;
 import vn.sun.membermanagementsystem.config.security.JwtAuthenticationEntryPoint;
+import vn.sun.membermanagementsystem.config.security.ClientIpResolver;
+import vn.sun.membermanagementsystem.config.security.RateLimitFilter;
+import vn.sun.membermanagementsystem.config.security.TokenBucketRateLimiter;
 import vn.sun.membermanagementsystem.config.services.CustomUserDetailsService;
 
 @Configuration
@@ -40,10 +44,31 @@ public class SecurityConfig {
     
     @Autowired
     private AuthenticationLoggingHandler authenticationLoggingHandler;
+
+    @Autowired
+    private TokenBucketRateLimiter tokenBucketRateLimiter;
+
+    @Autowired
+    private ClientIpResolver clientIpResolver;
+
+    @Autowired
+    private ObjectMapper objectMapper;
+    
+    @Value("${security.password.bcrypt-strength:10}")
+    private int bcryptStrength;
+
+    @Value("${security.password.pool-size:0}")
+    private int passwordPoolSize;
+
+    @Value("${security.password.queue-capacity:64}")
+    private int passwordQueueCapacity;
+
+    @Value("${security.password.max-wait-ms:2000}")
+    private long passwordMaxWaitMs;
     
     @Bean
-    public PasswordEncoder passwordEncoder() {
-        return new BCryptPasswordEncoder();
+    public BoundedPasswordEncoder passwordEncoder() {
+        return new BoundedPasswordEncoder(bcryptStrength, passwordPoolSize, passwordQueueCapacity, passwordMaxWaitMs);
     }
 
     @Bean
@@ -51,6 +76,8 @@ public class SecurityConfig {
         DaoAuthenticationProvider authProvider = new DaoAuthenticationProvider();
         authProvider.setUserDetailsService(userDetailsService);
         authProvider.setPasswordEncoder(passwordEncoder());
+        // Re-hashes passwords stored with a lower cost than bcrypt-strength on the next successful login
+        authProvider.setUserDetailsPasswordService(userDetailsService);
         return authProvider;
     }
 
@@ -79,7 +106,9 @@ public class SecurityConfig {
                 .accessDeniedHandler(jwtAccessDeniedHandler)
             )
             .authenticationProvider(authenticationProvider())
-            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class);
+            .addFilterBefore(jwtAuthenticationFilter, UsernamePasswordAuthenticationFilter.class)
+            // After JWT authentication so authenticated callers are limited per user rather than per IP
+            .addFilterAfter(new RateLimitFilter(tokenBucketRateLimiter, clientIpResolver, objectMapper), JwtAuthenticationFilter.class);
         
         return http.build();
     }
@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.config.jwt;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.http.HttpServletRequest;
@@ -12,8 +13,10 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.web.authentication.WebAuthenticationDetailsSource;
 import org.springframework.stereotype.Component;
-import org.springframework.util.StringUtils;
 import org.springframework.web.filter.OncePerRequestFilter;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
+import vn.sun.membermanagementsystem.config.security.TokenRevocationRegistry;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
 import vn.sun.membermanagementsystem.config.services.CustomUserDetailsService;
 
 import java.io.IOException;
@@ -28,19 +31,25 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
     
     @Autowired
     private CustomUserDetailsService userDetailsService;
+
+    @Autowired
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Autowired
+    private TokenRevocationRegistry tokenRevocationRegistry;
     
     @Override
     protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
             throws ServletException, IOException {
         try {
-            String jwt = parseJwt(request);
+            String jwt = jwtUtils.resolveToken(request);
             if (jwt != null && SecurityContextHolder.getContext().getAuthentication() == null) {
-                String username = jwtUtils.extractUsername(jwt);
+                Claims claims = jwtUtils.getVerifiedClaims(jwt);
                 
-                if (username != null) {
-                    UserDetails userDetails = userDetailsService.loadUserByUsername(username);
+                if (claims != null && !tokenRevocationRegistry.isRevoked(claims.getId())) {
+                    UserDetails userDetails = resolvePrincipal(claims);
                     
-                    if (jwtUtils.validateToken(jwt, userDetails)) {
+                    if (userDetails != null) {
                         UsernamePasswordAuthenticationToken authentication = 
                             new UsernamePasswordAuthenticationToken(
                                 userDetails, 
@@ -59,13 +68,18 @@ public class JwtAuthenticationFilter extends OncePerRequestFilter {
         filterChain.doFilter(request, response);
     }
     
-    private String parseJwt(HttpServletRequest request) {
-        String headerAuth = request.getHeader("Authorization");
-        
-        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
-            return headerAuth.substring(7);
+    /**
+     * Builds the principal from the signed claims; the epoch check rejects tokens of users who were
+     * deactivated, deleted or changed since the token was issued. Only tokens without those claims
+     * still fall back to loading the user.
+     */
+    private UserDetails resolvePrincipal(Claims claims) {
+        UserPrincipal principal = jwtUtils.toPrincipal(claims);
+        if (principal != null) {
+            return tokenEpochRegistry.isCurrent(principal.getUserId(), principal.getTokenEpoch()) ? principal : null;
         }
-        
-        return null;
+
+        UserDetails userDetails = userDetailsService.loadUserByUsername(claims.getSubject());
+        return userDetails.isEnabled() ? userDetails : null;
     }
 }
@@ -2,35 +2,61 @@ package vn.sun.membermanagementsystem.config.jwt;
 
 import io.jsonwebtoken.*;
 import io.jsonwebtoken.security.Keys;
+import jakarta.annotation.PostConstruct;
+import jakarta.servlet.http.HttpServletRequest;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 import org.springframework.beans.factory.annotation.Value;
 import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.stereotype.Component;
+import org.springframework.util.StringUtils;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
+import vn.sun.membermanagementsystem.enums.UserRole;
 
 import java.security.Key;
 import java.util.Date;
 import java.util.HashMap;
 import java.util.Map;
+import java.util.UUID;
 import java.util.function.Function;
 
 @Component
 public class JwtUtils {
     
     private static final Logger logger = LoggerFactory.getLogger(JwtUtils.class);
+
+    public static final String CLAIM_USER_ID = "uid";
+    public static final String CLAIM_ROLE = "role";
+    public static final String CLAIM_EPOCH = "ep";
     
     @Value("${jwt.secret}")
     private String jwtSecret;
     
     @Value("${jwt.expiration}")
     private Long jwtExpirationMs;
-    
-    private Key getSigningKey() {
-        return Keys.hmacShaKeyFor(jwtSecret.getBytes());
+
+    @Value("${jwt.cache.max-entries:10000}")
+    private int cacheMaxEntries;
+
+    private Key signingKey;
+    private JwtParser parser;
+    private VerifiedTokenCache verifiedTokens;
+
+    @PostConstruct
+    public void init() {
+        // Key and parser are immutable and thread-safe, build them once instead of per token
+        signingKey = Keys.hmacShaKeyFor(jwtSecret.getBytes());
+        parser = Jwts.parserBuilder().setSigningKey(signingKey).build();
+        verifiedTokens = new VerifiedTokenCache(cacheMaxEntries);
     }
     
     public String generateToken(UserDetails userDetails) {
         Map<String, Object> claims = new HashMap<>();
+        if (userDetails instanceof UserPrincipal principal) {
+            claims.put(CLAIM_USER_ID, principal.getUserId());
+            claims.put(CLAIM_ROLE, principal.getRole().name());
+            claims.put(CLAIM_EPOCH, principal.getTokenEpoch());
+        }
         return createToken(claims, userDetails.getUsername());
     }
     
@@ -41,9 +67,10 @@ public class JwtUtils {
         return Jwts.builder()
                 .setClaims(claims)
                 .setSubject(subject)
+                .setId(UUID.randomUUID().toString())
                 .setIssuedAt(now)
                 .setExpiration(expiryDate)
-                .signWith(getSigningKey(), SignatureAlgorithm.HS256)
+                .signWith(signingKey, SignatureAlgorithm.HS256)
                 .compact();
     }
     
@@ -59,23 +86,33 @@ public class JwtUtils {
         final Claims claims = extractAllClaims(token);
         return claimsResolver.apply(claims);
     }
-    
-    private Claims extractAllClaims(String token) {
-        return Jwts.parserBuilder()
-                .setSigningKey(getSigningKey())
-                .build()
-                .parseClaimsJws(token)
-                .getBody();
-    }
-    
-    private Boolean isTokenExpired(String token) {
-        return extractExpiration(token).before(new Date());
+
+    /**
+     * Verifies the token once and returns its claims. A token seen recently is served from the cache
+     * without another HMAC check until its exp. The returned claims are shared and must not be modified.
+     *
+     * @throws JwtException if the signature is invalid, the token is malformed or it has expired
+     */
+    public Claims extractAllClaims(String token) {
+        String key = VerifiedTokenCache.keyOf(token);
+        Claims cached = verifiedTokens.get(key, System.currentTimeMillis());
+        if (cached != null) {
+            return cached;
+        }
+
+        Claims claims = parser.parseClaimsJws(token).getBody();
+        verifiedTokens.put(key, claims);
+        return claims;
     }
-    
-    public Boolean validateToken(String token, UserDetails userDetails) {
+
+    /**
+     * Single-parse replacement for extractUsername + validateToken: returns the verified claims,
+     * or null (after logging why) when the token cannot be trusted.
+     */
+    public Claims getVerifiedClaims(String token) {
         try {
-            final String username = extractUsername(token);
-            return (username.equals(userDetails.getUsername()) && !isTokenExpired(token));
+            Claims claims = extractAllClaims(token);
+            return claims.getSubject() != null ? claims : null;
         } catch (SecurityException e) {
             logger.error("Invalid JWT signature: {}", e.getMessage());
         } catch (MalformedJwtException e) {
@@ -86,7 +123,43 @@ public class JwtUtils {
             logger.error("JWT token is unsupported: {}", e.getMessage());
         } catch (IllegalArgumentException e) {
             logger.error("JWT claims string is empty: {}", e.getMessage());
+        } catch (JwtException e) {
+            logger.error("JWT token is invalid: {}", e.getMessage());
+        }
+        return null;
+    }
+
+    /**
+     * Rebuilds the principal from the signed claims alone, or returns null for tokens issued
+     * before the user id, role and epoch claims existed.
+     */
+    public UserPrincipal toPrincipal(Claims claims) {
+        Object userId = claims.get(CLAIM_USER_ID);
+        Object role = claims.get(CLAIM_ROLE);
+        Object epoch = claims.get(CLAIM_EPOCH);
+        if (!(userId instanceof Number) || !(role instanceof String) || !(epoch instanceof Number)) {
+            return null;
+        }
+        return new UserPrincipal(((Number) userId).longValue(), claims.getSubject(), null,
+                UserRole.valueOf((String) role), ((Number) epoch).intValue());
+    }
+
+    public String resolveToken(HttpServletRequest request) {
+        String headerAuth = request.getHeader("Authorization");
+        
+        if (StringUtils.hasText(headerAuth) && headerAuth.startsWith("Bearer ")) {
+            return headerAuth.substring(7);
         }
-        return false;
+        
+        return null;
+    }
+
+    public void evictVerifiedToken(String token) {
+        verifiedTokens.remove(VerifiedTokenCache.keyOf(token));
+    }
+    
+    public Boolean validateToken(String token, UserDetails userDetails) {
+        Claims claims = getVerifiedClaims(token);
+        return claims != null && claims.getSubject().equals(userDetails.getUsername());
     }
 }
@@ -0,0 +1,74 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Base64;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+/**
+ * Bounded LRU of tokens whose signature has already been checked.
+ * Entries are keyed by the SHA-256 of the token, so raw bearer tokens are never held in memory,
+ * and stop being served once the token's own exp has passed.
+ */
+class VerifiedTokenCache {
+
+    private record Entry(Claims claims, long expiresAtMs) {
+    }
+
+    private final Map<String, Entry> entries;
+
+    VerifiedTokenCache(int maxEntries) {
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > maxEntries;
+            }
+        };
+    }
+
+    static String keyOf(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return Base64.getEncoder().encodeToString(digest.digest(token.getBytes(StandardCharsets.US_ASCII)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 not available", e);
+        }
+    }
+
+    /**
+     * Returns the cached claims, or null when the token is unknown or has expired since it was cached.
+     */
+    synchronized Claims get(String key, long nowMs) {
+        Entry entry = entries.get(key);
+        if (entry == null) {
+            return null;
+        }
+        if (entry.expiresAtMs() <= nowMs) {
+            entries.remove(key);
+            return null;
+        }
+        return entry.claims();
+    }
+
+    synchronized void put(String key, Claims claims) {
+        if (claims.getExpiration() != null) {
+            entries.put(key, new Entry(claims, claims.getExpiration().getTime()));
+        }
+    }
+
+    synchronized void remove(String key) {
+        entries.remove(key);
+    }
+
+    synchronized void clear() {
+        entries.clear();
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+}
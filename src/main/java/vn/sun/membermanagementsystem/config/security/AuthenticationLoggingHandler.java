@@ -13,8 +13,8 @@ import org.springframework.security.web.authentication.logout.LogoutSuccessHandl
 import org.springframework.stereotype.Component;
 import vn.sun.membermanagementsystem.entities.ActivityLog;
 import vn.sun.membermanagementsystem.entities.User;
-import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.ActivityLogWriter;
 
 import java.io.IOException;
 import java.time.LocalDateTime;
@@ -25,14 +25,15 @@ import java.time.LocalDateTime;
 @RequiredArgsConstructor
 public class AuthenticationLoggingHandler implements AuthenticationSuccessHandler, LogoutSuccessHandler, AuthenticationFailureHandler {
 
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogWriter activityLogWriter;
     private final UserRepository userRepository;
+    private final ClientIpResolver clientIpResolver;
 
     @Override
     public void onAuthenticationSuccess(HttpServletRequest request, HttpServletResponse response,
                                         Authentication authentication) throws IOException, ServletException {
-        String email = authentication.getName();
-        logAuthEvent("LOGIN", email, "Admin login successful", request);
+        logAuthEvent("LOGIN", UserPrincipal.currentUserId(authentication), authentication.getName(),
+                "Admin login successful", request);
         
         response.sendRedirect(request.getContextPath() + "/admin/users");
     }
@@ -41,8 +42,8 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
     public void onLogoutSuccess(HttpServletRequest request, HttpServletResponse response,
                                 Authentication authentication) throws IOException, ServletException {
         if (authentication != null) {
-            String email = authentication.getName();
-            logAuthEvent("LOGOUT", email, "Admin logout successful", request);
+            logAuthEvent("LOGOUT", UserPrincipal.currentUserId(authentication), authentication.getName(),
+                    "Admin logout successful", request);
         }
         
         response.sendRedirect(request.getContextPath() + "/admin/login?logout=true");
@@ -52,57 +53,44 @@ public class AuthenticationLoggingHandler implements AuthenticationSuccessHandle
     public void onAuthenticationFailure(HttpServletRequest request, HttpServletResponse response,
                                         AuthenticationException exception) throws IOException, ServletException {
         String email = request.getParameter("username");
-        logAuthEvent("LOGIN_FAILED", email, "Login failed: " + exception.getMessage(), request);
+        // No principal on failure, the only remaining e-mail lookup
+        Long userId = email != null
+                ? userRepository.findByEmail(email).map(User::getId).orElse(null)
+                : null;
+        logAuthEvent("LOGIN_FAILED", userId, email, "Login failed: " + exception.getMessage(), request);
         
-        response.sendRedirect(request.getContextPath() + "/admin/login?error=true");
+        String error = exception instanceof PasswordHashingOverloadException ? "busy" : "true";
+        response.sendRedirect(request.getContextPath() + "/admin/login?error=" + error);
     }
 
-    public void logApiLogin(String email, HttpServletRequest request) {
-        logAuthEvent("API_LOGIN", email, "User API login successful", request);
+    public void logApiLogin(UserPrincipal principal, HttpServletRequest request) {
+        logAuthEvent("API_LOGIN", principal.getUserId(), principal.getUsername(), "User API login successful", request);
     }
 
-    public void logApiLogout(String email, HttpServletRequest request) {
-        logAuthEvent("API_LOGOUT", email, "User API logout", request);
+    public void logApiLogout(Authentication authentication, HttpServletRequest request) {
+        logAuthEvent("API_LOGOUT", UserPrincipal.currentUserId(authentication), authentication.getName(),
+                "User API logout", request);
     }
 
-    private void logAuthEvent(String action, String email, String description, HttpServletRequest request) {
+    private void logAuthEvent(String action, Long userId, String email, String description,
+                              HttpServletRequest request) {
         try {
-            Long userId = null;
-            if (email != null) {
-                userId = userRepository.findByEmail(email)
-                        .map(User::getId)
-                        .orElse(null);
-            }
-
             ActivityLog activityLog = ActivityLog.builder()
                     .action(action)
                     .entityType("AUTH")
                     .entityId(userId)
                     .userId(userId)
-                    .description(description + " - Email: " + email)
-                    .ipAddress(getClientIpAddress(request))
+                    .description(description + " - Email: ")
+                    .descriptionDetail(email)
+                    .ipAddress(clientIpResolver.resolve(request))
                     .userAgent(request.getHeader("User-Agent"))
                     .createdAt(LocalDateTime.now())
                     .build();
 
-            activityLogRepository.save(activityLog);
-            log.info("Auth activity logged: {} for user {}", action, email);
+            activityLogWriter.write(activityLog);
+            log.info("Auth activity queued: {} for user {}", action, email);
         } catch (Exception e) {
             log.error("Failed to log auth activity: {}", e.getMessage());
         }
     }
-
-    private String getClientIpAddress(HttpServletRequest request) {
-        String xForwardedFor = request.getHeader("X-Forwarded-For");
-        if (xForwardedFor != null && !xForwardedFor.isEmpty()) {
-            return xForwardedFor.split(",")[0].trim();
-        }
-        
-        String xRealIp = request.getHeader("X-Real-IP");
-        if (xRealIp != null && !xRealIp.isEmpty()) {
-            return xRealIp;
-        }
-        
-        return request.getRemoteAddr();
-    }
 }
@@ -0,0 +1,201 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+import vn.sun.membermanagementsystem.dto.response.PasswordHashingStatsDTO;
+
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Deque;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.Future;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * BCrypt encoder that verifies passwords on a dedicated pool sized to the CPU count instead of on
+ * request threads, so a login burst cannot pin every Tomcat worker. The pool queue is bounded:
+ * a full queue fails fast with 429, a verification that waits longer than maxWaitMs fails with 503.
+ * Single encodings (user create/update, rehash after login) stay on the caller thread, they are rare and
+ * admin-driven; bulk intake hashes its passwords on the pool through {@link #encodeAll}.
+ */
+@Slf4j
+public class BoundedPasswordEncoder implements PasswordEncoder {
+
+    private final BCryptPasswordEncoder delegate;
+    private final ThreadPoolExecutor executor;
+    private final int strength;
+    private final int queueCapacity;
+    private final long maxWaitMs;
+
+    private final LongAdder verifications = new LongAdder();
+    private final LongAdder rejected = new LongAdder();
+    private final LongAdder timedOut = new LongAdder();
+    private final LongAdder hashNanos = new LongAdder();
+    private final LongAdder queueWaitNanos = new LongAdder();
+    private final LongAccumulator maxHashNanos = new LongAccumulator(Math::max, 0);
+    private final LongAccumulator maxQueueWaitNanos = new LongAccumulator(Math::max, 0);
+
+    public BoundedPasswordEncoder(int strength, int poolSize, int queueCapacity, long maxWaitMs) {
+        int threads = poolSize > 0 ? poolSize : Runtime.getRuntime().availableProcessors();
+        AtomicInteger threadCount = new AtomicInteger();
+        this.delegate = new BCryptPasswordEncoder(strength);
+        this.strength = strength;
+        this.queueCapacity = queueCapacity;
+        this.maxWaitMs = maxWaitMs;
+        this.executor = new ThreadPoolExecutor(threads, threads, 0L, TimeUnit.MILLISECONDS,
+                new ArrayBlockingQueue<>(queueCapacity), runnable -> {
+                    Thread thread = new Thread(runnable, "password-hash-" + threadCount.incrementAndGet());
+                    thread.setDaemon(true);
+                    return thread;
+                }, new ThreadPoolExecutor.AbortPolicy());
+        log.info("Password hashing pool started - strength: {}, threads: {}, queueCapacity: {}, maxWaitMs: {}",
+                strength, threads, queueCapacity, maxWaitMs);
+    }
+
+    @Override
+    public String encode(CharSequence rawPassword) {
+        return delegate.encode(rawPassword);
+    }
+
+    @Override
+    public boolean matches(CharSequence rawPassword, String encodedPassword) {
+        long submittedAt = System.nanoTime();
+        Future<Boolean> future;
+        try {
+            future = executor.submit(() -> {
+                long startedAt = System.nanoTime();
+                record(queueWaitNanos, maxQueueWaitNanos, startedAt - submittedAt);
+                try {
+                    return delegate.matches(rawPassword, encodedPassword);
+                } finally {
+                    record(hashNanos, maxHashNanos, System.nanoTime() - startedAt);
+                    verifications.increment();
+                }
+            });
+        } catch (RejectedExecutionException e) {
+            rejected.increment();
+            throw new PasswordHashingOverloadException("Too many concurrent logins, please retry shortly",
+                    HttpStatus.TOO_MANY_REQUESTS.value());
+        }
+
+        try {
+            return future.get(maxWaitMs, TimeUnit.MILLISECONDS);
+        } catch (TimeoutException e) {
+            // Still queued: take it out so an abandoned login does not hold a queue slot
+            future.cancel(true);
+            executor.remove((Runnable) future);
+            timedOut.increment();
+            throw new PasswordHashingOverloadException("Login service is busy, please retry shortly",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (InterruptedException e) {
+            future.cancel(true);
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadException("Password verification interrupted",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password verification failed", cause);
+        }
+    }
+
+    /**
+     * Encodes every password with its own salt, on at most half the pool so logins keep the other half.
+     * An encoding the full queue turns away runs on the caller thread instead of failing the batch.
+     */
+    public List<String> encodeAll(List<? extends CharSequence> rawPasswords) {
+        int maxInFlight = Math.max(1, executor.getCorePoolSize() / 2);
+        String[] hashes = new String[rawPasswords.size()];
+        Deque<Future<?>> inFlight = new ArrayDeque<>();
+        try {
+            for (int i = 0; i < rawPasswords.size(); i++) {
+                if (inFlight.size() >= maxInFlight) {
+                    await(inFlight.removeFirst());
+                }
+                int index = i;
+                CharSequence rawPassword = rawPasswords.get(i);
+                try {
+                    inFlight.addLast(executor.submit(() -> {
+                        hashes[index] = delegate.encode(rawPassword);
+                    }));
+                } catch (RejectedExecutionException e) {
+                    hashes[index] = delegate.encode(rawPassword);
+                }
+            }
+            while (!inFlight.isEmpty()) {
+                await(inFlight.removeFirst());
+            }
+        } finally {
+            inFlight.forEach(future -> future.cancel(true));
+        }
+        return Arrays.asList(hashes);
+    }
+
+    /**
+     * True for hashes made with a lower cost than configured; DaoAuthenticationProvider then re-encodes
+     * the password after a successful login and stores it through the UserDetailsPasswordService.
+     */
+    @Override
+    public boolean upgradeEncoding(String encodedPassword) {
+        return delegate.upgradeEncoding(encodedPassword);
+    }
+
+    public PasswordHashingStatsDTO getStats() {
+        long count = Math.max(verifications.sum(), 1);
+        return PasswordHashingStatsDTO.builder()
+                .strength(strength)
+                .poolSize(executor.getCorePoolSize())
+                .queueCapacity(queueCapacity)
+                .queueDepth(executor.getQueue().size())
+                .activeCount(executor.getActiveCount())
+                .verifications(verifications.sum())
+                .rejected(rejected.sum())
+                .timedOut(timedOut.sum())
+                .avgHashMs(toMillis(hashNanos.sum()) / count)
+                .maxHashMs(toMillis(maxHashNanos.get()))
+                .avgQueueWaitMs(toMillis(queueWaitNanos.sum()) / count)
+                .maxQueueWaitMs(toMillis(maxQueueWaitNanos.get()))
+                .build();
+    }
+
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    private static void await(Future<?> future) {
+        try {
+            future.get();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new PasswordHashingOverloadException("Password hashing interrupted",
+                    HttpStatus.SERVICE_UNAVAILABLE.value());
+        } catch (ExecutionException e) {
+            Throwable cause = e.getCause();
+            if (cause instanceof RuntimeException runtimeException) {
+                throw runtimeException;
+            }
+            throw new IllegalStateException("Password hashing failed", cause);
+        }
+    }
+
+    private static void record(LongAdder total, LongAccumulator max, long nanos) {
+        total.add(nanos);
+        max.accumulate(nanos);
+    }
+
+    private static double toMillis(long nanos) {
+        return nanos / 1_000_000.0;
+    }
+}
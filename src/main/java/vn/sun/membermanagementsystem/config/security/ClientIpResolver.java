@@ -0,0 +1,70 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import jakarta.servlet.http.HttpServletRequest;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.security.web.util.matcher.IpAddressMatcher;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Client address of a request. X-Forwarded-For and X-Real-IP are set by whoever sends the request, so they
+ * are only believed when the socket peer is one of the configured trusted proxies (addresses or CIDR ranges).
+ * The forwarded chain is then read from the nearest hop backwards and the first address that is not a
+ * trusted proxy is the client; anything further left was written by the client itself.
+ */
+@Component
+public class ClientIpResolver {
+
+    private final List<IpAddressMatcher> trustedProxies;
+
+    public ClientIpResolver(@Value("${security.trusted-proxies:127.0.0.1,::1}") List<String> trustedProxies) {
+        this.trustedProxies = trustedProxies.stream()
+                .map(String::trim)
+                .filter(proxy -> !proxy.isEmpty())
+                .map(IpAddressMatcher::new)
+                .toList();
+    }
+
+    public String resolve(HttpServletRequest request) {
+        String remoteAddr = request.getRemoteAddr();
+        if (!isTrustedProxy(remoteAddr)) {
+            return remoteAddr;
+        }
+
+        String xForwardedFor = request.getHeader("X-Forwarded-For");
+        if (xForwardedFor != null && !xForwardedFor.isBlank()) {
+            String[] hops = xForwardedFor.split(",");
+            for (int i = hops.length - 1; i >= 0; i--) {
+                String hop = hops[i].trim();
+                if (!hop.isEmpty() && (i == 0 || !isTrustedProxy(hop))) {
+                    return hop;
+                }
+            }
+        }
+
+        String xRealIp = request.getHeader("X-Real-IP");
+        if (xRealIp != null && !xRealIp.isBlank()) {
+            return xRealIp.trim();
+        }
+
+        return remoteAddr;
+    }
+
+    private boolean isTrustedProxy(String address) {
+        if (address == null || address.isEmpty()) {
+            return false;
+        }
+        for (IpAddressMatcher matcher : trustedProxies) {
+            try {
+                if (matcher.matches(address)) {
+                    return true;
+                }
+            } catch (IllegalArgumentException e) {
+                // Not an IP address (forged header value), never a proxy of ours
+                return false;
+            }
+        }
+        return false;
+    }
+}
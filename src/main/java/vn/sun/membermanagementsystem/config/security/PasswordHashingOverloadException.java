@@ -0,0 +1,20 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.Getter;
+import org.springframework.security.authentication.AuthenticationServiceException;
+
+/**
+ * Raised when a password could not be verified because the hashing pool is saturated.
+ * Carries the HTTP status the caller should answer with: 429 when the queue is full,
+ * 503 when the request waited too long for a hashing thread.
+ */
+@Getter
+public class PasswordHashingOverloadException extends AuthenticationServiceException {
+
+    private final int status;
+
+    public PasswordHashingOverloadException(String message, int status) {
+        super(message);
+        this.status = status;
+    }
+}
@@ -0,0 +1,76 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.filter.OncePerRequestFilter;
+import vn.sun.membermanagementsystem.dto.response.MessageResponse;
+
+import java.io.IOException;
+
+/**
+ * Applies {@link TokenBucketRateLimiter} in the API chain, after JWT authentication so that
+ * authenticated callers are limited per user and anonymous ones per client IP.
+ * Not a @Component on purpose: it must only run inside the /api/** security chain.
+ */
+public class RateLimitFilter extends OncePerRequestFilter {
+
+    public static final String HEADER_LIMIT = "X-RateLimit-Limit";
+    public static final String HEADER_REMAINING = "X-RateLimit-Remaining";
+
+    private final TokenBucketRateLimiter rateLimiter;
+    private final ClientIpResolver clientIpResolver;
+    private final ObjectMapper objectMapper;
+
+    public RateLimitFilter(TokenBucketRateLimiter rateLimiter, ClientIpResolver clientIpResolver,
+                           ObjectMapper objectMapper) {
+        this.rateLimiter = rateLimiter;
+        this.clientIpResolver = clientIpResolver;
+        this.objectMapper = objectMapper;
+    }
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !rateLimiter.isEnabled();
+    }
+
+    @Override
+    protected void doFilterInternal(HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire(clientKey(request), path);
+        if (decision == null) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HEADER_LIMIT, String.valueOf(decision.limit()));
+        response.setHeader(HEADER_REMAINING, String.valueOf(decision.remaining()));
+        if (decision.allowed()) {
+            filterChain.doFilter(request, response);
+            return;
+        }
+
+        response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(decision.retryAfterSeconds()));
+        response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+        response.setContentType(MediaType.APPLICATION_JSON_VALUE);
+        objectMapper.writeValue(response.getOutputStream(),
+                new MessageResponse("Too many requests - please retry after " + decision.retryAfterSeconds() + "s", false));
+    }
+
+    private String clientKey(HttpServletRequest request) {
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long userId = UserPrincipal.currentUserId(authentication);
+        if (userId != null) {
+            return "user:" + userId;
+        }
+        return "ip:" + clientIpResolver.resolve(request);
+    }
+}
@@ -0,0 +1,173 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import jakarta.annotation.PostConstruct;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Per-client token buckets for the /api/** chain, one bucket per (route rule, client).
+ * Each bucket is a single AtomicLong holding its theoretical arrival time (the GCRA form of a
+ * token bucket), updated with a CAS loop, so acquiring never locks and never allocates state.
+ * Rules are "pattern=capacity:refillPerSecond" entries; the first pattern matching the path applies.
+ * Buckets that have refilled completely are evicted periodically, and early when the map reaches max-clients.
+ */
+@Slf4j
+@Component
+public class TokenBucketRateLimiter {
+
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    public record Rule(String pattern, int capacity, double refillPerSecond, long intervalNanos) {
+    }
+
+    public record Decision(boolean allowed, int limit, int remaining, long retryAfterSeconds) {
+    }
+
+    @Value("${rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${rate-limit.rules:/api/v1/auth/**=10:0.2,/api/**=120:20}")
+    private List<String> ruleSpecs;
+
+    @Value("${rate-limit.max-clients:100000}")
+    private int maxClients;
+
+    private final List<Rule> rules = new ArrayList<>();
+    private final Map<String, AtomicLong> buckets = new ConcurrentHashMap<>();
+
+    @PostConstruct
+    public void init() {
+        rules.clear();
+        for (String spec : ruleSpecs) {
+            if (!spec.isBlank()) {
+                rules.add(parseRule(spec.trim()));
+            }
+        }
+        log.info("Rate limiting {} - rules: {}", enabled ? "enabled" : "disabled", rules);
+    }
+
+    public boolean isEnabled() {
+        return enabled && !rules.isEmpty();
+    }
+
+    /**
+     * Takes one token from the client's bucket for the rule matching the path.
+     *
+     * @return the decision, or null when no rule covers the path
+     */
+    public Decision tryAcquire(String clientKey, String path) {
+        return tryAcquire(clientKey, path, System.nanoTime());
+    }
+
+    Decision tryAcquire(String clientKey, String path, long now) {
+        int ruleIndex = matchRule(path);
+        if (ruleIndex < 0) {
+            return null;
+        }
+        Rule rule = rules.get(ruleIndex);
+        AtomicLong bucket = bucketFor(ruleIndex, clientKey, now);
+
+        long interval = rule.intervalNanos();
+        long burst = interval * rule.capacity();
+        while (true) {
+            long tat = bucket.get();
+            long next = Math.max(tat, now) + interval;
+            if (next - now > burst) {
+                long retryAfterNanos = next - now - burst;
+                return new Decision(false, rule.capacity(), 0,
+                        Math.max(1, TimeUnit.NANOSECONDS.toSeconds(retryAfterNanos + TimeUnit.SECONDS.toNanos(1) - 1)));
+            }
+            if (bucket.compareAndSet(tat, next)) {
+                int remaining = (int) ((now + burst - next) / interval);
+                return new Decision(true, rule.capacity(), remaining, 0);
+            }
+        }
+    }
+
+    @Scheduled(fixedDelayString = "${rate-limit.eviction-interval-ms:60000}")
+    public void evictIdle() {
+        long now = System.nanoTime();
+        int before = buckets.size();
+        // A bucket whose arrival time has passed is full again, forgetting it changes nothing
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        int evicted = before - buckets.size();
+        if (evicted > 0) {
+            log.debug("Evicted {} idle rate limit buckets, {} remaining", evicted, buckets.size());
+        }
+    }
+
+    public int getBucketCount() {
+        return buckets.size();
+    }
+
+    public List<Rule> getRules() {
+        return List.copyOf(rules);
+    }
+
+    private AtomicLong bucketFor(int ruleIndex, String clientKey, long now) {
+        String key = ruleIndex + "|" + clientKey;
+        AtomicLong bucket = buckets.get(key);
+        if (bucket != null) {
+            return bucket;
+        }
+        if (buckets.size() >= maxClients) {
+            makeRoom(now);
+        }
+        return buckets.computeIfAbsent(key, k -> new AtomicLong(now));
+    }
+
+    /**
+     * Frees a slice of the map once it is full, so the scan is paid once per many newcomers. Refilled buckets
+     * go first; if that is not enough, the buckets closest to full are dropped, which hands those clients
+     * back at most the few tokens they had used. New clients always get a bucket of their own.
+     */
+    private synchronized void makeRoom(long now) {
+        if (buckets.size() < maxClients) {
+            return;
+        }
+        int target = Math.max(1, maxClients / 100);
+        int before = buckets.size();
+        buckets.values().removeIf(bucket -> bucket.get() <= now);
+        int freed = before - buckets.size();
+        if (freed < target && !buckets.isEmpty()) {
+            long[] arrivalTimes = buckets.values().stream().mapToLong(AtomicLong::get).sorted().toArray();
+            long threshold = arrivalTimes[Math.min(target - freed, arrivalTimes.length) - 1];
+            buckets.values().removeIf(bucket -> bucket.get() <= threshold);
+        }
+        log.debug("Rate limit map full, evicted {} buckets, {} remaining", before - buckets.size(), buckets.size());
+    }
+
+    private int matchRule(String path) {
+        for (int i = 0; i < rules.size(); i++) {
+            if (PATH_MATCHER.match(rules.get(i).pattern(), path)) {
+                return i;
+            }
+        }
+        return -1;
+    }
+
+    static Rule parseRule(String spec) {
+        int eq = spec.lastIndexOf('=');
+        int colon = spec.lastIndexOf(':');
+        if (eq <= 0 || colon < eq) {
+            throw new IllegalArgumentException("Invalid rate limit rule '" + spec + "', expected pattern=capacity:refillPerSecond");
+        }
+        int capacity = Integer.parseInt(spec.substring(eq + 1, colon).trim());
+        double refillPerSecond = Double.parseDouble(spec.substring(colon + 1).trim());
+        if (capacity < 1 || refillPerSecond <= 0) {
+            throw new IllegalArgumentException("Invalid rate limit rule '" + spec + "', capacity and refill must be positive");
+        }
+        long intervalNanos = (long) (TimeUnit.SECONDS.toNanos(1) / refillPerSecond);
+        return new Rule(spec.substring(0, eq).trim(), capacity, refillPerSecond, intervalNanos);
+    }
+}
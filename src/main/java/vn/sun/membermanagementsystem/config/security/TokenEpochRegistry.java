@@ -0,0 +1,96 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * In-memory copy of users.token_epoch for active, non-deleted users, so the JWT filter can
+ * reject tokens of deactivated, deleted or re-roled users without querying the user table.
+ * The whole table is reloaded periodically; changes made on this node are picked up right after commit.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenEpochRegistry {
+
+    /** Marker for users that exist but may not authenticate, or do not exist at all. */
+    private static final int ABSENT = -1;
+
+    private static final String LOAD_ALL_SQL = "SELECT id, token_epoch FROM users " +
+            "WHERE deleted_at IS NULL AND status = 'ACTIVE'";
+    private static final String LOAD_ONE_SQL = "SELECT token_epoch FROM users " +
+            "WHERE id = ? AND deleted_at IS NULL AND status = 'ACTIVE'";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    private volatile Map<Long, Integer> epochs = new ConcurrentHashMap<>();
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        refresh();
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.epoch-refresh-ms:30000}", initialDelayString = "${jwt.epoch-refresh-ms:30000}")
+    public void refresh() {
+        try {
+            Map<Long, Integer> loaded = new ConcurrentHashMap<>();
+            jdbcTemplate.query(LOAD_ALL_SQL, (RowCallbackHandler) rs -> loaded.put(rs.getLong(1), rs.getInt(2)));
+            epochs = loaded;
+            log.debug("Token epochs refreshed for {} active users", loaded.size());
+        } catch (Exception e) {
+            // Keep serving the previous snapshot rather than locking everybody out
+            log.error("Failed to refresh token epochs: {}", e.getMessage());
+        }
+    }
+
+    /**
+     * @return true when the user is active and the token was issued under the user's current epoch
+     */
+    public boolean isCurrent(Long userId, int tokenEpoch) {
+        Map<Long, Integer> snapshot = epochs;
+        Integer current = snapshot.get(userId);
+        if (current == null) {
+            // Users created or reactivated since the last refresh, cached negatively too until the next one
+            current = loadEpoch(userId);
+            snapshot.putIfAbsent(userId, current);
+        }
+        return current != ABSENT && current == tokenEpoch;
+    }
+
+    /**
+     * Forgets the cached epoch of a user once the current transaction commits, so the next request
+     * re-reads it. Call after changing anything a token depends on.
+     */
+    public void evictAfterCommit(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+                @Override
+                public void afterCommit() {
+                    epochs.remove(userId);
+                }
+            });
+        } else {
+            epochs.remove(userId);
+        }
+    }
+
+    private int loadEpoch(Long userId) {
+        List<Integer> rows = jdbcTemplate.queryForList(LOAD_ONE_SQL, Integer.class, userId);
+        return rows.isEmpty() ? ABSENT : rows.get(0);
+    }
+}
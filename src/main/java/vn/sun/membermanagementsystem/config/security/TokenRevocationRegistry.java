@@ -0,0 +1,135 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.Date;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Revoked JWT ids, persisted in revoked_tokens and mirrored in memory so the per-request check never
+ * touches the database. A Bloom filter answers the common "not revoked" case; its rare positives are
+ * confirmed against the exact set. Entries are dropped once the token would have expired anyway.
+ * Revocations made on other nodes are picked up by the periodic refresh.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class TokenRevocationRegistry {
+
+    private static final String INSERT_SQL = "INSERT IGNORE INTO revoked_tokens (jti, user_id, expires_at) " +
+            "VALUES (?, ?, ?)";
+    private static final String LOAD_SQL = "SELECT jti, expires_at, revoked_at FROM revoked_tokens " +
+            "WHERE expires_at > ? AND revoked_at >= ?";
+    private static final String DELETE_EXPIRED_SQL = "DELETE FROM revoked_tokens WHERE expires_at <= ?";
+
+    private static final long WATERMARK_OVERLAP_SECONDS = 60;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${jwt.revocation.expected-entries:100000}")
+    private int expectedEntries;
+
+    @Value("${jwt.revocation.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    /** jti -> expiry in epoch millis */
+    private final Map<String, Long> revoked = new ConcurrentHashMap<>();
+
+    private volatile BloomFilter bloomFilter;
+
+    /**
+     * Newest revoked_at seen. The next refresh loads rows from a little before it, so rows committed
+     * late by other nodes are not skipped; reloading a row is harmless.
+     */
+    private volatile LocalDateTime watermark = LocalDateTime.of(1970, 1, 1, 0, 0);
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        bloomFilter = new BloomFilter(expectedEntries, falsePositiveRate);
+        refresh();
+    }
+
+    public boolean isRevoked(String jti) {
+        if (jti == null) {
+            return false;
+        }
+        BloomFilter filter = bloomFilter;
+        if (filter != null && !filter.mightContain(jti)) {
+            return false;
+        }
+        Long expiresAt = revoked.get(jti);
+        return expiresAt != null && expiresAt > System.currentTimeMillis();
+    }
+
+    public void revoke(String jti, Long userId, Date expiresAt) {
+        if (jti == null || expiresAt == null || expiresAt.getTime() <= System.currentTimeMillis()) {
+            return;
+        }
+        jdbcTemplate.update(INSERT_SQL, jti, userId, new Timestamp(expiresAt.getTime()));
+        remember(jti, expiresAt.getTime());
+        log.debug("Revoked token {} of user {}", jti, userId);
+    }
+
+    @Scheduled(fixedDelayString = "${jwt.revocation.refresh-ms:60000}", initialDelayString = "${jwt.revocation.refresh-ms:60000}")
+    public synchronized void refresh() {
+        try {
+            evictExpired();
+            loadSince(watermark.minusSeconds(WATERMARK_OVERLAP_SECONDS));
+        } catch (Exception e) {
+            log.error("Failed to refresh revoked tokens: {}", e.getMessage());
+        }
+    }
+
+    public int getRevokedCount() {
+        return revoked.size();
+    }
+
+    private void loadSince(LocalDateTime since) {
+        LocalDateTime[] newest = {watermark};
+        jdbcTemplate.query(LOAD_SQL, (RowCallbackHandler) rs -> {
+            remember(rs.getString(1), rs.getTimestamp(2).getTime());
+            LocalDateTime revokedAt = rs.getTimestamp(3).toLocalDateTime();
+            if (revokedAt.isAfter(newest[0])) {
+                newest[0] = revokedAt;
+            }
+        }, Timestamp.valueOf(LocalDateTime.now()), Timestamp.valueOf(since));
+        watermark = newest[0];
+    }
+
+    private void evictExpired() {
+        long now = System.currentTimeMillis();
+        boolean evicted = revoked.values().removeIf(expiresAt -> expiresAt <= now);
+        if (evicted) {
+            // Bloom filters cannot forget, rebuild from what is still revoked
+            BloomFilter rebuilt = new BloomFilter(Math.max(expectedEntries, revoked.size() * 2), falsePositiveRate);
+            revoked.keySet().forEach(rebuilt::add);
+            bloomFilter = rebuilt;
+            // A revoke racing the rebuild may have landed only in the old filter
+            revoked.keySet().forEach(rebuilt::add);
+        }
+        int deleted = jdbcTemplate.update(DELETE_EXPIRED_SQL, new Timestamp(now));
+        if (deleted > 0) {
+            log.info("Deleted {} expired revoked tokens", deleted);
+        }
+    }
+
+    private void remember(String jti, long expiresAtMs) {
+        // Exact set first: a reader that passes the filter must find the entry
+        revoked.put(jti, expiresAtMs);
+        BloomFilter filter = bloomFilter;
+        if (filter != null) {
+            filter.add(jti);
+        }
+    }
+}
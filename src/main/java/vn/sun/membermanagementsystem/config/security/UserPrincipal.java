@@ -0,0 +1,60 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import lombok.EqualsAndHashCode;
+import lombok.Getter;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.authority.SimpleGrantedAuthority;
+import org.springframework.security.core.userdetails.User;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.util.Collections;
+
+/**
+ * Authenticated principal for both the admin session and the JWT API.
+ * Carries the user id and role so callers never have to look the user up again by e-mail.
+ */
+@Getter
+@EqualsAndHashCode(callSuper = true)
+public class UserPrincipal extends User {
+
+    private final Long userId;
+    private final UserRole role;
+    private final int tokenEpoch;
+
+    public UserPrincipal(Long userId, String email, String password, UserRole role) {
+        this(userId, email, password, role, 0);
+    }
+
+    public UserPrincipal(Long userId, String email, String password, UserRole role, int tokenEpoch) {
+        this(userId, email, password, role, tokenEpoch, true);
+    }
+
+    public UserPrincipal(Long userId, String email, String password, UserRole role, int tokenEpoch, boolean enabled) {
+        super(email, password != null ? password : "", enabled, true, true, true,
+                Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + role)));
+        this.userId = userId;
+        this.role = role;
+        this.tokenEpoch = tokenEpoch;
+    }
+
+    /**
+     * Enabled only for active, non-deleted users: login is refused with a DisabledException and
+     * tokens without epoch claims stop authenticating once the user is deactivated or deleted.
+     */
+    public static UserPrincipal from(vn.sun.membermanagementsystem.entities.User user) {
+        return new UserPrincipal(user.getId(), user.getEmail(), user.getPasswordHash(), user.getRole(),
+                user.getTokenEpoch(), user.getStatus() == UserStatus.ACTIVE && user.getDeletedAt() == null);
+    }
+
+    /**
+     * @return the id of the authenticated user, or null when the authentication is not backed by a UserPrincipal
+     */
+    public static Long currentUserId(Authentication authentication) {
+        if (authentication != null && authentication.isAuthenticated()
+                && authentication.getPrincipal() instanceof UserPrincipal principal) {
+            return principal.getUserId();
+        }
+        return null;
+    }
+}
@@ -1,18 +1,18 @@
 package vn.sun.membermanagementsystem.config.services;
 
 import org.springframework.beans.factory.annotation.Autowired;
-import org.springframework.security.core.authority.SimpleGrantedAuthority;
 import org.springframework.security.core.userdetails.UserDetails;
+import org.springframework.security.core.userdetails.UserDetailsPasswordService;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.security.core.userdetails.UsernameNotFoundException;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
 import vn.sun.membermanagementsystem.entities.User;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 
-import java.util.Collections;
-
 @Service
-public class CustomUserDetailsService implements UserDetailsService {
+public class CustomUserDetailsService implements UserDetailsService, UserDetailsPasswordService {
     
     @Autowired
     private UserRepository userRepository;
@@ -22,11 +22,22 @@ public class CustomUserDetailsService implements UserDetailsService {
         User user = userRepository.findByEmail(email)
                 .orElseThrow(() -> new UsernameNotFoundException("User not found with email: " + email));
         
-        return org.springframework.security.core.userdetails.User.builder()
-                .username(user.getEmail())
-                .password(user.getPasswordHash())
-                .authorities(Collections.singletonList(new SimpleGrantedAuthority("ROLE_" + user.getRole())))
-                .build();
+        return UserPrincipal.from(user);
+    }
+    
+    /**
+     * Called by DaoAuthenticationProvider after a successful login when the stored hash was made with
+     * a lower BCrypt cost than configured. The password itself is unchanged, so tokens stay valid.
+     */
+    @Override
+    @Transactional
+    public UserDetails updatePassword(UserDetails user, String newPassword) {
+        userRepository.updatePasswordHashByEmail(user.getUsername(), newPassword);
+        if (user instanceof UserPrincipal principal) {
+            return new UserPrincipal(principal.getUserId(), principal.getUsername(), newPassword,
+                    principal.getRole(), principal.getTokenEpoch(), principal.isEnabled());
+        }
+        return org.springframework.security.core.userdetails.User.withUserDetails(user).password(newPassword).build();
     }
     
     public User getUserByEmail(String email) {
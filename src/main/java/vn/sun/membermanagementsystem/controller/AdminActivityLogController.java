@@ -1,64 +1,218 @@
 package vn.sun.membermanagementsystem.controller;
 
+import jakarta.servlet.http.HttpServletResponse;
 import lombok.RequiredArgsConstructor;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
-import org.springframework.data.domain.Pageable;
-import org.springframework.data.domain.Sort;
 import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
 import org.springframework.stereotype.Controller;
 import org.springframework.ui.Model;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
 import org.springframework.web.servlet.mvc.support.RedirectAttributes;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
-import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogPurgeJobDTO;
+import vn.sun.membermanagementsystem.dto.response.ActivityStatsDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
+import vn.sun.membermanagementsystem.enums.ActivityLogExportFormat;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.exception.TooManyRequestsException;
+import vn.sun.membermanagementsystem.services.ActivityLogExportService;
+import vn.sun.membermanagementsystem.services.ActivityLogPurgeService;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
 import vn.sun.membermanagementsystem.services.ActivityLogService;
+import vn.sun.membermanagementsystem.services.ActivityLogTailService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
 
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.zip.GZIPOutputStream;
 
 @Controller
 @RequiredArgsConstructor
 @RequestMapping("/admin/activity-logs")
 public class AdminActivityLogController {
 
+    private static final int TAIL_RETRY_AFTER_SECONDS = 30;
+    private static final int MAX_PAGE_SIZE = 100;
+
     private final ActivityLogService activityLogService;
-    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogRollupService activityLogRollupService;
+    private final ActivityLogSearchService activityLogSearchService;
+    private final ActivityLogPurgeService activityLogPurgeService;
+    private final ActivityLogTailService activityLogTailService;
+    private final ActivityLogExportService activityLogExportService;
 
     @GetMapping
     public String listActivityLogs(
-            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "next") String direction,
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(required = false) String entityType,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
             @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(required = false) String q,
+            @RequestParam(defaultValue = "0") int page,
             Model model) {
         
         if (entityType != null && entityType.trim().isEmpty()) {
             entityType = null;
         }
+        size = Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
         
-        Pageable pageable = PageRequest.of(page, size, Sort.by("createdAt").descending());
+        model.addAttribute("entityType", entityType);
+        model.addAttribute("fromDate", fromDate);
+        model.addAttribute("toDate", toDate);
+        model.addAttribute("q", q);
+        model.addAttribute("entityTypes", activityLogRollupService.getEntityTypes());
+        model.addAttribute("pageSize", size);
         
-        Page<ActivityLogDTO> logPage;
-        if (entityType != null || fromDate != null || toDate != null) {
-            logPage = activityLogService.searchLogs(entityType, fromDate, toDate, pageable);
-        } else {
-            logPage = activityLogService.getAllLogs(pageable);
+        if (q != null && !q.isBlank()) {
+            Page<ActivityLogDTO> results = activityLogSearchService.search(
+                    q.trim(), entityType, fromDate, toDate, PageRequest.of(Math.max(page, 0), size));
+            
+            model.addAttribute("searchMode", true);
+            model.addAttribute("logs", results.getContent());
+            model.addAttribute("currentPage", results.getNumber());
+            model.addAttribute("totalPages", results.getTotalPages());
+            model.addAttribute("approximateTotal", results.getTotalElements());
+            model.addAttribute("hasNext", false);
+            model.addAttribute("hasPrevious", false);
+            model.addAttribute("searchIndexReady", activityLogSearchService.isReady());
+            LocalDateTime coveredSince = activityLogSearchService.getCoveredSince();
+            model.addAttribute("searchCoveredSince", coveredSince);
+            model.addAttribute("searchRangeTruncated",
+                    fromDate == null || fromDate.atStartOfDay().isBefore(coveredSince));
+            
+            return "admin/activity-logs/index";
         }
         
+        CursorPage<ActivityLogDTO> logPage = activityLogService.getLogsByCursor(
+                entityType, fromDate, toDate, cursor, "prev".equals(direction), size, true);
+        
         model.addAttribute("logs", logPage.getContent());
-        model.addAttribute("currentPage", page);
-        model.addAttribute("totalPages", logPage.getTotalPages());
-        model.addAttribute("totalItems", logPage.getTotalElements());
-        model.addAttribute("pageSize", size);
+        model.addAttribute("nextCursor", logPage.getNextCursor());
+        model.addAttribute("previousCursor", logPage.getPreviousCursor());
+        model.addAttribute("hasNext", logPage.isHasNext());
+        model.addAttribute("hasPrevious", logPage.isHasPrevious());
+        model.addAttribute("approximateTotal", logPage.getApproximateTotal());
+        model.addAttribute("searchMode", false);
         
-        model.addAttribute("entityType", entityType);
+        return "admin/activity-logs/index";
+    }
+
+    @GetMapping("/dashboard")
+    public String dashboard(
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @RequestParam(defaultValue = "10") int topActors,
+            Model model) {
+
+        ActivityStatsDTO stats = activityLogRollupService.getStats(fromDate, toDate, topActors);
+        long maxPoint = stats.getTimeline().stream()
+                .mapToLong(ActivityStatsDTO.TimelinePointDTO::getCount)
+                .max()
+                .orElse(0);
+
+        model.addAttribute("stats", stats);
+        model.addAttribute("maxPoint", maxPoint);
         model.addAttribute("fromDate", fromDate);
         model.addAttribute("toDate", toDate);
+
+        return "admin/activity-logs/dashboard";
+    }
+
+    @PostMapping("/dashboard/rebuild")
+    public String rebuildRollups(RedirectAttributes redirectAttributes) {
+        try {
+            int rows = activityLogRollupService.catchUp();
+            redirectAttributes.addFlashAttribute("successMessage", "Rebuilt " + rows + " rollup row(s)");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to rebuild rollups: " + e.getMessage());
+        }
+        return "redirect:/admin/activity-logs/dashboard";
+    }
+
+    @GetMapping("/live")
+    public String liveTail(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long userId,
+            Model model) {
         
-        model.addAttribute("entityTypes", activityLogRepository.findDistinctEntityTypes());
+        model.addAttribute("entityType", emptyToNull(entityType));
+        model.addAttribute("action", emptyToNull(action));
+        model.addAttribute("userId", userId);
+        model.addAttribute("entityTypes", activityLogRollupService.getEntityTypes());
+        model.addAttribute("logs", activityLogTailService.getRecent(
+                emptyToNull(entityType), emptyToNull(action), userId, 50));
         
-        return "admin/activity-logs/index";
+        return "admin/activity-logs/live";
+    }
+
+    @GetMapping(value = "/stream", produces = MediaType.TEXT_EVENT_STREAM_VALUE)
+    public SseEmitter streamActivityLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) Long userId,
+            @RequestHeader(value = "Last-Event-ID", required = false) Long lastEventId,
+            HttpServletResponse response) throws IOException {
+        try {
+            return activityLogTailService.subscribe(emptyToNull(entityType), emptyToNull(action), userId, lastEventId);
+        } catch (TooManyRequestsException e) {
+            // Answered here: the JSON error handler cannot write to a text/event-stream request
+            response.setStatus(HttpStatus.TOO_MANY_REQUESTS.value());
+            response.setHeader(HttpHeaders.RETRY_AFTER, String.valueOf(TAIL_RETRY_AFTER_SECONDS));
+            response.setContentType(MediaType.TEXT_PLAIN_VALUE);
+            response.setCharacterEncoding(StandardCharsets.UTF_8.name());
+            response.getWriter().write(e.getMessage());
+            return null;
+        }
+    }
+
+    @GetMapping("/export")
+    public void exportActivityLogs(
+            @RequestParam(defaultValue = "csv") String format,
+            @RequestParam(defaultValue = "false") boolean gzip,
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            HttpServletResponse response) throws IOException {
+
+        ActivityLogExportFormat exportFormat;
+        try {
+            exportFormat = ActivityLogExportFormat.valueOf(format.trim().toUpperCase());
+        } catch (IllegalArgumentException e) {
+            throw new BadRequestException("Unsupported export format: " + format);
+        }
+
+        if (entityType != null && entityType.trim().isEmpty()) {
+            entityType = null;
+        }
+
+        String timestamp = LocalDateTime.now().format(DateTimeFormatter.ofPattern("yyyyMMdd_HHmmss"));
+        String filename = "activity_logs_export_" + timestamp + "." + exportFormat.getExtension();
+
+        if (gzip) {
+            response.setContentType("application/gzip");
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + ".gz\"");
+            try (OutputStream outputStream = new GZIPOutputStream(response.getOutputStream(), 64 * 1024)) {
+                activityLogExportService.export(exportFormat, entityType, fromDate, toDate, outputStream);
+            }
+        } else {
+            response.setContentType(exportFormat.getContentType());
+            response.setHeader(HttpHeaders.CONTENT_DISPOSITION, "attachment; filename=\"" + filename + "\"");
+            activityLogExportService.export(exportFormat, entityType, fromDate, toDate, response.getOutputStream());
+        }
     }
 
     @GetMapping("/{id}")
@@ -89,4 +243,73 @@ public class AdminActivityLogController {
         }
         return "redirect:/admin/activity-logs";
     }
+
+    @PostMapping("/search-index/rebuild")
+    public String rebuildSearchIndex(RedirectAttributes redirectAttributes) {
+        try {
+            int indexed = activityLogSearchService.rebuild();
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Search index rebuilt with " + indexed + " activity log(s)");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to rebuild search index: " + e.getMessage());
+        }
+        return "redirect:/admin/activity-logs";
+    }
+
+    @PostMapping("/purge")
+    public String purgeActivityLogs(
+            @RequestParam(required = false) String entityType,
+            @RequestParam(required = false) String action,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            RedirectAttributes redirectAttributes) {
+        try {
+            ActivityLogPurgeJobDTO job = activityLogPurgeService.startPurge(ActivityLogPurgeRequest.builder()
+                    .entityType(entityType)
+                    .action(action)
+                    .fromDate(fromDate)
+                    .toDate(toDate)
+                    .build());
+            redirectAttributes.addFlashAttribute("successMessage", "Purge job " + job.getId() + " started");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to start purge: " + e.getMessage());
+            return "redirect:/admin/activity-logs";
+        }
+        return "redirect:/admin/activity-logs/purge-jobs";
+    }
+
+    @GetMapping("/purge-jobs")
+    public String listPurgeJobs(Model model) {
+        List<ActivityLogPurgeJobDTO> jobs = activityLogPurgeService.getJobs();
+        model.addAttribute("jobs", jobs);
+        model.addAttribute("hasActiveJobs", jobs.stream().anyMatch(job -> !job.getStatus().isFinished()));
+        return "admin/activity-logs/purge-jobs";
+    }
+
+    @PostMapping("/purge-jobs/{jobId}/cancel")
+    public String cancelPurgeJob(@PathVariable String jobId, RedirectAttributes redirectAttributes) {
+        try {
+            activityLogPurgeService.cancel(jobId);
+            redirectAttributes.addFlashAttribute("successMessage", "Cancellation requested for purge job " + jobId);
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to cancel purge job: " + e.getMessage());
+        }
+        return "redirect:/admin/activity-logs/purge-jobs";
+    }
+
+    @PostMapping("/purge-expired")
+    public String purgeExpiredActivityLogs(RedirectAttributes redirectAttributes) {
+        try {
+            int purged = activityLogService.purgeExpiredLogs();
+            redirectAttributes.addFlashAttribute("successMessage",
+                    "Purged " + purged + " expired activity log partition(s)");
+        } catch (Exception e) {
+            redirectAttributes.addFlashAttribute("errorMessage", "Failed to purge activity logs: " + e.getMessage());
+        }
+        return "redirect:/admin/activity-logs";
+    }
+
+    private static String emptyToNull(String value) {
+        return value == null || value.trim().isEmpty() ? null : value.trim();
+    }
 }
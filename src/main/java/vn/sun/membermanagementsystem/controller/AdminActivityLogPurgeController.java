@@ -0,0 +1,60 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.*;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogPurgeJobDTO;
+import vn.sun.membermanagementsystem.services.ActivityLogPurgeService;
+
+import java.util.List;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/activity-logs/purge-jobs")
+@RequiredArgsConstructor
+@Tag(name = "Activity Log Purge", description = "Background deletion of activity logs by filter")
+public class AdminActivityLogPurgeController {
+
+    private final ActivityLogPurgeService activityLogPurgeService;
+
+    @Operation(
+        summary = "Start a purge job",
+        description = "Deletes activity logs matching entityType/action/date range in the background, " +
+                      "in bounded chunks. Returns the queued job; poll it for progress."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping
+    public ResponseEntity<ActivityLogPurgeJobDTO> startPurge(@Valid @RequestBody ActivityLogPurgeRequest request) {
+        log.info("API: Starting activity log purge - filter: {}", request);
+        return ResponseEntity.status(HttpStatus.ACCEPTED).body(activityLogPurgeService.startPurge(request));
+    }
+
+    @Operation(summary = "List recent purge jobs")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping
+    public ResponseEntity<List<ActivityLogPurgeJobDTO>> getJobs() {
+        return ResponseEntity.ok(activityLogPurgeService.getJobs());
+    }
+
+    @Operation(summary = "Get purge job progress")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/{jobId}")
+    public ResponseEntity<ActivityLogPurgeJobDTO> getJob(@PathVariable String jobId) {
+        return ResponseEntity.ok(activityLogPurgeService.getJob(jobId));
+    }
+
+    @Operation(summary = "Cancel a purge job", description = "The job stops after the chunk in progress.")
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/{jobId}/cancel")
+    public ResponseEntity<ActivityLogPurgeJobDTO> cancel(@PathVariable String jobId) {
+        log.info("API: Cancelling activity log purge job {}", jobId);
+        return ResponseEntity.ok(activityLogPurgeService.cancel(jobId));
+    }
+}
@@ -0,0 +1,46 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.format.annotation.DateTimeFormat;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import vn.sun.membermanagementsystem.dto.response.ActivityStatsDTO;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+
+import java.time.LocalDate;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/activity-stats")
+@RequiredArgsConstructor
+@Tag(name = "Activity Stats", description = "Aggregated activity volume served from the hourly rollups")
+public class AdminActivityStatsController {
+
+    private final ActivityLogRollupService activityLogRollupService;
+
+    @Operation(
+        summary = "Get activity statistics",
+        description = "Volume by action and entity type, top actors and a timeline for the given date range. " +
+                      "Defaults to the last 7 days; the timeline is hourly for ranges up to 48 hours and daily otherwise."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping
+    public ResponseEntity<ActivityStatsDTO> getActivityStats(
+            @Parameter(description = "First day, inclusive", example = "2025-01-01")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate fromDate,
+            @Parameter(description = "Last day, inclusive", example = "2025-01-31")
+            @RequestParam(required = false) @DateTimeFormat(iso = DateTimeFormat.ISO.DATE) LocalDate toDate,
+            @Parameter(description = "Number of top actors to return", example = "10")
+            @RequestParam(defaultValue = "10") int topActors) {
+        log.info("API: Getting activity stats - fromDate: {}, toDate: {}, topActors: {}", fromDate, toDate, topActors);
+        return ResponseEntity.ok(activityLogRollupService.getStats(fromDate, toDate, topActors));
+    }
+}
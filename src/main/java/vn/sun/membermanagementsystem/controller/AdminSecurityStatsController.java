@@ -0,0 +1,31 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vn.sun.membermanagementsystem.config.security.BoundedPasswordEncoder;
+import vn.sun.membermanagementsystem.dto.response.PasswordHashingStatsDTO;
+
+@RestController
+@RequestMapping("/api/v1/admin/security")
+@RequiredArgsConstructor
+@Tag(name = "Security Stats", description = "Runtime metrics of the authentication infrastructure")
+public class AdminSecurityStatsController {
+
+    private final BoundedPasswordEncoder passwordEncoder;
+
+    @Operation(
+        summary = "Get password hashing pool metrics",
+        description = "Queue depth, rejected and timed-out verifications, hash latency and queue wait of the BCrypt pool."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @GetMapping("/password-hashing")
+    public ResponseEntity<PasswordHashingStatsDTO> getPasswordHashingStats() {
+        return ResponseEntity.ok(passwordEncoder.getStats());
+    }
+}
@@ -0,0 +1,58 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import vn.sun.membermanagementsystem.dto.request.SkillSearchRequest;
+import vn.sun.membermanagementsystem.dto.response.MessageResponse;
+import vn.sun.membermanagementsystem.dto.response.SkillSearchResultDTO;
+import vn.sun.membermanagementsystem.services.search.SkillInventoryService;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/skill-inventory")
+@RequiredArgsConstructor
+@Tag(name = "Skill Inventory", description = "Search users by skills, level and years of use")
+public class AdminSkillInventoryController {
+
+    private static final int MAX_PAGE_SIZE = 100;
+
+    private final SkillInventoryService skillInventoryService;
+
+    @Operation(
+        summary = "Search users by skills",
+        description = "Evaluates a tree of skill criteria (skillId, minLevel, minYears) combined with AND/OR groups, " +
+                      "optionally narrowed by status and active team, against the in-memory skill index. " +
+                      "Users are returned in ascending id order."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/search")
+    public ResponseEntity<SkillSearchResultDTO> search(
+            @RequestBody SkillSearchRequest request,
+            @RequestParam(defaultValue = "0") int page,
+            @RequestParam(defaultValue = "20") int size) {
+        PageRequest pageable = PageRequest.of(Math.max(page, 0), Math.min(Math.max(size, 1), MAX_PAGE_SIZE));
+        return ResponseEntity.ok(skillInventoryService.search(request, pageable));
+    }
+
+    @Operation(
+        summary = "Rebuild the skill index",
+        description = "Reloads every live user and their skills. Changes made while it runs are kept."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/rebuild")
+    public ResponseEntity<MessageResponse> rebuild() {
+        log.info("API: Rebuilding skill inventory index");
+        int indexed = skillInventoryService.rebuild();
+        return ResponseEntity.ok(new MessageResponse("Skill inventory index rebuilt with " + indexed + " users", true));
+    }
+}
@@ -0,0 +1,78 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.security.SecurityRequirement;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import jakarta.validation.Valid;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.PatchMapping;
+import org.springframework.web.bind.annotation.PostMapping;
+import org.springframework.web.bind.annotation.RequestBody;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RestController;
+import vn.sun.membermanagementsystem.dto.request.BulkUserCreateRequest;
+import vn.sun.membermanagementsystem.dto.request.BulkUserUpdateRequest;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkUserUpdateResultDTO;
+import vn.sun.membermanagementsystem.services.UserBulkCreateService;
+import vn.sun.membermanagementsystem.services.UserBulkUpdateService;
+
+@Slf4j
+@RestController
+@RequestMapping("/api/v1/admin/users")
+@RequiredArgsConstructor
+@Tag(name = "User Bulk Operations", description = "Batch creation, status, role and deletion of users")
+public class AdminUserBulkController {
+
+    private final UserBulkCreateService userBulkCreateService;
+    private final UserBulkUpdateService userBulkUpdateService;
+
+    @Operation(
+        summary = "Create users in bulk",
+        description = "Validates the whole batch up front, then creates the valid users with their position " +
+                      "and skills using JDBC batches. The result lists every item with its new id or its errors."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/bulk")
+    public ResponseEntity<BulkUserCreateResultDTO> createUsers(@Valid @RequestBody BulkUserCreateRequest request) {
+        log.info("API: Bulk creating {} users", request.getUsers().size());
+        return ResponseEntity.ok(userBulkCreateService.createUsers(request.getUsers()));
+    }
+
+    @Operation(
+        summary = "Change the status of users in bulk",
+        description = "Targets either userIds or a filter (keyword, status, role, teamId) and sets the given status. " +
+                      "Deactivated users leave their teams and projects and stop leading them."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PatchMapping("/bulk/status")
+    public ResponseEntity<BulkUserUpdateResultDTO> updateStatus(@RequestBody BulkUserUpdateRequest request) {
+        log.info("API: Bulk updating user status to {}", request.getStatus());
+        return ResponseEntity.ok(userBulkUpdateService.updateStatus(request));
+    }
+
+    @Operation(
+        summary = "Change the role of users in bulk",
+        description = "Targets either userIds or a filter (keyword, status, role, teamId) and sets the given role."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PatchMapping("/bulk/role")
+    public ResponseEntity<BulkUserUpdateResultDTO> updateRole(@RequestBody BulkUserUpdateRequest request) {
+        log.info("API: Bulk updating user role to {}", request.getRole());
+        return ResponseEntity.ok(userBulkUpdateService.updateRole(request));
+    }
+
+    @Operation(
+        summary = "Delete users in bulk",
+        description = "Targets either userIds or a filter (keyword, status, role, teamId), soft-deletes the users " +
+                      "and closes their team and project memberships and leaderships."
+    )
+    @SecurityRequirement(name = "Bearer Authentication")
+    @PostMapping("/bulk/delete")
+    public ResponseEntity<BulkUserUpdateResultDTO> deleteUsers(@RequestBody BulkUserUpdateRequest request) {
+        log.info("API: Bulk deleting users");
+        return ResponseEntity.ok(userBulkUpdateService.deleteUsers(request));
+    }
+}
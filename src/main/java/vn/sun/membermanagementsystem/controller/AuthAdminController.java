@@ -37,7 +37,9 @@ public class AuthAdminController {
             Model model) {
         
         // Hiển thị thông báo lỗi nếu login fail
-        if (error != null) {
+        if ("busy".equals(error)) {
+            model.addAttribute("error", "Too many login attempts right now, please try again in a moment");
+        } else if (error != null) {
             model.addAttribute("error", "Invalid email or password");
         }
         
@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.controller;
 
+import io.jsonwebtoken.Claims;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.media.Content;
 import io.swagger.v3.oas.annotations.media.Schema;
@@ -10,22 +11,24 @@ import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.authentication.AuthenticationManager;
 import org.springframework.security.authentication.BadCredentialsException;
+import org.springframework.security.authentication.DisabledException;
 import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
-import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.web.bind.annotation.*;
 import vn.sun.membermanagementsystem.config.jwt.JwtUtils;
 import vn.sun.membermanagementsystem.config.security.AuthenticationLoggingHandler;
-import vn.sun.membermanagementsystem.config.services.CustomUserDetailsService;
+import vn.sun.membermanagementsystem.config.security.PasswordHashingOverloadException;
+import vn.sun.membermanagementsystem.config.security.TokenRevocationRegistry;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
 import vn.sun.membermanagementsystem.dto.request.LoginRequest;
 import vn.sun.membermanagementsystem.dto.response.LoginResponse;
 import vn.sun.membermanagementsystem.dto.response.MessageResponse;
-import vn.sun.membermanagementsystem.entities.User;
 
 
 @RestController
@@ -37,8 +40,8 @@ public class AuthUserController {
     
     private final AuthenticationManager authenticationManager;
     private final JwtUtils jwtUtils;
-    private final CustomUserDetailsService userDetailsService;
     private final AuthenticationLoggingHandler authLoggingHandler;
+    private final TokenRevocationRegistry tokenRevocationRegistry;
     
     @Operation(
         summary = "User login",
@@ -55,7 +58,23 @@ public class AuthUserController {
         ),
         @ApiResponse(
             responseCode = "401",
-            description = "Invalid email or password",
+            description = "Invalid email or password, or the account is inactive",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MessageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "429",
+            description = "Too many logins are being verified, retry shortly",
+            content = @Content(
+                mediaType = "application/json",
+                schema = @Schema(implementation = MessageResponse.class)
+            )
+        ),
+        @ApiResponse(
+            responseCode = "503",
+            description = "Password verification timed out under load, retry shortly",
             content = @Content(
                 mediaType = "application/json",
                 schema = @Schema(implementation = MessageResponse.class)
@@ -83,24 +102,29 @@ public class AuthUserController {
             
             SecurityContextHolder.getContext().setAuthentication(authentication);
             
-            UserDetails userDetails = (UserDetails) authentication.getPrincipal();
-            String jwt = jwtUtils.generateToken(userDetails);
-            
-            User user = userDetailsService.getUserByEmail(userDetails.getUsername());
+            UserPrincipal principal = (UserPrincipal) authentication.getPrincipal();
+            String jwt = jwtUtils.generateToken(principal);
             
             // Log successful API login
-            authLoggingHandler.logApiLogin(user.getEmail(), request);
+            authLoggingHandler.logApiLogin(principal, request);
             
             LoginResponse response = LoginResponse.builder()
                 .token(jwt)
-                .email(user.getEmail())
-                .role(user.getRole().toString())
-                .userId(user.getId())
+                .email(principal.getUsername())
+                .role(principal.getRole().toString())
+                .userId(principal.getUserId())
                 .build();
             
             return ResponseEntity.ok(response);
             
-        } catch (BadCredentialsException e) {
+        } catch (PasswordHashingOverloadException e) {
+            // Shed load quickly instead of queueing more logins behind a saturated hashing pool
+            return ResponseEntity
+                .status(e.getStatus())
+                .header(HttpHeaders.RETRY_AFTER, "1")
+                .body(new MessageResponse(e.getMessage(), false));
+        } catch (BadCredentialsException | DisabledException e) {
+            // Same answer for inactive accounts: the disabled check runs before the password check
             return ResponseEntity
                 .status(HttpStatus.UNAUTHORIZED)
                 .body(new MessageResponse("Invalid email or password", false));
@@ -113,7 +137,7 @@ public class AuthUserController {
     
     @Operation(
         summary = "User logout",
-        description = "Clears the server-side security context. Note: With JWT, the client should also delete the stored token."
+        description = "Revokes the presented JWT so it is rejected until its natural expiry, and clears the server-side security context."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -131,8 +155,16 @@ public class AuthUserController {
         // Get current user before clearing context
         Authentication auth = SecurityContextHolder.getContext().getAuthentication();
         if (auth != null && auth.isAuthenticated()) {
-            String email = auth.getName();
-            authLoggingHandler.logApiLogout(email, request);
+            authLoggingHandler.logApiLogout(auth, request);
+        }
+
+        String jwt = jwtUtils.resolveToken(request);
+        if (jwt != null) {
+            Claims claims = jwtUtils.getVerifiedClaims(jwt);
+            if (claims != null) {
+                tokenRevocationRegistry.revoke(claims.getId(), UserPrincipal.currentUserId(auth), claims.getExpiration());
+                jwtUtils.evictVerifiedToken(jwt);
+            }
         }
         
         SecurityContextHolder.clearContext();
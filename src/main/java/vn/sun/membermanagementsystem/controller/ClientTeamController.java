@@ -6,11 +6,14 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.PageRequest;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Sort;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import vn.sun.membermanagementsystem.dto.response.TeamDTO;
 import vn.sun.membermanagementsystem.dto.response.TeamDetailDTO;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.TeamService;
 
 import java.util.HashMap;
@@ -23,6 +26,7 @@ import java.util.Map;
 public class ClientTeamController {
 
     private final TeamService teamService;
+    private final EntityVersionService entityVersionService;
 
     @GetMapping
     public ResponseEntity<Map<String, Object>> getAllTeams(
@@ -30,11 +34,18 @@ public class ClientTeamController {
             @RequestParam(defaultValue = "10") int size,
             @RequestParam(defaultValue = "name") String sortBy,
             @RequestParam(defaultValue = "asc") String sortDir,
-            @RequestParam(required = false) String keyword) {
+            @RequestParam(required = false) String keyword,
+            WebRequest webRequest) {
 
         log.info("Client API: Getting all teams - page: {}, size: {}, sortBy: {}, sortDir: {}, keyword: {}",
                 page, size, sortBy, sortDir, keyword);
 
+        // One version covers every page: clients cache per URL, so page and keyword need not be part of it
+        String eTag = entityVersionService.teamListETag();
+        if (webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         Sort sort = sortDir.equalsIgnoreCase("desc")
                 ? Sort.by(sortBy).descending()
                 : Sort.by(sortBy).ascending();
@@ -49,16 +60,23 @@ public class ClientTeamController {
         response.put("totalElements", teamPage.getTotalElements());
         response.put("pageSize", teamPage.getSize());
 
-        return ResponseEntity.ok(response);
+        return ResponseEntity.ok().cacheControl(CacheControl.noCache()).eTag(eTag).body(response);
     }
 
     @GetMapping("/{id}")
-    public ResponseEntity<TeamDetailDTO> getTeamDetail(@PathVariable Long id) {
+    public ResponseEntity<TeamDetailDTO> getTeamDetail(@PathVariable Long id, WebRequest webRequest) {
         log.info("Client API: Getting team detail for ID: {}", id);
 
+        // Null for an unknown team, which then falls through to the 404 below instead of a 304
+        String eTag = entityVersionService.teamETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         try {
             TeamDetailDTO teamDetail = teamService.getTeamDetail(id);
-            return ResponseEntity.ok(teamDetail);
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+            return (eTag != null ? ok.eTag(eTag) : ok).body(teamDetail);
         } catch (ResourceNotFoundException e) {
             log.error("Team not found with ID: {}", id);
             return ResponseEntity.notFound().build();
@@ -10,11 +10,14 @@ import io.swagger.v3.oas.annotations.security.SecurityRequirement;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.CacheControl;
 import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.context.request.WebRequest;
 import vn.sun.membermanagementsystem.dto.response.MessageResponse;
 import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.UserService;
 
 @Slf4j
@@ -26,12 +29,14 @@ import vn.sun.membermanagementsystem.services.UserService;
 public class UserProfileController {
 
     private final UserService userService;
+    private final EntityVersionService entityVersionService;
 
 
     @Operation(
         summary = "Get user profile by ID",
         description = "Retrieves complete user profile including basic info, current team, position, active projects, and skills. " +
-                      "Can be used by admin to view any user's profile or by users to view team members' profiles."
+                      "Can be used by admin to view any user's profile or by users to view team members' profiles. " +
+                      "Send the returned ETag in If-None-Match to get 304 while the profile is unchanged."
     )
     @ApiResponses(value = {
         @ApiResponse(
@@ -42,6 +47,10 @@ public class UserProfileController {
                 schema = @Schema(implementation = UserProfileDetailDTO.class)
             )
         ),
+        @ApiResponse(
+            responseCode = "304",
+            description = "Profile unchanged since the ETag sent in If-None-Match"
+        ),
         @ApiResponse(
             responseCode = "404",
             description = "User not found",
@@ -63,12 +72,21 @@ public class UserProfileController {
     @GetMapping("/{id}/profile")
     public ResponseEntity<?> getUserProfileById(
             @Parameter(description = "User ID", required = true, example = "1")
-            @PathVariable Long id) {
+            @PathVariable Long id,
+            WebRequest webRequest) {
         log.info("API: Fetching profile for user ID: {}", id);
-        
+
+        // Read before the profile: a change committed in between yields a stale ETag, never a stale body.
+        // Null for an unknown user, which then falls through to the 404 below instead of a 304.
+        String eTag = entityVersionService.userProfileETag(id);
+        if (eTag != null && webRequest.checkNotModified(eTag)) {
+            return null;
+        }
+
         try {
             UserProfileDetailDTO profile = userService.getUserDetailById(id);
-            return ResponseEntity.ok(profile);
+            ResponseEntity.BodyBuilder ok = ResponseEntity.ok().cacheControl(CacheControl.noCache());
+            return (eTag != null ? ok.eTag(eTag) : ok).body(profile);
         } catch (ResourceNotFoundException e) {
             log.warn("User not found with ID: {}", id);
             return ResponseEntity
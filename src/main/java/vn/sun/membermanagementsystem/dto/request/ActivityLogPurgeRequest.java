@@ -0,0 +1,30 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import jakarta.validation.constraints.Size;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogPurgeRequest {
+
+    @Size(max = 50, message = "Entity type must not exceed 50 characters")
+    private String entityType;
+
+    @Size(max = 100, message = "Action must not exceed 100 characters")
+    private String action;
+
+    private LocalDate fromDate;
+
+    private LocalDate toDate;
+
+    public boolean hasAnyFilter() {
+        return entityType != null || action != null || fromDate != null || toDate != null;
+    }
+}
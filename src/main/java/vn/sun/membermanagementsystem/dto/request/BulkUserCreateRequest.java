@@ -0,0 +1,20 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import jakarta.validation.constraints.NotEmpty;
+import lombok.AllArgsConstructor;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * Users to create in one call. Items are validated one by one by the service,
+ * so an invalid item is reported in the result instead of failing the whole request.
+ */
+@Data
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserCreateRequest {
+    @NotEmpty(message = "At least one user is required")
+    private List<UserCreateDTO> users;
+}
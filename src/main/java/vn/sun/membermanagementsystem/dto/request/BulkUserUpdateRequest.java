@@ -0,0 +1,53 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.util.List;
+
+/**
+ * Target of a bulk status, role or delete operation: either explicit user ids or a filter with the
+ * same criteria as the admin user list. status and role are the new values for the status and role
+ * operations and are ignored by delete.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserUpdateRequest {
+
+    private List<Long> userIds;
+
+    private Filter filter;
+
+    private UserStatus status;
+
+    private UserRole role;
+
+    public boolean hasUserIds() {
+        return userIds != null && !userIds.isEmpty();
+    }
+
+    public boolean hasFilter() {
+        return filter != null && filter.hasAnyCriteria();
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Filter {
+        private String keyword;
+        private UserStatus status;
+        private UserRole role;
+        private Long teamId;
+
+        public boolean hasAnyCriteria() {
+            return (keyword != null && !keyword.isBlank()) || status != null || role != null || teamId != null;
+        }
+    }
+}
@@ -0,0 +1,52 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+/**
+ * Skill inventory query: a tree of skill criteria combined with AND/OR, narrowed by the optional
+ * status and active team filters. Example: {"query": {"op": "AND", "clauses": [{"skillId": 1, "minLevel":
+ * "ADVANCED"}, {"op": "OR", "clauses": [{"skillId": 2}, {"skillId": 3, "minYears": 2}]}]}, "status": "ACTIVE"}
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchRequest {
+
+    private Node query;
+
+    private UserStatus status;
+
+    private Long teamId;
+
+    /**
+     * Either a group (op and clauses) or a single criterion (skillId with optional minLevel and minYears).
+     */
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class Node {
+        private Operator op;
+        private List<Node> clauses;
+        private Long skillId;
+        private UserSkill.Level minLevel;
+        private BigDecimal minYears;
+
+        public boolean isGroup() {
+            return op != null;
+        }
+    }
+
+    public enum Operator {
+        AND, OR
+    }
+}
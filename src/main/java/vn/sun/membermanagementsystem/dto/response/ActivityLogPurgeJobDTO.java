@@ -0,0 +1,28 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
+import vn.sun.membermanagementsystem.enums.PurgeJobStatus;
+
+import java.time.LocalDateTime;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityLogPurgeJobDTO {
+
+    private String id;
+    private PurgeJobStatus status;
+    private ActivityLogPurgeRequest filter;
+    private long deletedCount;
+    private long chunkCount;
+    private Long lastDeletedId;
+    private LocalDateTime createdAt;
+    private LocalDateTime startedAt;
+    private LocalDateTime finishedAt;
+    private String error;
+}
@@ -0,0 +1,54 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class ActivityStatsDTO {
+
+    private LocalDateTime from;
+    private LocalDateTime to;
+    private String granularity;
+    private long totalEvents;
+    private List<CountDTO> byAction;
+    private List<CountDTO> byEntityType;
+    private List<ActorDTO> topActors;
+    private List<TimelinePointDTO> timeline;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class CountDTO {
+        private String key;
+        private long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ActorDTO {
+        private Long userId;
+        private String name;
+        private String email;
+        private long count;
+    }
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class TimelinePointDTO {
+        private LocalDateTime bucket;
+        private long count;
+    }
+}
@@ -0,0 +1,33 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserCreateResultDTO {
+    private int requested;
+    private int created;
+    private int failed;
+    private long durationMs;
+    private List<ItemResult> items;
+
+    @Data
+    @Builder
+    @NoArgsConstructor
+    @AllArgsConstructor
+    public static class ItemResult {
+        /** Position of the item in the request, starting at 0 */
+        private int index;
+        private String email;
+        private boolean created;
+        private Long userId;
+        private List<String> errors;
+    }
+}
@@ -0,0 +1,26 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class BulkUserUpdateResultDTO {
+    private String action;
+    /** Live users the request resolved to, the caller's own account excluded */
+    private int matched;
+    /** Users actually changed; users already in the requested state are not rewritten */
+    private int updated;
+    private int closedTeamMemberships;
+    private int closedProjectMemberships;
+    private int endedTeamLeaderships;
+    private int endedProjectLeaderships;
+    private long durationMs;
+    /** False when a chunk failed; chunks before it stay committed and are counted above */
+    private boolean completed;
+    private String failure;
+}
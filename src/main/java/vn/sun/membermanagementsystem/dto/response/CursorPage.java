@@ -0,0 +1,26 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+/**
+ * One page of a keyset (seek) paginated result.
+ * Cursors are opaque strings; approximateTotal is only filled when requested and may be null.
+ */
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class CursorPage<T> {
+    private List<T> content;
+    private int size;
+    private String nextCursor;
+    private String previousCursor;
+    private boolean hasNext;
+    private boolean hasPrevious;
+    private Long approximateTotal;
+}
@@ -0,0 +1,25 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class PasswordHashingStatsDTO {
+    private int strength;
+    private int poolSize;
+    private int queueCapacity;
+    private int queueDepth;
+    private int activeCount;
+    private long verifications;
+    private long rejected;
+    private long timedOut;
+    private double avgHashMs;
+    private double maxHashMs;
+    private double avgQueueWaitMs;
+    private double maxQueueWaitMs;
+}
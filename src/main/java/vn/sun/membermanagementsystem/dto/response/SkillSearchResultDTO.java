@@ -0,0 +1,24 @@
+package vn.sun.membermanagementsystem.dto.response;
+
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+
+import java.util.List;
+
+@Data
+@Builder
+@NoArgsConstructor
+@AllArgsConstructor
+public class SkillSearchResultDTO {
+    private List<UserListItemDTO> users;
+    private int page;
+    private int size;
+    private long totalElements;
+    private int totalPages;
+    /** Time spent evaluating the query against the in-memory index, loading the page rows excluded */
+    private long indexMicros;
+    /** False until the startup build finished; results are then incomplete */
+    private boolean indexReady;
+}
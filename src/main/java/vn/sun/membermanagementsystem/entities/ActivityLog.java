@@ -28,7 +28,19 @@ public class ActivityLog {
     @Column(name = "entity_id")
     private Long entityId;
 
-    @Column(columnDefinition = "text")
+    @Column(name = "description_id")
+    private Long descriptionId;
+
+    /**
+     * Variable part appended to the description template, e.g. the e-mail of a login attempt.
+     */
+    @Column(name = "description_detail")
+    private String descriptionDetail;
+
+    /**
+     * Description template text, stored once in activity_log_descriptions and referenced by descriptionId.
+     */
+    @Transient
     private String description;
 
     @Column(name = "user_id")
@@ -37,7 +49,13 @@ public class ActivityLog {
     @Column(name = "ip_address", length = 45)
     private String ipAddress;
 
-    @Column(name = "user_agent", columnDefinition = "text")
+    @Column(name = "user_agent_id")
+    private Long userAgentId;
+
+    /**
+     * Stored once in activity_log_user_agents and referenced by userAgentId.
+     */
+    @Transient
     private String userAgent;
 
     @Column(name = "created_at")
@@ -7,6 +7,7 @@ import lombok.Data;
 import lombok.NoArgsConstructor;
 import vn.sun.membermanagementsystem.enums.UserRole;
 import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.services.search.UserSearchText;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -29,6 +30,9 @@ public class User {
     @Column(nullable = false, unique = true, length = 255)
     private String email;
 
+    @Column(name = "search_text", length = 512)
+    private String searchText;
+
     @Column(name = "password_hash", nullable = false, length = 255)
     private String passwordHash;
 
@@ -41,6 +45,9 @@ public class User {
     @Enumerated(EnumType.STRING)
     private UserStatus status;
 
+    @Column(name = "token_epoch", nullable = false)
+    private int tokenEpoch;
+
     @Column(name = "created_at")
     private LocalDateTime createdAt;
 
@@ -62,4 +69,9 @@ public class User {
     @OneToMany(mappedBy = "user", fetch = FetchType.LAZY)
     private List<UserSkill> userSkills;
 
+    @PrePersist
+    @PreUpdate
+    protected void refreshSearchText() {
+        searchText = UserSearchText.of(name, email);
+    }
 }
@@ -0,0 +1,68 @@
+package vn.sun.membermanagementsystem.entities;
+
+import jakarta.persistence.*;
+import lombok.Data;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+/**
+ * Row of the user_directory read model. Written only by UserDirectoryService through SQL;
+ * property names follow {@link User} so list pages can sort on the same fields.
+ */
+@Entity
+@Immutable
+@Data
+@NoArgsConstructor
+@Table(name = "user_directory")
+public class UserDirectoryEntry {
+    @Id
+    @Column(name = "user_id")
+    private Long id;
+
+    private String name;
+
+    private String email;
+
+    @Column(name = "search_text")
+    private String searchText;
+
+    private LocalDate birthday;
+
+    @Enumerated(EnumType.STRING)
+    private UserRole role;
+
+    @Enumerated(EnumType.STRING)
+    private UserStatus status;
+
+    @Column(name = "created_at")
+    private LocalDateTime createdAt;
+
+    @Column(name = "active_team_id")
+    private Long activeTeamId;
+
+    @Column(name = "active_team_name")
+    private String activeTeamName;
+
+    @Column(name = "position_id")
+    private Long positionId;
+
+    @Column(name = "position_name")
+    private String positionName;
+
+    @Column(name = "position_abbreviation")
+    private String positionAbbreviation;
+
+    @Column(name = "skill_count")
+    private int skillCount;
+
+    @Column(name = "skills_summary")
+    private String skillsSummary;
+
+    @Column(name = "refreshed_at")
+    private LocalDateTime refreshedAt;
+}
@@ -0,0 +1,22 @@
+package vn.sun.membermanagementsystem.enums;
+
+public enum ActivityLogExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    ActivityLogExportFormat(String contentType, String extension) {
+        this.contentType = contentType;
+        this.extension = extension;
+    }
+
+    public String getContentType() {
+        return contentType;
+    }
+
+    public String getExtension() {
+        return extension;
+    }
+}
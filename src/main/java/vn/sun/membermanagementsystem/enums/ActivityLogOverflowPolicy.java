@@ -0,0 +1,7 @@
+package vn.sun.membermanagementsystem.enums;
+
+public enum ActivityLogOverflowPolicy {
+    DROP_NEWEST,
+    DROP_OLDEST,
+    BLOCK
+}
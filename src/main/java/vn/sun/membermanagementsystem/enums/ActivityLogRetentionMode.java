@@ -0,0 +1,6 @@
+package vn.sun.membermanagementsystem.enums;
+
+public enum ActivityLogRetentionMode {
+    DROP,
+    ARCHIVE
+}
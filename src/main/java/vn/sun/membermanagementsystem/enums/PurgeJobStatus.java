@@ -0,0 +1,13 @@
+package vn.sun.membermanagementsystem.enums;
+
+public enum PurgeJobStatus {
+    QUEUED,
+    RUNNING,
+    COMPLETED,
+    CANCELLED,
+    FAILED;
+
+    public boolean isFinished() {
+        return this == COMPLETED || this == CANCELLED || this == FAILED;
+    }
+}
@@ -0,0 +1,10 @@
+package vn.sun.membermanagementsystem.exception;
+
+import org.springframework.http.HttpStatus;
+
+public class TooManyRequestsException extends BaseException {
+
+    public TooManyRequestsException(String message) {
+        super(message, HttpStatus.TOO_MANY_REQUESTS.value());
+    }
+}
@@ -1,17 +1,23 @@
 package vn.sun.membermanagementsystem.mapper;
 
 import org.mapstruct.Mapper;
+import org.mapstruct.Mapping;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
 import vn.sun.membermanagementsystem.entities.ActivityLog;
 
 import java.util.List;
 
-@Mapper(componentModel = "spring")
+@Mapper(componentModel = "spring", uses = ActivityLogTextMapper.class)
 public interface ActivityLogMapper {
 
+    @Mapping(target = "description", source = "activityLog", qualifiedByName = "decodeDescription")
+    @Mapping(target = "userAgent", source = "activityLog", qualifiedByName = "decodeUserAgent")
     ActivityLogDTO toDTO(ActivityLog activityLog);
 
     List<ActivityLogDTO> toDTOList(List<ActivityLog> activityLogs);
 
+    @Mapping(target = "descriptionId", ignore = true)
+    @Mapping(target = "descriptionDetail", ignore = true)
+    @Mapping(target = "userAgentId", ignore = true)
     ActivityLog toEntity(ActivityLogDTO activityLogDTO);
 }
@@ -0,0 +1,32 @@
+package vn.sun.membermanagementsystem.mapper;
+
+import lombok.RequiredArgsConstructor;
+import org.mapstruct.Named;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+
+/**
+ * Resolves dictionary-encoded activity log text through the in-memory dictionary cache.
+ */
+@Component
+@RequiredArgsConstructor
+public class ActivityLogTextMapper {
+
+    private final ActivityLogDictionary activityLogDictionary;
+
+    @Named("decodeDescription")
+    public String decodeDescription(ActivityLog activityLog) {
+        String template = activityLog.getDescription() != null
+                ? activityLog.getDescription()
+                : activityLogDictionary.decodeDescription(activityLog.getDescriptionId());
+        return ActivityLogDictionary.joinDescription(template, activityLog.getDescriptionDetail());
+    }
+
+    @Named("decodeUserAgent")
+    public String decodeUserAgent(ActivityLog activityLog) {
+        return activityLog.getUserAgent() != null
+                ? activityLog.getUserAgent()
+                : activityLogDictionary.decodeUserAgent(activityLog.getUserAgentId());
+    }
+}
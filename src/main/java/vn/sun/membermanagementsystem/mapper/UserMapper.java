@@ -18,6 +18,10 @@ public interface UserMapper {
 
     List<UserListItemDTO> toListItemDTOList(List<User> users);
 
+    @Mapping(target = "activeTeam", source = "activeTeamName")
+    @Mapping(target = "currentPosition", expression = "java(mapDirectoryPosition(entry))")
+    UserListItemDTO toListItemDTO(UserDirectoryEntry entry);
+
     // ===== UserProfileDetailDTO mappings =====
     @Mapping(target = "activeTeam", expression = "java(getActiveTeamName(user))")
     @Mapping(target = "activeProjects", expression = "java(mapActiveProjectsForDetail(user))")
@@ -63,6 +67,17 @@ public interface UserMapper {
                 .orElse(null);
     }
 
+    default UserListItemDTO.PositionInfo mapDirectoryPosition(UserDirectoryEntry entry) {
+        if (entry.getPositionId() == null) {
+            return null;
+        }
+        return UserListItemDTO.PositionInfo.builder()
+                .id(entry.getPositionId())
+                .name(entry.getPositionName())
+                .abbreviation(entry.getPositionAbbreviation())
+                .build();
+    }
+
     // For UserProfileDetailDTO
     default List<UserProfileDetailDTO.ProjectInfo> mapActiveProjectsForDetail(User user) {
         if (user.getProjectMemberships() == null || user.getProjectMemberships().isEmpty()) {
@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.repositories;
 
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
@@ -24,6 +25,37 @@ public interface ActivityLogRepository extends JpaRepository<ActivityLog, Long>
                                   @Param("toDate") LocalDateTime toDate,
                                   Pageable pageable);
     
+    @Query("SELECT a FROM ActivityLog a WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:fromDate IS NULL OR a.createdAt >= :fromDate) AND " +
+           "(:toDate IS NULL OR a.createdAt <= :toDate) AND " +
+           "(:cursorCreatedAt IS NULL OR a.createdAt < :cursorCreatedAt OR " +
+           "(a.createdAt = :cursorCreatedAt AND a.id < :cursorId)) " +
+           "ORDER BY a.createdAt DESC, a.id DESC")
+    List<ActivityLog> findPageBefore(@Param("entityType") String entityType,
+                                     @Param("fromDate") LocalDateTime fromDate,
+                                     @Param("toDate") LocalDateTime toDate,
+                                     @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                     @Param("cursorId") Long cursorId,
+                                     Limit limit);
+
+    @Query("SELECT a FROM ActivityLog a WHERE " +
+           "(:entityType IS NULL OR a.entityType = :entityType) AND " +
+           "(:fromDate IS NULL OR a.createdAt >= :fromDate) AND " +
+           "(:toDate IS NULL OR a.createdAt <= :toDate) AND " +
+           "(a.createdAt > :cursorCreatedAt OR (a.createdAt = :cursorCreatedAt AND a.id > :cursorId)) " +
+           "ORDER BY a.createdAt ASC, a.id ASC")
+    List<ActivityLog> findPageAfter(@Param("entityType") String entityType,
+                                    @Param("fromDate") LocalDateTime fromDate,
+                                    @Param("toDate") LocalDateTime toDate,
+                                    @Param("cursorCreatedAt") LocalDateTime cursorCreatedAt,
+                                    @Param("cursorId") Long cursorId,
+                                    Limit limit);
+
+    @Query(value = "SELECT COALESCE(SUM(TABLE_ROWS), 0) FROM information_schema.PARTITIONS " +
+           "WHERE TABLE_SCHEMA = DATABASE() AND LOWER(TABLE_NAME) = 'activity_logs'", nativeQuery = true)
+    Long estimateRowCount();
+    
     @Query("SELECT DISTINCT a.entityType FROM ActivityLog a WHERE a.entityType IS NOT NULL ORDER BY a.entityType")
     List<String> findDistinctEntityTypes();
 }
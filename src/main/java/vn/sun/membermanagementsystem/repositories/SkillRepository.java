@@ -8,6 +8,7 @@ import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 import vn.sun.membermanagementsystem.entities.Skill;
 
+import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
 
@@ -22,6 +23,9 @@ public interface SkillRepository extends JpaRepository<Skill, Long> {
     
     @Query("SELECT s FROM Skill s WHERE s.id = :id AND s.deletedAt IS NULL")
     Optional<Skill> findByIdAndNotDeleted(@Param("id") Long id);
+
+    @Query("SELECT s FROM Skill s WHERE s.id IN :ids AND s.deletedAt IS NULL")
+    List<Skill> findAllByIdInAndNotDeleted(@Param("ids") Collection<Long> ids);
     
     @Query("SELECT s FROM Skill s WHERE LOWER(s.name) = LOWER(:name) AND s.deletedAt IS NULL")
     Optional<Skill> findByNameIgnoreCaseAndNotDeleted(@Param("name") String name);
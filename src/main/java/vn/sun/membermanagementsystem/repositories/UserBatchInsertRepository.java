@@ -0,0 +1,152 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+
+import java.math.BigDecimal;
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Set;
+import java.util.function.Consumer;
+
+/**
+ * Set-based lookups and JDBC batch inserts behind bulk user creation.
+ * Users keep their AUTO_INCREMENT ids: with rewriteBatchedStatements (see application-dev.yml.example)
+ * Connector/J sends each batch as one multi-row INSERT and still returns every generated key,
+ * as ActivityLogWriterImpl relies on, so no id pre-allocation is needed.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBatchInsertRepository {
+
+    private static final int LOOKUP_CHUNK_SIZE = 1000;
+
+    private static final String INSERT_USER_SQL = "INSERT INTO users (name, email, search_text, password_hash, " +
+            "birthday, role, status, token_epoch, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?, ?, 0, ?, ?)";
+    private static final String INSERT_POSITION_SQL = "INSERT INTO user_position_history (user_id, position_id, " +
+            "started_at) VALUES (?, ?, ?)";
+    private static final String INSERT_SKILL_SQL = "INSERT INTO user_skills (user_id, skill_id, level, " +
+            "used_year_number, created_at, updated_at) VALUES (?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record PositionRow(Long userId, Long positionId, LocalDateTime startedAt) {
+    }
+
+    public record SkillRow(Long userId, Long skillId, UserSkill.Level level, BigDecimal usedYearNumber,
+                           LocalDateTime createdAt) {
+    }
+
+    /**
+     * Lower-cased e-mails among the given ones that are already taken. Deleted users are included:
+     * their address carries a suffix, so it only collides if reused verbatim.
+     */
+    public Set<String> findExistingEmails(Collection<String> emails) {
+        Set<String> existing = new HashSet<>();
+        forEachChunk(new ArrayList<>(emails), chunk -> jdbcTemplate.queryForList(
+                "SELECT LOWER(email) FROM users WHERE email IN " + placeholders(chunk.size()),
+                String.class, chunk.toArray()).forEach(email -> existing.add(email.toLowerCase(Locale.ROOT))));
+        return existing;
+    }
+
+    public Set<Long> findLivePositionIds(Collection<Long> ids) {
+        return findLiveIds("positions", ids);
+    }
+
+    public Set<Long> findLiveSkillIds(Collection<Long> ids) {
+        return findLiveIds("skills", ids);
+    }
+
+    /**
+     * Inserts the users in batches of batchSize and sets their generated ids.
+     */
+    public void insertUsers(List<User> users, int batchSize) {
+        for (int from = 0; from < users.size(); from += batchSize) {
+            List<User> batch = users.subList(from, Math.min(from + batchSize, users.size()));
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_USER_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (User user : batch) {
+                        ps.setString(1, user.getName());
+                        ps.setString(2, user.getEmail());
+                        ps.setString(3, user.getSearchText());
+                        ps.setString(4, user.getPasswordHash());
+                        if (user.getBirthday() != null) {
+                            ps.setDate(5, Date.valueOf(user.getBirthday()));
+                        } else {
+                            ps.setNull(5, Types.DATE);
+                        }
+                        ps.setString(6, user.getRole().name());
+                        ps.setString(7, user.getStatus().name());
+                        ps.setTimestamp(8, Timestamp.valueOf(user.getCreatedAt()));
+                        ps.setTimestamp(9, Timestamp.valueOf(user.getUpdatedAt()));
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    int i = 0;
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        while (keys.next() && i < batch.size()) {
+                            batch.get(i++).setId(keys.getLong(1));
+                        }
+                    }
+                    if (i != batch.size()) {
+                        throw new IllegalStateException("Expected " + batch.size() + " generated user ids, got " + i);
+                    }
+                }
+                return null;
+            });
+        }
+    }
+
+    public void insertPositionHistories(List<PositionRow> rows, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_POSITION_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setLong(2, row.positionId());
+            ps.setTimestamp(3, Timestamp.valueOf(row.startedAt()));
+        });
+    }
+
+    public void insertSkills(List<SkillRow> rows, int batchSize) {
+        jdbcTemplate.batchUpdate(INSERT_SKILL_SQL, rows, batchSize, (ps, row) -> {
+            ps.setLong(1, row.userId());
+            ps.setLong(2, row.skillId());
+            ps.setString(3, row.level().name());
+            ps.setBigDecimal(4, row.usedYearNumber() != null ? row.usedYearNumber() : BigDecimal.ZERO);
+            ps.setTimestamp(5, Timestamp.valueOf(row.createdAt()));
+            ps.setTimestamp(6, Timestamp.valueOf(row.createdAt()));
+        });
+    }
+
+    private Set<Long> findLiveIds(String table, Collection<Long> ids) {
+        Set<Long> live = new HashSet<>();
+        forEachChunk(new ArrayList<>(ids), chunk -> live.addAll(jdbcTemplate.queryForList(
+                "SELECT id FROM " + table + " WHERE deleted_at IS NULL AND id IN " + placeholders(chunk.size()),
+                Long.class, chunk.toArray())));
+        return live;
+    }
+
+    private static <T> void forEachChunk(List<T> values, Consumer<List<T>> action) {
+        for (int from = 0; from < values.size(); from += LOOKUP_CHUNK_SIZE) {
+            action.accept(values.subList(from, Math.min(from + LOOKUP_CHUNK_SIZE, values.size())));
+        }
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(",", Collections.nCopies(count, "?")) + ")";
+    }
+}
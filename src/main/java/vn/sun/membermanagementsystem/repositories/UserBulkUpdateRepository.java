@@ -0,0 +1,91 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+/**
+ * Set-based UPDATE statements behind the bulk user operations. Each method handles one chunk of ids
+ * in a single statement; callers keep chunks small enough for the IN list. Every change to a user
+ * row bumps token_epoch, as UserServiceImpl does for a single status, role or delete change, so
+ * tokens issued before are rejected.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserBulkUpdateRepository {
+
+    private static final String UPDATE_STATUS_SQL = "UPDATE users SET status = ?, token_epoch = token_epoch + 1, " +
+            "updated_at = ? WHERE deleted_at IS NULL AND status <> ? AND id IN ";
+    private static final String UPDATE_ROLE_SQL = "UPDATE users SET role = ?, token_epoch = token_epoch + 1, " +
+            "updated_at = ? WHERE deleted_at IS NULL AND role <> ? AND id IN ";
+    private static final String SOFT_DELETE_SQL = "UPDATE users SET email = CONCAT(email, ?), deleted_at = ?, " +
+            "token_epoch = token_epoch + 1, updated_at = ? WHERE deleted_at IS NULL AND id IN ";
+    private static final String CLOSE_TEAM_MEMBERSHIPS_SQL = "UPDATE team_members SET status = 'INACTIVE', " +
+            "left_at = ? WHERE status = 'ACTIVE' AND left_at IS NULL AND user_id IN ";
+    private static final String CLOSE_PROJECT_MEMBERSHIPS_SQL = "UPDATE project_members SET status = 'INACTIVE', " +
+            "left_at = ? WHERE status = 'ACTIVE' AND left_at IS NULL AND user_id IN ";
+    private static final String END_TEAM_LEADERSHIPS_SQL = "UPDATE team_leadership_history SET ended_at = ? " +
+            "WHERE ended_at IS NULL AND leader_id IN ";
+    private static final String END_PROJECT_LEADERSHIPS_SQL = "UPDATE project_leadership_history SET ended_at = ? " +
+            "WHERE ended_at IS NULL AND leader_id IN ";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public record Closure(int teamMemberships, int projectMemberships, int teamLeaderships, int projectLeaderships) {
+    }
+
+    /**
+     * Ids among the given ones that belong to live users, in ascending order.
+     */
+    public List<Long> findLiveUserIds(List<Long> ids) {
+        return jdbcTemplate.queryForList("SELECT id FROM users WHERE deleted_at IS NULL AND id IN " +
+                placeholders(ids.size()) + " ORDER BY id", Long.class, ids.toArray());
+    }
+
+    public int updateStatus(List<Long> ids, UserStatus status, LocalDateTime now) {
+        return update(UPDATE_STATUS_SQL, ids, status.name(), Timestamp.valueOf(now), status.name());
+    }
+
+    public int updateRole(List<Long> ids, UserRole role, LocalDateTime now) {
+        return update(UPDATE_ROLE_SQL, ids, role.name(), Timestamp.valueOf(now), role.name());
+    }
+
+    /**
+     * Soft-deletes the users, freeing their e-mail the same way UserServiceImpl.deleteUser does.
+     */
+    public int softDelete(List<Long> ids, String emailSuffix, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return update(SOFT_DELETE_SQL, ids, emailSuffix, timestamp, timestamp);
+    }
+
+    /**
+     * Ends the active team and project memberships and the current leaderships of the users.
+     */
+    public Closure closeMemberships(List<Long> ids, LocalDateTime now) {
+        Timestamp timestamp = Timestamp.valueOf(now);
+        return new Closure(
+                update(CLOSE_TEAM_MEMBERSHIPS_SQL, ids, timestamp),
+                update(CLOSE_PROJECT_MEMBERSHIPS_SQL, ids, timestamp),
+                update(END_TEAM_LEADERSHIPS_SQL, ids, timestamp),
+                update(END_PROJECT_LEADERSHIPS_SQL, ids, timestamp));
+    }
+
+    private int update(String sql, List<Long> ids, Object... leadingArgs) {
+        List<Object> args = new ArrayList<>(leadingArgs.length + ids.size());
+        Collections.addAll(args, leadingArgs);
+        args.addAll(ids);
+        return jdbcTemplate.update(sql + placeholders(ids.size()), args.toArray());
+    }
+
+    private static String placeholders(int count) {
+        return "(" + String.join(",", Collections.nCopies(count, "?")) + ")";
+    }
+}
@@ -0,0 +1,55 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.entities.UserDirectoryEntry;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.util.List;
+
+@Repository
+public interface UserDirectoryRepository extends JpaRepository<UserDirectoryEntry, Long> {
+
+        /**
+         * Keyword search on the ngram FULLTEXT index of search_text. Build the arguments with
+         * UserSearchText.toMatchQuery / toLikePattern; both are null when there is no keyword.
+         * teamId matches any active membership, not only the one shown as active_team_id.
+         */
+        @Query("SELECT d FROM UserDirectoryEntry d " +
+                        "WHERE " +
+                        "(:match IS NULL OR match_against(d.searchText, :match) > 0) AND " +
+                        "(:like IS NULL OR d.searchText LIKE :like) AND " +
+                        "(:status IS NULL OR d.status = :status) AND " +
+                        "(:role IS NULL OR d.role = :role) AND " +
+                        "(:teamId IS NULL OR EXISTS (SELECT tm FROM TeamMember tm WHERE tm.user.id = d.id " +
+                        "AND tm.team.id = :teamId AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL))")
+        Page<UserDirectoryEntry> search(@Param("match") String match,
+                        @Param("like") String like,
+                        @Param("status") UserStatus status,
+                        @Param("role") UserRole role,
+                        @Param("teamId") Long teamId,
+                        Pageable pageable);
+
+        /**
+         * Ids of the users matching the same criteria as {@link #search}, for bulk operations.
+         */
+        @Query("SELECT d.id FROM UserDirectoryEntry d " +
+                        "WHERE " +
+                        "(:match IS NULL OR match_against(d.searchText, :match) > 0) AND " +
+                        "(:like IS NULL OR d.searchText LIKE :like) AND " +
+                        "(:status IS NULL OR d.status = :status) AND " +
+                        "(:role IS NULL OR d.role = :role) AND " +
+                        "(:teamId IS NULL OR EXISTS (SELECT tm FROM TeamMember tm WHERE tm.user.id = d.id " +
+                        "AND tm.team.id = :teamId AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL))")
+        List<Long> searchIds(@Param("match") String match,
+                        @Param("like") String like,
+                        @Param("status") UserStatus status,
+                        @Param("role") UserRole role,
+                        @Param("teamId") Long teamId,
+                        Pageable pageable);
+}
@@ -0,0 +1,109 @@
+package vn.sun.membermanagementsystem.repositories;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Repository;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+
+/**
+ * Read path for the user profile page. Builds {@link UserProfileDetailDTO} with exactly two statements
+ * whatever the number of projects and skills: the user row with its active team and current position,
+ * then the active projects and skills together in one UNION ALL. Applies the same filters as
+ * UserMapper.toProfileDetailDTO without loading any entity.
+ */
+@Repository
+@RequiredArgsConstructor
+public class UserProfileQueryRepository {
+
+    private static final String PROFILE_SQL = "SELECT u.id, u.name, u.email, u.birthday, u.role, u.status, " +
+            "u.created_at, u.updated_at, " +
+            "(SELECT t.name FROM team_members tm JOIN teams t ON t.id = tm.team_id " +
+            " WHERE tm.user_id = u.id AND tm.status = 'ACTIVE' AND tm.left_at IS NULL AND t.deleted_at IS NULL " +
+            " ORDER BY tm.id LIMIT 1) AS active_team, " +
+            "p.id AS position_id, p.name AS position_name, p.abbreviation AS position_abbreviation " +
+            "FROM users u " +
+            "LEFT JOIN user_position_history ph ON ph.user_id = u.id AND ph.ended_at IS NULL " +
+            "LEFT JOIN positions p ON p.id = ph.position_id " +
+            "WHERE u.id = ? AND u.deleted_at IS NULL " +
+            "ORDER BY ph.id LIMIT 1";
+
+    private static final String COLLECTIONS_SQL = "SELECT 'P' AS kind, pm.id AS seq, pr.id, pr.name, " +
+            "pr.abbreviation, pr.status, NULL AS level, NULL AS used_year_number " +
+            "FROM project_members pm JOIN projects pr ON pr.id = pm.project_id " +
+            "WHERE pm.user_id = ? AND pm.status = 'ACTIVE' AND pm.left_at IS NULL AND pr.deleted_at IS NULL " +
+            "UNION ALL " +
+            "SELECT 'S', us.id, s.id, s.name, NULL, NULL, us.level, us.used_year_number " +
+            "FROM user_skills us JOIN skills s ON s.id = us.skill_id " +
+            "WHERE us.user_id = ? AND s.deleted_at IS NULL " +
+            "ORDER BY kind, seq";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    public Optional<UserProfileDetailDTO> findProfileById(Long userId) {
+        List<UserProfileDetailDTO> profiles = jdbcTemplate.query(PROFILE_SQL, (rs, rowNum) -> {
+            long positionId = rs.getLong("position_id");
+            UserProfileDetailDTO.PositionInfo position = rs.wasNull() ? null : UserProfileDetailDTO.PositionInfo.builder()
+                    .id(positionId)
+                    .name(rs.getString("position_name"))
+                    .abbreviation(rs.getString("position_abbreviation"))
+                    .build();
+            Date birthday = rs.getDate("birthday");
+            Timestamp createdAt = rs.getTimestamp("created_at");
+            Timestamp updatedAt = rs.getTimestamp("updated_at");
+            String role = rs.getString("role");
+            String status = rs.getString("status");
+            return UserProfileDetailDTO.builder()
+                    .id(rs.getLong("id"))
+                    .name(rs.getString("name"))
+                    .email(rs.getString("email"))
+                    .birthday(birthday != null ? birthday.toLocalDate() : null)
+                    .role(role != null ? UserRole.valueOf(role) : null)
+                    .status(status != null ? UserStatus.valueOf(status) : null)
+                    .createdAt(createdAt != null ? createdAt.toLocalDateTime() : null)
+                    .updatedAt(updatedAt != null ? updatedAt.toLocalDateTime() : null)
+                    .activeTeam(rs.getString("active_team"))
+                    .currentPosition(position)
+                    .build();
+        }, userId);
+
+        if (profiles.isEmpty()) {
+            return Optional.empty();
+        }
+
+        UserProfileDetailDTO profile = profiles.get(0);
+        List<UserProfileDetailDTO.ProjectInfo> projects = new ArrayList<>();
+        List<UserProfileDetailDTO.SkillInfo> skills = new ArrayList<>();
+        jdbcTemplate.query(COLLECTIONS_SQL, (RowCallbackHandler) rs -> {
+            if ("P".equals(rs.getString("kind"))) {
+                projects.add(UserProfileDetailDTO.ProjectInfo.builder()
+                        .id(rs.getLong("id"))
+                        .name(rs.getString("name"))
+                        .abbreviation(rs.getString("abbreviation"))
+                        .status(rs.getString("status"))
+                        .build());
+            } else {
+                String level = rs.getString("level");
+                skills.add(UserProfileDetailDTO.SkillInfo.builder()
+                        .skillId(rs.getLong("id"))
+                        .skillName(rs.getString("name"))
+                        .level(level != null ? UserSkill.Level.valueOf(level) : null)
+                        .usedYearNumber(rs.getBigDecimal("used_year_number"))
+                        .build());
+            }
+        }, userId, userId);
+
+        profile.setActiveProjects(projects);
+        profile.setSkills(skills);
+        return Optional.of(profile);
+    }
+}
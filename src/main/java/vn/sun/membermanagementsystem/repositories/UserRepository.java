@@ -4,6 +4,7 @@ import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
@@ -25,6 +26,10 @@ public interface UserRepository extends JpaRepository<User, Long> {
         @Query("SELECT u FROM User u WHERE u.id = :id AND u.deletedAt IS NULL")
         Optional<User> findByIdAndNotDeleted(Long id);
 
+        @Modifying
+        @Query("UPDATE User u SET u.passwordHash = :passwordHash WHERE u.email = :email")
+        int updatePasswordHashByEmail(@Param("email") String email, @Param("passwordHash") String passwordHash);
+
         @Query("SELECT DISTINCT u FROM User u " +
                         "LEFT JOIN FETCH u.teamMemberships tm " +
                         "LEFT JOIN FETCH tm.team " +
@@ -64,30 +69,34 @@ public interface UserRepository extends JpaRepository<User, Long> {
         @Query("SELECT u FROM User u WHERE u.deletedAt IS NULL")
         Page<User> findAllNotDeleted(Pageable pageable);
 
+        /**
+         * Keyword search on the ngram FULLTEXT index of search_text. Build the arguments with
+         * UserSearchText.toMatchQuery / toLikePattern; both are null when there is no keyword.
+         */
         @Query("SELECT u FROM User u " +
                         "WHERE " +
-                        "(:keyword IS NULL OR :keyword = '' OR " +
-                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:match IS NULL OR match_against(u.searchText, :match) > 0) AND " +
+                        "(:like IS NULL OR u.searchText LIKE :like) AND " +
                         "(:status IS NULL OR u.status = :status) AND " +
                         "(:role IS NULL OR u.role = :role) AND " +
                         "u.deletedAt IS NULL")
-        Page<User> searchUsers(@Param("keyword") String keyword,
+        Page<User> searchUsers(@Param("match") String match,
+                        @Param("like") String like,
                         @Param("status") UserStatus status,
                         @Param("role") UserRole role,
                         Pageable pageable);
 
         @Query("SELECT u FROM User u " +
                         "WHERE " +
-                        "(:keyword IS NULL OR :keyword = '' OR " +
-                        "LOWER(u.name) LIKE LOWER(CONCAT('%', :keyword, '%')) OR " +
-                        "LOWER(u.email) LIKE LOWER(CONCAT('%', :keyword, '%'))) AND " +
+                        "(:match IS NULL OR match_against(u.searchText, :match) > 0) AND " +
+                        "(:like IS NULL OR u.searchText LIKE :like) AND " +
                         "(:status IS NULL OR u.status = :status) AND " +
                         "(:role IS NULL OR u.role = :role) AND " +
                         "(:teamId IS NULL OR EXISTS (SELECT tm FROM TeamMember tm WHERE tm.user = u AND tm.team.id = :teamId AND tm.status = 'ACTIVE' AND tm.leftAt IS NULL)) AND "
                         +
                         "u.deletedAt IS NULL")
-        Page<User> searchUsersWithTeam(@Param("keyword") String keyword,
+        Page<User> searchUsersWithTeam(@Param("match") String match,
+                        @Param("like") String like,
                         @Param("status") UserStatus status,
                         @Param("role") UserRole role,
                         @Param("teamId") Long teamId,
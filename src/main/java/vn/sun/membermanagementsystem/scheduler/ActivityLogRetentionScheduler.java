@@ -0,0 +1,45 @@
+package vn.sun.membermanagementsystem.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.services.ActivityLogPartitionService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogRetentionScheduler {
+
+    private final ActivityLogPartitionService activityLogPartitionService;
+
+    @Value("${activity-log.retention.enabled:true}")
+    private boolean retentionEnabled;
+
+    @Scheduled(cron = "${activity-log.retention.cron:0 30 0 * * ?}")
+    public void scheduleTask() {
+        log.info("Running activity log partition maintenance...");
+        runMaintenance();
+    }
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        log.info("App started. Checking activity log partitions...");
+        runMaintenance();
+    }
+
+    private void runMaintenance() {
+        try {
+            activityLogPartitionService.ensureFuturePartitions();
+            if (retentionEnabled) {
+                int purged = activityLogPartitionService.purgeExpiredPartitions();
+                log.info("Activity log retention finished, {} partitions purged.", purged);
+            }
+        } catch (Exception e) {
+            log.error("Error occurred during activity log partition maintenance", e);
+        }
+    }
+}
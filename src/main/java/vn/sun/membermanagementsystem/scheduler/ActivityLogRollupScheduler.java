@@ -0,0 +1,33 @@
+package vn.sun.membermanagementsystem.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class ActivityLogRollupScheduler {
+
+    private final ActivityLogRollupService activityLogRollupService;
+
+    @Value("${activity-log.rollup.catch-up-enabled:true}")
+    private boolean catchUpEnabled;
+
+    @Scheduled(cron = "${activity-log.rollup.cron:0 10 * * * ?}")
+    public void scheduleTask() {
+        if (!catchUpEnabled) {
+            return;
+        }
+        log.info("Running activity log rollup catch-up...");
+        try {
+            int rows = activityLogRollupService.catchUp();
+            log.info("Activity log rollup catch-up finished, {} rollup rows rebuilt.", rows);
+        } catch (Exception e) {
+            log.error("Error occurred during activity log rollup catch-up", e);
+        }
+    }
+}
@@ -0,0 +1,43 @@
+package vn.sun.membermanagementsystem.scheduler;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+
+/**
+ * Rebuilds user_directory from the source tables. The transactional maintenance keeps it current;
+ * the rebuild repairs changes made outside the services, e.g. position or skill renames and manual SQL.
+ */
+@Component
+@RequiredArgsConstructor
+@Slf4j
+public class UserDirectoryRebuildScheduler {
+
+    private final UserDirectoryService userDirectoryService;
+
+    @Value("${user-directory.rebuild-on-startup:true}")
+    private boolean rebuildOnStartup;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        if (rebuildOnStartup) {
+            scheduleTask();
+        }
+    }
+
+    @Scheduled(cron = "${user-directory.rebuild-cron:0 30 3 * * ?}")
+    public void scheduleTask() {
+        log.info("Rebuilding user directory...");
+        try {
+            int rows = userDirectoryService.rebuild();
+            log.info("User directory rebuild finished, {} rows written.", rows);
+        } catch (Exception e) {
+            log.error("Error occurred during user directory rebuild", e);
+        }
+    }
+}
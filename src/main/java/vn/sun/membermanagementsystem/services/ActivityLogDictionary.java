@@ -0,0 +1,26 @@
+package vn.sun.membermanagementsystem.services;
+
+/**
+ * Maps the repeated strings of activity logs (description templates, user agents) to small ids and back.
+ * Both directions are cached in memory; the lookup tables only grow.
+ */
+public interface ActivityLogDictionary {
+
+    Long encodeDescription(String description);
+
+    Long encodeUserAgent(String userAgent);
+
+    String decodeDescription(Long id);
+
+    String decodeUserAgent(Long id);
+
+    /**
+     * Full description text as it was logged: the template followed by the optional detail.
+     */
+    static String joinDescription(String template, String detail) {
+        if (detail == null) {
+            return template;
+        }
+        return template != null ? template + detail : detail;
+    }
+}
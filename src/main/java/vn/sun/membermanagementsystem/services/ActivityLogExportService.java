@@ -0,0 +1,18 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.enums.ActivityLogExportFormat;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.time.LocalDate;
+
+public interface ActivityLogExportService {
+
+    /**
+     * Streams every activity log matching the filters to the output stream, row by row from a forward-only cursor.
+     *
+     * @return number of rows written
+     */
+    long export(ActivityLogExportFormat format, String entityType, LocalDate fromDate, LocalDate toDate,
+                OutputStream outputStream) throws IOException;
+}
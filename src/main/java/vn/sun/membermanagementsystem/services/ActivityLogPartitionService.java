@@ -0,0 +1,27 @@
+package vn.sun.membermanagementsystem.services;
+
+import java.time.LocalDate;
+
+public interface ActivityLogPartitionService {
+
+    /**
+     * Splits the catch-all partition so that monthly partitions exist for the configured number of months ahead.
+     */
+    void ensureFuturePartitions();
+
+    /**
+     * Drops (or archives then drops) every partition that lies entirely before the retention cutoff.
+     *
+     * @return number of partitions removed
+     */
+    int purgeExpiredPartitions();
+
+    /**
+     * Drops (or archives then drops) every partition whose upper bound is on or before the given date.
+     *
+     * @return number of partitions removed
+     */
+    int purgePartitionsBefore(LocalDate cutoff);
+
+    void truncateAll();
+}
@@ -0,0 +1,24 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogPurgeJobDTO;
+
+import java.util.List;
+
+public interface ActivityLogPurgeService {
+
+    /**
+     * Queues a background job deleting the matching activity logs in primary-key chunks,
+     * each chunk in its own short transaction.
+     */
+    ActivityLogPurgeJobDTO startPurge(ActivityLogPurgeRequest request);
+
+    ActivityLogPurgeJobDTO getJob(String jobId);
+
+    List<ActivityLogPurgeJobDTO> getJobs();
+
+    /**
+     * Requests cancellation; the job stops after the chunk in progress.
+     */
+    ActivityLogPurgeJobDTO cancel(String jobId);
+}
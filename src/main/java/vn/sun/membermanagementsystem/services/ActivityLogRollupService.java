@@ -0,0 +1,52 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.dto.response.ActivityStatsDTO;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+
+public interface ActivityLogRollupService {
+
+    /**
+     * Recomputes the hourly rollups in [from, to) from the raw activity logs, one day per transaction.
+     *
+     * @return number of rollup rows written
+     */
+    int rebuild(LocalDateTime from, LocalDateTime to);
+
+    /**
+     * Rebuilds the closed hours whose incremental update failed, or the whole catch-up window on the
+     * first run after startup, when nothing is known about the previous process.
+     */
+    int catchUp();
+
+    /**
+     * Takes a deleted log out of its hour, in the caller's transaction.
+     */
+    void removeEvent(ActivityLog activityLog);
+
+    /**
+     * Drops every rollup before the cutoff, once the raw logs before it are gone.
+     *
+     * @return number of rollup rows deleted
+     */
+    int removeBefore(LocalDateTime cutoff);
+
+    /**
+     * Marks the hours in [from, to) for the next catch-up, when rebuilding them right away failed.
+     */
+    void markStale(LocalDateTime from, LocalDateTime to);
+
+    ActivityStatsDTO getStats(LocalDate fromDate, LocalDate toDate, int topActors);
+
+    /**
+     * Event count for the given filters, answered from the rollups; exact at day granularity.
+     */
+    long countEvents(String entityType, LocalDate fromDate, LocalDate toDate);
+
+    List<String> getEntityTypes();
+
+    void clear();
+}
@@ -3,6 +3,7 @@ package vn.sun.membermanagementsystem.services;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 
 import java.time.LocalDate;
 
@@ -12,9 +13,21 @@ public interface ActivityLogService {
     
     Page<ActivityLogDTO> searchLogs(String entityType, LocalDate fromDate, LocalDate toDate, Pageable pageable);
     
+    /**
+     * Keyset pagination over (createdAt DESC, id DESC).
+     *
+     * @param cursor   opaque cursor from a previous page, null for the newest page
+     * @param backward true to page towards newer entries (previous page), false towards older ones
+     */
+    CursorPage<ActivityLogDTO> getLogsByCursor(String entityType, LocalDate fromDate, LocalDate toDate,
+                                               String cursor, boolean backward, int size,
+                                               boolean includeApproximateTotal);
+    
     ActivityLogDTO getLogById(Long id);
     
     void deleteLog(Long id);
     
     void deleteAllLogs();
+    
+    int purgeExpiredLogs();
 }
@@ -0,0 +1,22 @@
+package vn.sun.membermanagementsystem.services;
+
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+
+import java.util.List;
+
+public interface ActivityLogTailService {
+
+    /**
+     * Opens a Server-Sent Events stream of new activity logs matching the filters (null means any).
+     * The recent entries still in the buffer are replayed first, only those after {@code lastEventId} if given.
+     */
+    SseEmitter subscribe(String entityType, String action, Long userId, Long lastEventId);
+
+    /**
+     * Most recent buffered entries matching the filters, newest first.
+     */
+    List<ActivityLogDTO> getRecent(String entityType, String action, Long userId, int limit);
+
+    int getSubscriberCount();
+}
@@ -0,0 +1,14 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+
+import java.util.List;
+
+/**
+ * Callback invoked by {@link ActivityLogWriter} on its flush thread after a batch has been inserted.
+ * Entries already carry their generated ids. Implementations must be quick and must not throw.
+ */
+public interface ActivityLogWriteListener {
+
+    void onBatchWritten(List<ActivityLog> batch);
+}
@@ -0,0 +1,26 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+
+/**
+ * Queues activity log entries for asynchronous, batched persistence.
+ * Callers on the request path only enqueue; a background writer flushes
+ * the queue in JDBC batches by size or by time.
+ */
+public interface ActivityLogWriter {
+
+    /**
+     * @return false when the entry was rejected by the overflow policy
+     */
+    boolean write(ActivityLog activityLog);
+
+    void flush();
+
+    int getPendingCount();
+
+    int getCapacity();
+
+    long getWrittenCount();
+
+    long getDroppedCount();
+}
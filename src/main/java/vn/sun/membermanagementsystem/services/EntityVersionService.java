@@ -0,0 +1,41 @@
+package vn.sun.membermanagementsystem.services;
+
+/**
+ * Version stamps of the aggregates served by the REST read endpoints, used as their ETags.
+ * Touches are collected per transaction and written just before it commits, so a version moves
+ * exactly when the change becomes visible. Without a transaction the version is bumped immediately.
+ */
+public interface EntityVersionService {
+
+    /**
+     * The user's profile changed. Also moves the detail of every team the user is or was a member
+     * or leader of, and the team list, since they show the user's name and team membership.
+     */
+    void touchUser(Long userId);
+
+    /**
+     * The team's detail changed; the team list and the profiles of its active members, which show
+     * the team name, move with it.
+     */
+    void touchTeam(Long teamId);
+
+    /**
+     * A skill, position or project changed: every profile and team detail may show it.
+     */
+    void touchCatalog();
+
+    /**
+     * ETag of GET /api/v1/users/{id}/profile, read with primary key lookups only;
+     * null when the user does not exist or is deleted
+     */
+    String userProfileETag(Long userId);
+
+    /**
+     * ETag of GET /api/v1/teams/{id}, read with primary key lookups only;
+     * null when the team does not exist or is deleted
+     */
+    String teamETag(Long teamId);
+
+    /** ETag of GET /api/v1/teams, the same for every page and keyword */
+    String teamListETag();
+}
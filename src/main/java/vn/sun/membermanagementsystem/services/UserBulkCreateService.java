@@ -0,0 +1,16 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
+
+import java.util.List;
+
+public interface UserBulkCreateService {
+
+    /**
+     * Creates the valid users of the batch with their position and skills in one transaction.
+     * The whole batch is validated first; items that fail are reported with their errors and skipped,
+     * the others are created.
+     */
+    BulkUserCreateResultDTO createUsers(List<UserCreateDTO> users);
+}
@@ -0,0 +1,26 @@
+package vn.sun.membermanagementsystem.services;
+
+import vn.sun.membermanagementsystem.dto.request.BulkUserUpdateRequest;
+import vn.sun.membermanagementsystem.dto.response.BulkUserUpdateResultDTO;
+
+/**
+ * Status, role and soft-delete changes over many users at once, addressed by ids or by a list filter.
+ * Each call runs as chunked set-based UPDATEs, one transaction per chunk, and is audited as one activity.
+ * A failing chunk rolls back alone and stops the call; the result then reports what was committed before it.
+ * The caller's own account is never part of the target.
+ */
+public interface UserBulkUpdateService {
+
+    /**
+     * Sets the status of the targeted users. Deactivated users also leave their teams and projects
+     * and stop leading them.
+     */
+    BulkUserUpdateResultDTO updateStatus(BulkUserUpdateRequest request);
+
+    BulkUserUpdateResultDTO updateRole(BulkUserUpdateRequest request);
+
+    /**
+     * Soft-deletes the targeted users and closes their memberships and leaderships.
+     */
+    BulkUserUpdateResultDTO deleteUsers(BulkUserUpdateRequest request);
+}
@@ -0,0 +1,13 @@
+package vn.sun.membermanagementsystem.services;
+
+import java.util.Collection;
+
+/**
+ * Callback invoked by {@link UserDirectoryService} once the directory rows of the given users have been
+ * refreshed and, inside a transaction, after it committed. Deleted users are included.
+ * Runs on the thread that made the change; implementations must not throw.
+ */
+public interface UserChangeListener {
+
+    void onUsersChanged(Collection<Long> userIds);
+}
@@ -0,0 +1,30 @@
+package vn.sun.membermanagementsystem.services;
+
+public interface UserDirectoryService {
+
+    /**
+     * Refreshes the user's directory row just before the current transaction commits, so the
+     * read model commits or rolls back together with the change. Without a transaction the row
+     * is refreshed immediately. The user's ETag version moves with it, see {@link EntityVersionService#touchUser}.
+     */
+    void markUserChanged(Long userId);
+
+    /**
+     * Same as {@link #markUserChanged(Long)} for every user that is, or was listed as, an active
+     * member of the team. Use for team renames and deletions. Also moves the team's ETag version.
+     */
+    void markTeamChanged(Long teamId);
+
+    /**
+     * Same as {@link #markUserChanged(Long)} for every user holding the skill, without moving their ETag
+     * versions: skill renames and deletions already move the catalog version. Use for skill updates and deletions.
+     */
+    void markSkillChanged(Long skillId);
+
+    /**
+     * Recomputes the whole directory from the source tables in one transaction.
+     *
+     * @return number of directory rows written
+     */
+    int rebuild();
+}
@@ -201,6 +201,14 @@ public abstract class AbstractCsvImportService<T> implements CsvImportService<T>
             this.rowNumber = rowNumber;
             this.data = data;
         }
+
+        public int getRowNumber() {
+            return rowNumber;
+        }
+
+        public String[] getData() {
+            return data;
+        }
     }
 
 
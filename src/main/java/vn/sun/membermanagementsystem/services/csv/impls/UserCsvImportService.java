@@ -4,10 +4,12 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
 import vn.sun.membermanagementsystem.dto.request.CreateSkillRequest;
 import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
 import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
 import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
 import vn.sun.membermanagementsystem.dto.response.SkillDTO;
 import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
 import vn.sun.membermanagementsystem.entities.Skill;
@@ -18,6 +20,7 @@ import vn.sun.membermanagementsystem.enums.UserStatus;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.SkillService;
+import vn.sun.membermanagementsystem.services.UserBulkCreateService;
 import vn.sun.membermanagementsystem.services.UserService;
 import vn.sun.membermanagementsystem.services.csv.AbstractCsvImportService;
 import org.springframework.web.multipart.MultipartFile;
@@ -40,6 +43,7 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
     private final SkillRepository skillRepository;
     private final UserService userService;
     private final SkillService skillService;
+    private final UserBulkCreateService userBulkCreateService;
 
     private static final String EMAIL_REGEX = "^[A-Za-z0-9+_.-]+@[A-Za-z0-9.-]+$";
     private static final Pattern EMAIL_PATTERN = Pattern.compile(EMAIL_REGEX);
@@ -171,6 +175,47 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
 
     @Override
     protected User processRow(String[] data, int rowNumber, CsvImportResult<User> result) {
+        UserProfileDetailDTO createdUser = userService.createUser(toCreateDTO(data, rowNumber));
+        log.info("Row {}: Created user with ID: {} via UserService", rowNumber, createdUser.getId());
+        return userRepository.findByIdAndNotDeleted(createdUser.getId()).orElse(null);
+    }
+
+    /**
+     * Creates all rows through the bulk path: one validation pass and JDBC batch inserts instead of
+     * a full createUser round trip per row. Any failing row rolls the whole import back.
+     */
+    @Override
+    protected void processAllRows(List<RowData> validRows, CsvImportResult<User> result) {
+        List<UserCreateDTO> requests = new ArrayList<>(validRows.size());
+        for (RowData rowData : validRows) {
+            requests.add(toCreateDTO(rowData.getData(), rowData.getRowNumber()));
+        }
+        if (requests.isEmpty()) {
+            return;
+        }
+
+        BulkUserCreateResultDTO bulkResult = userBulkCreateService.createUsers(requests);
+        if (bulkResult.getFailed() > 0) {
+            for (BulkUserCreateResultDTO.ItemResult item : bulkResult.getItems()) {
+                if (!item.isCreated()) {
+                    int rowNumber = validRows.get(item.getIndex()).getRowNumber();
+                    item.getErrors().forEach(error -> result.addError(rowNumber, "Processing", error));
+                    result.setErrorCount(result.getErrorCount() + 1);
+                }
+            }
+            TransactionAspectSupport.currentTransactionStatus().setRollbackOnly();
+            throw new CsvImportException("Import failed for " + bulkResult.getFailed() + " rows");
+        }
+
+        List<Long> userIds = bulkResult.getItems().stream()
+                .map(BulkUserCreateResultDTO.ItemResult::getUserId)
+                .toList();
+        result.getImportedEntities().addAll(userRepository.findAllById(userIds));
+        result.setSuccessCount(result.getSuccessCount() + bulkResult.getCreated());
+        log.info("Imported {} users from CSV in {} ms", bulkResult.getCreated(), bulkResult.getDurationMs());
+    }
+
+    private UserCreateDTO toCreateDTO(String[] data, int rowNumber) {
         String name = getStringValue(data, COL_NAME);
         String email = getStringValue(data, COL_EMAIL);
         String birthdayStr = getStringValue(data, COL_BIRTHDAY);
@@ -195,10 +240,7 @@ public class UserCsvImportService extends AbstractCsvImportService<User> {
             List<UserSkillRequestDTO> skillDTOs = processSkillsForDto(skillsStr, rowNumber);
             userCreateDTO.setSkills(skillDTOs);
         }
-
-        UserProfileDetailDTO createdUser = userService.createUser(userCreateDTO);
-        log.info("Row {}: Created user with ID: {} via UserService", rowNumber, createdUser.getId());
-        return userRepository.findByIdAndNotDeleted(createdUser.getId()).orElse(null);
+        return userCreateDTO;
     }
 
     private List<UserSkillRequestDTO> processSkillsForDto(String skillsStr, int rowNumber) {
@@ -0,0 +1,152 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Lookup tables are keyed by the SHA-256 of the value so TEXT values can be unique-indexed;
+ * MySQL's UNHEX(SHA2(value, 256)) yields the same key, which the V5 backfill relies on.
+ * Each direction is cached in an LRU map of cache-size entries; misses go to the database.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogDictionaryImpl implements ActivityLogDictionary {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Value("${activity-log.dictionary.cache-size:20000}")
+    private int cacheSize;
+
+    private final Dictionary descriptions = new Dictionary("activity_log_descriptions");
+    private final Dictionary userAgents = new Dictionary("activity_log_user_agents");
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        try {
+            descriptions.warmUp();
+            userAgents.warmUp();
+            log.info("Activity log dictionaries loaded - descriptions: {}, user agents: {}",
+                    descriptions.size(), userAgents.size());
+        } catch (Exception e) {
+            log.warn("Could not preload activity log dictionaries: {}", e.getMessage());
+        }
+    }
+
+    @Override
+    public Long encodeDescription(String description) {
+        return descriptions.encode(description);
+    }
+
+    @Override
+    public Long encodeUserAgent(String userAgent) {
+        return userAgents.encode(userAgent);
+    }
+
+    @Override
+    public String decodeDescription(Long id) {
+        return descriptions.decode(id);
+    }
+
+    @Override
+    public String decodeUserAgent(Long id) {
+        return userAgents.decode(id);
+    }
+
+    private static byte[] sha256(String value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value.getBytes(StandardCharsets.UTF_8));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 is not available", e);
+        }
+    }
+
+    private final class Dictionary {
+
+        private final String table;
+        private final Map<String, Long> idsByValue = lruMap();
+        private final Map<Long, String> valuesById = lruMap();
+
+        Dictionary(String table) {
+            this.table = table;
+        }
+
+        Long encode(String value) {
+            if (value == null) {
+                return null;
+            }
+            Long id = idsByValue.get(value);
+            if (id != null) {
+                return id;
+            }
+
+            byte[] hash = sha256(value);
+            jdbcTemplate.update("INSERT INTO " + table + " (value_hash, value) VALUES (?, ?) " +
+                    "ON DUPLICATE KEY UPDATE id = id", hash, value);
+            id = jdbcTemplate.queryForObject("SELECT id FROM " + table + " WHERE value_hash = ?", Long.class, hash);
+            remember(id, value);
+            return id;
+        }
+
+        String decode(Long id) {
+            if (id == null) {
+                return null;
+            }
+            String value = valuesById.get(id);
+            if (value != null) {
+                return value;
+            }
+
+            List<String> found = jdbcTemplate.queryForList(
+                    "SELECT value FROM " + table + " WHERE id = ?", String.class, id);
+            if (found.isEmpty()) {
+                return null;
+            }
+            remember(id, found.get(0));
+            return found.get(0);
+        }
+
+        void warmUp() {
+            // Oldest first, so the newest values end up the most recently used
+            jdbcTemplate.query("SELECT id, value FROM (SELECT id, value FROM " + table +
+                            " ORDER BY id DESC LIMIT ?) recent ORDER BY id",
+                    (RowCallbackHandler) rs -> remember(rs.getLong(1), rs.getString(2)), cacheSize);
+        }
+
+        int size() {
+            return valuesById.size();
+        }
+
+        private void remember(Long id, String value) {
+            if (id != null) {
+                valuesById.put(id, value);
+                idsByValue.put(value, id);
+            }
+        }
+
+        /** Access-ordered map that drops its least recently used entry past cacheSize. */
+        private <K, V> Map<K, V> lruMap() {
+            return Collections.synchronizedMap(new LinkedHashMap<>(16, 0.75f, true) {
+                @Override
+                protected boolean removeEldestEntry(Map.Entry<K, V> eldest) {
+                    return size() > cacheSize;
+                }
+            });
+        }
+    }
+}
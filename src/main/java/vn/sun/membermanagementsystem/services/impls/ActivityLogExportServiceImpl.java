@@ -0,0 +1,204 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import com.fasterxml.jackson.core.JsonGenerator;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.opencsv.CSVWriter;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.enums.ActivityLogExportFormat;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+import vn.sun.membermanagementsystem.services.ActivityLogExportService;
+
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.UncheckedIOException;
+import java.nio.charset.StandardCharsets;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.format.DateTimeFormatter;
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Streams activity logs straight from a forward-only result set to the response.
+ * Nothing is collected in memory: with MySQL Connector/J a fetch size of Integer.MIN_VALUE makes the driver
+ * hand rows over one at a time instead of buffering the whole result.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogExportServiceImpl implements ActivityLogExportService {
+
+    private static final String SELECT_SQL = "SELECT l.id, l.action, l.entity_type, l.entity_id, " +
+            "d.value AS description, l.description_detail, l.user_id, u.name AS user_name, u.email AS user_email, " +
+            "l.ip_address, ua.value AS user_agent, l.created_at " +
+            "FROM activity_logs l " +
+            "LEFT JOIN activity_log_descriptions d ON d.id = l.description_id " +
+            "LEFT JOIN activity_log_user_agents ua ON ua.id = l.user_agent_id " +
+            "LEFT JOIN users u ON u.id = l.user_id";
+
+    private static final String[] HEADERS = {
+            "ID", "Action", "Entity Type", "Entity ID", "Description",
+            "User ID", "User Name", "User Email", "IP Address", "User Agent", "Created At"
+    };
+
+    private static final DateTimeFormatter DATETIME_FORMATTER = DateTimeFormatter.ofPattern("yyyy-MM-dd HH:mm:ss");
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ObjectMapper objectMapper;
+
+    @Value("${activity-log.export.fetch-size:" + Integer.MIN_VALUE + "}")
+    private int fetchSize;
+
+    @Override
+    public long export(ActivityLogExportFormat format, String entityType, LocalDate fromDate, LocalDate toDate,
+                       OutputStream outputStream) throws IOException {
+        log.info("Starting export of activity logs - format: {}, entityType: {}, fromDate: {}, toDate: {}",
+                format, entityType, fromDate, toDate);
+
+        PreparedStatementCreator query = buildQuery(entityType,
+                fromDate != null ? fromDate.atStartOfDay() : null,
+                toDate != null ? toDate.atTime(LocalTime.MAX) : null);
+
+        long exported = switch (format) {
+            case CSV -> exportCsv(query, outputStream);
+            case NDJSON -> exportNdjson(query, outputStream);
+        };
+
+        log.info("Successfully exported {} activity logs as {}", exported, format);
+        return exported;
+    }
+
+    private long exportCsv(PreparedStatementCreator query, OutputStream outputStream) throws IOException {
+        long[] count = {0};
+        try (CSVWriter writer = new CSVWriter(
+                new OutputStreamWriter(outputStream, StandardCharsets.UTF_8),
+                CSVWriter.DEFAULT_SEPARATOR,
+                CSVWriter.DEFAULT_QUOTE_CHARACTER,
+                CSVWriter.DEFAULT_ESCAPE_CHARACTER,
+                CSVWriter.DEFAULT_LINE_END)) {
+
+            // Write BOM for Excel UTF-8 support
+            outputStream.write(0xEF);
+            outputStream.write(0xBB);
+            outputStream.write(0xBF);
+
+            writer.writeNext(HEADERS);
+
+            String[] row = new String[HEADERS.length];
+            jdbcTemplate.query(query, (RowCallbackHandler) rs -> {
+                row[0] = rs.getString("id");
+                row[1] = nullToEmpty(rs.getString("action"));
+                row[2] = nullToEmpty(rs.getString("entity_type"));
+                row[3] = nullToEmpty(rs.getString("entity_id"));
+                row[4] = nullToEmpty(description(rs));
+                row[5] = nullToEmpty(rs.getString("user_id"));
+                row[6] = nullToEmpty(rs.getString("user_name"));
+                row[7] = nullToEmpty(rs.getString("user_email"));
+                row[8] = nullToEmpty(rs.getString("ip_address"));
+                row[9] = nullToEmpty(rs.getString("user_agent"));
+                row[10] = formatTimestamp(rs.getTimestamp("created_at"));
+                writer.writeNext(row);
+                count[0]++;
+            });
+        }
+        return count[0];
+    }
+
+    private long exportNdjson(PreparedStatementCreator query, OutputStream outputStream) throws IOException {
+        long[] count = {0};
+        try (JsonGenerator generator = objectMapper.getFactory().createGenerator(outputStream)) {
+            // The default separator is a space, which would start every line after the first with one
+            generator.setRootValueSeparator(null);
+            jdbcTemplate.query(query, (RowCallbackHandler) rs -> {
+                try {
+                    generator.writeStartObject();
+                    generator.writeNumberField("id", rs.getLong("id"));
+                    generator.writeStringField("action", rs.getString("action"));
+                    generator.writeStringField("entityType", rs.getString("entity_type"));
+                    writeNullableLong(generator, "entityId", rs, "entity_id");
+                    generator.writeStringField("description", description(rs));
+                    writeNullableLong(generator, "userId", rs, "user_id");
+                    generator.writeStringField("userName", rs.getString("user_name"));
+                    generator.writeStringField("userEmail", rs.getString("user_email"));
+                    generator.writeStringField("ipAddress", rs.getString("ip_address"));
+                    generator.writeStringField("userAgent", rs.getString("user_agent"));
+                    generator.writeStringField("createdAt", formatTimestamp(rs.getTimestamp("created_at")));
+                    generator.writeEndObject();
+                    generator.writeRaw('\n');
+                } catch (IOException e) {
+                    throw new UncheckedIOException(e);
+                }
+                count[0]++;
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return count[0];
+    }
+
+    private PreparedStatementCreator buildQuery(String entityType, LocalDateTime from, LocalDateTime to) {
+        StringBuilder sql = new StringBuilder(SELECT_SQL);
+        List<Object> params = new ArrayList<>(3);
+        List<String> conditions = new ArrayList<>(3);
+        if (entityType != null) {
+            conditions.add("l.entity_type = ?");
+            params.add(entityType);
+        }
+        if (from != null) {
+            conditions.add("l.created_at >= ?");
+            params.add(Timestamp.valueOf(from));
+        }
+        if (to != null) {
+            conditions.add("l.created_at <= ?");
+            params.add(Timestamp.valueOf(to));
+        }
+        if (!conditions.isEmpty()) {
+            sql.append(" WHERE ").append(String.join(" AND ", conditions));
+        }
+        sql.append(" ORDER BY l.created_at DESC, l.id DESC");
+
+        return connection -> {
+            PreparedStatement ps = connection.prepareStatement(sql.toString(),
+                    ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+            ps.setFetchSize(fetchSize);
+            for (int i = 0; i < params.size(); i++) {
+                ps.setObject(i + 1, params.get(i));
+            }
+            return ps;
+        };
+    }
+
+    private static void writeNullableLong(JsonGenerator generator, String field, ResultSet rs, String column)
+            throws IOException, SQLException {
+        long value = rs.getLong(column);
+        if (rs.wasNull()) {
+            generator.writeNullField(field);
+        } else {
+            generator.writeNumberField(field, value);
+        }
+    }
+
+    private static String description(ResultSet rs) throws SQLException {
+        return ActivityLogDictionary.joinDescription(rs.getString("description"), rs.getString("description_detail"));
+    }
+
+    private static String formatTimestamp(Timestamp timestamp) {
+        return timestamp != null ? timestamp.toLocalDateTime().format(DATETIME_FORMATTER) : "";
+    }
+
+    private static String nullToEmpty(String value) {
+        return value != null ? value : "";
+    }
+}
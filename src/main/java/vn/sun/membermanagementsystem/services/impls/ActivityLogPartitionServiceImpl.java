@@ -0,0 +1,144 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.enums.ActivityLogRetentionMode;
+import vn.sun.membermanagementsystem.services.ActivityLogPartitionService;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+/**
+ * Maintains the monthly RANGE COLUMNS partitions of activity_logs.
+ * Partitions are named pYYYYMM and hold rows created before the first day of the following month;
+ * p_future (MAXVALUE) is the catch-all that new months are split from.
+ * All statements here are DDL and run outside of any transaction.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogPartitionServiceImpl implements ActivityLogPartitionService {
+
+    private static final String TABLE = "activity_logs";
+    private static final String ARCHIVE_TABLE = "activity_logs_archive";
+    private static final String FUTURE_PARTITION = "p_future";
+    private static final String COLUMNS = "id, action, entity_type, entity_id, description_id, description_detail, " +
+            "user_id, ip_address, user_agent_id, created_at";
+    private static final DateTimeFormatter PARTITION_NAME_FORMAT = DateTimeFormatter.ofPattern("'p'yyyyMM");
+
+    private static final String LIST_PARTITIONS_SQL = "SELECT PARTITION_NAME, PARTITION_DESCRIPTION " +
+            "FROM information_schema.PARTITIONS " +
+            "WHERE TABLE_SCHEMA = DATABASE() AND LOWER(TABLE_NAME) = '" + TABLE + "' " +
+            "AND PARTITION_NAME IS NOT NULL " +
+            "ORDER BY PARTITION_ORDINAL_POSITION";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogSearchService activityLogSearchService;
+    private final ActivityLogRollupService activityLogRollupService;
+
+    @Value("${activity-log.retention.months:12}")
+    private int retentionMonths;
+
+    @Value("${activity-log.retention.mode:DROP}")
+    private ActivityLogRetentionMode retentionMode;
+
+    @Value("${activity-log.retention.partitions-ahead:3}")
+    private int partitionsAhead;
+
+    private record Partition(String name, LocalDate upperBound) {
+        boolean isCatchAll() {
+            return upperBound == null;
+        }
+    }
+
+    @Override
+    public synchronized void ensureFuturePartitions() {
+        List<Partition> partitions = listPartitions();
+        if (partitions.isEmpty()) {
+            log.warn("Table {} is not partitioned, skipping partition maintenance", TABLE);
+            return;
+        }
+
+        LocalDate lastBound = partitions.stream()
+                .filter(p -> !p.isCatchAll())
+                .map(Partition::upperBound)
+                .max(LocalDate::compareTo)
+                .orElse(LocalDate.now().withDayOfMonth(1));
+        LocalDate target = LocalDate.now().withDayOfMonth(1).plusMonths(partitionsAhead + 1L);
+
+        int created = 0;
+        while (lastBound.isBefore(target)) {
+            LocalDate nextBound = lastBound.plusMonths(1);
+            String name = lastBound.format(PARTITION_NAME_FORMAT);
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " REORGANIZE PARTITION " + FUTURE_PARTITION + " INTO (" +
+                    "PARTITION " + name + " VALUES LESS THAN ('" + nextBound + "'), " +
+                    "PARTITION " + FUTURE_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+            lastBound = nextBound;
+            created++;
+        }
+
+        if (created > 0) {
+            log.info("Created {} activity log partitions up to {}", created, lastBound);
+        }
+    }
+
+    @Override
+    public int purgeExpiredPartitions() {
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(retentionMonths);
+        log.info("Purging activity log partitions older than {} ({} months retention, mode {})",
+                cutoff, retentionMonths, retentionMode);
+        return purgePartitionsBefore(cutoff);
+    }
+
+    @Override
+    public synchronized int purgePartitionsBefore(LocalDate cutoff) {
+        List<Partition> expired = listPartitions().stream()
+                .filter(p -> !p.isCatchAll() && !p.upperBound().isAfter(cutoff))
+                .toList();
+
+        for (Partition partition : expired) {
+            if (retentionMode == ActivityLogRetentionMode.ARCHIVE) {
+                // A DROP that failed after an earlier archive leaves the rows in both tables: skip them on retry
+                int archived = jdbcTemplate.update("INSERT INTO " + ARCHIVE_TABLE + " (" + COLUMNS + ") " +
+                        "SELECT " + COLUMNS + " FROM " + TABLE + " PARTITION (" + partition.name() + ") " +
+                        "ON DUPLICATE KEY UPDATE " + ARCHIVE_TABLE + ".id = " + ARCHIVE_TABLE + ".id");
+                log.info("Archived {} activity logs from partition {}", archived, partition.name());
+            }
+            jdbcTemplate.execute("ALTER TABLE " + TABLE + " DROP PARTITION " + partition.name());
+            log.info("Dropped activity log partition {} (rows before {})", partition.name(), partition.upperBound());
+        }
+
+        if (!expired.isEmpty()) {
+            LocalDate droppedBefore = expired.stream().map(Partition::upperBound).max(LocalDate::compareTo).get();
+            activityLogSearchService.removeCreatedBefore(droppedBefore.atStartOfDay());
+            activityLogRollupService.removeBefore(droppedBefore.atStartOfDay());
+        }
+        return expired.size();
+    }
+
+    @Override
+    public void truncateAll() {
+        jdbcTemplate.execute("TRUNCATE TABLE " + TABLE);
+        log.info("Truncated table {}", TABLE);
+    }
+
+    private List<Partition> listPartitions() {
+        return jdbcTemplate.query(LIST_PARTITIONS_SQL, (rs, rowNum) ->
+                new Partition(rs.getString(1), parseUpperBound(rs.getString(2))));
+    }
+
+    private static LocalDate parseUpperBound(String description) {
+        if (description == null || description.equalsIgnoreCase("MAXVALUE")) {
+            return null;
+        }
+        // RANGE COLUMNS descriptions look like '2025-02-01' or '2025-02-01 00:00:00', including the quotes
+        String value = description.replace("'", "").trim();
+        return LocalDate.parse(value.substring(0, 10));
+    }
+}
@@ -0,0 +1,321 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogPurgeJobDTO;
+import vn.sun.membermanagementsystem.enums.PurgeJobStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.ActivityLogPurgeService;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.LocalTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Deletes activity logs matching a filter without long-running statements.
+ * Ids are selected by keyset in bounded chunks and each chunk is removed by a single autocommitted DELETE,
+ * so locks are held for one chunk at most and the admin UI keeps working while a purge runs.
+ * Jobs run one at a time on a dedicated thread and can be cancelled between chunks.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogPurgeServiceImpl implements ActivityLogPurgeService {
+
+    private static final int MAX_FINISHED_JOBS = 20;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogRollupService activityLogRollupService;
+    private final ActivityLogSearchService activityLogSearchService;
+
+    @Value("${activity-log.purge.chunk-size:5000}")
+    private int chunkSize;
+
+    @Value("${activity-log.purge.pause-ms:50}")
+    private long pauseMs;
+
+    private final Map<String, PurgeJob> jobs = Collections.synchronizedMap(new LinkedHashMap<>());
+    private ExecutorService executor;
+
+    @PostConstruct
+    public void start() {
+        executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "activity-log-purge");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    @PreDestroy
+    public void stop() {
+        synchronized (jobs) {
+            jobs.values().forEach(job -> job.cancelRequested = true);
+        }
+        executor.shutdown();
+        try {
+            executor.awaitTermination(30, TimeUnit.SECONDS);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    @Override
+    public ActivityLogPurgeJobDTO startPurge(ActivityLogPurgeRequest request) {
+        ActivityLogPurgeRequest filter = ActivityLogPurgeRequest.builder()
+                .entityType(blankToNull(request.getEntityType()))
+                .action(blankToNull(request.getAction()))
+                .fromDate(request.getFromDate())
+                .toDate(request.getToDate())
+                .build();
+
+        if (!filter.hasAnyFilter()) {
+            throw new BadRequestException("At least one filter is required, use delete all to clear every log");
+        }
+        if (filter.getFromDate() != null && filter.getToDate() != null
+                && filter.getFromDate().isAfter(filter.getToDate())) {
+            throw new BadRequestException("From date must not be after to date");
+        }
+
+        PurgeJob job = new PurgeJob(UUID.randomUUID().toString(), filter);
+        jobs.put(job.id, job);
+        pruneFinishedJobs();
+        executor.submit(() -> run(job));
+
+        log.info("Queued activity log purge job {} - filter: {}", job.id, filter);
+        return job.toDTO();
+    }
+
+    @Override
+    public ActivityLogPurgeJobDTO getJob(String jobId) {
+        return findJob(jobId).toDTO();
+    }
+
+    @Override
+    public List<ActivityLogPurgeJobDTO> getJobs() {
+        List<ActivityLogPurgeJobDTO> result = new ArrayList<>();
+        synchronized (jobs) {
+            jobs.values().forEach(job -> result.add(job.toDTO()));
+        }
+        Collections.reverse(result);
+        return result;
+    }
+
+    @Override
+    public ActivityLogPurgeJobDTO cancel(String jobId) {
+        PurgeJob job = findJob(jobId);
+        if (job.status.isFinished()) {
+            throw new BadRequestException("Purge job " + jobId + " has already finished");
+        }
+        job.cancelRequested = true;
+        log.info("Cancellation requested for activity log purge job {}", jobId);
+        return job.toDTO();
+    }
+
+    private void run(PurgeJob job) {
+        if (job.cancelRequested) {
+            job.finish(PurgeJobStatus.CANCELLED, null);
+            return;
+        }
+
+        job.status = PurgeJobStatus.RUNNING;
+        job.startedAt = LocalDateTime.now();
+        log.info("Starting activity log purge job {}", job.id);
+
+        List<Object> filterParams = new ArrayList<>();
+        String where = buildWhere(job.filter, filterParams);
+        String selectSql = "SELECT id, created_at FROM activity_logs WHERE id > ?" + where + " ORDER BY id LIMIT ?";
+
+        long afterId = 0;
+        try {
+            while (!job.cancelRequested) {
+                List<Object> params = new ArrayList<>();
+                params.add(afterId);
+                params.addAll(filterParams);
+                params.add(chunkSize);
+
+                List<Long> ids = new ArrayList<>(chunkSize);
+                jdbcTemplate.query(selectSql, (RowCallbackHandler) rs -> {
+                    ids.add(rs.getLong(1));
+                    job.track(rs.getTimestamp(2).toLocalDateTime());
+                }, params.toArray());
+                if (ids.isEmpty()) {
+                    break;
+                }
+
+                int deleted = deleteChunk(ids, where, filterParams);
+                ids.forEach(activityLogSearchService::remove);
+
+                afterId = ids.get(ids.size() - 1);
+                job.deleted.addAndGet(deleted);
+                job.chunks++;
+                job.lastDeletedId = afterId;
+
+                if (ids.size() < chunkSize) {
+                    break;
+                }
+                if (pauseMs > 0) {
+                    Thread.sleep(pauseMs);
+                }
+            }
+            job.finish(job.cancelRequested ? PurgeJobStatus.CANCELLED : PurgeJobStatus.COMPLETED, null);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            job.finish(PurgeJobStatus.CANCELLED, null);
+        } catch (Exception e) {
+            log.error("Activity log purge job {} failed", job.id, e);
+            job.finish(PurgeJobStatus.FAILED, e.getMessage());
+        }
+
+        refreshRollups(job);
+        log.info("Activity log purge job {} finished with status {} - {} rows deleted in {} chunks",
+                job.id, job.status, job.deleted.get(), job.chunks);
+    }
+
+    private int deleteChunk(List<Long> ids, String where, List<Object> filterParams) {
+        // Filters are applied again so rows changed since the select are never removed by mistake
+        String placeholders = String.join(",", Collections.nCopies(ids.size(), "?"));
+        List<Object> params = new ArrayList<>(ids.size() + filterParams.size());
+        params.addAll(ids);
+        params.addAll(filterParams);
+        return jdbcTemplate.update("DELETE FROM activity_logs WHERE id IN (" + placeholders + ")" + where,
+                params.toArray());
+    }
+
+    private void refreshRollups(PurgeJob job) {
+        if (job.deleted.get() == 0 || job.minCreatedAt == null) {
+            return;
+        }
+        LocalDateTime from = job.minCreatedAt.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime to = job.maxCreatedAt.truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        try {
+            activityLogRollupService.rebuild(from, to);
+        } catch (Exception e) {
+            log.error("Failed to refresh activity rollups after purge job {}, left for the next catch-up: {}",
+                    job.id, e.getMessage());
+            activityLogRollupService.markStale(from, to);
+        }
+    }
+
+    private static String buildWhere(ActivityLogPurgeRequest filter, List<Object> params) {
+        StringBuilder where = new StringBuilder();
+        if (filter.getEntityType() != null) {
+            where.append(" AND entity_type = ?");
+            params.add(filter.getEntityType());
+        }
+        if (filter.getAction() != null) {
+            where.append(" AND action = ?");
+            params.add(filter.getAction());
+        }
+        if (filter.getFromDate() != null) {
+            where.append(" AND created_at >= ?");
+            params.add(Timestamp.valueOf(filter.getFromDate().atStartOfDay()));
+        }
+        if (filter.getToDate() != null) {
+            where.append(" AND created_at <= ?");
+            params.add(Timestamp.valueOf(filter.getToDate().atTime(LocalTime.MAX)));
+        }
+        return where.toString();
+    }
+
+    private PurgeJob findJob(String jobId) {
+        PurgeJob job = jobs.get(jobId);
+        if (job == null) {
+            throw new ResourceNotFoundException("Purge job not found with ID: " + jobId);
+        }
+        return job;
+    }
+
+    private void pruneFinishedJobs() {
+        synchronized (jobs) {
+            long finished = jobs.values().stream().filter(job -> job.status.isFinished()).count();
+            Iterator<PurgeJob> iterator = jobs.values().iterator();
+            while (finished > MAX_FINISHED_JOBS && iterator.hasNext()) {
+                if (iterator.next().status.isFinished()) {
+                    iterator.remove();
+                    finished--;
+                }
+            }
+        }
+    }
+
+    private static String blankToNull(String value) {
+        return value == null || value.isBlank() ? null : value.trim();
+    }
+
+    private static final class PurgeJob {
+
+        private final String id;
+        private final ActivityLogPurgeRequest filter;
+        private final LocalDateTime createdAt = LocalDateTime.now();
+        private final AtomicLong deleted = new AtomicLong();
+
+        private volatile PurgeJobStatus status = PurgeJobStatus.QUEUED;
+        private volatile boolean cancelRequested;
+        private volatile long chunks;
+        private volatile Long lastDeletedId;
+        private volatile LocalDateTime startedAt;
+        private volatile LocalDateTime finishedAt;
+        private volatile String error;
+
+        // Range of deleted rows, only touched by the purge thread
+        private LocalDateTime minCreatedAt;
+        private LocalDateTime maxCreatedAt;
+
+        PurgeJob(String id, ActivityLogPurgeRequest filter) {
+            this.id = id;
+            this.filter = filter;
+        }
+
+        void track(LocalDateTime createdAt) {
+            if (minCreatedAt == null || createdAt.isBefore(minCreatedAt)) {
+                minCreatedAt = createdAt;
+            }
+            if (maxCreatedAt == null || createdAt.isAfter(maxCreatedAt)) {
+                maxCreatedAt = createdAt;
+            }
+        }
+
+        void finish(PurgeJobStatus finalStatus, String message) {
+            error = message;
+            finishedAt = LocalDateTime.now();
+            status = finalStatus;
+        }
+
+        ActivityLogPurgeJobDTO toDTO() {
+            return ActivityLogPurgeJobDTO.builder()
+                    .id(id)
+                    .status(status)
+                    .filter(filter)
+                    .deletedCount(deleted.get())
+                    .chunkCount(chunks)
+                    .lastDeletedId(lastDeletedId)
+                    .createdAt(createdAt)
+                    .startedAt(startedAt)
+                    .finishedAt(finishedAt)
+                    .error(error)
+                    .build();
+        }
+    }
+}
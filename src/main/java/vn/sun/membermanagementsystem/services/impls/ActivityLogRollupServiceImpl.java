@@ -0,0 +1,273 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import vn.sun.membermanagementsystem.dto.response.ActivityStatsDTO;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.ActivityLogWriteListener;
+
+import java.sql.Timestamp;
+import java.time.Duration;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Maintains activity_log_rollups, one row per (hour, action, entity type, user).
+ * Counts are added incrementally after each writer flush and taken out again when a log is deleted.
+ * Hours whose upsert failed are remembered and recomputed from the raw table by the periodic catch-up,
+ * so a failed upsert never leaves a permanent gap; the first catch-up after startup covers the whole window.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogRollupServiceImpl implements ActivityLogRollupService, ActivityLogWriteListener {
+
+    private static final String TABLE = "activity_log_rollups";
+    private static final String NO_ENTITY_TYPE = "";
+    private static final long NO_USER = 0L;
+
+    private static final String UPSERT_SQL = "INSERT INTO " + TABLE +
+            " (bucket_hour, action, entity_type, user_id, event_count) VALUES (?, ?, ?, ?, ?) " +
+            "ON DUPLICATE KEY UPDATE event_count = event_count + VALUES(event_count)";
+
+    private static final String DECREMENT_SQL = "UPDATE " + TABLE + " SET event_count = event_count - 1 " +
+            "WHERE bucket_hour = ? AND action = ? AND entity_type = ? AND user_id = ? AND event_count > 0";
+
+    private static final String DELETE_EMPTY_SQL = "DELETE FROM " + TABLE +
+            " WHERE bucket_hour = ? AND action = ? AND entity_type = ? AND user_id = ? AND event_count = 0";
+
+    private static final String DELETE_BEFORE_SQL = "DELETE FROM " + TABLE + " WHERE bucket_hour < ?";
+
+    private static final String DELETE_RANGE_SQL = "DELETE FROM " + TABLE +
+            " WHERE bucket_hour >= ? AND bucket_hour < ?";
+
+    private static final String REBUILD_RANGE_SQL = "INSERT INTO " + TABLE +
+            " (bucket_hour, action, entity_type, user_id, event_count) " +
+            "SELECT DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action, COALESCE(entity_type, ''), " +
+            "COALESCE(user_id, 0), COUNT(*) " +
+            "FROM activity_logs WHERE created_at >= ? AND created_at < ? " +
+            "GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action, COALESCE(entity_type, ''), COALESCE(user_id, 0)";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${activity-log.rollup.catch-up-hours:48}")
+    private int catchUpHours;
+
+    @Value("${activity-log.rollup.settle-minutes:5}")
+    private int settleMinutes;
+
+    /** Closed hours to recompute on the next catch-up. */
+    private final Set<LocalDateTime> staleHours = ConcurrentHashMap.newKeySet();
+    private volatile boolean fullCatchUpPending = true;
+
+    private record RollupKey(LocalDateTime bucketHour, String action, String entityType, long userId) {
+
+        static RollupKey of(ActivityLog activityLog) {
+            return new RollupKey(
+                    activityLog.getCreatedAt().truncatedTo(ChronoUnit.HOURS),
+                    activityLog.getAction(),
+                    activityLog.getEntityType() != null ? activityLog.getEntityType() : NO_ENTITY_TYPE,
+                    activityLog.getUserId() != null ? activityLog.getUserId() : NO_USER);
+        }
+
+        Object[] params() {
+            return new Object[]{Timestamp.valueOf(bucketHour), action, entityType, userId};
+        }
+    }
+
+    @Override
+    public void onBatchWritten(List<ActivityLog> batch) {
+        Map<RollupKey, Long> counts = new HashMap<>();
+        for (ActivityLog activityLog : batch) {
+            counts.merge(RollupKey.of(activityLog), 1L, Long::sum);
+        }
+
+        List<Object[]> rows = new ArrayList<>(counts.size());
+        counts.forEach((key, count) -> rows.add(new Object[]{
+                Timestamp.valueOf(key.bucketHour()), key.action(), key.entityType(), key.userId(), count}));
+        try {
+            jdbcTemplate.batchUpdate(UPSERT_SQL, rows);
+        } catch (RuntimeException e) {
+            counts.keySet().forEach(key -> staleHours.add(key.bucketHour()));
+            throw e;
+        }
+    }
+
+    @Override
+    public void removeEvent(ActivityLog activityLog) {
+        Object[] params = RollupKey.of(activityLog).params();
+        if (jdbcTemplate.update(DECREMENT_SQL, params) > 0) {
+            jdbcTemplate.update(DELETE_EMPTY_SQL, params);
+        }
+    }
+
+    @Override
+    public int removeBefore(LocalDateTime cutoff) {
+        int deleted = jdbcTemplate.update(DELETE_BEFORE_SQL, Timestamp.valueOf(cutoff));
+        staleHours.removeIf(hour -> hour.isBefore(cutoff));
+        log.info("Deleted {} activity log rollups before {}", deleted, cutoff);
+        return deleted;
+    }
+
+    @Override
+    public void markStale(LocalDateTime from, LocalDateTime to) {
+        for (LocalDateTime hour = from.truncatedTo(ChronoUnit.HOURS); hour.isBefore(to); hour = hour.plusHours(1)) {
+            staleHours.add(hour);
+        }
+    }
+
+    @Override
+    public int rebuild(LocalDateTime from, LocalDateTime to) {
+        LocalDateTime start = from.truncatedTo(ChronoUnit.HOURS);
+        LocalDateTime end = to.truncatedTo(ChronoUnit.HOURS);
+        int written = 0;
+        while (start.isBefore(end)) {
+            LocalDateTime chunkStart = start;
+            LocalDateTime chunkEnd = start.plusDays(1).isBefore(end) ? start.plusDays(1) : end;
+            Integer rows = transactionTemplate.execute(status -> {
+                Timestamp lower = Timestamp.valueOf(chunkStart);
+                Timestamp upper = Timestamp.valueOf(chunkEnd);
+                jdbcTemplate.update(DELETE_RANGE_SQL, lower, upper);
+                return jdbcTemplate.update(REBUILD_RANGE_SQL, lower, upper);
+            });
+            written += rows != null ? rows : 0;
+            start = chunkEnd;
+        }
+        log.info("Rebuilt activity log rollups from {} to {}, {} rows written", from, to, written);
+        return written;
+    }
+
+    @Override
+    public int catchUp() {
+        LocalDateTime to = LocalDateTime.now().minusMinutes(settleMinutes).truncatedTo(ChronoUnit.HOURS);
+        if (fullCatchUpPending) {
+            // Upserts lost by the previous process left no trace, recompute the whole window once
+            int written = rebuild(to.minusHours(catchUpHours), to);
+            fullCatchUpPending = false;
+            return written;
+        }
+
+        // Hours still open or settling stay marked, the writer may be adding to them
+        List<LocalDateTime> hours = staleHours.stream().filter(hour -> hour.isBefore(to)).sorted().toList();
+        if (hours.isEmpty()) {
+            return 0;
+        }
+        hours.forEach(staleHours::remove);
+        int written = 0;
+        try {
+            int i = 0;
+            while (i < hours.size()) {
+                LocalDateTime start = hours.get(i);
+                LocalDateTime end = start.plusHours(1);
+                while (++i < hours.size() && hours.get(i).equals(end)) {
+                    end = end.plusHours(1);
+                }
+                written += rebuild(start, end);
+            }
+        } catch (RuntimeException e) {
+            staleHours.addAll(hours);
+            throw e;
+        }
+        return written;
+    }
+
+    @Override
+    public ActivityStatsDTO getStats(LocalDate fromDate, LocalDate toDate, int topActors) {
+        LocalDateTime to = toDate != null
+                ? toDate.plusDays(1).atStartOfDay()
+                : LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).plusHours(1);
+        LocalDateTime from = fromDate != null ? fromDate.atStartOfDay() : to.minusDays(7);
+        Timestamp lower = Timestamp.valueOf(from);
+        Timestamp upper = Timestamp.valueOf(to);
+
+        boolean hourly = Duration.between(from, to).toHours() <= 48;
+        String bucketExpression = hourly ? "bucket_hour" : "DATE(bucket_hour)";
+
+        List<ActivityStatsDTO.CountDTO> byAction = jdbcTemplate.query(
+                "SELECT action, SUM(event_count) FROM " + TABLE +
+                        " WHERE bucket_hour >= ? AND bucket_hour < ? GROUP BY action ORDER BY 2 DESC",
+                (rs, rowNum) -> new ActivityStatsDTO.CountDTO(rs.getString(1), rs.getLong(2)), lower, upper);
+
+        List<ActivityStatsDTO.CountDTO> byEntityType = jdbcTemplate.query(
+                "SELECT entity_type, SUM(event_count) FROM " + TABLE +
+                        " WHERE bucket_hour >= ? AND bucket_hour < ? GROUP BY entity_type ORDER BY 2 DESC",
+                (rs, rowNum) -> new ActivityStatsDTO.CountDTO(
+                        NO_ENTITY_TYPE.equals(rs.getString(1)) ? null : rs.getString(1), rs.getLong(2)),
+                lower, upper);
+
+        List<ActivityStatsDTO.ActorDTO> actors = jdbcTemplate.query(
+                "SELECT r.user_id, u.name, u.email, SUM(r.event_count) AS total FROM " + TABLE + " r " +
+                        "LEFT JOIN users u ON u.id = r.user_id " +
+                        "WHERE r.user_id <> 0 AND r.bucket_hour >= ? AND r.bucket_hour < ? " +
+                        "GROUP BY r.user_id, u.name, u.email ORDER BY total DESC LIMIT ?",
+                (rs, rowNum) -> new ActivityStatsDTO.ActorDTO(
+                        rs.getLong(1), rs.getString(2), rs.getString(3), rs.getLong(4)),
+                lower, upper, topActors);
+
+        List<ActivityStatsDTO.TimelinePointDTO> timeline = jdbcTemplate.query(
+                "SELECT " + bucketExpression + " AS bucket, SUM(event_count) FROM " + TABLE +
+                        " WHERE bucket_hour >= ? AND bucket_hour < ? GROUP BY bucket ORDER BY bucket",
+                (rs, rowNum) -> new ActivityStatsDTO.TimelinePointDTO(
+                        rs.getTimestamp(1).toLocalDateTime(), rs.getLong(2)),
+                lower, upper);
+
+        long total = byAction.stream().mapToLong(ActivityStatsDTO.CountDTO::getCount).sum();
+
+        return ActivityStatsDTO.builder()
+                .from(from)
+                .to(to)
+                .granularity(hourly ? "HOUR" : "DAY")
+                .totalEvents(total)
+                .byAction(byAction)
+                .byEntityType(byEntityType)
+                .topActors(actors)
+                .timeline(timeline)
+                .build();
+    }
+
+    @Override
+    public long countEvents(String entityType, LocalDate fromDate, LocalDate toDate) {
+        StringBuilder sql = new StringBuilder("SELECT COALESCE(SUM(event_count), 0) FROM " + TABLE + " WHERE 1 = 1");
+        List<Object> params = new ArrayList<>(3);
+        if (entityType != null) {
+            sql.append(" AND entity_type = ?");
+            params.add(entityType);
+        }
+        if (fromDate != null) {
+            sql.append(" AND bucket_hour >= ?");
+            params.add(Timestamp.valueOf(fromDate.atStartOfDay()));
+        }
+        if (toDate != null) {
+            sql.append(" AND bucket_hour < ?");
+            params.add(Timestamp.valueOf(toDate.plusDays(1).atStartOfDay()));
+        }
+        Long count = jdbcTemplate.queryForObject(sql.toString(), Long.class, params.toArray());
+        return count != null ? count : 0L;
+    }
+
+    @Override
+    public List<String> getEntityTypes() {
+        return jdbcTemplate.queryForList(
+                "SELECT DISTINCT entity_type FROM " + TABLE + " WHERE entity_type <> '' ORDER BY entity_type",
+                String.class);
+    }
+
+    @Override
+    public void clear() {
+        jdbcTemplate.execute("TRUNCATE TABLE " + TABLE);
+        log.info("Truncated table {}", TABLE);
+    }
+}
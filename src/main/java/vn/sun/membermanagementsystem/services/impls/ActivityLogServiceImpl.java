@@ -2,20 +2,30 @@ package vn.sun.membermanagementsystem.services.impls;
 
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.domain.Page;
 import org.springframework.data.domain.Pageable;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogCursor;
 import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
 import vn.sun.membermanagementsystem.entities.ActivityLog;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
 import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
+import vn.sun.membermanagementsystem.services.ActivityLogPartitionService;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
 import vn.sun.membermanagementsystem.services.ActivityLogService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.time.LocalTime;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
 
 @Service
 @RequiredArgsConstructor
@@ -25,6 +35,9 @@ public class ActivityLogServiceImpl implements ActivityLogService {
 
     private final ActivityLogRepository activityLogRepository;
     private final ActivityLogMapper activityLogMapper;
+    private final ActivityLogPartitionService activityLogPartitionService;
+    private final ActivityLogRollupService activityLogRollupService;
+    private final ActivityLogSearchService activityLogSearchService;
 
     @Override
     public Page<ActivityLogDTO> getAllLogs(Pageable pageable) {
@@ -45,6 +58,68 @@ public class ActivityLogServiceImpl implements ActivityLogService {
                 .map(activityLogMapper::toDTO);
     }
 
+    @Override
+    public CursorPage<ActivityLogDTO> getLogsByCursor(String entityType, LocalDate fromDate, LocalDate toDate,
+                                                      String cursor, boolean backward, int size,
+                                                      boolean includeApproximateTotal) {
+        log.info("Getting activity logs by cursor - entityType: {}, fromDate: {}, toDate: {}, backward: {}, size: {}",
+                entityType, fromDate, toDate, backward, size);
+
+        LocalDateTime fromDateTime = fromDate != null ? fromDate.atStartOfDay() : null;
+        LocalDateTime toDateTime = toDate != null ? toDate.atTime(LocalTime.MAX) : null;
+        ActivityLogCursor position = ActivityLogCursor.decode(cursor);
+
+        // One extra row tells whether another page exists in the paging direction, without a COUNT(*)
+        Limit limit = Limit.of(size + 1);
+        List<ActivityLog> rows;
+        if (backward && position != null) {
+            rows = new ArrayList<>(activityLogRepository.findPageAfter(entityType, fromDateTime, toDateTime,
+                    position.createdAt(), position.id(), limit));
+        } else {
+            rows = new ArrayList<>(activityLogRepository.findPageBefore(entityType, fromDateTime, toDateTime,
+                    position != null ? position.createdAt() : null,
+                    position != null ? position.id() : null, limit));
+        }
+
+        boolean hasMore = rows.size() > size;
+        if (hasMore) {
+            rows.remove(rows.size() - 1);
+        }
+        boolean pagingBackward = backward && position != null;
+        if (pagingBackward && !hasMore) {
+            // Reached the newest entries: serve a full first page instead of a partial one
+            return getLogsByCursor(entityType, fromDate, toDate, null, false, size, includeApproximateTotal);
+        }
+        if (pagingBackward) {
+            Collections.reverse(rows);
+        }
+
+        boolean hasNext = pagingBackward || hasMore;
+        boolean hasPrevious = pagingBackward || position != null;
+
+        CursorPage<ActivityLogDTO> page = CursorPage.<ActivityLogDTO>builder()
+                .content(activityLogMapper.toDTOList(rows))
+                .size(size)
+                .hasNext(hasNext && !rows.isEmpty())
+                .hasPrevious(hasPrevious && !rows.isEmpty())
+                .build();
+
+        if (!rows.isEmpty()) {
+            ActivityLog first = rows.get(0);
+            ActivityLog last = rows.get(rows.size() - 1);
+            page.setPreviousCursor(new ActivityLogCursor(first.getCreatedAt(), first.getId()).encode());
+            page.setNextCursor(new ActivityLogCursor(last.getCreatedAt(), last.getId()).encode());
+        }
+
+        if (includeApproximateTotal) {
+            page.setApproximateTotal(entityType == null && fromDate == null && toDate == null
+                    ? activityLogRepository.estimateRowCount()
+                    : activityLogRollupService.countEvents(entityType, fromDate, toDate));
+        }
+
+        return page;
+    }
+
     @Override
     public ActivityLogDTO getLogById(Long id) {
         log.info("Getting activity log with ID: {}", id);
@@ -57,19 +132,28 @@ public class ActivityLogServiceImpl implements ActivityLogService {
     @Transactional
     public void deleteLog(Long id) {
         log.info("Deleting activity log with ID: {}", id);
-        if (!activityLogRepository.existsById(id)) {
-            throw new ResourceNotFoundException("Activity log not found with ID: " + id);
-        }
-        activityLogRepository.deleteById(id);
+        ActivityLog activityLog = activityLogRepository.findById(id)
+                .orElseThrow(() -> new ResourceNotFoundException("Activity log not found with ID: " + id));
+        activityLogRepository.delete(activityLog);
+        activityLogRollupService.removeEvent(activityLog);
+        activityLogSearchService.remove(id);
         log.info("Activity log deleted successfully with ID: {}", id);
     }
 
     @Override
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void deleteAllLogs() {
         log.info("Deleting all activity logs");
-        long count = activityLogRepository.count();
-        activityLogRepository.deleteAll();
-        log.info("Deleted {} activity logs", count);
+        activityLogPartitionService.truncateAll();
+        activityLogRollupService.clear();
+        activityLogSearchService.clear();
+        log.info("All activity logs deleted");
+    }
+
+    @Override
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int purgeExpiredLogs() {
+        log.info("Purging activity logs past retention");
+        return activityLogPartitionService.purgeExpiredPartitions();
     }
 }
@@ -0,0 +1,250 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+import org.springframework.web.servlet.mvc.method.annotation.SseEmitter;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.exception.TooManyRequestsException;
+import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
+import vn.sun.membermanagementsystem.services.ActivityLogTailService;
+import vn.sun.membermanagementsystem.services.ActivityLogWriteListener;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.RejectedExecutionException;
+import java.util.concurrent.ThreadPoolExecutor;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+/**
+ * Fans freshly written activity logs out to admin tabs over SSE without touching the database.
+ * Entries come from the writer flush callback into a fixed-size ring buffer; delivery to the emitters
+ * happens on its own thread so a slow client never holds up the writer.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogTailServiceImpl implements ActivityLogTailService, ActivityLogWriteListener {
+
+    private static final String EVENT_NAME = "activity-log";
+
+    private final ActivityLogMapper activityLogMapper;
+
+    @Value("${activity-log.tail.buffer-size:1000}")
+    private int bufferSize;
+
+    @Value("${activity-log.tail.max-subscribers:100}")
+    private int maxSubscribers;
+
+    @Value("${activity-log.tail.timeout-ms:1800000}")
+    private long timeoutMs;
+
+    private final List<Subscriber> subscribers = new CopyOnWriteArrayList<>();
+    private final AtomicInteger subscriberCount = new AtomicInteger();
+
+    private ActivityLogDTO[] ring;
+    private long written;
+    private ThreadPoolExecutor dispatcher;
+
+    /**
+     * Live entries reaching a subscriber before its backlog has been replayed are held back, then sent after
+     * the backlog minus those it already contained, so nothing is lost or repeated between the two.
+     */
+    private static final class Subscriber {
+
+        private final SseEmitter emitter;
+        private final String entityType;
+        private final String action;
+        private final Long userId;
+        private List<ActivityLogDTO> heldBack = new ArrayList<>();
+
+        private Subscriber(SseEmitter emitter, String entityType, String action, Long userId) {
+            this.emitter = emitter;
+            this.entityType = entityType;
+            this.action = action;
+            this.userId = userId;
+        }
+
+        boolean matches(ActivityLogDTO entry) {
+            return (entityType == null || entityType.equals(entry.getEntityType()))
+                    && (action == null || action.equals(entry.getAction()))
+                    && (userId == null || userId.equals(entry.getUserId()));
+        }
+
+        synchronized void deliver(ActivityLogDTO entry) throws IOException {
+            if (heldBack != null) {
+                heldBack.add(entry);
+            } else {
+                emitter.send(toEvent(entry));
+            }
+        }
+
+        synchronized void replay(List<ActivityLogDTO> backlog) throws IOException {
+            Set<Long> sentIds = new HashSet<>();
+            for (ActivityLogDTO entry : backlog) {
+                emitter.send(toEvent(entry));
+                sentIds.add(entry.getId());
+            }
+            for (ActivityLogDTO entry : heldBack) {
+                if (entry.getId() == null || !sentIds.contains(entry.getId())) {
+                    emitter.send(toEvent(entry));
+                }
+            }
+            heldBack = null;
+        }
+    }
+
+    @PostConstruct
+    public void start() {
+        ring = new ActivityLogDTO[bufferSize];
+        // One dispatch thread, a short queue and drop-on-overflow: the tail is best effort
+        dispatcher = new ThreadPoolExecutor(1, 1, 0L, TimeUnit.MILLISECONDS, new ArrayBlockingQueue<>(100),
+                runnable -> {
+                    Thread thread = new Thread(runnable, "activity-log-tail");
+                    thread.setDaemon(true);
+                    return thread;
+                },
+                new ThreadPoolExecutor.DiscardPolicy());
+    }
+
+    @PreDestroy
+    public void stop() {
+        dispatcher.shutdownNow();
+        subscribers.forEach(subscriber -> subscriber.emitter.complete());
+        subscribers.clear();
+        subscriberCount.set(0);
+    }
+
+    @Override
+    public void onBatchWritten(List<ActivityLog> batch) {
+        List<ActivityLogDTO> entries = activityLogMapper.toDTOList(batch);
+        synchronized (this) {
+            for (ActivityLogDTO entry : entries) {
+                ring[(int) (written++ % ring.length)] = entry;
+            }
+        }
+        if (!subscribers.isEmpty()) {
+            try {
+                dispatcher.execute(() -> entries.forEach(this::publish));
+            } catch (RejectedExecutionException e) {
+                log.debug("Activity log tail dispatcher is shutting down");
+            }
+        }
+    }
+
+    @Override
+    public SseEmitter subscribe(String entityType, String action, Long userId, Long lastEventId) {
+        int current;
+        do {
+            current = subscriberCount.get();
+            if (current >= maxSubscribers) {
+                throw new TooManyRequestsException("Too many live activity log subscribers, try again later");
+            }
+        } while (!subscriberCount.compareAndSet(current, current + 1));
+
+        SseEmitter emitter = new SseEmitter(timeoutMs);
+        Subscriber subscriber = new Subscriber(emitter, entityType, action, userId);
+        emitter.onCompletion(() -> unregister(subscriber));
+        emitter.onTimeout(() -> unregister(subscriber));
+        emitter.onError(e -> unregister(subscriber));
+
+        // Registered before the snapshot, so entries written in between reach it one way or the other
+        subscribers.add(subscriber);
+        List<ActivityLogDTO> backlog = new ArrayList<>(snapshot());
+        Collections.reverse(backlog);
+        backlog.removeIf(entry -> !subscriber.matches(entry)
+                || (lastEventId != null && (entry.getId() == null || entry.getId() <= lastEventId)));
+        try {
+            subscriber.replay(backlog);
+        } catch (IOException e) {
+            drop(subscriber, e);
+            return emitter;
+        }
+
+        log.info("Activity log tail subscriber added - entityType: {}, action: {}, userId: {}, total: {}",
+                entityType, action, userId, subscriberCount.get());
+        return emitter;
+    }
+
+    @Override
+    public List<ActivityLogDTO> getRecent(String entityType, String action, Long userId, int limit) {
+        Subscriber filter = new Subscriber(null, entityType, action, userId);
+        return snapshot().stream()
+                .filter(filter::matches)
+                .limit(limit)
+                .toList();
+    }
+
+    @Override
+    public int getSubscriberCount() {
+        return subscriberCount.get();
+    }
+
+    @Scheduled(fixedDelayString = "${activity-log.tail.heartbeat-ms:15000}")
+    public void heartbeat() {
+        for (Subscriber subscriber : subscribers) {
+            try {
+                subscriber.emitter.send(SseEmitter.event().comment("keep-alive"));
+            } catch (Exception e) {
+                drop(subscriber, e);
+            }
+        }
+    }
+
+    private void publish(ActivityLogDTO entry) {
+        for (Subscriber subscriber : subscribers) {
+            if (!subscriber.matches(entry)) {
+                continue;
+            }
+            try {
+                subscriber.deliver(entry);
+            } catch (Exception e) {
+                drop(subscriber, e);
+            }
+        }
+    }
+
+    private void unregister(Subscriber subscriber) {
+        if (subscribers.remove(subscriber)) {
+            subscriberCount.decrementAndGet();
+        }
+    }
+
+    private void drop(Subscriber subscriber, Exception cause) {
+        unregister(subscriber);
+        subscriber.emitter.completeWithError(cause);
+        log.debug("Activity log tail subscriber dropped: {}", cause.getMessage());
+    }
+
+    /**
+     * @return buffered entries, newest first
+     */
+    private synchronized List<ActivityLogDTO> snapshot() {
+        int count = (int) Math.min(written, ring.length);
+        List<ActivityLogDTO> entries = new ArrayList<>(count);
+        for (int i = 1; i <= count; i++) {
+            entries.add(ring[(int) ((written - i) % ring.length)]);
+        }
+        return entries;
+    }
+
+    private static SseEmitter.SseEventBuilder toEvent(ActivityLogDTO entry) {
+        SseEmitter.SseEventBuilder event = SseEmitter.event().name(EVENT_NAME).data(entry);
+        if (entry.getId() != null) {
+            event.id(entry.getId().toString());
+        }
+        return event;
+    }
+}
@@ -0,0 +1,256 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.enums.ActivityLogOverflowPolicy;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+import vn.sun.membermanagementsystem.services.ActivityLogWriteListener;
+import vn.sun.membermanagementsystem.services.ActivityLogWriter;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.sql.Statement;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicLong;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogWriterImpl implements ActivityLogWriter {
+
+    private static final String INSERT_SQL = "INSERT INTO activity_logs " +
+            "(action, entity_type, entity_id, description_id, description_detail, user_id, ip_address, " +
+            "user_agent_id, created_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private static final int MAX_DESCRIPTION_DETAIL_LENGTH = 255;
+
+    private final JdbcTemplate jdbcTemplate;
+    private final List<ActivityLogWriteListener> writeListeners;
+    private final ActivityLogDictionary activityLogDictionary;
+
+    @Value("${activity-log.writer.capacity:10000}")
+    private int capacity;
+
+    @Value("${activity-log.writer.batch-size:200}")
+    private int batchSize;
+
+    @Value("${activity-log.writer.flush-interval-ms:1000}")
+    private long flushIntervalMs;
+
+    @Value("${activity-log.writer.overflow-policy:DROP_OLDEST}")
+    private ActivityLogOverflowPolicy overflowPolicy;
+
+    @Value("${activity-log.writer.offer-timeout-ms:50}")
+    private long offerTimeoutMs;
+
+    @Value("${activity-log.writer.shutdown-timeout-ms:10000}")
+    private long shutdownTimeoutMs;
+
+    private final AtomicLong writtenCount = new AtomicLong();
+    private final AtomicLong droppedCount = new AtomicLong();
+
+    private BlockingQueue<ActivityLog> queue;
+    private Thread writerThread;
+    private volatile boolean running;
+
+    @PostConstruct
+    public void start() {
+        queue = new ArrayBlockingQueue<>(capacity);
+        running = true;
+        writerThread = new Thread(this::runLoop, "activity-log-writer");
+        writerThread.setDaemon(true);
+        writerThread.start();
+        log.info("Activity log writer started - capacity: {}, batchSize: {}, flushIntervalMs: {}, overflowPolicy: {}",
+                capacity, batchSize, flushIntervalMs, overflowPolicy);
+    }
+
+    @PreDestroy
+    public void stop() {
+        log.info("Stopping activity log writer, {} entries pending", queue.size());
+        running = false;
+        writerThread.interrupt();
+        try {
+            writerThread.join(shutdownTimeoutMs);
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+        // Whatever the background thread did not get to is flushed on the caller thread
+        flush();
+        log.info("Activity log writer stopped - written: {}, dropped: {}", writtenCount.get(), droppedCount.get());
+    }
+
+    @Override
+    public boolean write(ActivityLog activityLog) {
+        if (activityLog.getCreatedAt() == null) {
+            activityLog.setCreatedAt(LocalDateTime.now());
+        }
+
+        if (queue.offer(activityLog)) {
+            return true;
+        }
+
+        switch (overflowPolicy) {
+            case DROP_OLDEST -> {
+                ActivityLog evicted = queue.poll();
+                if (evicted != null) {
+                    droppedCount.incrementAndGet();
+                }
+                if (queue.offer(activityLog)) {
+                    return true;
+                }
+            }
+            case BLOCK -> {
+                try {
+                    if (queue.offer(activityLog, offerTimeoutMs, TimeUnit.MILLISECONDS)) {
+                        return true;
+                    }
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+            }
+            case DROP_NEWEST -> {
+            }
+        }
+
+        long dropped = droppedCount.incrementAndGet();
+        if (dropped % 1000 == 1) {
+            log.warn("Activity log queue is full (capacity {}), {} entries dropped so far", capacity, dropped);
+        }
+        return false;
+    }
+
+    @Override
+    public void flush() {
+        List<ActivityLog> batch = new ArrayList<>(batchSize);
+        while (queue.drainTo(batch, batchSize) > 0) {
+            persistBatch(batch);
+            batch.clear();
+        }
+    }
+
+    @Override
+    public int getPendingCount() {
+        return queue.size();
+    }
+
+    @Override
+    public int getCapacity() {
+        return capacity;
+    }
+
+    @Override
+    public long getWrittenCount() {
+        return writtenCount.get();
+    }
+
+    @Override
+    public long getDroppedCount() {
+        return droppedCount.get();
+    }
+
+    private void runLoop() {
+        List<ActivityLog> batch = new ArrayList<>(batchSize);
+        while (running) {
+            try {
+                long deadline = System.nanoTime() + TimeUnit.MILLISECONDS.toNanos(flushIntervalMs);
+                while (batch.size() < batchSize) {
+                    long remaining = deadline - System.nanoTime();
+                    if (remaining <= 0) {
+                        break;
+                    }
+                    ActivityLog next = queue.poll(remaining, TimeUnit.NANOSECONDS);
+                    if (next == null) {
+                        break;
+                    }
+                    batch.add(next);
+                    queue.drainTo(batch, batchSize - batch.size());
+                }
+            } catch (InterruptedException e) {
+                // Shutdown requested, fall through to flush what has been collected
+            }
+
+            if (!batch.isEmpty()) {
+                persistBatch(batch);
+                batch.clear();
+            }
+        }
+    }
+
+    private synchronized void persistBatch(List<ActivityLog> batch) {
+        try {
+            // Mostly cache hits, a new template or user agent costs one upsert
+            for (ActivityLog activityLog : batch) {
+                activityLog.setDescriptionId(activityLogDictionary.encodeDescription(activityLog.getDescription()));
+                activityLog.setUserAgentId(activityLogDictionary.encodeUserAgent(activityLog.getUserAgent()));
+                String detail = activityLog.getDescriptionDetail();
+                if (detail != null && detail.length() > MAX_DESCRIPTION_DETAIL_LENGTH) {
+                    activityLog.setDescriptionDetail(detail.substring(0, MAX_DESCRIPTION_DETAIL_LENGTH));
+                }
+            }
+
+            jdbcTemplate.execute((ConnectionCallback<Void>) connection -> {
+                try (PreparedStatement ps = connection.prepareStatement(INSERT_SQL, Statement.RETURN_GENERATED_KEYS)) {
+                    for (ActivityLog activityLog : batch) {
+                        ps.setString(1, activityLog.getAction());
+                        ps.setString(2, activityLog.getEntityType());
+                        setNullableLong(ps, 3, activityLog.getEntityId());
+                        setNullableLong(ps, 4, activityLog.getDescriptionId());
+                        ps.setString(5, activityLog.getDescriptionDetail());
+                        setNullableLong(ps, 6, activityLog.getUserId());
+                        ps.setString(7, activityLog.getIpAddress());
+                        setNullableLong(ps, 8, activityLog.getUserAgentId());
+                        ps.setTimestamp(9, Timestamp.valueOf(activityLog.getCreatedAt()));
+                        ps.addBatch();
+                    }
+                    ps.executeBatch();
+
+                    try (ResultSet keys = ps.getGeneratedKeys()) {
+                        int i = 0;
+                        while (keys.next() && i < batch.size()) {
+                            batch.get(i++).setId(keys.getLong(1));
+                        }
+                    }
+                }
+                return null;
+            });
+            writtenCount.addAndGet(batch.size());
+            log.debug("Flushed {} activity logs", batch.size());
+        } catch (Exception e) {
+            droppedCount.addAndGet(batch.size());
+            log.error("Failed to flush {} activity logs: {}", batch.size(), e.getMessage());
+            return;
+        }
+
+        for (ActivityLogWriteListener listener : writeListeners) {
+            try {
+                listener.onBatchWritten(batch);
+            } catch (Exception e) {
+                log.error("Activity log listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private static void setNullableLong(PreparedStatement ps, int index, Long value) throws SQLException {
+        if (value != null) {
+            ps.setLong(index, value);
+        } else {
+            ps.setNull(index, Types.BIGINT);
+        }
+    }
+}
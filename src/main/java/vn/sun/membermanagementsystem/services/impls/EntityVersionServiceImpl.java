@@ -0,0 +1,203 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+
+import java.sql.Timestamp;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Keeps entity_versions. A bump sets the version to the current epoch milliseconds, or to the
+ * previous version + 1 when that is larger, so versions never go back even across nodes with skewed
+ * clocks. Reads fetch the entity's own row, its version row and the CATALOG row together by primary key.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class EntityVersionServiceImpl implements EntityVersionService {
+
+    private static final String USER = "USER";
+    private static final String TEAM = "TEAM";
+    private static final String CATALOG = "CATALOG";
+    /** entity_id of the TEAM row standing for the team list and of the CATALOG row */
+    private static final long ALL = 0L;
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String UPSERT = " ON DUPLICATE KEY UPDATE version = GREATEST(version + 1, VALUES(version)), " +
+            "updated_at = VALUES(updated_at)";
+    private static final String BUMP_SQL = "INSERT INTO entity_versions (entity_type, entity_id, version, updated_at) " +
+            "VALUES (?, ?, ?, ?)" + UPSERT;
+    private static final String BUMP_TEAMS_OF_USERS_SQL = "INSERT INTO entity_versions (entity_type, entity_id, " +
+            "version, updated_at) SELECT 'TEAM', team_id, ?, ? FROM (" +
+            "SELECT tm.team_id FROM team_members tm WHERE tm.user_id IN %1$s " +
+            "UNION SELECT lh.team_id FROM team_leadership_history lh WHERE lh.leader_id IN %1$s) teams" + UPSERT;
+    private static final String BUMP_USERS_OF_TEAMS_SQL = "INSERT INTO entity_versions (entity_type, entity_id, " +
+            "version, updated_at) SELECT DISTINCT 'USER', tm.user_id, ?, ? FROM team_members tm " +
+            "WHERE tm.left_at IS NULL AND tm.team_id IN %s" + UPSERT;
+    private static final String READ_SQL = "SELECT " +
+            "(SELECT ev.version FROM entity_versions ev WHERE ev.entity_type = ? AND ev.entity_id = e.id), " +
+            "(SELECT ev.version FROM entity_versions ev WHERE ev.entity_type = 'CATALOG' AND ev.entity_id = 0) " +
+            "FROM %s e WHERE e.id = ? AND e.deleted_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+
+    /** Key of the per-transaction {@link PendingChanges} resource. */
+    private final Object resourceKey = new Object();
+
+    @Override
+    public void touchUser(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().userIds.add(userId);
+        } else {
+            PendingChanges changes = new PendingChanges();
+            changes.userIds.add(userId);
+            write(changes);
+        }
+    }
+
+    @Override
+    public void touchTeam(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().teamIds.add(teamId);
+        } else {
+            PendingChanges changes = new PendingChanges();
+            changes.teamIds.add(teamId);
+            write(changes);
+        }
+    }
+
+    @Override
+    public void touchCatalog() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().catalog = true;
+        } else {
+            PendingChanges changes = new PendingChanges();
+            changes.catalog = true;
+            write(changes);
+        }
+    }
+
+    @Override
+    public String userProfileETag(Long userId) {
+        String versions = readVersions("users", USER, userId);
+        return versions != null ? "u" + userId + "-" + versions : null;
+    }
+
+    @Override
+    public String teamETag(Long teamId) {
+        String versions = readVersions("teams", TEAM, teamId);
+        return versions != null ? "t" + teamId + "-" + versions : null;
+    }
+
+    @Override
+    public String teamListETag() {
+        List<Long> versions = jdbcTemplate.queryForList("SELECT version FROM entity_versions " +
+                "WHERE entity_type = ? AND entity_id = ?", Long.class, TEAM, ALL);
+        return "teams-" + (versions.isEmpty() ? 0 : versions.get(0));
+    }
+
+    /**
+     * Entity and catalog versions, 0 where no row was written yet, or null when the entity does not
+     * exist or is deleted: a missing version row must not pass an unknown id off as unchanged.
+     */
+    private String readVersions(String table, String entityType, Long entityId) {
+        if (entityId == null) {
+            return null;
+        }
+        List<String> versions = jdbcTemplate.query(String.format(READ_SQL, table),
+                (rs, rowNum) -> rs.getLong(1) + "-" + rs.getLong(2), entityType, entityId);
+        return versions.isEmpty() ? null : versions.get(0);
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(resourceKey);
+        if (pending != null) {
+            return pending;
+        }
+
+        PendingChanges created = new PendingChanges();
+        TransactionSynchronizationManager.bindResource(resourceKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                // Membership rows changed through JPA must be visible to the team lookup
+                entityManager.flush();
+                write(created);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+        return created;
+    }
+
+    private void write(PendingChanges changes) {
+        long version = System.currentTimeMillis();
+        Timestamp now = new Timestamp(version);
+        List<Object[]> rows = new ArrayList<>();
+        for (Long userId : changes.userIds) {
+            rows.add(new Object[]{USER, userId, version, now});
+        }
+        for (Long teamId : changes.teamIds) {
+            rows.add(new Object[]{TEAM, teamId, version, now});
+        }
+        if (!changes.userIds.isEmpty() || !changes.teamIds.isEmpty()) {
+            rows.add(new Object[]{TEAM, ALL, version, now});
+        }
+        if (changes.catalog) {
+            rows.add(new Object[]{CATALOG, ALL, version, now});
+        }
+        if (!rows.isEmpty()) {
+            jdbcTemplate.batchUpdate(BUMP_SQL, rows);
+        }
+        bumpRelated(BUMP_TEAMS_OF_USERS_SQL, changes.userIds, 2, version, now);
+        bumpRelated(BUMP_USERS_OF_TEAMS_SQL, changes.teamIds, 1, version, now);
+        log.debug("Bumped entity versions: {} users, {} teams, catalog: {}",
+                changes.userIds.size(), changes.teamIds.size(), changes.catalog);
+    }
+
+    /**
+     * Runs an INSERT ... SELECT bump whose id list appears idListCount times in the statement.
+     */
+    private void bumpRelated(String sql, Collection<Long> entityIds, int idListCount, long version, Timestamp now) {
+        List<Long> ids = new ArrayList<>(entityIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            String placeholders = "(" + String.join(",", Collections.nCopies(batch.size(), "?")) + ")";
+            List<Object> args = new ArrayList<>(batch.size() * idListCount + 2);
+            args.add(version);
+            args.add(now);
+            for (int i = 0; i < idListCount; i++) {
+                args.addAll(batch);
+            }
+            jdbcTemplate.update(String.format(sql, placeholders), args.toArray());
+        }
+    }
+
+    private static final class PendingChanges {
+        private final Set<Long> userIds = new LinkedHashSet<>();
+        private final Set<Long> teamIds = new LinkedHashSet<>();
+        private boolean catalog;
+    }
+}
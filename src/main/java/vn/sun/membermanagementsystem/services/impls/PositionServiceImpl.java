@@ -15,6 +15,7 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.PositionMapper;
 import vn.sun.membermanagementsystem.repositories.PositionRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.PositionService;
 
 import java.time.LocalDateTime;
@@ -27,6 +28,7 @@ public class PositionServiceImpl implements PositionService {
     
     private final PositionRepository positionRepository;
     private final PositionMapper positionMapper;
+    private final EntityVersionService entityVersionService;
     
     @Override
     public Page<PositionDTO> getAllPositions(Pageable pageable) {
@@ -60,7 +62,8 @@ public class PositionServiceImpl implements PositionService {
     
     @Override
     @Transactional
-    @LogActivity(action = "UPDATE_POSITION", entityType = "POSITION", description = "Update position information")
+    @LogActivity(action = "UPDATE_POSITION", entityType = "POSITION", description = "Update position information",
+            entityId = "#id")
     public PositionDTO updatePosition(Long id, UpdatePositionRequest request) {
         log.info("Updating position with id: {}", id);
         
@@ -71,6 +74,7 @@ public class PositionServiceImpl implements PositionService {
         
         positionMapper.updateEntity(request, position);
         Position updatedPosition = positionRepository.save(position);
+        entityVersionService.touchCatalog();
         
         log.info("Position updated successfully with id: {}", id);
         return positionMapper.toDTO(updatedPosition);
@@ -78,7 +82,8 @@ public class PositionServiceImpl implements PositionService {
     
     @Override
     @Transactional
-    @LogActivity(action = "DELETE_POSITION", entityType = "POSITION", description = "Delete position")
+    @LogActivity(action = "DELETE_POSITION", entityType = "POSITION", description = "Delete position",
+            entityId = "#id")
     public void deletePosition(Long id) {
         log.info("Deleting position with id: {}", id);
         
@@ -91,6 +96,7 @@ public class PositionServiceImpl implements PositionService {
         position.setAbbreviation(position.getAbbreviation() + deletedSuffix);
         position.setDeletedAt(now);
         positionRepository.save(position);
+        entityVersionService.touchCatalog();
         
         log.info("Position deleted successfully with id: {}", id);
     }
@@ -16,6 +16,7 @@ import vn.sun.membermanagementsystem.entities.Project;
 import vn.sun.membermanagementsystem.entities.Team;
 import vn.sun.membermanagementsystem.mapper.ProjectMapper;
 import vn.sun.membermanagementsystem.repositories.ProjectRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.ProjectLeadershipService;
 import vn.sun.membermanagementsystem.services.ProjectMemberService;
 import vn.sun.membermanagementsystem.services.ProjectService;
@@ -36,6 +37,7 @@ public class ProjectServiceImpl implements ProjectService {
 
     private final ProjectMemberService membershipService;
     private final ProjectLeadershipService leadershipService;
+    private final EntityVersionService entityVersionService;
 
     private Project.ProjectStatus calculateStatus(LocalDate startDate, LocalDate endDate) {
         LocalDate now = LocalDate.now();
@@ -84,13 +86,15 @@ public class ProjectServiceImpl implements ProjectService {
         project = projectRepo.save(project);
 
         handleProjectContextMembersOnly(project, request.getLeaderId(), request.getMemberIds());
+        entityVersionService.touchCatalog();
 
         return projectMapper.toDTO(project);
     }
 
     @Override
     @Transactional
-    @LogActivity(action = "UPDATE_PROJECT", entityType = "PROJECT", description = "Update project")
+    @LogActivity(action = "UPDATE_PROJECT", entityType = "PROJECT", description = "Update project",
+            entityId = "#id")
     public ProjectDTO updateProject(Long id, UpdateProjectRequest request) {
         Project project = projectRepo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
@@ -113,6 +117,7 @@ public class ProjectServiceImpl implements ProjectService {
         project = projectRepo.save(project);
 
         handleProjectContextMembersOnly(project, request.getLeaderId(), request.getMemberIds());
+        entityVersionService.touchCatalog();
         return projectMapper.toDTO(project);
     }
 
@@ -167,7 +172,8 @@ public class ProjectServiceImpl implements ProjectService {
 
     @Override
     @Transactional
-    @LogActivity(action = "CANCEL_PROJECT", entityType = "PROJECT", description = "Cancel project and deactivate members")
+    @LogActivity(action = "CANCEL_PROJECT", entityType = "PROJECT", description = "Cancel project and deactivate members",
+            entityId = "#id")
     public void cancelProject(Long id) {
         Project project = projectRepo.findById(id)
                 .orElseThrow(() -> new EntityNotFoundException("Project not found with id: " + id));
@@ -184,6 +190,7 @@ public class ProjectServiceImpl implements ProjectService {
         membershipService.removeAllMembers(project);
 
         projectRepo.save(project);
+        entityVersionService.touchCatalog();
     }
 
     @Transactional
@@ -205,6 +212,7 @@ public class ProjectServiceImpl implements ProjectService {
             }
         }
         if (count > 0) {
+            entityVersionService.touchCatalog();
             log.info("Scheduler updated status for {} projects.", count);
         }
     }
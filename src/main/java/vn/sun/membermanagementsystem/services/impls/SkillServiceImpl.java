@@ -15,7 +15,9 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.SkillMapper;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.SkillService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
 import java.time.LocalDateTime;
 
@@ -29,6 +31,8 @@ public class SkillServiceImpl implements SkillService {
     
     private final SkillRepository skillRepository;
     private final SkillMapper skillMapper;
+    private final EntityVersionService entityVersionService;
+    private final UserDirectoryService userDirectoryService;
     
     @Override
     @Transactional(readOnly = true)
@@ -71,7 +75,8 @@ public class SkillServiceImpl implements SkillService {
     
     @Override
     @Transactional
-    @LogActivity(action = "UPDATE_SKILL", entityType = "SKILL", description = "Update skill information")
+    @LogActivity(action = "UPDATE_SKILL", entityType = "SKILL", description = "Update skill information",
+            entityId = "#id")
     public SkillDTO updateSkill(Long id, UpdateSkillRequest request) {
         Skill skill = skillRepository.findByIdAndNotDeleted(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
@@ -83,12 +88,15 @@ public class SkillServiceImpl implements SkillService {
         
         skillMapper.updateEntity(request, skill);
         Skill updatedSkill = skillRepository.save(skill);
+        entityVersionService.touchCatalog();
+        userDirectoryService.markSkillChanged(id);
         return skillMapper.toDTO(updatedSkill);
     }
     
     @Override
     @Transactional
-    @LogActivity(action = "DELETE_SKILL", entityType = "SKILL", description = "Delete skill")
+    @LogActivity(action = "DELETE_SKILL", entityType = "SKILL", description = "Delete skill",
+            entityId = "#id")
     public void deleteSkill(Long id) {
         Skill skill = skillRepository.findByIdAndNotDeleted(id)
                 .orElseThrow(() -> new ResourceNotFoundException("Skill not found with id: " + id));
@@ -98,6 +106,8 @@ public class SkillServiceImpl implements SkillService {
         skill.setName(skill.getName() + deletedSuffix);
         skill.setDeletedAt(now);
         skillRepository.save(skill);
+        entityVersionService.touchCatalog();
+        userDirectoryService.markSkillChanged(id);
     }
         
 }
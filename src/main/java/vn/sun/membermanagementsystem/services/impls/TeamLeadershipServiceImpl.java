@@ -18,7 +18,9 @@ import vn.sun.membermanagementsystem.repositories.TeamLeadershipHistoryRepositor
 import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 import vn.sun.membermanagementsystem.services.TeamLeadershipService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -35,10 +37,13 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
     private final UserRepository userRepository;
     private final TeamMemberRepository teamMemberRepository;
     private final jakarta.persistence.EntityManager entityManager;
+    private final UserDirectoryService userDirectoryService;
+    private final EntityVersionService entityVersionService;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "ASSIGN_TEAM_LEADER", entityType = "TEAM", description = "Assign leader to team")
+    @LogActivity(action = "ASSIGN_TEAM_LEADER", entityType = "TEAM", description = "Assign leader to team",
+            entityId = "#teamId")
     public TeamLeaderDTO assignLeader(Long teamId, Long leaderId) {
         log.info("Assigning leader {} to team {}", leaderId, teamId);
 
@@ -68,6 +73,7 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
         leadershipHistory.setStartedAt(LocalDateTime.now());
 
         TeamLeadershipHistory savedHistory = leadershipRepository.save(leadershipHistory);
+        entityVersionService.touchTeam(teamId);
         log.info("Leader assigned successfully: {} to team {}", leaderId, teamId);
 
         return mapToLeaderDTO(savedHistory);
@@ -75,7 +81,8 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "CHANGE_TEAM_LEADER", entityType = "TEAM", description = "Change team leader")
+    @LogActivity(action = "CHANGE_TEAM_LEADER", entityType = "TEAM", description = "Change team leader",
+            entityId = "#teamId")
     public TeamLeaderDTO changeLeader(Long teamId, Long newLeaderId) {
         log.info("Changing leader of team {} to user {}", teamId, newLeaderId);
 
@@ -115,6 +122,7 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
         newLeadership.setStartedAt(LocalDateTime.now());
 
         TeamLeadershipHistory savedHistory = leadershipRepository.save(newLeadership);
+        entityVersionService.touchTeam(teamId);
         log.info("New leader assigned successfully: {} to team {}", newLeaderId, teamId);
 
         return mapToLeaderDTO(savedHistory);
@@ -122,7 +130,8 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "REMOVE_TEAM_LEADER", entityType = "TEAM", description = "Remove team leader")
+    @LogActivity(action = "REMOVE_TEAM_LEADER", entityType = "TEAM", description = "Remove team leader",
+            entityId = "#teamId")
     public void removeLeader(Long teamId) {
         log.info("Removing leader from team {}", teamId);
 
@@ -142,6 +151,7 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
         TeamLeadershipHistory currentLeadership = currentLeadershipOpt.get();
         currentLeadership.setEndedAt(LocalDateTime.now());
         leadershipRepository.save(currentLeadership);
+        entityVersionService.touchTeam(teamId);
 
         log.info("Leader removed successfully from team {}", teamId);
     }
@@ -199,6 +209,7 @@ public class TeamLeadershipServiceImpl implements TeamLeadershipService {
         newMembership.setJoinedAt(LocalDateTime.now());
 
         teamMemberRepository.save(newMembership);
+        userDirectoryService.markUserChanged(user.getId());
         log.info("User {} added as member of team {}", user.getId(), team.getId());
     }
 
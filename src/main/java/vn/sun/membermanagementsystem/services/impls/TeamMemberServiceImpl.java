@@ -19,6 +19,7 @@ import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.TeamMemberService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
 import java.time.LocalDateTime;
 import java.util.Optional;
@@ -33,10 +34,12 @@ public class TeamMemberServiceImpl implements TeamMemberService {
     private final TeamRepository teamRepository;
     private final TeamLeadershipHistoryRepository teamLeadershipHistoryRepository;
     private final EntityManager entityManager;
+    private final UserDirectoryService userDirectoryService;
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "ADD_MEMBER_TO_TEAM", entityType = "TEAM", description = "Add member to team")
+    @LogActivity(action = "ADD_MEMBER_TO_TEAM", entityType = "TEAM", description = "Add member to team",
+            entityId = "#teamId")
     public TeamMembershipDTO addMember(Long userId, Long teamId) {
         log.info("Adding user {} to team {}", userId, teamId);
 
@@ -67,6 +70,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         teamMember.setJoinedAt(LocalDateTime.now());
 
         TeamMember savedMember = teamMemberRepository.save(teamMember);
+        userDirectoryService.markUserChanged(userId);
         log.info("User {} added to team {} successfully", userId, teamId);
 
         return mapToDTO(savedMember);
@@ -74,7 +78,8 @@ public class TeamMemberServiceImpl implements TeamMemberService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "TRANSFER_MEMBER", entityType = "TEAM", description = "Transfer member to another team")
+    @LogActivity(action = "TRANSFER_MEMBER", entityType = "TEAM", description = "Transfer member to another team",
+            entityId = "#newTeamId")
     public TeamMembershipDTO transferMember(Long userId, Long newTeamId) {
         log.info("Transferring user {} to team {}", userId, newTeamId);
 
@@ -126,6 +131,7 @@ public class TeamMemberServiceImpl implements TeamMemberService {
         newMembership.setJoinedAt(LocalDateTime.now());
 
         TeamMember savedMember = teamMemberRepository.save(newMembership);
+        userDirectoryService.markUserChanged(userId);
         log.info("User {} transferred from team {} to team {} successfully",
                 userId, currentMembership.getTeam().getId(), newTeamId);
 
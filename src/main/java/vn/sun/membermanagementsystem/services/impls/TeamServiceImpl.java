@@ -27,6 +27,7 @@ import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
 import vn.sun.membermanagementsystem.services.TeamLeadershipService;
 import vn.sun.membermanagementsystem.services.TeamService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
 import java.time.LocalDateTime;
 import java.util.List;
@@ -42,18 +43,21 @@ public class TeamServiceImpl implements TeamService {
     private final TeamLeadershipService teamLeadershipService;
     private final TeamMemberRepository teamMemberRepository;
     private final UserRepository userRepository;
+    private final UserDirectoryService userDirectoryService;
 
     public TeamServiceImpl(
             TeamRepository teamRepository,
             TeamMapper teamMapper,
             @Lazy TeamLeadershipService teamLeadershipService,
             TeamMemberRepository teamMemberRepository,
-            UserRepository userRepository) {
+            UserRepository userRepository,
+            UserDirectoryService userDirectoryService) {
         this.teamRepository = teamRepository;
         this.teamMapper = teamMapper;
         this.teamLeadershipService = teamLeadershipService;
         this.teamMemberRepository = teamMemberRepository;
         this.userRepository = userRepository;
+        this.userDirectoryService = userDirectoryService;
     }
 
     @Override
@@ -101,12 +105,14 @@ public class TeamServiceImpl implements TeamService {
             log.info("Assigning leader {} to team {}", request.getLeaderId(), savedTeam.getId());
             teamLeadershipService.assignLeader(savedTeam.getId(), request.getLeaderId());
         }
+        userDirectoryService.markTeamChanged(savedTeam.getId());
 
         return teamMapper.toDTO(savedTeam);
     }
 
     @Transactional
-    @LogActivity(action = "UPDATE_TEAM", entityType = "TEAM", description = "Update team information")
+    @LogActivity(action = "UPDATE_TEAM", entityType = "TEAM", description = "Update team information",
+            entityId = "#id")
     public TeamDTO updateTeam(Long id, UpdateTeamRequest request) {
         log.info("Updating team with ID: {}", id);
         log.info("Request data - Name: {}, Description length: {}, LeaderId: {}",
@@ -139,13 +145,15 @@ public class TeamServiceImpl implements TeamService {
         team.setUpdatedAt(LocalDateTime.now());
 
         Team updatedTeam = teamRepository.save(team);
+        userDirectoryService.markTeamChanged(id);
         log.info("Team updated successfully with ID: {}", updatedTeam.getId());
 
         return teamMapper.toDTO(updatedTeam);
     }
 
     @Transactional
-    @LogActivity(action = "DELETE_TEAM", entityType = "TEAM", description = "Delete team")
+    @LogActivity(action = "DELETE_TEAM", entityType = "TEAM", description = "Delete team",
+            entityId = "#id")
     public boolean deleteTeam(Long id) {
         log.info("Soft deleting team with ID: {}", id);
 
@@ -180,6 +188,7 @@ public class TeamServiceImpl implements TeamService {
         team.setName(team.getName() + deletedSuffix);
         team.setDeletedAt(now);
         teamRepository.save(team);
+        userDirectoryService.markTeamChanged(id);
 
         log.info("Team soft deleted successfully with ID: {}, renamed to: {}", id, team.getName());
         return true;
@@ -320,7 +329,8 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "ADD_MEMBER_TO_TEAM", entityType = "TEAM", description = "Add member to team")
+    @LogActivity(action = "ADD_MEMBER_TO_TEAM", entityType = "TEAM", description = "Add member to team",
+            entityId = "#teamId")
     public void addMemberToTeam(Long teamId, Long userId) {
         log.info("Adding user {} to team {}", userId, teamId);
 
@@ -355,12 +365,14 @@ public class TeamServiceImpl implements TeamService {
         newMembership.setJoinedAt(LocalDateTime.now());
 
         teamMemberRepository.save(newMembership);
+        userDirectoryService.markUserChanged(userId);
         log.info("User {} successfully added to team {}", userId, teamId);
     }
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "ADD_MEMBERS_TO_TEAM", entityType = "TEAM", description = "Add multiple members to team")
+    @LogActivity(action = "ADD_MEMBERS_TO_TEAM", entityType = "TEAM", description = "Add multiple members to team",
+            entityId = "#teamId")
     public int addMembersToTeam(Long teamId, List<Long> userIds) {
         log.info("Adding {} users to team {}", userIds.size(), teamId);
 
@@ -398,6 +410,7 @@ public class TeamServiceImpl implements TeamService {
                 newMembership.setJoinedAt(LocalDateTime.now());
 
                 teamMemberRepository.save(newMembership);
+                userDirectoryService.markUserChanged(userId);
                 addedCount++;
                 log.info("User {} successfully added to team {}", userId, teamId);
 
@@ -417,7 +430,8 @@ public class TeamServiceImpl implements TeamService {
 
     @Override
     @Transactional(rollbackFor = Exception.class)
-    @LogActivity(action = "REMOVE_MEMBER_FROM_TEAM", entityType = "TEAM", description = "Remove member from team")
+    @LogActivity(action = "REMOVE_MEMBER_FROM_TEAM", entityType = "TEAM", description = "Remove member from team",
+            entityId = "#teamId")
     public void removeMemberFromTeam(Long teamId, Long userId) {
         log.info("Removing user {} from team {}", userId, teamId);
 
@@ -446,6 +460,7 @@ public class TeamServiceImpl implements TeamService {
         membership.setLeftAt(LocalDateTime.now());
 
         teamMemberRepository.save(membership);
+        userDirectoryService.markUserChanged(userId);
         log.info("User {} successfully removed from team {}", userId, teamId);
     }
 
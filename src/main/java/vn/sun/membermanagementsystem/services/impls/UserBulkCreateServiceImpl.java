@@ -0,0 +1,225 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.validation.ConstraintViolation;
+import jakarta.validation.Validator;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import vn.sun.membermanagementsystem.annotation.LogActivity;
+import vn.sun.membermanagementsystem.config.security.BoundedPasswordEncoder;
+import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
+import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.repositories.UserBatchInsertRepository;
+import vn.sun.membermanagementsystem.services.UserBulkCreateService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+import vn.sun.membermanagementsystem.services.search.UserSearchText;
+
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Set;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkCreateServiceImpl implements UserBulkCreateService {
+
+    private final UserBatchInsertRepository userBatchInsertRepository;
+    private final BoundedPasswordEncoder passwordEncoder;
+    private final UserDirectoryService userDirectoryService;
+    private final Validator validator;
+
+    @Value("${default.user.password:123456}")
+    private String defaultPassword;
+
+    @Value("${user-bulk.max-items:5000}")
+    private int maxItems;
+
+    @Value("${user-bulk.batch-size:500}")
+    private int batchSize;
+
+    @Override
+    @Transactional
+    @LogActivity(action = "BULK_CREATE_USER", entityType = "USER", description = "Bulk create users")
+    public BulkUserCreateResultDTO createUsers(List<UserCreateDTO> requests) {
+        if (requests == null || requests.isEmpty()) {
+            throw new BadRequestException("At least one user is required");
+        }
+        if (requests.size() > maxItems) {
+            throw new BadRequestException("At most " + maxItems + " users can be created per request");
+        }
+
+        long startedAt = System.currentTimeMillis();
+        log.info("Bulk creating {} users", requests.size());
+
+        List<List<String>> errors = validate(requests);
+
+        List<UserCreateDTO> created = new ArrayList<>();
+        List<String> rawPasswords = new ArrayList<>();
+        for (int i = 0; i < requests.size(); i++) {
+            if (errors.get(i).isEmpty()) {
+                UserCreateDTO request = requests.get(i);
+                created.add(request);
+                rawPasswords.add(request.getPassword() != null && !request.getPassword().isEmpty()
+                        ? request.getPassword() : defaultPassword);
+            }
+        }
+        // BCrypt dominates the cost of an intake; every user gets its own salt, hashed in parallel on the pool
+        List<String> passwordHashes = passwordEncoder.encodeAll(rawPasswords);
+
+        LocalDateTime now = LocalDateTime.now();
+        List<User> users = new ArrayList<>(created.size());
+        for (int i = 0; i < created.size(); i++) {
+            UserCreateDTO request = created.get(i);
+            User user = new User();
+            user.setName(request.getName());
+            user.setEmail(request.getEmail().trim());
+            user.setSearchText(UserSearchText.of(user.getName(), user.getEmail()));
+            user.setPasswordHash(passwordHashes.get(i));
+            user.setBirthday(request.getBirthday());
+            user.setRole(request.getRole());
+            user.setStatus(request.getStatus() != null ? request.getStatus() : UserStatus.ACTIVE);
+            user.setCreatedAt(now);
+            user.setUpdatedAt(now);
+            users.add(user);
+        }
+
+        userBatchInsertRepository.insertUsers(users, batchSize);
+
+        List<UserBatchInsertRepository.PositionRow> positions = new ArrayList<>();
+        List<UserBatchInsertRepository.SkillRow> skills = new ArrayList<>();
+        for (int i = 0; i < users.size(); i++) {
+            Long userId = users.get(i).getId();
+            UserCreateDTO request = created.get(i);
+            if (request.getPositionId() != null) {
+                positions.add(new UserBatchInsertRepository.PositionRow(userId, request.getPositionId(), now));
+            }
+            if (request.getSkills() != null) {
+                for (UserSkillRequestDTO skill : request.getSkills()) {
+                    skills.add(new UserBatchInsertRepository.SkillRow(userId, skill.getSkillId(),
+                            skill.getLevel() != null ? skill.getLevel() : UserSkill.Level.INTERMEDIATE,
+                            skill.getUsedYearNumber(), now));
+                }
+            }
+            userDirectoryService.markUserChanged(userId);
+        }
+        userBatchInsertRepository.insertPositionHistories(positions, batchSize);
+        userBatchInsertRepository.insertSkills(skills, batchSize);
+
+        List<BulkUserCreateResultDTO.ItemResult> items = new ArrayList<>(requests.size());
+        int next = 0;
+        for (int i = 0; i < requests.size(); i++) {
+            boolean ok = errors.get(i).isEmpty();
+            items.add(BulkUserCreateResultDTO.ItemResult.builder()
+                    .index(i)
+                    .email(requests.get(i) != null ? requests.get(i).getEmail() : null)
+                    .created(ok)
+                    .userId(ok ? users.get(next++).getId() : null)
+                    .errors(errors.get(i))
+                    .build());
+        }
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        log.info("Bulk created {} of {} users ({} positions, {} skills) in {} ms",
+                users.size(), requests.size(), positions.size(), skills.size(), durationMs);
+
+        return BulkUserCreateResultDTO.builder()
+                .requested(requests.size())
+                .created(users.size())
+                .failed(requests.size() - users.size())
+                .durationMs(durationMs)
+                .items(items)
+                .build();
+    }
+
+    /**
+     * Errors per item, from bean validation, duplicates inside the batch and three set-based lookups
+     * (taken e-mails, live positions, live skills) for the whole batch.
+     */
+    private List<List<String>> validate(List<UserCreateDTO> requests) {
+        List<List<String>> errors = new ArrayList<>(requests.size());
+        Map<String, Integer> firstIndexByEmail = new HashMap<>();
+        Set<Long> positionIds = new HashSet<>();
+        Set<Long> skillIds = new HashSet<>();
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateDTO request = requests.get(i);
+            List<String> itemErrors = new ArrayList<>();
+            errors.add(itemErrors);
+            if (request == null) {
+                itemErrors.add("User is required");
+                continue;
+            }
+
+            for (ConstraintViolation<UserCreateDTO> violation : validator.validate(request)) {
+                itemErrors.add(violation.getMessage());
+            }
+            if (request.getPassword() != null && !request.getPassword().isEmpty()
+                    && request.getPassword().length() < 6) {
+                itemErrors.add("Password must be at least 6 characters");
+            }
+
+            if (request.getEmail() != null && !request.getEmail().isBlank()) {
+                String email = request.getEmail().trim().toLowerCase(Locale.ROOT);
+                Integer first = firstIndexByEmail.putIfAbsent(email, i);
+                if (first != null) {
+                    itemErrors.add("Duplicate email in request, same as item " + first);
+                }
+            }
+
+            if (request.getPositionId() != null) {
+                positionIds.add(request.getPositionId());
+            }
+            if (request.getSkills() != null) {
+                Set<Long> seen = new HashSet<>();
+                for (UserSkillRequestDTO skill : request.getSkills()) {
+                    if (skill == null || skill.getSkillId() == null) {
+                        itemErrors.add("Skill id is required");
+                    } else if (!seen.add(skill.getSkillId())) {
+                        itemErrors.add("Duplicate skill: " + skill.getSkillId());
+                    } else {
+                        skillIds.add(skill.getSkillId());
+                    }
+                }
+            }
+        }
+
+        Set<String> takenEmails = userBatchInsertRepository.findExistingEmails(firstIndexByEmail.keySet());
+        Set<Long> livePositions = positionIds.isEmpty() ? Set.of() : userBatchInsertRepository.findLivePositionIds(positionIds);
+        Set<Long> liveSkills = skillIds.isEmpty() ? Set.of() : userBatchInsertRepository.findLiveSkillIds(skillIds);
+
+        for (int i = 0; i < requests.size(); i++) {
+            UserCreateDTO request = requests.get(i);
+            if (request == null) {
+                continue;
+            }
+            List<String> itemErrors = errors.get(i);
+            if (request.getEmail() != null
+                    && takenEmails.contains(request.getEmail().trim().toLowerCase(Locale.ROOT))) {
+                itemErrors.add("Email already exists: " + request.getEmail());
+            }
+            if (request.getPositionId() != null && !livePositions.contains(request.getPositionId())) {
+                itemErrors.add("Position not found with ID: " + request.getPositionId());
+            }
+            if (request.getSkills() != null) {
+                for (UserSkillRequestDTO skill : request.getSkills()) {
+                    if (skill != null && skill.getSkillId() != null && !liveSkills.contains(skill.getSkillId())) {
+                        itemErrors.add("Skill not found with ID: " + skill.getSkillId());
+                    }
+                }
+            }
+        }
+        return errors;
+    }
+}
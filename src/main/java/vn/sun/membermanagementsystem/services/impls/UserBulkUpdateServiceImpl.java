@@ -0,0 +1,187 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.data.domain.Sort;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionTemplate;
+import vn.sun.membermanagementsystem.annotation.LogActivity;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
+import vn.sun.membermanagementsystem.dto.request.BulkUserUpdateRequest;
+import vn.sun.membermanagementsystem.dto.response.BulkUserUpdateResultDTO;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.repositories.UserBulkUpdateRepository;
+import vn.sun.membermanagementsystem.repositories.UserDirectoryRepository;
+import vn.sun.membermanagementsystem.services.UserBulkUpdateService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+import vn.sun.membermanagementsystem.services.search.UserSearchText;
+
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Objects;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserBulkUpdateServiceImpl implements UserBulkUpdateService {
+
+    private final UserBulkUpdateRepository userBulkUpdateRepository;
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final TransactionTemplate transactionTemplate;
+
+    @Value("${user-bulk.max-items:5000}")
+    private int maxItems;
+
+    @Value("${user-bulk.batch-size:500}")
+    private int batchSize;
+
+    @FunctionalInterface
+    private interface ChunkUpdate {
+        int apply(List<Long> ids, LocalDateTime now);
+    }
+
+    private record ChunkResult(int updated, UserBulkUpdateRepository.Closure closure) {
+    }
+
+    @Override
+    @LogActivity(action = "BULK_UPDATE_USER_STATUS", entityType = "USER", description = "Bulk update user status")
+    public BulkUserUpdateResultDTO updateStatus(BulkUserUpdateRequest request) {
+        if (request.getStatus() == null) {
+            throw new BadRequestException("Status is required");
+        }
+        return apply("STATUS_" + request.getStatus(), request, request.getStatus() == UserStatus.INACTIVE,
+                (ids, now) -> userBulkUpdateRepository.updateStatus(ids, request.getStatus(), now));
+    }
+
+    @Override
+    @LogActivity(action = "BULK_UPDATE_USER_ROLE", entityType = "USER", description = "Bulk update user role")
+    public BulkUserUpdateResultDTO updateRole(BulkUserUpdateRequest request) {
+        if (request.getRole() == null) {
+            throw new BadRequestException("Role is required");
+        }
+        return apply("ROLE_" + request.getRole(), request, false,
+                (ids, now) -> userBulkUpdateRepository.updateRole(ids, request.getRole(), now));
+    }
+
+    @Override
+    @LogActivity(action = "BULK_DELETE_USER", entityType = "USER", description = "Bulk delete users")
+    public BulkUserUpdateResultDTO deleteUsers(BulkUserUpdateRequest request) {
+        return apply("DELETE", request, true, (ids, now) -> userBulkUpdateRepository.softDelete(ids,
+                "_deleted_" + now.toEpochSecond(ZoneOffset.UTC), now));
+    }
+
+    private BulkUserUpdateResultDTO apply(String action, BulkUserUpdateRequest request, boolean closeMemberships,
+                                          ChunkUpdate update) {
+        long startedAt = System.currentTimeMillis();
+        List<Long> userIds = resolveTargets(request);
+        log.info("Bulk {} on {} users", action, userIds.size());
+
+        LocalDateTime now = LocalDateTime.now();
+        int updated = 0;
+        int teamMemberships = 0;
+        int projectMemberships = 0;
+        int teamLeaderships = 0;
+        int projectLeaderships = 0;
+        String failure = null;
+        // One transaction per chunk keeps row locks short; a failed chunk rolls back alone and ends the run
+        for (int from = 0; from < userIds.size(); from += batchSize) {
+            List<Long> chunk = userIds.subList(from, Math.min(from + batchSize, userIds.size()));
+            ChunkResult result;
+            try {
+                result = transactionTemplate.execute(status -> applyChunk(chunk, now, closeMemberships, update));
+            } catch (RuntimeException e) {
+                log.error("Bulk {} failed on users {}..{} after {} users were updated", action, chunk.get(0),
+                        chunk.get(chunk.size() - 1), updated, e);
+                failure = "Stopped at user " + chunk.get(0) + ", it and the users after it were not changed";
+                break;
+            }
+            updated += result.updated();
+            if (result.closure() != null) {
+                teamMemberships += result.closure().teamMemberships();
+                projectMemberships += result.closure().projectMemberships();
+                teamLeaderships += result.closure().teamLeaderships();
+                projectLeaderships += result.closure().projectLeaderships();
+            }
+        }
+
+        long durationMs = System.currentTimeMillis() - startedAt;
+        log.info("Bulk {} updated {} of {} users, closed {} team and {} project memberships, " +
+                        "ended {} team and {} project leaderships in {} ms", action, updated, userIds.size(),
+                teamMemberships, projectMemberships, teamLeaderships, projectLeaderships, durationMs);
+
+        return BulkUserUpdateResultDTO.builder()
+                .action(action)
+                .matched(userIds.size())
+                .updated(updated)
+                .closedTeamMemberships(teamMemberships)
+                .closedProjectMemberships(projectMemberships)
+                .endedTeamLeaderships(teamLeaderships)
+                .endedProjectLeaderships(projectLeaderships)
+                .durationMs(durationMs)
+                .completed(failure == null)
+                .failure(failure)
+                .build();
+    }
+
+    private ChunkResult applyChunk(List<Long> chunk, LocalDateTime now, boolean closeMemberships, ChunkUpdate update) {
+        int updated = update.apply(chunk, now);
+        UserBulkUpdateRepository.Closure closure = closeMemberships
+                ? userBulkUpdateRepository.closeMemberships(chunk, now)
+                : null;
+        for (Long userId : chunk) {
+            tokenEpochRegistry.evictAfterCommit(userId);
+            userDirectoryService.markUserChanged(userId);
+        }
+        return new ChunkResult(updated, closure);
+    }
+
+    /**
+     * Live user ids targeted by the request, ascending, without the caller's own account.
+     */
+    private List<Long> resolveTargets(BulkUserUpdateRequest request) {
+        if (request.hasUserIds() == request.hasFilter()) {
+            throw new BadRequestException("Specify either userIds or a filter");
+        }
+
+        List<Long> ids;
+        if (request.hasUserIds()) {
+            List<Long> requested = new ArrayList<>(new LinkedHashSet<>(request.getUserIds()));
+            requested.removeIf(Objects::isNull);
+            if (requested.size() > maxItems) {
+                throw new BadRequestException("At most " + maxItems + " users can be updated per request");
+            }
+            ids = new ArrayList<>(requested.size());
+            for (int from = 0; from < requested.size(); from += batchSize) {
+                ids.addAll(userBulkUpdateRepository.findLiveUserIds(
+                        requested.subList(from, Math.min(from + batchSize, requested.size()))));
+            }
+            // Same row order as the filter path, so concurrent bulk calls lock users in one order
+            ids.sort(Comparator.naturalOrder());
+        } else {
+            BulkUserUpdateRequest.Filter filter = request.getFilter();
+            ids = new ArrayList<>(userDirectoryRepository.searchIds(UserSearchText.toMatchQuery(filter.getKeyword()),
+                    UserSearchText.toLikePattern(filter.getKeyword()), filter.getStatus(), filter.getRole(),
+                    filter.getTeamId(), PageRequest.of(0, maxItems + 1, Sort.by("id"))));
+            if (ids.size() > maxItems) {
+                throw new BadRequestException("Filter matches more than " + maxItems + " users, narrow it down");
+            }
+        }
+
+        Long currentUserId = UserPrincipal.currentUserId(SecurityContextHolder.getContext().getAuthentication());
+        if (currentUserId != null && ids.remove(currentUserId)) {
+            log.info("Excluded the caller (user {}) from the bulk operation", currentUserId);
+        }
+        return ids;
+    }
+}
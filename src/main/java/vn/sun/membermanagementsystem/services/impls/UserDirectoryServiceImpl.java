@@ -0,0 +1,211 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.UserChangeListener;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Set;
+
+/**
+ * Maintains user_directory from Users, Team_Members, User_Position_History and User_Skills.
+ * Changes are collected per transaction and applied once, in beforeCommit, with an
+ * INSERT ... SELECT over the source tables, after flushing pending JPA changes so the select sees them.
+ * The selection rules are the ones of UserProfileQueryRepository.
+ * {@link UserChangeListener}s hear about the refreshed users once the transaction has committed.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class UserDirectoryServiceImpl implements UserDirectoryService {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String INSERT_SQL = "INSERT INTO user_directory (user_id, name, email, search_text, " +
+            "birthday, role, status, created_at, active_team_id, active_team_name, position_id, position_name, " +
+            "position_abbreviation, skill_count, skills_summary, refreshed_at) " +
+            "SELECT u.id, u.name, u.email, u.search_text, u.birthday, u.role, u.status, u.created_at, " +
+            "t.id, t.name, p.id, p.name, p.abbreviation, " +
+            "(SELECT COUNT(*) FROM user_skills us JOIN skills s ON s.id = us.skill_id " +
+            " WHERE us.user_id = u.id AND s.deleted_at IS NULL), " +
+            "(SELECT LEFT(GROUP_CONCAT(s.name ORDER BY s.name SEPARATOR ', '), 1024) " +
+            " FROM user_skills us JOIN skills s ON s.id = us.skill_id " +
+            " WHERE us.user_id = u.id AND s.deleted_at IS NULL), " +
+            "CURRENT_TIMESTAMP(3) " +
+            "FROM users u " +
+            "LEFT JOIN team_members tm ON tm.id = (SELECT MIN(tm2.id) FROM team_members tm2 " +
+            " JOIN teams t2 ON t2.id = tm2.team_id WHERE tm2.user_id = u.id AND tm2.status = 'ACTIVE' " +
+            " AND tm2.left_at IS NULL AND t2.deleted_at IS NULL) " +
+            "LEFT JOIN teams t ON t.id = tm.team_id " +
+            "LEFT JOIN user_position_history ph ON ph.id = (SELECT MIN(ph2.id) FROM user_position_history ph2 " +
+            " WHERE ph2.user_id = u.id AND ph2.ended_at IS NULL) " +
+            "LEFT JOIN positions p ON p.id = ph.position_id " +
+            "WHERE u.deleted_at IS NULL";
+
+    private static final String DELETE_SQL = "DELETE FROM user_directory WHERE user_id IN ";
+    private static final String DELETE_ALL_SQL = "DELETE FROM user_directory";
+    private static final String TEAM_USERS_SQL = "SELECT user_id FROM user_directory WHERE active_team_id = ? " +
+            "UNION SELECT user_id FROM team_members WHERE team_id = ? AND left_at IS NULL";
+    private static final String SKILL_USERS_SQL = "SELECT user_id FROM user_skills WHERE skill_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final EntityManager entityManager;
+    private final EntityVersionService entityVersionService;
+    private final List<UserChangeListener> changeListeners;
+
+    /** Key of the per-transaction {@link PendingChanges} resource. */
+    private final Object resourceKey = new Object();
+
+    @Override
+    public void markUserChanged(Long userId) {
+        if (userId == null) {
+            return;
+        }
+        entityVersionService.touchUser(userId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().userIds.add(userId);
+        } else {
+            refresh(List.of(userId));
+            notifyListeners(List.of(userId));
+        }
+    }
+
+    @Override
+    public void markTeamChanged(Long teamId) {
+        if (teamId == null) {
+            return;
+        }
+        entityVersionService.touchTeam(teamId);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().teamIds.add(teamId);
+        } else {
+            Set<Long> userIds = usersOfTeams(List.of(teamId));
+            refresh(userIds);
+            notifyListeners(userIds);
+        }
+    }
+
+    @Override
+    public void markSkillChanged(Long skillId) {
+        if (skillId == null) {
+            return;
+        }
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            pendingChanges().skillIds.add(skillId);
+        } else {
+            Set<Long> userIds = usersOfSkills(List.of(skillId));
+            refresh(userIds);
+            notifyListeners(userIds);
+        }
+    }
+
+    @Override
+    @Transactional
+    public int rebuild() {
+        long startedAt = System.currentTimeMillis();
+        jdbcTemplate.update(DELETE_ALL_SQL);
+        int rows = jdbcTemplate.update(INSERT_SQL);
+        log.info("Rebuilt user directory with {} rows in {} ms", rows, System.currentTimeMillis() - startedAt);
+        return rows;
+    }
+
+    private PendingChanges pendingChanges() {
+        PendingChanges pending = (PendingChanges) TransactionSynchronizationManager.getResource(resourceKey);
+        if (pending != null) {
+            return pending;
+        }
+
+        PendingChanges created = new PendingChanges();
+        TransactionSynchronizationManager.bindResource(resourceKey, created);
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void beforeCommit(boolean readOnly) {
+                apply(created);
+            }
+
+            @Override
+            public void afterCommit() {
+                notifyListeners(created.refreshedUserIds);
+            }
+
+            @Override
+            public void afterCompletion(int status) {
+                TransactionSynchronizationManager.unbindResourceIfPossible(resourceKey);
+            }
+        });
+        return created;
+    }
+
+    private void apply(PendingChanges pending) {
+        entityManager.flush();
+        Set<Long> userIds = new LinkedHashSet<>(pending.userIds);
+        userIds.addAll(usersOfTeams(pending.teamIds));
+        userIds.addAll(usersOfSkills(pending.skillIds));
+        refresh(userIds);
+        pending.refreshedUserIds = userIds;
+    }
+
+    private void notifyListeners(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        for (UserChangeListener listener : changeListeners) {
+            try {
+                listener.onUsersChanged(userIds);
+            } catch (Exception e) {
+                log.error("User change listener {} failed: {}", listener.getClass().getSimpleName(), e.getMessage());
+            }
+        }
+    }
+
+    private Set<Long> usersOfTeams(Collection<Long> teamIds) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Long teamId : teamIds) {
+            userIds.addAll(jdbcTemplate.queryForList(TEAM_USERS_SQL, Long.class, teamId, teamId));
+        }
+        return userIds;
+    }
+
+    private Set<Long> usersOfSkills(Collection<Long> skillIds) {
+        Set<Long> userIds = new LinkedHashSet<>();
+        for (Long skillId : skillIds) {
+            userIds.addAll(jdbcTemplate.queryForList(SKILL_USERS_SQL, Long.class, skillId));
+        }
+        return userIds;
+    }
+
+    private void refresh(Collection<Long> userIds) {
+        if (userIds.isEmpty()) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += BATCH_SIZE) {
+            List<Long> batch = ids.subList(from, Math.min(from + BATCH_SIZE, ids.size()));
+            String placeholders = "(" + String.join(",", Collections.nCopies(batch.size(), "?")) + ")";
+            Object[] args = batch.toArray();
+            // Deleted users only lose their row, the insert skips them
+            jdbcTemplate.update(DELETE_SQL + placeholders, args);
+            jdbcTemplate.update(INSERT_SQL + " AND u.id IN " + placeholders, args);
+        }
+        log.debug("Refreshed user directory rows for {} users", userIds.size());
+    }
+
+    private static final class PendingChanges {
+        private final Set<Long> userIds = new LinkedHashSet<>();
+        private final Set<Long> teamIds = new LinkedHashSet<>();
+        private final Set<Long> skillIds = new LinkedHashSet<>();
+        private Set<Long> refreshedUserIds = Set.of();
+    }
+}
@@ -9,6 +9,7 @@ import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import vn.sun.membermanagementsystem.annotation.LogActivity;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
 import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
 import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
 import vn.sun.membermanagementsystem.dto.request.UserUpdateDTO;
@@ -21,10 +22,19 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.UserMapper;
 import vn.sun.membermanagementsystem.repositories.*;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 import vn.sun.membermanagementsystem.services.UserService;
+import vn.sun.membermanagementsystem.services.search.UserSearchText;
 
+import java.math.BigDecimal;
 import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 @Slf4j
 @Service
@@ -37,6 +47,11 @@ public class UserServiceImpl implements UserService {
     private final SkillRepository skillRepository;
     private final UserPositionHistoryRepository userPositionHistoryRepository;
     private final UserSkillRepository userSkillRepository;
+    private final TokenEpochRegistry tokenEpochRegistry;
+    private final UserProfileQueryRepository userProfileQueryRepository;
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserDirectoryService userDirectoryService;
+    private final UserBulkUpdateRepository userBulkUpdateRepository;
 
     @Value("${default.user.password:123456}")
     private String defaultPassword;
@@ -75,6 +90,7 @@ public class UserServiceImpl implements UserService {
         user.setUpdatedAt(LocalDateTime.now());
 
         User savedUser = userRepository.save(user);
+        userDirectoryService.markUserChanged(savedUser.getId());
         log.info("User created successfully with ID: {}", savedUser.getId());
 
         // Tạo Position History nếu có positionId
@@ -111,17 +127,13 @@ public class UserServiceImpl implements UserService {
             log.info("Skills added for user ID: {}, count: {}", savedUser.getId(), userCreateDTO.getSkills().size());
         }
 
-        // Reload user with all associations for complete DTO
-        userRepository.findByIdWithProjects(savedUser.getId());
-        userRepository.findByIdWithPositionHistories(savedUser.getId());
-        userRepository.findByIdWithSkills(savedUser.getId());
-
-        return userMapper.toProfileDetailDTO(savedUser);
+        return loadProfile(savedUser.getId());
     }
 
     @Override
     @Transactional
-    @LogActivity(action = "EDIT_USER", entityType = "USER", description = "Update user information")
+    @LogActivity(action = "EDIT_USER", entityType = "USER", description = "Update user information",
+            entityId = "#p0.id")
     public UserProfileDetailDTO updateUser(UserUpdateDTO userUpdateDTO) {
         log.info("Updating user with ID: {}", userUpdateDTO.getId());
 
@@ -131,6 +143,9 @@ public class UserServiceImpl implements UserService {
                     return new ResourceNotFoundException("User not found with ID: " + userUpdateDTO.getId());
                 });
 
+        // Anything a JWT depends on moves the token epoch, which invalidates tokens issued before
+        boolean invalidateTokens = false;
+
         if (userUpdateDTO.getName() != null) {
             user.setName(userUpdateDTO.getName());
         }
@@ -142,6 +157,7 @@ public class UserServiceImpl implements UserService {
                 log.error("Email already exists: {}", userUpdateDTO.getEmail());
                 throw new DuplicateResourceException("Email already exists: " + userUpdateDTO.getEmail());
             }
+            invalidateTokens |= !user.getEmail().equals(userUpdateDTO.getEmail());
             user.setEmail(userUpdateDTO.getEmail());
         }
 
@@ -150,6 +166,7 @@ public class UserServiceImpl implements UserService {
                 throw new IllegalArgumentException("Password must be at least 6 characters");
             }
             user.setPasswordHash(passwordEncoder.encode(userUpdateDTO.getPassword()));
+            invalidateTokens = true;
         }
 
         if (userUpdateDTO.getBirthday() != null) {
@@ -157,15 +174,28 @@ public class UserServiceImpl implements UserService {
         }
 
         if (userUpdateDTO.getRole() != null) {
+            invalidateTokens |= user.getRole() != userUpdateDTO.getRole();
             user.setRole(userUpdateDTO.getRole());
         }
 
+        boolean deactivated = false;
         if (userUpdateDTO.getStatus() != null) {
+            invalidateTokens |= user.getStatus() != userUpdateDTO.getStatus();
+            deactivated = user.getStatus() != UserStatus.INACTIVE && userUpdateDTO.getStatus() == UserStatus.INACTIVE;
             user.setStatus(userUpdateDTO.getStatus());
         }
 
+        if (invalidateTokens) {
+            user.setTokenEpoch(user.getTokenEpoch() + 1);
+            tokenEpochRegistry.evictAfterCommit(user.getId());
+        }
+
         user.setUpdatedAt(LocalDateTime.now());
         User updatedUser = userRepository.save(user);
+        if (deactivated) {
+            userBulkUpdateRepository.closeMemberships(List.of(updatedUser.getId()), LocalDateTime.now());
+        }
+        userDirectoryService.markUserChanged(updatedUser.getId());
         log.info("User basic info updated successfully with ID: {}", updatedUser.getId());
 
         // Cập nhật Position nếu có thay đổi
@@ -193,43 +223,16 @@ public class UserServiceImpl implements UserService {
 
         // Cập nhật Skills nếu có thay đổi
         if (userUpdateDTO.getSkills() != null) {
-            // Xóa tất cả skills hiện tại
-            List<UserSkill> currentSkills = userSkillRepository.findByUserId(user.getId());
-            userSkillRepository.deleteAll(currentSkills);
-            userSkillRepository.flush();
-            log.info("Removed {} existing skills for user ID: {}", currentSkills.size(), user.getId());
-
-            // Thêm skills mới
-            if (!userUpdateDTO.getSkills().isEmpty()) {
-                for (UserUpdateDTO.SkillEntry skillEntry : userUpdateDTO.getSkills()) {
-                    Skill skill = skillRepository.findByIdAndNotDeleted(skillEntry.getSkillId())
-                            .orElseThrow(() -> new ResourceNotFoundException(
-                                    "Skill not found with ID: " + skillEntry.getSkillId()));
-
-                    UserSkill userSkill = new UserSkill();
-                    userSkill.setUser(updatedUser);
-                    userSkill.setSkill(skill);
-                    userSkill.setLevel(skillEntry.getLevel() != null ? skillEntry.getLevel() : UserSkill.Level.BEGINNER);
-                    userSkill.setUsedYearNumber(skillEntry.getUsedYearNumber());
-                    userSkill.setCreatedAt(LocalDateTime.now());
-                    userSkill.setUpdatedAt(LocalDateTime.now());
-                    userSkillRepository.save(userSkill);
-                }
-                log.info("Added {} new skills for user ID: {}", userUpdateDTO.getSkills().size(), user.getId());
-            }
+            mergeSkills(updatedUser, userUpdateDTO.getSkills());
         }
 
-        // Reload user with all associations for complete DTO
-        userRepository.findByIdWithProjects(updatedUser.getId());
-        userRepository.findByIdWithPositionHistories(updatedUser.getId());
-        userRepository.findByIdWithSkills(updatedUser.getId());
-
-        return userMapper.toProfileDetailDTO(updatedUser);
+        return loadProfile(updatedUser.getId());
     }
 
     @Override
     @Transactional
-    @LogActivity(action = "DELETE_USER", entityType = "USER", description = "Delete user")
+    @LogActivity(action = "DELETE_USER", entityType = "USER", description = "Delete user",
+            entityId = "#userId")
     public boolean deleteUser(Long userId) {
         log.info("Deleting user with ID: {}", userId);
 
@@ -243,7 +246,11 @@ public class UserServiceImpl implements UserService {
         String deletedSuffix = "_deleted_" + now.toEpochSecond(java.time.ZoneOffset.UTC);
         user.setEmail(user.getEmail() + deletedSuffix);
         user.setDeletedAt(now);
+        user.setTokenEpoch(user.getTokenEpoch() + 1);
         userRepository.save(user);
+        userBulkUpdateRepository.closeMemberships(List.of(userId), now);
+        tokenEpochRegistry.evictAfterCommit(userId);
+        userDirectoryService.markUserChanged(userId);
 
         log.info("User deleted successfully with ID: {}", userId);
         return true;
@@ -254,18 +261,102 @@ public class UserServiceImpl implements UserService {
     public UserProfileDetailDTO getUserDetailById(Long userId) {
         log.info("Getting user detail with ID: {}", userId);
 
-        User user = userRepository.findByIdAndNotDeleted(userId)
+        long startNanos = System.nanoTime();
+        UserProfileDetailDTO profile = userProfileQueryRepository.findProfileById(userId)
                 .orElseThrow(() -> {
                     log.error("User not found with ID: {}", userId);
                     return new ResourceNotFoundException("User not found with ID: " + userId);
                 });
+        log.debug("Profile of user {} assembled in {} µs", userId, (System.nanoTime() - startNanos) / 1000);
+        return profile;
+    }
 
-        userRepository.findByIdWithTeams(userId);
-        userRepository.findByIdWithProjects(userId);
-        userRepository.findByIdWithPositionHistories(userId);
-        userRepository.findByIdWithSkills(userId);
+    /**
+     * Applies the requested skill list as a diff against the stored rows: new skills are inserted,
+     * changed levels or years updated, missing ones deleted, untouched rows are left alone.
+     * All requested skills are resolved with one IN query.
+     */
+    private void mergeSkills(User user, List<UserUpdateDTO.SkillEntry> entries) {
+        Map<Long, UserUpdateDTO.SkillEntry> requested = new LinkedHashMap<>();
+        for (UserUpdateDTO.SkillEntry entry : entries) {
+            if (entry.getSkillId() == null) {
+                throw new IllegalArgumentException("Skill id is required");
+            }
+            requested.put(entry.getSkillId(), entry);
+        }
+
+        Map<Long, Skill> skills = new HashMap<>();
+        if (!requested.isEmpty()) {
+            for (Skill skill : skillRepository.findAllByIdInAndNotDeleted(requested.keySet())) {
+                skills.put(skill.getId(), skill);
+            }
+            for (Long skillId : requested.keySet()) {
+                if (!skills.containsKey(skillId)) {
+                    throw new ResourceNotFoundException("Skill not found with ID: " + skillId);
+                }
+            }
+        }
+
+        LocalDateTime now = LocalDateTime.now();
+        List<UserSkill> removed = new ArrayList<>();
+        List<UserSkill> changed = new ArrayList<>();
+        Set<Long> kept = new HashSet<>();
+        for (UserSkill current : userSkillRepository.findByUserId(user.getId())) {
+            UserUpdateDTO.SkillEntry entry = requested.get(current.getSkill().getId());
+            if (entry == null) {
+                removed.add(current);
+                continue;
+            }
+            kept.add(current.getSkill().getId());
+            UserSkill.Level level = entry.getLevel() != null ? entry.getLevel() : UserSkill.Level.BEGINNER;
+            if (current.getLevel() != level || !sameYears(current.getUsedYearNumber(), entry.getUsedYearNumber())) {
+                current.setLevel(level);
+                current.setUsedYearNumber(entry.getUsedYearNumber());
+                current.setUpdatedAt(now);
+                changed.add(current);
+            }
+        }
+
+        for (UserUpdateDTO.SkillEntry entry : requested.values()) {
+            if (kept.contains(entry.getSkillId())) {
+                continue;
+            }
+            UserSkill userSkill = new UserSkill();
+            userSkill.setUser(user);
+            userSkill.setSkill(skills.get(entry.getSkillId()));
+            userSkill.setLevel(entry.getLevel() != null ? entry.getLevel() : UserSkill.Level.BEGINNER);
+            userSkill.setUsedYearNumber(entry.getUsedYearNumber());
+            userSkill.setCreatedAt(now);
+            userSkill.setUpdatedAt(now);
+            changed.add(userSkill);
+        }
+
+        if (!removed.isEmpty()) {
+            userSkillRepository.deleteAllInBatch(removed);
+        }
+        if (!changed.isEmpty()) {
+            userSkillRepository.saveAll(changed);
+        }
+        int added = requested.size() - kept.size();
+        log.info("Merged skills for user ID: {} - {} added, {} updated, {} removed", user.getId(),
+                added, changed.size() - added, removed.size());
+    }
+
+    private static boolean sameYears(BigDecimal current, BigDecimal requested) {
+        if (current == null || requested == null) {
+            return current == requested;
+        }
+        return current.compareTo(requested) == 0;
+    }
 
-        return userMapper.toProfileDetailDTO(user);
+    /**
+     * Re-reads the profile written in the current transaction through the two-statement read path.
+     * Pending entity changes are flushed first so the JDBC read on the same connection sees them.
+     */
+    private UserProfileDetailDTO loadProfile(Long userId) {
+        userRepository.flush();
+        return userProfileQueryRepository.findProfileById(userId)
+                .orElseThrow(() -> new ResourceNotFoundException("User not found with ID: " + userId));
     }
 
     @Override
@@ -333,8 +424,7 @@ public class UserServiceImpl implements UserService {
         log.info("Getting all users for list with pagination: page={}, size={}", pageable.getPageNumber(),
                 pageable.getPageSize());
 
-        Page<User> users = userRepository.findAllNotDeleted(pageable);
-        return users.map(userMapper::toListItemDTO);
+        return userDirectoryRepository.findAll(pageable).map(userMapper::toListItemDTO);
     }
 
     @Override
@@ -343,8 +433,9 @@ public class UserServiceImpl implements UserService {
         log.info("Searching users for list with keyword={}, status={}, role={}, page={}, size={}",
                 keyword, status, role, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<User> users = userRepository.searchUsers(keyword, status, role, pageable);
-        return users.map(userMapper::toListItemDTO);
+        return userDirectoryRepository.search(UserSearchText.toMatchQuery(keyword),
+                UserSearchText.toLikePattern(keyword), status, role, null, pageable)
+                .map(userMapper::toListItemDTO);
     }
 
     @Override
@@ -354,7 +445,8 @@ public class UserServiceImpl implements UserService {
         log.info("Searching users for list with keyword={}, status={}, role={}, teamId={}, page={}, size={}",
                 keyword, status, role, teamId, pageable.getPageNumber(), pageable.getPageSize());
 
-        Page<User> users = userRepository.searchUsersWithTeam(keyword, status, role, teamId, pageable);
-        return users.map(userMapper::toListItemDTO);
+        return userDirectoryRepository.search(UserSearchText.toMatchQuery(keyword),
+                UserSearchText.toLikePattern(keyword), status, role, teamId, pageable)
+                .map(userMapper::toListItemDTO);
     }
 }
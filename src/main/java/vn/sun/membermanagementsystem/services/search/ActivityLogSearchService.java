@@ -0,0 +1,44 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.Pageable;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+public interface ActivityLogSearchService {
+
+    /**
+     * Full-text search over description and user agent, ranked by relevance then recency.
+     * Every term of the query must match; the other filters are applied on the indexed metadata.
+     */
+    Page<ActivityLogDTO> search(String query, String entityType, LocalDate fromDate, LocalDate toDate,
+                                Pageable pageable);
+
+    /**
+     * Rebuilds the index from the activity_logs table. Entries written while the rebuild runs are kept.
+     *
+     * @return number of indexed documents
+     */
+    int rebuild();
+
+    void remove(Long id);
+
+    /**
+     * Forgets every entry created before the cutoff, for rows that left the table with a dropped partition.
+     */
+    void removeCreatedBefore(LocalDateTime cutoff);
+
+    void clear();
+
+    /**
+     * Start of the searchable window: logs created before it are outside the index, either older than
+     * the configured days or pushed out by the document limit.
+     */
+    LocalDateTime getCoveredSince();
+
+    boolean isReady();
+
+    int getIndexedCount();
+}
@@ -0,0 +1,383 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.PriorityQueue;
+import java.util.Set;
+import java.util.function.LongPredicate;
+import java.util.function.Predicate;
+
+/**
+ * Compact in-memory inverted index over the free-text fields of activity logs.
+ * Each term maps to a sorted array of postings; a posting packs the document id with a two-bit mask
+ * telling which field(s) contained the term. Queries are conjunctive and ranked by idf-weighted field hits,
+ * newest first on ties.
+ * Not thread-safe: callers guard it with a read/write lock.
+ */
+public class InvertedIndex {
+
+    public static final int FIELD_DESCRIPTION = 1;
+    public static final int FIELD_USER_AGENT = 2;
+
+    private static final int MIN_TOKEN_LENGTH = 2;
+    private static final int MAX_TOKEN_LENGTH = 64;
+
+    public record Document(long id, String entityType, long createdAtEpochSecond) {
+    }
+
+    public record Hits(long total, List<Long> ids) {
+    }
+
+    private record Entry(Document document, int termCount) {
+    }
+
+    private record ScoredId(long id, double score) {
+    }
+
+    private static final Comparator<ScoredId> RANKING = Comparator.comparingDouble(ScoredId::score)
+            .thenComparingLong(ScoredId::id);
+
+    private final Map<String, Postings> postings = new HashMap<>();
+    private final Map<Long, Entry> entries = new HashMap<>();
+    private final ArrayDeque<Document> insertionOrder = new ArrayDeque<>();
+    private long livePostings;
+    private long stalePostings;
+    private long evictedUpToEpochSecond = Long.MIN_VALUE;
+
+    public boolean add(Document document, String description, String userAgent) {
+        if (entries.containsKey(document.id())) {
+            return false;
+        }
+
+        Map<String, Integer> masks = new LinkedHashMap<>();
+        for (String term : tokenize(description)) {
+            masks.merge(term, FIELD_DESCRIPTION, (a, b) -> a | b);
+        }
+        for (String term : tokenize(userAgent)) {
+            masks.merge(term, FIELD_USER_AGENT, (a, b) -> a | b);
+        }
+
+        masks.forEach((term, mask) -> postings.computeIfAbsent(term, t -> new Postings())
+                .add((document.id() << 2) | mask));
+        livePostings += masks.size();
+        entries.put(document.id(), new Entry(document, masks.size()));
+        insertionOrder.addLast(document);
+        return true;
+    }
+
+    public boolean remove(long id) {
+        Entry entry = entries.remove(id);
+        if (entry == null) {
+            return false;
+        }
+        livePostings -= entry.termCount();
+        stalePostings += entry.termCount();
+        compactIfNeeded();
+        return true;
+    }
+
+    /**
+     * Drops every document created before the given time, whatever its position in insertion order.
+     */
+    public int removeCreatedBefore(long createdAtEpochSecond) {
+        int removed = 0;
+        Iterator<Map.Entry<Long, Entry>> iterator = entries.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Entry entry = iterator.next().getValue();
+            if (entry.document().createdAtEpochSecond() < createdAtEpochSecond) {
+                iterator.remove();
+                livePostings -= entry.termCount();
+                stalePostings += entry.termCount();
+                removed++;
+            }
+        }
+        if (removed > 0) {
+            compactIfNeeded();
+        }
+        return removed;
+    }
+
+    /**
+     * Drops the oldest documents until at most {@code maxDocuments} remain or the oldest one is not older than the cutoff.
+     */
+    public int evict(int maxDocuments, long minCreatedAtEpochSecond) {
+        int evicted = 0;
+        while (!insertionOrder.isEmpty()) {
+            Document oldest = insertionOrder.peekFirst();
+            Entry entry = entries.get(oldest.id());
+            if (entry != null && entry.document() != oldest) {
+                // Re-added under the same id, the live copy sits further down the queue
+                insertionOrder.pollFirst();
+                continue;
+            }
+            if (entry != null && entries.size() <= maxDocuments
+                    && oldest.createdAtEpochSecond() >= minCreatedAtEpochSecond) {
+                break;
+            }
+            insertionOrder.pollFirst();
+            if (entry != null) {
+                evictedUpToEpochSecond = Math.max(evictedUpToEpochSecond, oldest.createdAtEpochSecond());
+                entries.remove(oldest.id());
+                livePostings -= entry.termCount();
+                stalePostings += entry.termCount();
+                evicted++;
+            }
+        }
+        if (evicted > 0) {
+            compactIfNeeded();
+        }
+        return evicted;
+    }
+
+    /**
+     * Newest creation time among the documents {@link #evict} has dropped, Long.MIN_VALUE when none was:
+     * documents created up to then may be missing from the index.
+     */
+    public long getEvictedUpToEpochSecond() {
+        return evictedUpToEpochSecond;
+    }
+
+    public Hits search(String query, Predicate<Document> filter, int offset, int limit) {
+        Set<String> terms = tokenize(query);
+        if (terms.isEmpty()) {
+            return new Hits(0, Collections.emptyList());
+        }
+
+        List<Postings> lists = new ArrayList<>(terms.size());
+        for (String term : terms) {
+            Postings list = postings.get(term);
+            if (list == null) {
+                return new Hits(0, Collections.emptyList());
+            }
+            lists.add(list);
+        }
+        lists.sort(Comparator.comparingInt(Postings::size));
+
+        double documentCount = Math.max(1, entries.size());
+        double[] idf = new double[lists.size()];
+        for (int i = 0; i < lists.size(); i++) {
+            idf[i] = Math.log(1 + documentCount / lists.get(i).size());
+        }
+
+        int window = offset + limit;
+        PriorityQueue<ScoredId> top = new PriorityQueue<>(Math.max(1, window), RANKING);
+        long total = 0;
+
+        Postings driver = lists.get(0);
+        for (int p = 0; p < driver.size(); p++) {
+            long posting = driver.get(p);
+            long id = posting >>> 2;
+            Entry entry = entries.get(id);
+            if (entry == null || !filter.test(entry.document())) {
+                continue;
+            }
+
+            double score = idf[0] * fieldWeight((int) (posting & 3));
+            boolean matched = true;
+            for (int i = 1; i < lists.size() && matched; i++) {
+                long other = lists.get(i).find(id);
+                if (other < 0) {
+                    matched = false;
+                } else {
+                    score += idf[i] * fieldWeight((int) (other & 3));
+                }
+            }
+            if (!matched) {
+                continue;
+            }
+
+            total++;
+            if (window > 0) {
+                ScoredId candidate = new ScoredId(id, score);
+                if (top.size() < window) {
+                    top.add(candidate);
+                } else if (RANKING.compare(candidate, top.peek()) > 0) {
+                    top.poll();
+                    top.add(candidate);
+                }
+            }
+        }
+
+        List<ScoredId> ranked = new ArrayList<>(top);
+        ranked.sort(RANKING.reversed());
+        List<Long> ids = new ArrayList<>(Math.max(0, ranked.size() - offset));
+        for (int i = offset; i < ranked.size(); i++) {
+            ids.add(ranked.get(i).id());
+        }
+        return new Hits(total, ids);
+    }
+
+    public int size() {
+        return entries.size();
+    }
+
+    public int termCount() {
+        return postings.size();
+    }
+
+    /**
+     * Lower-cases the text and splits it on anything that is not a letter, digit or one of {@code @._-}.
+     * Compound tokens such as e-mail addresses are indexed whole and as their parts.
+     */
+    public static Set<String> tokenize(String text) {
+        Set<String> tokens = new LinkedHashSet<>();
+        if (text == null || text.isBlank()) {
+            return tokens;
+        }
+
+        String lower = text.toLowerCase(Locale.ROOT);
+        int length = lower.length();
+        int i = 0;
+        while (i < length) {
+            while (i < length && !isTokenChar(lower.charAt(i))) {
+                i++;
+            }
+            int start = i;
+            while (i < length && isTokenChar(lower.charAt(i))) {
+                i++;
+            }
+            if (i > start) {
+                addToken(tokens, lower.substring(start, i));
+            }
+        }
+        return tokens;
+    }
+
+    private static void addToken(Set<String> tokens, String raw) {
+        int start = 0;
+        int end = raw.length();
+        while (start < end && isConnector(raw.charAt(start))) {
+            start++;
+        }
+        while (end > start && isConnector(raw.charAt(end - 1))) {
+            end--;
+        }
+        if (start == end) {
+            return;
+        }
+
+        String token = raw.substring(start, end);
+        addIfIndexable(tokens, token);
+
+        boolean compound = false;
+        for (int i = 0; i < token.length() && !compound; i++) {
+            compound = isConnector(token.charAt(i));
+        }
+        if (compound) {
+            for (String part : token.split("[@._-]+")) {
+                addIfIndexable(tokens, part);
+            }
+        }
+    }
+
+    private static void addIfIndexable(Set<String> tokens, String token) {
+        if (token.length() >= MIN_TOKEN_LENGTH && token.length() <= MAX_TOKEN_LENGTH) {
+            tokens.add(token);
+        }
+    }
+
+    private static boolean isTokenChar(char c) {
+        return Character.isLetterOrDigit(c) || isConnector(c);
+    }
+
+    private static boolean isConnector(char c) {
+        return c == '@' || c == '.' || c == '_' || c == '-';
+    }
+
+    private static double fieldWeight(int mask) {
+        double weight = 0;
+        if ((mask & FIELD_DESCRIPTION) != 0) {
+            weight += 2;
+        }
+        if ((mask & FIELD_USER_AGENT) != 0) {
+            weight += 1;
+        }
+        return weight;
+    }
+
+    private void compactIfNeeded() {
+        if (stalePostings == 0 || stalePostings < livePostings) {
+            return;
+        }
+        Iterator<Map.Entry<String, Postings>> iterator = postings.entrySet().iterator();
+        while (iterator.hasNext()) {
+            Postings list = iterator.next().getValue();
+            list.retainIf(posting -> entries.containsKey(posting >>> 2));
+            if (list.size() == 0) {
+                iterator.remove();
+            }
+        }
+        stalePostings = 0;
+    }
+
+    /**
+     * Growable sorted array of packed postings.
+     */
+    private static final class Postings {
+
+        private long[] values = new long[4];
+        private int size;
+
+        void add(long posting) {
+            if (size == values.length) {
+                values = Arrays.copyOf(values, size + (size >> 1) + 1);
+            }
+            if (size == 0 || values[size - 1] < posting) {
+                values[size++] = posting;
+                return;
+            }
+            // Out-of-order id, keep the array sorted
+            int index = Arrays.binarySearch(values, 0, size, posting);
+            if (index >= 0) {
+                return;
+            }
+            int insertAt = -index - 1;
+            System.arraycopy(values, insertAt, values, insertAt + 1, size - insertAt);
+            values[insertAt] = posting;
+            size++;
+        }
+
+        long get(int index) {
+            return values[index];
+        }
+
+        int size() {
+            return size;
+        }
+
+        /**
+         * @return the posting for the document id, or -1 if the term does not occur in it
+         */
+        long find(long id) {
+            int index = Arrays.binarySearch(values, 0, size, id << 2);
+            int candidate = index >= 0 ? index : -index - 1;
+            if (candidate < size && values[candidate] >>> 2 == id) {
+                return values[candidate];
+            }
+            return -1;
+        }
+
+        void retainIf(LongPredicate keep) {
+            int kept = 0;
+            for (int i = 0; i < size; i++) {
+                if (keep.test(values[i])) {
+                    values[kept++] = values[i];
+                }
+            }
+            size = kept;
+            if (values.length > 16 && size < values.length / 4) {
+                values = Arrays.copyOf(values, Math.max(4, size * 2));
+            }
+        }
+    }
+}
@@ -0,0 +1,266 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * In-memory skill inventory. For every (skill, level, years-of-use bucket) it keeps a {@link UserIdBitmap}
+ * of the users holding the skill at that level with that much experience, plus one bitmap per user status
+ * and per team holding every user with an active membership in it. A criterion "skill at level >= L with >= Y years" is the OR of the buckets at or
+ * above (L, Y); only the bucket straddling Y is checked user by user against the exact years.
+ * Criteria combine with AND/OR and the result is intersected with the status and team bitmaps.
+ * Not thread-safe: callers guard it with a read/write lock.
+ */
+public class SkillInventoryIndex {
+
+    /** Lower bounds of the years buckets in hundredths of a year, the scale of used_year_number. */
+    private static final int[] YEARS_BUCKET_FLOORS = {0, 100, 200, 300, 500, 1000};
+    private static final UserSkill.Level[] LEVELS = UserSkill.Level.values();
+    private static final int BUCKETS_PER_SKILL = LEVELS.length * YEARS_BUCKET_FLOORS.length;
+
+    public record SkillEntry(long skillId, UserSkill.Level level, BigDecimal usedYearNumber) {
+    }
+
+    /** teamIds are the teams the user is an active member of, empty when none. */
+    public record UserEntry(long userId, UserStatus status, List<Long> teamIds, List<SkillEntry> skills) {
+    }
+
+    public sealed interface Query permits Criterion, And, Or {
+    }
+
+    /** Users with the skill at minLevel or above and at least minYears of use; null bounds match any. */
+    public record Criterion(long skillId, UserSkill.Level minLevel, BigDecimal minYears) implements Query {
+    }
+
+    public record And(List<Query> clauses) implements Query {
+    }
+
+    public record Or(List<Query> clauses) implements Query {
+    }
+
+    public record Hits(long total, List<Long> ids) {
+    }
+
+    /** What was indexed for a user, needed to take it out again. skillIds is sorted. */
+    private record IndexedUser(UserStatus status, long[] teamIds, long[] skillIds, int[] buckets, int[] years) {
+    }
+
+    private final Map<Long, UserIdBitmap[]> bucketsBySkill = new HashMap<>();
+    private final Map<Integer, IndexedUser> users = new HashMap<>();
+    private final Map<UserStatus, UserIdBitmap> byStatus = new EnumMap<>(UserStatus.class);
+    private final Map<Long, UserIdBitmap> byTeam = new HashMap<>();
+
+    /** Indexes the user, replacing whatever was indexed for it before. */
+    public void put(UserEntry entry) {
+        int userId = toIntId(entry.userId());
+        remove(entry.userId());
+
+        List<SkillEntry> skills = new ArrayList<>(entry.skills());
+        skills.sort((a, b) -> Long.compare(a.skillId(), b.skillId()));
+        long[] skillIds = new long[skills.size()];
+        int[] buckets = new int[skills.size()];
+        int[] years = new int[skills.size()];
+        for (int i = 0; i < skills.size(); i++) {
+            SkillEntry skill = skills.get(i);
+            skillIds[i] = skill.skillId();
+            years[i] = toHundredths(skill.usedYearNumber(), RoundingMode.FLOOR);
+            buckets[i] = levelOrdinal(skill.level()) * YEARS_BUCKET_FLOORS.length + yearsBucket(years[i]);
+            UserIdBitmap[] skillBuckets = bucketsBySkill.computeIfAbsent(skill.skillId(),
+                    id -> new UserIdBitmap[BUCKETS_PER_SKILL]);
+            if (skillBuckets[buckets[i]] == null) {
+                skillBuckets[buckets[i]] = new UserIdBitmap();
+            }
+            skillBuckets[buckets[i]].add(userId);
+        }
+
+        if (entry.status() != null) {
+            byStatus.computeIfAbsent(entry.status(), status -> new UserIdBitmap()).add(userId);
+        }
+        long[] teamIds = entry.teamIds() != null
+                ? entry.teamIds().stream().filter(Objects::nonNull).mapToLong(Long::longValue).distinct().toArray()
+                : new long[0];
+        for (long teamId : teamIds) {
+            byTeam.computeIfAbsent(teamId, id -> new UserIdBitmap()).add(userId);
+        }
+        users.put(userId, new IndexedUser(entry.status(), teamIds, skillIds, buckets, years));
+    }
+
+    public void remove(long userId) {
+        int id = toIntId(userId);
+        IndexedUser indexed = users.remove(id);
+        if (indexed == null) {
+            return;
+        }
+        for (int i = 0; i < indexed.skillIds().length; i++) {
+            long skillId = indexed.skillIds()[i];
+            UserIdBitmap[] skillBuckets = bucketsBySkill.get(skillId);
+            UserIdBitmap bitmap = skillBuckets != null ? skillBuckets[indexed.buckets()[i]] : null;
+            if (bitmap != null && bitmap.remove(id) && bitmap.isEmpty()) {
+                skillBuckets[indexed.buckets()[i]] = null;
+                if (Arrays.stream(skillBuckets).allMatch(bucket -> bucket == null)) {
+                    bucketsBySkill.remove(skillId);
+                }
+            }
+        }
+        if (indexed.status() != null) {
+            removeFrom(byStatus, indexed.status(), id);
+        }
+        for (long teamId : indexed.teamIds()) {
+            removeFrom(byTeam, teamId, id);
+        }
+    }
+
+    /**
+     * Evaluates the query, keeps the users matching the optional status and team filters and returns
+     * one page of their ids, ascending.
+     */
+    public Hits search(Query query, UserStatus status, Long teamId, int offset, int limit) {
+        UserIdBitmap matches = evaluate(query);
+        if (status != null && !matches.isEmpty()) {
+            matches = UserIdBitmap.and(matches, byStatus.getOrDefault(status, new UserIdBitmap()));
+        }
+        if (teamId != null && !matches.isEmpty()) {
+            matches = UserIdBitmap.and(matches, byTeam.getOrDefault(teamId, new UserIdBitmap()));
+        }
+
+        int[] page = matches.toArray(offset, limit);
+        List<Long> ids = new ArrayList<>(page.length);
+        for (int id : page) {
+            ids.add((long) id);
+        }
+        return new Hits(matches.cardinality(), ids);
+    }
+
+    public UserIdBitmap evaluate(Query query) {
+        return switch (query) {
+            case Criterion criterion -> evaluate(criterion);
+            case And and -> {
+                UserIdBitmap result = null;
+                for (Query clause : and.clauses()) {
+                    UserIdBitmap clauseMatches = evaluate(clause);
+                    result = result == null ? clauseMatches : UserIdBitmap.and(result, clauseMatches);
+                    if (result.isEmpty()) {
+                        break;
+                    }
+                }
+                yield result != null ? result : new UserIdBitmap();
+            }
+            case Or or -> {
+                List<UserIdBitmap> clauseMatches = new ArrayList<>(or.clauses().size());
+                for (Query clause : or.clauses()) {
+                    clauseMatches.add(evaluate(clause));
+                }
+                yield UserIdBitmap.or(clauseMatches);
+            }
+        };
+    }
+
+    public int size() {
+        return users.size();
+    }
+
+    public int skillCount() {
+        return bucketsBySkill.size();
+    }
+
+    public long sizeInBytes() {
+        long bytes = 0;
+        for (UserIdBitmap[] skillBuckets : bucketsBySkill.values()) {
+            for (UserIdBitmap bitmap : skillBuckets) {
+                bytes += bitmap != null ? bitmap.sizeInBytes() : 0;
+            }
+        }
+        for (UserIdBitmap bitmap : byStatus.values()) {
+            bytes += bitmap.sizeInBytes();
+        }
+        for (UserIdBitmap bitmap : byTeam.values()) {
+            bytes += bitmap.sizeInBytes();
+        }
+        return bytes;
+    }
+
+    private UserIdBitmap evaluate(Criterion criterion) {
+        UserIdBitmap[] skillBuckets = bucketsBySkill.get(criterion.skillId());
+        if (skillBuckets == null) {
+            return new UserIdBitmap();
+        }
+        List<UserIdBitmap> matching = new ArrayList<>();
+        int minYears = toHundredths(criterion.minYears(), RoundingMode.CEILING);
+        for (int level = levelOrdinal(criterion.minLevel()); level < LEVELS.length; level++) {
+            for (int bucket = 0; bucket < YEARS_BUCKET_FLOORS.length; bucket++) {
+                UserIdBitmap bitmap = skillBuckets[level * YEARS_BUCKET_FLOORS.length + bucket];
+                if (bitmap == null) {
+                    continue;
+                }
+                int floor = YEARS_BUCKET_FLOORS[bucket];
+                int nextFloor = bucket + 1 < YEARS_BUCKET_FLOORS.length ? YEARS_BUCKET_FLOORS[bucket + 1] : Integer.MAX_VALUE;
+                if (floor >= minYears) {
+                    matching.add(bitmap);
+                } else if (nextFloor > minYears) {
+                    matching.add(withMinYears(bitmap, criterion.skillId(), minYears));
+                }
+            }
+        }
+        return UserIdBitmap.or(matching);
+    }
+
+    private UserIdBitmap withMinYears(UserIdBitmap bitmap, long skillId, int minYears) {
+        UserIdBitmap result = new UserIdBitmap();
+        bitmap.forEach(id -> {
+            IndexedUser indexed = users.get(id);
+            int index = Arrays.binarySearch(indexed.skillIds(), skillId);
+            if (indexed.years()[index] >= minYears) {
+                result.add(id);
+            }
+        });
+        return result;
+    }
+
+    private static void removeFrom(Map<?, UserIdBitmap> bitmaps, Object key, int id) {
+        UserIdBitmap bitmap = bitmaps.get(key);
+        if (bitmap != null) {
+            bitmap.remove(id);
+            if (bitmap.isEmpty()) {
+                bitmaps.remove(key);
+            }
+        }
+    }
+
+    private static int yearsBucket(int years) {
+        int bucket = 0;
+        while (bucket + 1 < YEARS_BUCKET_FLOORS.length && YEARS_BUCKET_FLOORS[bucket + 1] <= years) {
+            bucket++;
+        }
+        return bucket;
+    }
+
+    private static int levelOrdinal(UserSkill.Level level) {
+        // Same default as the user_skills.level column
+        return level != null ? level.ordinal() : UserSkill.Level.BEGINNER.ordinal();
+    }
+
+    private static int toHundredths(BigDecimal years, RoundingMode roundingMode) {
+        if (years == null || years.signum() <= 0) {
+            return 0;
+        }
+        BigDecimal hundredths = years.movePointRight(2).setScale(0, roundingMode);
+        return hundredths.compareTo(BigDecimal.valueOf(Integer.MAX_VALUE)) >= 0 ? Integer.MAX_VALUE : hundredths.intValue();
+    }
+
+    private static int toIntId(long userId) {
+        if (userId < 0 || userId > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("User id out of the indexable range: " + userId);
+        }
+        return (int) userId;
+    }
+}
@@ -0,0 +1,25 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.springframework.data.domain.Pageable;
+import vn.sun.membermanagementsystem.dto.request.SkillSearchRequest;
+import vn.sun.membermanagementsystem.dto.response.SkillSearchResultDTO;
+
+public interface SkillInventoryService {
+
+    /**
+     * Finds the live users matching the skill query and the optional status and team filters,
+     * in ascending id order. The query is answered from memory; only the page rows are read from the database.
+     */
+    SkillSearchResultDTO search(SkillSearchRequest request, Pageable pageable);
+
+    /**
+     * Rebuilds the index from the users and user_skills tables. Users changed while the rebuild runs are reloaded after it.
+     *
+     * @return number of indexed users
+     */
+    int rebuild();
+
+    boolean isReady();
+
+    int getIndexedCount();
+}
@@ -0,0 +1,417 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.function.IntConsumer;
+
+/**
+ * Compressed set of non-negative int ids with the Roaring bitmap layout. Ids are grouped by their high
+ * 16 bits; a group keeps its low 16 bits in a sorted char array while it holds at most 4096 of them and
+ * in a 65536-bit bitmap beyond that, so a group never takes more than 8 KB. AND works group by group on
+ * the compressed forms; OR accumulates each group in a plain bitmap. Both return new bitmaps and leave
+ * their operands untouched.
+ * Not thread-safe: callers guard it with a read/write lock.
+ */
+public final class UserIdBitmap {
+
+    private static final int ARRAY_MAX = 4096;
+    private static final int WORDS = 1024;
+
+    private char[] keys = new char[4];
+    private Container[] containers = new Container[4];
+    private int size;
+
+    public boolean add(int id) {
+        checkId(id);
+        char key = (char) (id >>> 16);
+        int index = Arrays.binarySearch(keys, 0, size, key);
+        if (index < 0) {
+            index = -index - 1;
+            insertContainer(index, key, new Container());
+        }
+        return containers[index].add((char) id);
+    }
+
+    public boolean remove(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        if (index < 0) {
+            return false;
+        }
+        Container container = containers[index];
+        boolean removed = container.remove((char) id);
+        if (container.cardinality == 0) {
+            System.arraycopy(keys, index + 1, keys, index, size - index - 1);
+            System.arraycopy(containers, index + 1, containers, index, size - index - 1);
+            containers[--size] = null;
+        }
+        return removed;
+    }
+
+    public boolean contains(int id) {
+        if (id < 0) {
+            return false;
+        }
+        int index = Arrays.binarySearch(keys, 0, size, (char) (id >>> 16));
+        return index >= 0 && containers[index].contains((char) id);
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int cardinality() {
+        int cardinality = 0;
+        for (int i = 0; i < size; i++) {
+            cardinality += containers[i].cardinality;
+        }
+        return cardinality;
+    }
+
+    /** Visits the ids in ascending order. */
+    public void forEach(IntConsumer consumer) {
+        for (int i = 0; i < size; i++) {
+            containers[i].forEach(keys[i] << 16, consumer);
+        }
+    }
+
+    /**
+     * Returns up to limit ids in ascending order, skipping the first offset ones.
+     * Whole groups are skipped by their cardinality without being decoded.
+     */
+    public int[] toArray(int offset, int limit) {
+        int[] result = new int[Math.max(0, Math.min(limit, cardinality() - offset))];
+        int skip = offset;
+        int filled = 0;
+        for (int i = 0; i < size && filled < result.length; i++) {
+            Container container = containers[i];
+            if (skip >= container.cardinality) {
+                skip -= container.cardinality;
+                continue;
+            }
+            filled = container.copyTo(keys[i] << 16, skip, result, filled);
+            skip = 0;
+        }
+        return result;
+    }
+
+    /** Approximate heap used by the groups' payloads, in bytes. */
+    public long sizeInBytes() {
+        long bytes = (long) keys.length * Character.BYTES;
+        for (int i = 0; i < size; i++) {
+            Container container = containers[i];
+            bytes += container.words != null ? (long) WORDS * Long.BYTES : (long) container.values.length * Character.BYTES;
+        }
+        return bytes;
+    }
+
+    public static UserIdBitmap and(UserIdBitmap left, UserIdBitmap right) {
+        UserIdBitmap result = new UserIdBitmap();
+        int i = 0;
+        int j = 0;
+        while (i < left.size && j < right.size) {
+            char leftKey = left.keys[i];
+            char rightKey = right.keys[j];
+            if (leftKey < rightKey) {
+                i++;
+            } else if (leftKey > rightKey) {
+                j++;
+            } else {
+                Container container = Container.and(left.containers[i], right.containers[j]);
+                if (container.cardinality > 0) {
+                    result.appendContainer(leftKey, container);
+                }
+                i++;
+                j++;
+            }
+        }
+        return result;
+    }
+
+    public static UserIdBitmap or(UserIdBitmap left, UserIdBitmap right) {
+        return or(List.of(left, right));
+    }
+
+    /**
+     * Union of any number of bitmaps in one pass: each group is accumulated into a scratch 65536-bit
+     * bitmap and compressed once, instead of merging the partial result again for every operand.
+     */
+    public static UserIdBitmap or(Collection<UserIdBitmap> bitmaps) {
+        int keyCount = 0;
+        for (UserIdBitmap bitmap : bitmaps) {
+            keyCount += bitmap.size;
+        }
+        char[] allKeys = new char[keyCount];
+        int filled = 0;
+        for (UserIdBitmap bitmap : bitmaps) {
+            System.arraycopy(bitmap.keys, 0, allKeys, filled, bitmap.size);
+            filled += bitmap.size;
+        }
+        Arrays.sort(allKeys);
+
+        UserIdBitmap result = new UserIdBitmap();
+        long[] scratch = new long[WORDS];
+        for (int i = 0; i < allKeys.length; i++) {
+            char key = allKeys[i];
+            if (i > 0 && allKeys[i - 1] == key) {
+                continue;
+            }
+            Arrays.fill(scratch, 0L);
+            for (UserIdBitmap bitmap : bitmaps) {
+                int index = Arrays.binarySearch(bitmap.keys, 0, bitmap.size, key);
+                if (index >= 0) {
+                    bitmap.containers[index].orInto(scratch);
+                }
+            }
+            result.appendContainer(key, Container.fromWords(scratch));
+        }
+        return result;
+    }
+
+    private void insertContainer(int index, char key, Container container) {
+        ensureCapacity(size + 1);
+        System.arraycopy(keys, index, keys, index + 1, size - index);
+        System.arraycopy(containers, index, containers, index + 1, size - index);
+        keys[index] = key;
+        containers[index] = container;
+        size++;
+    }
+
+    private void appendContainer(char key, Container container) {
+        ensureCapacity(size + 1);
+        keys[size] = key;
+        containers[size] = container;
+        size++;
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity > keys.length) {
+            int grown = Math.max(capacity, keys.length * 2);
+            keys = Arrays.copyOf(keys, grown);
+            containers = Arrays.copyOf(containers, grown);
+        }
+    }
+
+    private static void checkId(int id) {
+        if (id < 0) {
+            throw new IllegalArgumentException("Negative id: " + id);
+        }
+    }
+
+    /**
+     * The low 16 bits of one group: a sorted array (values, first cardinality entries used) or,
+     * past ARRAY_MAX entries, a bitmap (words). Exactly one of the two is set.
+     */
+    private static final class Container {
+
+        private char[] values = new char[4];
+        private long[] words;
+        private int cardinality;
+
+        boolean contains(char value) {
+            if (words != null) {
+                return (words[value >>> 6] & (1L << value)) != 0;
+            }
+            return Arrays.binarySearch(values, 0, cardinality, value) >= 0;
+        }
+
+        boolean add(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                long after = before | (1L << value);
+                words[value >>> 6] = after;
+                if (before != after) {
+                    cardinality++;
+                    return true;
+                }
+                return false;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index >= 0) {
+                return false;
+            }
+            if (cardinality == ARRAY_MAX) {
+                toBitmap();
+                return add(value);
+            }
+            index = -index - 1;
+            if (cardinality == values.length) {
+                values = Arrays.copyOf(values, Math.min(ARRAY_MAX, values.length * 2));
+            }
+            System.arraycopy(values, index, values, index + 1, cardinality - index);
+            values[index] = value;
+            cardinality++;
+            return true;
+        }
+
+        boolean remove(char value) {
+            if (words != null) {
+                long before = words[value >>> 6];
+                long after = before & ~(1L << value);
+                if (before == after) {
+                    return false;
+                }
+                words[value >>> 6] = after;
+                if (--cardinality <= ARRAY_MAX / 2) {
+                    // Half the threshold, so a set hovering around it does not flip form on every change
+                    toArray();
+                }
+                return true;
+            }
+            int index = Arrays.binarySearch(values, 0, cardinality, value);
+            if (index < 0) {
+                return false;
+            }
+            System.arraycopy(values, index + 1, values, index, cardinality - index - 1);
+            cardinality--;
+            return true;
+        }
+
+        void forEach(int high, IntConsumer consumer) {
+            if (words == null) {
+                for (int i = 0; i < cardinality; i++) {
+                    consumer.accept(high | values[i]);
+                }
+                return;
+            }
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    consumer.accept(high | (i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+        }
+
+        int copyTo(int high, int skip, int[] target, int filled) {
+            if (words == null) {
+                for (int i = skip; i < cardinality && filled < target.length; i++) {
+                    target[filled++] = high | values[i];
+                }
+                return filled;
+            }
+            int seen = 0;
+            for (int i = 0; i < WORDS && filled < target.length; i++) {
+                long word = words[i];
+                int count = Long.bitCount(word);
+                if (seen + count <= skip) {
+                    seen += count;
+                    continue;
+                }
+                while (word != 0 && filled < target.length) {
+                    if (seen++ >= skip) {
+                        target[filled++] = high | (i << 6) | Long.numberOfTrailingZeros(word);
+                    }
+                    word &= word - 1;
+                }
+            }
+            return filled;
+        }
+
+        static Container and(Container left, Container right) {
+            if (left.words != null && right.words != null) {
+                Container result = bitmapContainer();
+                int cardinality = 0;
+                for (int i = 0; i < WORDS; i++) {
+                    long word = left.words[i] & right.words[i];
+                    result.words[i] = word;
+                    cardinality += Long.bitCount(word);
+                }
+                result.cardinality = cardinality;
+                if (cardinality <= ARRAY_MAX) {
+                    result.toArray();
+                }
+                return result;
+            }
+            if (left.words != null) {
+                return and(right, left);
+            }
+            Container result = new Container();
+            result.values = new char[Math.max(left.cardinality, 4)];
+            if (right.words != null) {
+                for (int i = 0; i < left.cardinality; i++) {
+                    if (right.contains(left.values[i])) {
+                        result.values[result.cardinality++] = left.values[i];
+                    }
+                }
+                return result;
+            }
+            int i = 0;
+            int j = 0;
+            while (i < left.cardinality && j < right.cardinality) {
+                char leftValue = left.values[i];
+                char rightValue = right.values[j];
+                if (leftValue < rightValue) {
+                    i++;
+                } else if (leftValue > rightValue) {
+                    j++;
+                } else {
+                    result.values[result.cardinality++] = leftValue;
+                    i++;
+                    j++;
+                }
+            }
+            return result;
+        }
+
+        void orInto(long[] target) {
+            if (words != null) {
+                for (int i = 0; i < WORDS; i++) {
+                    target[i] |= words[i];
+                }
+                return;
+            }
+            for (int i = 0; i < cardinality; i++) {
+                char value = values[i];
+                target[value >>> 6] |= 1L << value;
+            }
+        }
+
+        /** Copies the bits into a new container of the appropriate form. */
+        static Container fromWords(long[] bits) {
+            Container result = bitmapContainer();
+            System.arraycopy(bits, 0, result.words, 0, WORDS);
+            for (long word : bits) {
+                result.cardinality += Long.bitCount(word);
+            }
+            if (result.cardinality <= ARRAY_MAX) {
+                result.toArray();
+            }
+            return result;
+        }
+
+        private static Container bitmapContainer() {
+            Container container = new Container();
+            container.values = null;
+            container.words = new long[WORDS];
+            return container;
+        }
+
+        private void toBitmap() {
+            long[] bits = new long[WORDS];
+            for (int i = 0; i < cardinality; i++) {
+                char value = values[i];
+                bits[value >>> 6] |= 1L << value;
+            }
+            words = bits;
+            values = null;
+        }
+
+        private void toArray() {
+            char[] array = new char[Math.max(cardinality, 4)];
+            int count = 0;
+            for (int i = 0; i < WORDS; i++) {
+                long word = words[i];
+                while (word != 0) {
+                    array[count++] = (char) ((i << 6) | Long.numberOfTrailingZeros(word));
+                    word &= word - 1;
+                }
+            }
+            values = array;
+            words = null;
+        }
+    }
+}
@@ -0,0 +1,97 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import java.text.Normalizer;
+
+/**
+ * Folding rules shared by users.search_text and the admin keyword search, so both sides of the
+ * FULLTEXT match see the same characters: diacritics stripped (including the Vietnamese "đ"),
+ * lower-cased, and anything that is not a letter or digit turned into a single space.
+ */
+public final class UserSearchText {
+
+    /** ngram_token_size of the MySQL ngram parser, shorter terms are never indexed. */
+    public static final int MIN_INDEXED_TERM_LENGTH = 2;
+
+    private UserSearchText() {
+    }
+
+    public static String of(String name, String email) {
+        return normalize((name != null ? name : "") + " " + (email != null ? email : ""));
+    }
+
+    public static String normalize(String text) {
+        if (text == null || text.isEmpty()) {
+            return "";
+        }
+
+        String decomposed = Normalizer.normalize(text, Normalizer.Form.NFD);
+        StringBuilder folded = new StringBuilder(decomposed.length());
+        boolean pendingSpace = false;
+        for (int i = 0; i < decomposed.length(); i++) {
+            char c = decomposed.charAt(i);
+            if (Character.getType(c) == Character.NON_SPACING_MARK) {
+                continue;
+            }
+            if (c == '\u0111' || c == '\u0110') { // đ, Đ have no decomposition
+                c = 'd';
+            }
+            if (Character.isLetterOrDigit(c)) {
+                if (pendingSpace && !folded.isEmpty()) {
+                    folded.append(' ');
+                }
+                pendingSpace = false;
+                folded.append(Character.toLowerCase(c));
+            } else {
+                pendingSpace = true;
+            }
+        }
+        return folded.toString();
+    }
+
+    /**
+     * Boolean-mode query requiring every indexable term of the keyword as an ngram phrase,
+     * which gives infix matching. Returns null when no term is long enough to be indexed;
+     * shorter terms are left to {@link #toLikePattern}.
+     */
+    public static String toMatchQuery(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+
+        StringBuilder query = new StringBuilder();
+        for (String term : normalized.split(" ")) {
+            if (term.length() >= MIN_INDEXED_TERM_LENGTH) {
+                if (!query.isEmpty()) {
+                    query.append(' ');
+                }
+                query.append("+\"").append(term).append('"');
+            }
+        }
+        return query.isEmpty() ? null : query.toString();
+    }
+
+    /**
+     * LIKE pattern for the terms the ngram index cannot answer, applied together with {@link #toMatchQuery}.
+     * A keyword made only of one-character terms is matched as a whole ("a b" gives "%a b%"); in a mixed
+     * keyword the one-character terms must each appear, in keyword order ("C java x" gives "%c%x%").
+     * Returns null when every term is indexable. Normalized text holds no LIKE wildcards, so no escaping is needed.
+     */
+    public static String toLikePattern(String keyword) {
+        String normalized = normalize(keyword);
+        if (normalized.isEmpty()) {
+            return null;
+        }
+        if (toMatchQuery(keyword) == null) {
+            return "%" + normalized + "%";
+        }
+
+        StringBuilder pattern = new StringBuilder();
+        for (String term : normalized.split(" ")) {
+            if (term.length() < MIN_INDEXED_TERM_LENGTH) {
+                pattern.append('%').append(term);
+            }
+        }
+        return pattern.isEmpty() ? null : pattern.append('%').toString();
+    }
+}
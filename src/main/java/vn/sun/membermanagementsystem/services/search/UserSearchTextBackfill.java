@@ -0,0 +1,55 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+/**
+ * Fills users.search_text for rows written before the column existed or outside JPA.
+ * The folding lives in Java (see {@link UserSearchText}), so it cannot be done in the migration.
+ */
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class UserSearchTextBackfill {
+
+    private static final int BATCH_SIZE = 500;
+
+    private static final String SELECT_SQL = "SELECT id, name, email FROM users WHERE search_text IS NULL " +
+            "ORDER BY id LIMIT " + BATCH_SIZE;
+    private static final String UPDATE_SQL = "UPDATE users SET search_text = ? WHERE id = ?";
+    private static final String UPDATE_DIRECTORY_SQL = "UPDATE user_directory SET search_text = ? WHERE user_id = ?";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onApplicationReady() {
+        try {
+            int filled = backfill();
+            if (filled > 0) {
+                log.info("Filled search_text for {} users", filled);
+            }
+        } catch (Exception e) {
+            log.error("Failed to backfill users.search_text: {}", e.getMessage());
+        }
+    }
+
+    public int backfill() {
+        int total = 0;
+        while (true) {
+            List<Object[]> batch = jdbcTemplate.query(SELECT_SQL, (rs, rowNum) -> new Object[]{
+                    UserSearchText.of(rs.getString("name"), rs.getString("email")), rs.getLong("id")});
+            if (batch.isEmpty()) {
+                return total;
+            }
+            jdbcTemplate.batchUpdate(UPDATE_SQL, batch);
+            jdbcTemplate.batchUpdate(UPDATE_DIRECTORY_SQL, batch);
+            total += batch.size();
+        }
+    }
+}
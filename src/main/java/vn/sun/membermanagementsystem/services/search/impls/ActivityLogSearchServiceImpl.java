@@ -0,0 +1,308 @@
+package vn.sun.membermanagementsystem.services.search.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Page;
+import org.springframework.data.domain.PageImpl;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
+import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+import vn.sun.membermanagementsystem.services.ActivityLogWriteListener;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+import vn.sun.membermanagementsystem.services.search.InvertedIndex;
+
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.ZoneOffset;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Function;
+import java.util.function.Predicate;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps an {@link InvertedIndex} of the most recent activity logs in memory.
+ * New rows arrive through the writer flush callback; the whole window is reloaded from the table on startup
+ * and on demand. The table is partitioned, which rules out a MySQL FULLTEXT index.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class ActivityLogSearchServiceImpl implements ActivityLogSearchService, ActivityLogWriteListener {
+
+    private static final String REBUILD_SQL = "SELECT l.id, l.entity_type, d.value AS description, " +
+            "l.description_detail, ua.value AS user_agent, l.created_at " +
+            "FROM activity_logs l " +
+            "LEFT JOIN activity_log_descriptions d ON d.id = l.description_id " +
+            "LEFT JOIN activity_log_user_agents ua ON ua.id = l.user_agent_id " +
+            "WHERE l.created_at >= ? AND l.id <= ? ORDER BY l.id";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final ActivityLogRepository activityLogRepository;
+    private final ActivityLogMapper activityLogMapper;
+
+    @Value("${activity-log.search.enabled:true}")
+    private boolean enabled;
+
+    @Value("${activity-log.search.max-documents:1000000}")
+    private int maxDocuments;
+
+    @Value("${activity-log.search.index-days:30}")
+    private int indexDays;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private InvertedIndex index = new InvertedIndex();
+    private List<ActivityLog> writtenDuringRebuild;
+    private List<Long> removedDuringRebuild;
+    private long removedBeforeDuringRebuild = Long.MIN_VALUE;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            log.info("Activity log search index is disabled");
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Initial activity log search index build failed", e);
+            }
+        }, "activity-log-index-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void onBatchWritten(List<ActivityLog> batch) {
+        if (!enabled) {
+            return;
+        }
+        lock.writeLock().lock();
+        try {
+            for (ActivityLog activityLog : batch) {
+                if (activityLog.getId() != null) {
+                    addToIndex(index, activityLog.getId(), activityLog.getEntityType(),
+                            activityLog.getCreatedAt(), fullDescription(activityLog), activityLog.getUserAgent());
+                }
+            }
+            if (writtenDuringRebuild != null) {
+                writtenDuringRebuild.addAll(batch);
+            }
+            index.evict(maxDocuments, windowStart());
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public Page<ActivityLogDTO> search(String query, String entityType, LocalDate fromDate, LocalDate toDate,
+                                       Pageable pageable) {
+        log.info("Searching activity logs - q: {}, entityType: {}, fromDate: {}, toDate: {}",
+                query, entityType, fromDate, toDate);
+
+        long from = fromDate != null ? toEpochSecond(fromDate.atStartOfDay()) : Long.MIN_VALUE;
+        long to = toDate != null ? toEpochSecond(toDate.plusDays(1).atStartOfDay()) : Long.MAX_VALUE;
+        Predicate<InvertedIndex.Document> filter = document ->
+                (entityType == null || entityType.equals(document.entityType()))
+                        && document.createdAtEpochSecond() >= from
+                        && document.createdAtEpochSecond() < to;
+
+        InvertedIndex.Hits hits;
+        lock.readLock().lock();
+        try {
+            hits = index.search(query, filter, (int) pageable.getOffset(), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+
+        if (hits.ids().isEmpty()) {
+            return new PageImpl<>(List.of(), pageable, hits.total());
+        }
+
+        Map<Long, ActivityLog> byId = activityLogRepository.findAllById(hits.ids()).stream()
+                .collect(Collectors.toMap(ActivityLog::getId, Function.identity()));
+        List<ActivityLog> ordered = hits.ids().stream()
+                .map(byId::get)
+                .filter(Objects::nonNull)
+                .toList();
+
+        return new PageImpl<>(activityLogMapper.toDTOList(ordered), pageable, hits.total());
+    }
+
+    @Override
+    public int rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BadRequestException("A search index rebuild is already running");
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            // Start collecting before reading MAX(id): a batch flushed in between is then replayed, not lost
+            lock.writeLock().lock();
+            try {
+                writtenDuringRebuild = new ArrayList<>();
+                removedDuringRebuild = new ArrayList<>();
+                removedBeforeDuringRebuild = Long.MIN_VALUE;
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            Long maxId = jdbcTemplate.queryForObject("SELECT COALESCE(MAX(id), 0) FROM activity_logs", Long.class);
+            long snapshotMaxId = maxId != null ? maxId : 0L;
+
+            InvertedIndex fresh = new InvertedIndex();
+            long windowStart = windowStart();
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(REBUILD_SQL,
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                ps.setTimestamp(1, Timestamp.valueOf(LocalDateTime.ofEpochSecond(windowStart, 0, ZoneOffset.UTC)));
+                ps.setLong(2, snapshotMaxId);
+                return ps;
+            }, (RowCallbackHandler) rs -> {
+                Timestamp createdAt = rs.getTimestamp("created_at");
+                addToIndex(fresh, rs.getLong("id"), rs.getString("entity_type"),
+                        createdAt != null ? createdAt.toLocalDateTime() : null,
+                        ActivityLogDictionary.joinDescription(rs.getString("description"),
+                                rs.getString("description_detail")),
+                        rs.getString("user_agent"));
+                fresh.evict(maxDocuments, windowStart);
+            });
+
+            lock.writeLock().lock();
+            try {
+                for (ActivityLog activityLog : writtenDuringRebuild) {
+                    if (activityLog.getId() != null && activityLog.getId() > snapshotMaxId) {
+                        addToIndex(fresh, activityLog.getId(), activityLog.getEntityType(),
+                                activityLog.getCreatedAt(), fullDescription(activityLog), activityLog.getUserAgent());
+                    }
+                }
+                // Rows deleted while the snapshot streamed may still have been read
+                removedDuringRebuild.forEach(fresh::remove);
+                fresh.removeCreatedBefore(removedBeforeDuringRebuild);
+                index = fresh;
+                ready = true;
+            } finally {
+                writtenDuringRebuild = null;
+                removedDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+
+            log.info("Activity log search index rebuilt - {} documents, {} terms in {} ms",
+                    fresh.size(), fresh.termCount(), System.currentTimeMillis() - startedAt);
+            return fresh.size();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public void remove(Long id) {
+        lock.writeLock().lock();
+        try {
+            index.remove(id);
+            if (removedDuringRebuild != null) {
+                removedDuringRebuild.add(id);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void removeCreatedBefore(LocalDateTime cutoff) {
+        lock.writeLock().lock();
+        try {
+            long cutoffEpochSecond = toEpochSecond(cutoff);
+            int removed = index.removeCreatedBefore(cutoffEpochSecond);
+            if (writtenDuringRebuild != null) {
+                removedBeforeDuringRebuild = Math.max(removedBeforeDuringRebuild, cutoffEpochSecond);
+            }
+            log.info("Removed {} activity log search entries created before {}", removed, cutoff);
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public void clear() {
+        lock.writeLock().lock();
+        try {
+            index = new InvertedIndex();
+        } finally {
+            lock.writeLock().unlock();
+        }
+    }
+
+    @Override
+    public LocalDateTime getCoveredSince() {
+        long evictedUpTo;
+        lock.readLock().lock();
+        try {
+            evictedUpTo = index.getEvictedUpToEpochSecond();
+        } finally {
+            lock.readLock().unlock();
+        }
+        long since = evictedUpTo != Long.MIN_VALUE ? Math.max(windowStart(), evictedUpTo + 1) : windowStart();
+        return LocalDateTime.ofEpochSecond(since, 0, ZoneOffset.UTC);
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public int getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private static void addToIndex(InvertedIndex target, long id, String entityType, LocalDateTime createdAt,
+                                   String description, String userAgent) {
+        long createdAtEpochSecond = createdAt != null ? toEpochSecond(createdAt) : 0L;
+        target.add(new InvertedIndex.Document(id, entityType, createdAtEpochSecond), description, userAgent);
+    }
+
+    private static String fullDescription(ActivityLog activityLog) {
+        return ActivityLogDictionary.joinDescription(activityLog.getDescription(), activityLog.getDescriptionDetail());
+    }
+
+    private long windowStart() {
+        return toEpochSecond(LocalDate.now().minusDays(indexDays).atStartOfDay());
+    }
+
+    private static long toEpochSecond(LocalDateTime dateTime) {
+        // Only used for ordering and range checks, so the offset just has to be consistent
+        return dateTime.toEpochSecond(ZoneOffset.UTC);
+    }
+}
@@ -0,0 +1,327 @@
+package vn.sun.membermanagementsystem.services.search.impls;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.Pageable;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.stereotype.Service;
+import vn.sun.membermanagementsystem.dto.request.SkillSearchRequest;
+import vn.sun.membermanagementsystem.dto.response.SkillSearchResultDTO;
+import vn.sun.membermanagementsystem.dto.response.UserListItemDTO;
+import vn.sun.membermanagementsystem.entities.UserDirectoryEntry;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.mapper.UserMapper;
+import vn.sun.membermanagementsystem.repositories.UserDirectoryRepository;
+import vn.sun.membermanagementsystem.services.UserChangeListener;
+import vn.sun.membermanagementsystem.services.search.SkillInventoryIndex;
+import vn.sun.membermanagementsystem.services.search.SkillInventoryService;
+
+import java.math.BigDecimal;
+import java.sql.PreparedStatement;
+import java.sql.ResultSet;
+import java.sql.SQLException;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicBoolean;
+import java.util.concurrent.locks.ReadWriteLock;
+import java.util.concurrent.locks.ReentrantReadWriteLock;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * Keeps a {@link SkillInventoryIndex} of every live user in memory.
+ * Changed users are reloaded once their transaction has committed, through the user directory change
+ * callback that every user, team and skill mutation already goes through; the whole index is loaded
+ * on startup and on demand.
+ */
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SkillInventoryServiceImpl implements SkillInventoryService, UserChangeListener {
+
+    private static final int MAX_DEPTH = 5;
+    private static final int MAX_CRITERIA = 50;
+    private static final int REFRESH_BATCH_SIZE = 500;
+
+    private static final String LOAD_SQL = "SELECT u.id, u.status, " +
+            "us.skill_id, us.level, us.used_year_number " +
+            "FROM users u " +
+            "LEFT JOIN (user_skills us JOIN skills s ON s.id = us.skill_id AND s.deleted_at IS NULL) " +
+            " ON us.user_id = u.id " +
+            "WHERE u.deleted_at IS NULL";
+    /** Every active membership of a live team: a user in several teams is found under each of them. */
+    private static final String TEAMS_SQL = "SELECT tm.user_id, tm.team_id FROM team_members tm " +
+            "JOIN teams t ON t.id = tm.team_id AND t.deleted_at IS NULL " +
+            "WHERE tm.status = 'ACTIVE' AND tm.left_at IS NULL";
+
+    private final JdbcTemplate jdbcTemplate;
+    private final UserDirectoryRepository userDirectoryRepository;
+    private final UserMapper userMapper;
+
+    @Value("${skill-inventory.enabled:true}")
+    private boolean enabled;
+
+    private final ReadWriteLock lock = new ReentrantReadWriteLock();
+    private final AtomicBoolean rebuilding = new AtomicBoolean();
+
+    private SkillInventoryIndex index = new SkillInventoryIndex();
+    private Set<Long> changedDuringRebuild;
+    private volatile boolean ready;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void onStartup() {
+        if (!enabled) {
+            log.info("Skill inventory index is disabled");
+            return;
+        }
+        Thread thread = new Thread(() -> {
+            try {
+                rebuild();
+            } catch (Exception e) {
+                log.error("Initial skill inventory index build failed", e);
+            }
+        }, "skill-inventory-rebuild");
+        thread.setDaemon(true);
+        thread.start();
+    }
+
+    @Override
+    public void onUsersChanged(Collection<Long> userIds) {
+        if (!enabled) {
+            return;
+        }
+        List<Long> ids = new ArrayList<>(userIds);
+        for (int from = 0; from < ids.size(); from += REFRESH_BATCH_SIZE) {
+            reload(ids.subList(from, Math.min(from + REFRESH_BATCH_SIZE, ids.size())));
+        }
+    }
+
+    @Override
+    public SkillSearchResultDTO search(SkillSearchRequest request, Pageable pageable) {
+        if (!enabled) {
+            throw new BadRequestException("Skill inventory search is disabled");
+        }
+        if (request == null || request.getQuery() == null) {
+            throw new BadRequestException("A skill query is required");
+        }
+        SkillInventoryIndex.Query query = toQuery(request.getQuery(), 1, new int[1]);
+        log.info("Searching skill inventory - query: {}, status: {}, teamId: {}",
+                query, request.getStatus(), request.getTeamId());
+
+        long startedAt = System.nanoTime();
+        SkillInventoryIndex.Hits hits;
+        lock.readLock().lock();
+        try {
+            hits = index.search(query, request.getStatus(), request.getTeamId(),
+                    (int) Math.min(pageable.getOffset(), Integer.MAX_VALUE), pageable.getPageSize());
+        } finally {
+            lock.readLock().unlock();
+        }
+        long indexMicros = TimeUnit.NANOSECONDS.toMicros(System.nanoTime() - startedAt);
+
+        List<UserListItemDTO> users = List.of();
+        if (!hits.ids().isEmpty()) {
+            Map<Long, UserDirectoryEntry> byId = userDirectoryRepository.findAllById(hits.ids()).stream()
+                    .collect(Collectors.toMap(UserDirectoryEntry::getId, Function.identity()));
+            users = hits.ids().stream()
+                    .map(byId::get)
+                    .filter(Objects::nonNull)
+                    .map(userMapper::toListItemDTO)
+                    .toList();
+        }
+
+        return SkillSearchResultDTO.builder()
+                .users(users)
+                .page(pageable.getPageNumber())
+                .size(pageable.getPageSize())
+                .totalElements(hits.total())
+                .totalPages((int) ((hits.total() + pageable.getPageSize() - 1) / pageable.getPageSize()))
+                .indexMicros(indexMicros)
+                .indexReady(ready)
+                .build();
+    }
+
+    @Override
+    public int rebuild() {
+        if (!enabled) {
+            return 0;
+        }
+        if (!rebuilding.compareAndSet(false, true)) {
+            throw new BadRequestException("A skill inventory rebuild is already running");
+        }
+
+        try {
+            long startedAt = System.currentTimeMillis();
+            lock.writeLock().lock();
+            try {
+                changedDuringRebuild = new LinkedHashSet<>();
+            } finally {
+                lock.writeLock().unlock();
+            }
+
+            SkillInventoryIndex fresh = new SkillInventoryIndex();
+            Map<Long, List<Long>> teamsByUser = new HashMap<>();
+            jdbcTemplate.query(TEAMS_SQL, teamCollector(teamsByUser));
+            EntryCollector collector = new EntryCollector(teamsByUser, fresh::put);
+            jdbcTemplate.query(connection -> {
+                PreparedStatement ps = connection.prepareStatement(LOAD_SQL + " ORDER BY u.id",
+                        ResultSet.TYPE_FORWARD_ONLY, ResultSet.CONCUR_READ_ONLY);
+                ps.setFetchSize(Integer.MIN_VALUE);
+                return ps;
+            }, collector);
+            collector.finish();
+
+            Set<Long> changed;
+            lock.writeLock().lock();
+            try {
+                index = fresh;
+                changed = changedDuringRebuild;
+                ready = true;
+            } finally {
+                changedDuringRebuild = null;
+                lock.writeLock().unlock();
+            }
+            // The snapshot may predate these commits, read them again into the new index
+            onUsersChanged(changed);
+
+            log.info("Skill inventory index rebuilt - {} users, {} skills, {} KB of bitmaps in {} ms",
+                    fresh.size(), fresh.skillCount(), fresh.sizeInBytes() / 1024,
+                    System.currentTimeMillis() - startedAt);
+            return fresh.size();
+        } finally {
+            rebuilding.set(false);
+        }
+    }
+
+    @Override
+    public boolean isReady() {
+        return ready;
+    }
+
+    @Override
+    public int getIndexedCount() {
+        lock.readLock().lock();
+        try {
+            return index.size();
+        } finally {
+            lock.readLock().unlock();
+        }
+    }
+
+    private void reload(List<Long> userIds) {
+        List<SkillInventoryIndex.UserEntry> entries = new ArrayList<>();
+        String placeholders = "(" + String.join(",", Collections.nCopies(userIds.size(), "?")) + ")";
+        Map<Long, List<Long>> teamsByUser = new HashMap<>();
+        jdbcTemplate.query(TEAMS_SQL + " AND tm.user_id IN " + placeholders, teamCollector(teamsByUser),
+                userIds.toArray());
+        EntryCollector collector = new EntryCollector(teamsByUser, entries::add);
+        jdbcTemplate.query(LOAD_SQL + " AND u.id IN " + placeholders + " ORDER BY u.id", collector, userIds.toArray());
+        collector.finish();
+
+        lock.writeLock().lock();
+        try {
+            // Users not loaded were deleted
+            userIds.forEach(index::remove);
+            entries.forEach(index::put);
+            if (changedDuringRebuild != null) {
+                changedDuringRebuild.addAll(userIds);
+            }
+        } finally {
+            lock.writeLock().unlock();
+        }
+        log.debug("Reloaded {} users into the skill inventory index", userIds.size());
+    }
+
+    private SkillInventoryIndex.Query toQuery(SkillSearchRequest.Node node, int depth, int[] criteria) {
+        if (node == null) {
+            throw new BadRequestException("Skill query clauses must not be null");
+        }
+        if (depth > MAX_DEPTH) {
+            throw new BadRequestException("Skill query is nested more than " + MAX_DEPTH + " levels deep");
+        }
+        if (!node.isGroup()) {
+            if (node.getSkillId() == null) {
+                throw new BadRequestException("A skill criterion needs a skillId, a group needs an op");
+            }
+            if (node.getMinYears() != null && node.getMinYears().signum() < 0) {
+                throw new BadRequestException("minYears must not be negative");
+            }
+            if (++criteria[0] > MAX_CRITERIA) {
+                throw new BadRequestException("Skill query has more than " + MAX_CRITERIA + " criteria");
+            }
+            return new SkillInventoryIndex.Criterion(node.getSkillId(), node.getMinLevel(), node.getMinYears());
+        }
+        if (node.getClauses() == null || node.getClauses().isEmpty()) {
+            throw new BadRequestException("A " + node.getOp() + " group needs at least one clause");
+        }
+        List<SkillInventoryIndex.Query> clauses = new ArrayList<>(node.getClauses().size());
+        for (SkillSearchRequest.Node clause : node.getClauses()) {
+            clauses.add(toQuery(clause, depth + 1, criteria));
+        }
+        return node.getOp() == SkillSearchRequest.Operator.AND
+                ? new SkillInventoryIndex.And(clauses)
+                : new SkillInventoryIndex.Or(clauses);
+    }
+
+    private static RowCallbackHandler teamCollector(Map<Long, List<Long>> teamsByUser) {
+        return rs -> teamsByUser.computeIfAbsent(rs.getLong("user_id"), id -> new ArrayList<>(1))
+                .add(rs.getLong("team_id"));
+    }
+
+    /** Groups the rows of LOAD_SQL, ordered by user id, into one entry per user, with its teams. */
+    private static final class EntryCollector implements RowCallbackHandler {
+
+        private final Map<Long, List<Long>> teamsByUser;
+        private final Consumer<SkillInventoryIndex.UserEntry> sink;
+        private long userId = -1;
+        private UserStatus status;
+        private List<SkillInventoryIndex.SkillEntry> skills = new ArrayList<>();
+
+        private EntryCollector(Map<Long, List<Long>> teamsByUser, Consumer<SkillInventoryIndex.UserEntry> sink) {
+            this.teamsByUser = teamsByUser;
+            this.sink = sink;
+        }
+
+        @Override
+        public void processRow(ResultSet rs) throws SQLException {
+            long id = rs.getLong("id");
+            if (id != userId) {
+                finish();
+                userId = id;
+                String statusValue = rs.getString("status");
+                status = statusValue != null ? UserStatus.valueOf(statusValue) : null;
+            }
+            long skillId = rs.getLong("skill_id");
+            if (!rs.wasNull()) {
+                String level = rs.getString("level");
+                BigDecimal usedYearNumber = rs.getBigDecimal("used_year_number");
+                skills.add(new SkillInventoryIndex.SkillEntry(skillId,
+                        level != null ? UserSkill.Level.valueOf(level) : null, usedYearNumber));
+            }
+        }
+
+        private void finish() {
+            if (userId >= 0) {
+                sink.accept(new SkillInventoryIndex.UserEntry(userId, status,
+                        teamsByUser.getOrDefault(userId, List.of()), skills));
+                userId = -1;
+                skills = new ArrayList<>();
+            }
+        }
+    }
+}
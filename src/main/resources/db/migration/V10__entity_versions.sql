@@ -0,0 +1,42 @@
+-- Version stamps behind the ETags of the REST read endpoints: one row per (entity_type, entity_id),
+-- looked up by primary key. USER rows cover a user profile, TEAM rows a team detail, TEAM 0 the team
+-- list and CATALOG 0 the skills, positions and projects every profile and team detail shows.
+-- Versions are epoch milliseconds of the last change and only ever grow; EntityVersionService bumps
+-- them in the transaction that makes the change. A missing row means version 0.
+CREATE TABLE Entity_Versions (
+                                 entity_type VARCHAR(20) NOT NULL,
+                                 entity_id BIGINT NOT NULL,
+                                 version BIGINT NOT NULL,
+                                 updated_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+                                 PRIMARY KEY (entity_type, entity_id)
+);
+
+-- Seed from the existing change times so the first ETags already differ per entity
+INSERT INTO Entity_Versions (entity_type, entity_id, version)
+SELECT 'USER', u.id, FLOOR(UNIX_TIMESTAMP(GREATEST(
+        COALESCE(u.updated_at, u.created_at, '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(COALESCE(tm.left_at, tm.joined_at)) FROM Team_Members tm WHERE tm.user_id = u.id), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(COALESCE(pm.left_at, pm.joined_at)) FROM Project_Members pm WHERE pm.user_id = u.id), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(COALESCE(ph.ended_at, ph.started_at)) FROM User_Position_History ph WHERE ph.user_id = u.id), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(us.updated_at) FROM User_Skills us WHERE us.user_id = u.id), '1970-01-01 00:00:01')
+    )) * 1000)
+FROM Users u;
+
+INSERT INTO Entity_Versions (entity_type, entity_id, version)
+SELECT 'TEAM', t.id, FLOOR(UNIX_TIMESTAMP(GREATEST(
+        COALESCE(t.updated_at, t.created_at, '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(COALESCE(tm.left_at, tm.joined_at)) FROM Team_Members tm WHERE tm.team_id = t.id), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(COALESCE(lh.ended_at, lh.started_at)) FROM Team_Leadership_History lh WHERE lh.team_id = t.id), '1970-01-01 00:00:01')
+    )) * 1000)
+FROM Teams t;
+
+INSERT INTO Entity_Versions (entity_type, entity_id, version)
+SELECT 'TEAM', 0, COALESCE(MAX(version), 0) FROM Entity_Versions WHERE entity_type = 'TEAM';
+
+INSERT INTO Entity_Versions (entity_type, entity_id, version)
+SELECT 'CATALOG', 0, FLOOR(UNIX_TIMESTAMP(GREATEST(
+        COALESCE((SELECT MAX(updated_at) FROM Skills), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(updated_at) FROM Positions), '1970-01-01 00:00:01'),
+        COALESCE((SELECT MAX(updated_at) FROM Projects), '1970-01-01 00:00:01')
+    )) * 1000);
@@ -0,0 +1,56 @@
+-- Range-partition Activity_Logs by month so that retention and bulk purges
+-- become partition drops instead of row-by-row deletes.
+-- MySQL does not allow foreign keys on partitioned tables, and every unique key
+-- (including the primary key) must contain the partitioning column.
+
+ALTER TABLE Activity_Logs DROP FOREIGN KEY fk_logs_user;
+
+ALTER TABLE Activity_Logs
+    MODIFY created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, created_at);
+
+ALTER TABLE Activity_Logs
+    PARTITION BY RANGE COLUMNS (created_at) (
+        PARTITION p_history VALUES LESS THAN ('2025-01-01'),
+        PARTITION p202501 VALUES LESS THAN ('2025-02-01'),
+        PARTITION p202502 VALUES LESS THAN ('2025-03-01'),
+        PARTITION p202503 VALUES LESS THAN ('2025-04-01'),
+        PARTITION p202504 VALUES LESS THAN ('2025-05-01'),
+        PARTITION p202505 VALUES LESS THAN ('2025-06-01'),
+        PARTITION p202506 VALUES LESS THAN ('2025-07-01'),
+        PARTITION p202507 VALUES LESS THAN ('2025-08-01'),
+        PARTITION p202508 VALUES LESS THAN ('2025-09-01'),
+        PARTITION p202509 VALUES LESS THAN ('2025-10-01'),
+        PARTITION p202510 VALUES LESS THAN ('2025-11-01'),
+        PARTITION p202511 VALUES LESS THAN ('2025-12-01'),
+        PARTITION p202512 VALUES LESS THAN ('2026-01-01'),
+        PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+        PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+        PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+        PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+        PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+        PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+        PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+        PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+        PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+        PARTITION p_future VALUES LESS THAN (MAXVALUE)
+    );
+
+CREATE TABLE Activity_Logs_Archive (
+                                      id BIGINT NOT NULL,
+                                      action VARCHAR(100) NOT NULL,
+                                      entity_type VARCHAR(50) NULL,
+                                      entity_id BIGINT NULL,
+                                      description TEXT,
+                                      user_id BIGINT NULL,
+                                      ip_address VARCHAR(45) NULL,
+                                      user_agent TEXT NULL,
+                                      created_at DATETIME NOT NULL,
+
+                                      PRIMARY KEY (id, created_at),
+                                      INDEX idx_logs_archive_created (created_at)
+);
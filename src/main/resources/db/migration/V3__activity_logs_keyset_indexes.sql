@@ -0,0 +1,7 @@
+-- Composite indexes backing keyset pagination ordered by (created_at DESC, id DESC),
+-- with and without the entity type filter.
+
+ALTER TABLE Activity_Logs
+    DROP INDEX idx_logs_created,
+    ADD INDEX idx_logs_created_id (created_at, id),
+    ADD INDEX idx_logs_entity_type_created_id (entity_type, created_at, id);
@@ -0,0 +1,17 @@
+-- Hourly pre-aggregated activity counts. Missing dimensions are stored as '' / 0 so they can be part of the key.
+CREATE TABLE Activity_Log_Rollups (
+                                     bucket_hour DATETIME NOT NULL,
+                                     action VARCHAR(100) NOT NULL,
+                                     entity_type VARCHAR(50) NOT NULL DEFAULT '',
+                                     user_id BIGINT NOT NULL DEFAULT 0,
+                                     event_count BIGINT NOT NULL DEFAULT 0,
+
+                                     PRIMARY KEY (bucket_hour, action, entity_type, user_id),
+                                     INDEX idx_rollups_entity_type_bucket (entity_type, bucket_hour),
+                                     INDEX idx_rollups_user_bucket (user_id, bucket_hour)
+);
+
+INSERT INTO Activity_Log_Rollups (bucket_hour, action, entity_type, user_id, event_count)
+SELECT DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action, COALESCE(entity_type, ''), COALESCE(user_id, 0), COUNT(*)
+FROM Activity_Logs
+GROUP BY DATE_FORMAT(created_at, '%Y-%m-%d %H:00:00'), action, COALESCE(entity_type, ''), COALESCE(user_id, 0);
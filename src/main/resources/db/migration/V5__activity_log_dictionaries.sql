@@ -0,0 +1,68 @@
+-- Repeated strings of Activity_Logs move to lookup tables keyed by their SHA-256 hash.
+-- A description is stored as a template id plus an optional short detail (e.g. the e-mail of a login attempt).
+CREATE TABLE Activity_Log_Descriptions (
+                                          id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                          value_hash BINARY(32) NOT NULL,
+                                          value TEXT NOT NULL,
+                                          created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                          UNIQUE INDEX idx_unique_description_hash (value_hash)
+);
+
+CREATE TABLE Activity_Log_User_Agents (
+                                         id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                                         value_hash BINARY(32) NOT NULL,
+                                         value TEXT NOT NULL,
+                                         created_at DATETIME NOT NULL DEFAULT CURRENT_TIMESTAMP,
+
+                                         UNIQUE INDEX idx_unique_user_agent_hash (value_hash)
+);
+
+ALTER TABLE Activity_Logs
+    ADD COLUMN description_id BIGINT NULL AFTER entity_id,
+    ADD COLUMN description_detail VARCHAR(255) NULL AFTER description_id,
+    ADD COLUMN user_agent_id BIGINT NULL AFTER ip_address;
+
+ALTER TABLE Activity_Logs_Archive
+    ADD COLUMN description_id BIGINT NULL AFTER entity_id,
+    ADD COLUMN description_detail VARCHAR(255) NULL AFTER description_id,
+    ADD COLUMN user_agent_id BIGINT NULL AFTER ip_address;
+
+-- Backfill existing rows: their full description becomes a template without detail
+INSERT IGNORE INTO Activity_Log_Descriptions (value_hash, value)
+SELECT DISTINCT UNHEX(SHA2(description, 256)), description FROM Activity_Logs WHERE description IS NOT NULL
+UNION
+SELECT DISTINCT UNHEX(SHA2(description, 256)), description FROM Activity_Logs_Archive WHERE description IS NOT NULL;
+
+INSERT IGNORE INTO Activity_Log_User_Agents (value_hash, value)
+SELECT DISTINCT UNHEX(SHA2(user_agent, 256)), user_agent FROM Activity_Logs WHERE user_agent IS NOT NULL
+UNION
+SELECT DISTINCT UNHEX(SHA2(user_agent, 256)), user_agent FROM Activity_Logs_Archive WHERE user_agent IS NOT NULL;
+
+UPDATE Activity_Logs l
+    JOIN Activity_Log_Descriptions d ON d.value_hash = UNHEX(SHA2(l.description, 256))
+SET l.description_id = d.id
+WHERE l.description IS NOT NULL;
+
+UPDATE Activity_Logs l
+    JOIN Activity_Log_User_Agents ua ON ua.value_hash = UNHEX(SHA2(l.user_agent, 256))
+SET l.user_agent_id = ua.id
+WHERE l.user_agent IS NOT NULL;
+
+UPDATE Activity_Logs_Archive l
+    JOIN Activity_Log_Descriptions d ON d.value_hash = UNHEX(SHA2(l.description, 256))
+SET l.description_id = d.id
+WHERE l.description IS NOT NULL;
+
+UPDATE Activity_Logs_Archive l
+    JOIN Activity_Log_User_Agents ua ON ua.value_hash = UNHEX(SHA2(l.user_agent, 256))
+SET l.user_agent_id = ua.id
+WHERE l.user_agent IS NOT NULL;
+
+ALTER TABLE Activity_Logs
+    DROP COLUMN description,
+    DROP COLUMN user_agent;
+
+ALTER TABLE Activity_Logs_Archive
+    DROP COLUMN description,
+    DROP COLUMN user_agent;
@@ -0,0 +1,4 @@
+-- Bumped whenever a user's role, status, password or e-mail changes, or the user is deleted.
+-- JWTs carry the epoch they were issued under and stop being accepted once it moves on.
+ALTER TABLE Users
+    ADD COLUMN token_epoch INT NOT NULL DEFAULT 0 AFTER status;
@@ -0,0 +1,11 @@
+-- JWT ids revoked before their natural expiry (logout). Rows past expires_at are no longer needed
+-- because the token would be rejected anyway, and are deleted by the application.
+CREATE TABLE Revoked_Tokens (
+                                jti CHAR(36) PRIMARY KEY,
+                                user_id BIGINT NULL,
+                                expires_at DATETIME NOT NULL,
+                                revoked_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+                                INDEX idx_revoked_tokens_expires_at (expires_at),
+                                INDEX idx_revoked_tokens_revoked_at (revoked_at)
+);
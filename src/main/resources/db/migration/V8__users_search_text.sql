@@ -0,0 +1,11 @@
+-- Accent-folded, lower-cased "name email" maintained by the application (User.refreshSearchText),
+-- indexed with the ngram parser so infix keyword searches on the admin user list use the index.
+-- Existing rows are filled by UserSearchTextBackfill on startup.
+ALTER TABLE Users
+    ADD COLUMN search_text VARCHAR(512) NULL AFTER email;
+
+-- The default stopword list would drop every bigram containing "a", "is", "to"... from the index
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE Users
+    ADD FULLTEXT INDEX ft_users_search_text (search_text) WITH PARSER ngram;
@@ -0,0 +1,33 @@
+-- Denormalised read model behind the admin user list and search: one row per live user with its
+-- active team, current position and a skills summary. Kept in step with the source tables in the
+-- same transaction by UserDirectoryService, and rebuilt from them by UserDirectoryRebuildScheduler.
+CREATE TABLE User_Directory (
+                                user_id BIGINT PRIMARY KEY,
+                                name VARCHAR(255) NOT NULL,
+                                email VARCHAR(255) NOT NULL,
+                                search_text VARCHAR(512) NULL,
+                                birthday DATE,
+                                role ENUM('ADMIN', 'MEMBER') NOT NULL,
+                                status ENUM('ACTIVE', 'INACTIVE') NOT NULL,
+                                created_at TIMESTAMP NULL,
+                                active_team_id BIGINT NULL,
+                                active_team_name VARCHAR(255) NULL,
+                                position_id BIGINT NULL,
+                                position_name VARCHAR(255) NULL,
+                                position_abbreviation VARCHAR(50) NULL,
+                                skill_count INT NOT NULL DEFAULT 0,
+                                skills_summary VARCHAR(1024) NULL,
+                                refreshed_at DATETIME(3) NOT NULL DEFAULT CURRENT_TIMESTAMP(3),
+
+                                CONSTRAINT fk_user_directory_user FOREIGN KEY (user_id) REFERENCES Users(id) ON DELETE CASCADE,
+
+                                INDEX idx_user_directory_role_status (role, status),
+                                INDEX idx_user_directory_team (active_team_id),
+                                INDEX idx_user_directory_name (name),
+                                INDEX idx_user_directory_created_at (created_at)
+);
+
+SET SESSION innodb_ft_enable_stopword = OFF;
+
+ALTER TABLE User_Directory
+    ADD FULLTEXT INDEX ft_user_directory_search_text (search_text) WITH PARSER ngram;
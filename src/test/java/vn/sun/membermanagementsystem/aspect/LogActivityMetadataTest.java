@@ -0,0 +1,175 @@
+package vn.sun.membermanagementsystem.aspect;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vn.sun.membermanagementsystem.annotation.LogActivity;
+
+import java.lang.reflect.Method;
+import java.util.Arrays;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("LogActivityMetadata Unit Tests")
+class LogActivityMetadataTest {
+
+    public static class Owner {
+        private final Long id;
+
+        public Owner(Long id) {
+            this.id = id;
+        }
+
+        public Long getId() {
+            return id;
+        }
+    }
+
+    public static class Team {
+        private final Integer id;
+        private final Owner owner;
+
+        public Team(Integer id, Owner owner) {
+            this.id = id;
+            this.owner = owner;
+        }
+
+        public Integer getId() {
+            return id;
+        }
+
+        public Owner getOwner() {
+            return owner;
+        }
+
+        public String getName() {
+            return "team-" + id;
+        }
+    }
+
+    public static class Audited {
+        public Team create(Team request) {
+            return request;
+        }
+
+        public Long delete(Long teamId) {
+            return teamId;
+        }
+
+        public void assign(Long teamId, Team team) {
+        }
+
+        public String rename(Long teamId, String name) {
+            return name;
+        }
+
+        public void archive(Long teamId) {
+        }
+    }
+
+    private static final Team TEAM = new Team(42, new Owner(7L));
+
+    @Test
+    @DisplayName("Without an expression the id comes from #result.id, Integer ids widened to Long")
+    void testDefaultExpression() {
+        LogActivityMetadata metadata = compile("create", "", "Created team", "request");
+
+        assertEquals(42L, metadata.resolveEntityId(new Object[]{TEAM}, TEAM));
+        assertEquals("Created team - Method: create", metadata.getDescription());
+    }
+
+    @Test
+    @DisplayName("#result, named and positional arguments and getter chains resolve")
+    void testValidExpressions() {
+        assertEquals(5L, compile("delete", "#result", "", "teamId").resolveEntityId(new Object[]{9L}, 5L));
+        assertEquals(9L, compile("delete", "#teamId", "", "teamId").resolveEntityId(new Object[]{9L}, 5L));
+        assertEquals(9L, compile("assign", "#p0", "", "teamId", "team").resolveEntityId(new Object[]{9L, TEAM}, null));
+        assertEquals(42L, compile("assign", "#a1.id", "", "teamId", "team").resolveEntityId(new Object[]{9L, TEAM}, null));
+        assertEquals(7L, compile("assign", "#team.owner.id", "", "teamId", "team")
+                .resolveEntityId(new Object[]{9L, TEAM}, null));
+        assertEquals(7L, compile("create", " #result.owner.id ", "", "request").resolveEntityId(null, TEAM));
+    }
+
+    @Test
+    @DisplayName("Null values along the chain and non-numeric results give no id")
+    void testUnresolvableValues() {
+        LogActivityMetadata ownerId = compile("create", "#result.owner.id", "", "request");
+        assertNull(ownerId.resolveEntityId(null, null));
+        assertNull(ownerId.resolveEntityId(null, new Team(1, null)));
+
+        assertNull(compile("rename", "#result", "", "teamId", "name").resolveEntityId(new Object[]{9L, "x"}, "x"));
+        assertNull(compile("assign", "#p1", "", "teamId", "team").resolveEntityId(new Object[]{9L}, null));
+    }
+
+    @Test
+    @DisplayName("Properties the type does not have leave the entity id empty")
+    void testMissingProperties() {
+        assertNull(compile("create", "#result.code", "", "request").resolveEntityId(null, TEAM));
+        assertNull(compile("assign", "#team.owner.name", "", "teamId", "team").resolveEntityId(new Object[]{9L, TEAM}, null));
+        // The default expression on a type without getId() is not an error either
+        assertNull(compile("rename", "", "", "teamId", "name").resolveEntityId(new Object[]{9L, "x"}, "x"));
+    }
+
+    @Test
+    @DisplayName("Malformed expressions compile to metadata that resolves no id")
+    void testMalformedExpressions() {
+        Object[] args = {9L, TEAM};
+        for (String expression : new String[]{"teamId", "#", "#unknown", "#p2", "#result", "#team..id", "#team.", "#.id"}) {
+            LogActivityMetadata metadata = assertDoesNotThrow(
+                    () -> compile("assign", expression, "Assigned", "teamId", "team"), expression);
+            assertNull(metadata.resolveEntityId(args, null), expression);
+            assertEquals("Assigned - Method: assign", metadata.getDescription());
+        }
+    }
+
+    @Test
+    @DisplayName("Without parameter names only positional arguments resolve")
+    void testNoParameterNames() {
+        Method method = method("archive");
+
+        assertNull(LogActivityMetadata.compile(method, null, logActivity("#teamId", ""))
+                .resolveEntityId(new Object[]{9L}, null));
+        assertEquals(9L, LogActivityMetadata.compile(method, null, logActivity("#p0", ""))
+                .resolveEntityId(new Object[]{9L}, null));
+    }
+
+    private static LogActivityMetadata compile(String methodName, String entityId, String description,
+                                               String... parameterNames) {
+        return LogActivityMetadata.compile(method(methodName), parameterNames, logActivity(entityId, description));
+    }
+
+    private static Method method(String name) {
+        return Arrays.stream(Audited.class.getMethods())
+                .filter(method -> method.getName().equals(name))
+                .findFirst()
+                .orElseThrow();
+    }
+
+    private static LogActivity logActivity(String entityId, String description) {
+        return new LogActivity() {
+            @Override
+            public String action() {
+                return "UPDATE";
+            }
+
+            @Override
+            public String entityType() {
+                return "TEAM";
+            }
+
+            @Override
+            public String description() {
+                return description;
+            }
+
+            @Override
+            public String entityId() {
+                return entityId;
+            }
+
+            @Override
+            public Class<LogActivity> annotationType() {
+                return LogActivity.class;
+            }
+        };
+    }
+}
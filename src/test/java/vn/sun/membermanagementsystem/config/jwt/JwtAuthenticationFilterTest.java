@@ -0,0 +1,135 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
+import vn.sun.membermanagementsystem.config.security.TokenRevocationRegistry;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
+import vn.sun.membermanagementsystem.config.services.CustomUserDetailsService;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("JwtAuthenticationFilter Unit Tests")
+class JwtAuthenticationFilterTest {
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private CustomUserDetailsService userDetailsService;
+
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @InjectMocks
+    private JwtAuthenticationFilter filter;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A token without epoch claims authenticates an active user")
+    void testLegacyToken_ActiveUser() throws Exception {
+        // Arrange
+        legacyTokenOf(user(UserStatus.ACTIVE, null));
+
+        // Act
+        doFilter();
+
+        // Assert
+        assertNotNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("A token without epoch claims no longer authenticates a deactivated user")
+    void testLegacyToken_InactiveUser() throws Exception {
+        // Arrange
+        legacyTokenOf(user(UserStatus.INACTIVE, null));
+
+        // Act
+        doFilter();
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("A token without epoch claims no longer authenticates a deleted user")
+    void testLegacyToken_DeletedUser() throws Exception {
+        // Arrange
+        legacyTokenOf(user(UserStatus.ACTIVE, LocalDateTime.now()));
+
+        // Act
+        doFilter();
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("A token with epoch claims is checked against the current epoch")
+    void testToken_StaleEpoch() throws Exception {
+        // Arrange
+        Claims claims = mock(Claims.class);
+        when(jwtUtils.resolveToken(any())).thenReturn("token");
+        when(jwtUtils.getVerifiedClaims("token")).thenReturn(claims);
+        when(jwtUtils.toPrincipal(claims)).thenReturn(new UserPrincipal(7L, "alice@example.com", null, UserRole.MEMBER, 2));
+        when(tokenEpochRegistry.isCurrent(7L, 2)).thenReturn(false);
+
+        // Act
+        doFilter();
+
+        // Assert
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+        verifyNoInteractions(userDetailsService);
+    }
+
+    private void legacyTokenOf(User user) {
+        Claims claims = mock(Claims.class);
+        when(claims.getSubject()).thenReturn(user.getEmail());
+        when(jwtUtils.resolveToken(any())).thenReturn("token");
+        when(jwtUtils.getVerifiedClaims("token")).thenReturn(claims);
+        when(jwtUtils.toPrincipal(claims)).thenReturn(null);
+        when(userDetailsService.loadUserByUsername(user.getEmail())).thenReturn(UserPrincipal.from(user));
+    }
+
+    private void doFilter() throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams");
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        assertNotNull(chain.getRequest());
+    }
+
+    private static User user(UserStatus status, LocalDateTime deletedAt) {
+        return User.builder()
+                .id(7L)
+                .email("alice@example.com")
+                .passwordHash("hash")
+                .role(UserRole.MEMBER)
+                .status(status)
+                .deletedAt(deletedAt)
+                .build();
+    }
+}
@@ -0,0 +1,126 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("JwtUtils Unit Tests")
+class JwtUtilsTest {
+
+    private static final UserPrincipal PRINCIPAL =
+            new UserPrincipal(7L, "alice@example.com", null, UserRole.ADMIN, 3);
+
+    private JwtUtils jwtUtils;
+
+    @BeforeEach
+    void setUp() {
+        jwtUtils = jwtUtils(60_000L);
+    }
+
+    @Test
+    @DisplayName("A generated token verifies and rebuilds the principal from its claims")
+    void testGetVerifiedClaims_RoundTrip() {
+        // Arrange
+        String token = jwtUtils.generateToken(PRINCIPAL);
+
+        // Act
+        Claims claims = jwtUtils.getVerifiedClaims(token);
+        UserPrincipal principal = jwtUtils.toPrincipal(claims);
+
+        // Assert
+        assertEquals("alice@example.com", claims.getSubject());
+        assertEquals(7L, principal.getUserId());
+        assertEquals(UserRole.ADMIN, principal.getRole());
+        assertEquals(3, principal.getTokenEpoch());
+        assertSame(claims, jwtUtils.getVerifiedClaims(token));
+    }
+
+    @Test
+    @DisplayName("An expired token is rejected and never cached")
+    void testGetVerifiedClaims_Expired() {
+        // Arrange
+        JwtUtils expiring = jwtUtils(-1_000L);
+        String token = expiring.generateToken(PRINCIPAL);
+
+        // Act & Assert
+        assertNull(expiring.getVerifiedClaims(token));
+        assertEquals(0, verifiedTokens(expiring).size());
+    }
+
+    @Test
+    @DisplayName("A tampered signature is rejected even though the original token is cached")
+    void testGetVerifiedClaims_TamperedSignature() {
+        // Arrange
+        String token = jwtUtils.generateToken(PRINCIPAL);
+        assertNotNull(jwtUtils.getVerifiedClaims(token));
+        int signatureStart = token.lastIndexOf('.') + 1;
+        char first = token.charAt(signatureStart);
+        String tampered = token.substring(0, signatureStart) + (first == 'A' ? 'B' : 'A')
+                + token.substring(signatureStart + 1);
+
+        // Act & Assert
+        assertNull(jwtUtils.getVerifiedClaims(tampered));
+        assertEquals(1, verifiedTokens(jwtUtils).size());
+    }
+
+    @Test
+    @DisplayName("A token signed with another key is rejected")
+    void testGetVerifiedClaims_ForeignKey() {
+        // Arrange
+        JwtUtils other = jwtUtils(60_000L);
+        ReflectionTestUtils.setField(other, "jwtSecret", "fedcba9876543210fedcba9876543210");
+        other.init();
+
+        // Act & Assert
+        assertNull(jwtUtils.getVerifiedClaims(other.generateToken(PRINCIPAL)));
+    }
+
+    @Test
+    @DisplayName("An evicted token is verified again on its next use")
+    void testEvictVerifiedToken() {
+        // Arrange
+        String token = jwtUtils.generateToken(PRINCIPAL);
+        Claims first = jwtUtils.getVerifiedClaims(token);
+
+        // Act
+        jwtUtils.evictVerifiedToken(token);
+
+        // Assert
+        assertEquals(0, verifiedTokens(jwtUtils).size());
+        Claims second = jwtUtils.getVerifiedClaims(token);
+        assertNotSame(first, second);
+        assertEquals(first.getId(), second.getId());
+    }
+
+    @Test
+    @DisplayName("Tokens issued without the id, role or epoch claims give no principal")
+    void testToPrincipal_LegacyClaims() {
+        Claims subjectOnly = Jwts.claims().setSubject("alice@example.com");
+        Claims noEpoch = Jwts.claims().setSubject("alice@example.com");
+        noEpoch.put(JwtUtils.CLAIM_USER_ID, 7);
+        noEpoch.put(JwtUtils.CLAIM_ROLE, "ADMIN");
+
+        assertNull(jwtUtils.toPrincipal(subjectOnly));
+        assertNull(jwtUtils.toPrincipal(noEpoch));
+    }
+
+    private static JwtUtils jwtUtils(long expirationMs) {
+        JwtUtils utils = new JwtUtils();
+        ReflectionTestUtils.setField(utils, "jwtSecret", "0123456789abcdef0123456789abcdef");
+        ReflectionTestUtils.setField(utils, "jwtExpirationMs", expirationMs);
+        ReflectionTestUtils.setField(utils, "cacheMaxEntries", 100);
+        utils.init();
+        return utils;
+    }
+
+    private static VerifiedTokenCache verifiedTokens(JwtUtils utils) {
+        return (VerifiedTokenCache) ReflectionTestUtils.getField(utils, "verifiedTokens");
+    }
+}
@@ -0,0 +1,73 @@
+package vn.sun.membermanagementsystem.config.jwt;
+
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("VerifiedTokenCache Unit Tests")
+class VerifiedTokenCacheTest {
+
+    private static final long NOW = 1_700_000_000_000L;
+
+    @Test
+    @DisplayName("Claims are served until the token's exp and dropped after it")
+    void testGet_Expiry() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+        Claims claims = claimsExpiringAt(NOW + 1_000);
+        cache.put("a", claims);
+
+        // Act & Assert
+        assertSame(claims, cache.get("a", NOW + 999));
+        assertNull(cache.get("a", NOW + 1_000));
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("The least recently used entry is evicted beyond the bound")
+    void testPut_LruBound() {
+        // Arrange
+        VerifiedTokenCache cache = new VerifiedTokenCache(2);
+        cache.put("a", claimsExpiringAt(NOW + 60_000));
+        cache.put("b", claimsExpiringAt(NOW + 60_000));
+        assertNotNull(cache.get("a", NOW));
+
+        // Act
+        cache.put("c", claimsExpiringAt(NOW + 60_000));
+
+        // Assert
+        assertEquals(2, cache.size());
+        assertNotNull(cache.get("a", NOW));
+        assertNull(cache.get("b", NOW));
+        assertNotNull(cache.get("c", NOW));
+    }
+
+    @Test
+    @DisplayName("Tokens without exp are not cached")
+    void testPut_NoExpiration() {
+        VerifiedTokenCache cache = new VerifiedTokenCache(10);
+
+        cache.put("a", Jwts.claims().setSubject("alice@example.com"));
+
+        assertEquals(0, cache.size());
+    }
+
+    @Test
+    @DisplayName("Keys are stable digests that never contain the raw token")
+    void testKeyOf() {
+        String token = "header.payload.signature";
+
+        assertEquals(VerifiedTokenCache.keyOf(token), VerifiedTokenCache.keyOf(token));
+        assertNotEquals(VerifiedTokenCache.keyOf(token), VerifiedTokenCache.keyOf(token + "x"));
+        assertFalse(VerifiedTokenCache.keyOf(token).contains("payload"));
+    }
+
+    private static Claims claimsExpiringAt(long expiresAtMs) {
+        return Jwts.claims().setSubject("alice@example.com").setExpiration(new Date(expiresAtMs));
+    }
+}
@@ -0,0 +1,73 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.stream.IntStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BloomFilter Unit Tests")
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("Every added value is reported as possibly present")
+    void testMightContain_NoFalseNegatives() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        List<String> values = IntStream.range(0, 10_000).mapToObj(i -> UUID.randomUUID().toString()).toList();
+
+        values.forEach(filter::add);
+
+        values.forEach(value -> assertTrue(filter.mightContain(value), value));
+    }
+
+    @Test
+    @DisplayName("The false positive rate stays near the configured one")
+    void testMightContain_FalsePositiveRate() {
+        BloomFilter filter = new BloomFilter(10_000, 0.01);
+        IntStream.range(0, 10_000).forEach(i -> filter.add("jti-" + i));
+
+        long falsePositives = IntStream.range(10_000, 110_000)
+                .filter(i -> filter.mightContain("jti-" + i))
+                .count();
+
+        assertTrue(falsePositives < 3_000, "false positives: " + falsePositives);
+    }
+
+    @Test
+    @DisplayName("Values added concurrently are all kept")
+    void testAdd_Concurrent() throws Exception {
+        BloomFilter filter = new BloomFilter(1_000, 0.01);
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        try {
+            List<Future<?>> futures = new ArrayList<>();
+            for (int thread = 0; thread < 8; thread++) {
+                int offset = thread * 1_000;
+                futures.add(executor.submit(() -> IntStream.range(offset, offset + 1_000)
+                        .forEach(i -> filter.add("jti-" + i))));
+            }
+            for (Future<?> future : futures) {
+                future.get();
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+
+        IntStream.range(0, 8_000).forEach(i -> assertTrue(filter.mightContain("jti-" + i), "jti-" + i));
+    }
+
+    @Test
+    @DisplayName("An empty filter contains nothing")
+    void testMightContain_Empty() {
+        BloomFilter filter = new BloomFilter(0, 0.01);
+
+        assertFalse(filter.mightContain("jti-1"));
+        assertFalse(filter.mightContain(""));
+    }
+}
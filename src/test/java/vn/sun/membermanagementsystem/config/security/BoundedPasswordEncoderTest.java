@@ -0,0 +1,137 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ThreadPoolExecutor;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("BoundedPasswordEncoder Unit Tests")
+class BoundedPasswordEncoderTest {
+
+    private static final int STRENGTH = 4;
+
+    private final CountDownLatch release = new CountDownLatch(1);
+
+    private BoundedPasswordEncoder encoder;
+
+    @AfterEach
+    void tearDown() {
+        release.countDown();
+        if (encoder != null) {
+            encoder.shutdown();
+        }
+    }
+
+    @Test
+    @DisplayName("matches is answered by BCrypt on the pool")
+    void testMatches_Delegated() {
+        encoder = new BoundedPasswordEncoder(STRENGTH, 2, 10, 5_000);
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("secret12");
+
+        assertTrue(encoder.matches("secret12", hash));
+        assertFalse(encoder.matches("wrong", hash));
+        assertEquals(2, encoder.getStats().getVerifications());
+    }
+
+    @Test
+    @DisplayName("upgradeEncoding flags hashes made with a lower cost")
+    void testUpgradeEncoding_Delegated() {
+        encoder = new BoundedPasswordEncoder(STRENGTH + 1, 1, 10, 5_000);
+
+        assertTrue(encoder.upgradeEncoding(new BCryptPasswordEncoder(STRENGTH).encode("secret12")));
+        assertFalse(encoder.upgradeEncoding(new BCryptPasswordEncoder(STRENGTH + 1).encode("secret12")));
+    }
+
+    @Test
+    @DisplayName("A full queue fails fast with 429")
+    void testMatches_QueueFull() {
+        encoder = new BoundedPasswordEncoder(STRENGTH, 1, 1, 5_000);
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("secret12");
+        occupyThread();
+        executor().execute(this::awaitRelease);
+
+        PasswordHashingOverloadException e = assertThrows(PasswordHashingOverloadException.class,
+                () -> encoder.matches("secret12", hash));
+
+        assertEquals(429, e.getStatus());
+        assertEquals(1, encoder.getStats().getRejected());
+    }
+
+    @Test
+    @DisplayName("A verification waiting past maxWaitMs fails with 503 and frees its queue slot")
+    void testMatches_Timeout() {
+        encoder = new BoundedPasswordEncoder(STRENGTH, 1, 5, 50);
+        String hash = new BCryptPasswordEncoder(STRENGTH).encode("secret12");
+        occupyThread();
+
+        PasswordHashingOverloadException e = assertThrows(PasswordHashingOverloadException.class,
+                () -> encoder.matches("secret12", hash));
+
+        assertEquals(503, e.getStatus());
+        assertEquals(1, encoder.getStats().getTimedOut());
+        assertEquals(0, executor().getQueue().size());
+    }
+
+    @Test
+    @DisplayName("encodeAll gives every password its own salt")
+    void testEncodeAll() {
+        encoder = new BoundedPasswordEncoder(STRENGTH, 4, 10, 5_000);
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(STRENGTH);
+
+        List<String> hashes = encoder.encodeAll(List.of("123456", "123456", "secret12"));
+
+        assertEquals(3, hashes.size());
+        assertNotEquals(hashes.get(0), hashes.get(1));
+        assertTrue(bcrypt.matches("123456", hashes.get(0)));
+        assertTrue(bcrypt.matches("123456", hashes.get(1)));
+        assertTrue(bcrypt.matches("secret12", hashes.get(2)));
+    }
+
+    @Test
+    @DisplayName("encodeAll falls back to the caller thread when the queue is full")
+    void testEncodeAll_QueueFull() {
+        encoder = new BoundedPasswordEncoder(STRENGTH, 1, 1, 5_000);
+        occupyThread();
+        executor().execute(this::awaitRelease);
+
+        List<String> hashes = encoder.encodeAll(List.of("123456", "secret12"));
+
+        BCryptPasswordEncoder bcrypt = new BCryptPasswordEncoder(STRENGTH);
+        assertTrue(bcrypt.matches("123456", hashes.get(0)));
+        assertTrue(bcrypt.matches("secret12", hashes.get(1)));
+    }
+
+    /** Blocks the only hashing thread until the test ends. */
+    private void occupyThread() {
+        CountDownLatch started = new CountDownLatch(1);
+        executor().execute(() -> {
+            started.countDown();
+            awaitRelease();
+        });
+        try {
+            started.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            fail(e);
+        }
+    }
+
+    private void awaitRelease() {
+        try {
+            release.await();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+        }
+    }
+
+    private ThreadPoolExecutor executor() {
+        return (ThreadPoolExecutor) ReflectionTestUtils.getField(encoder, "executor");
+    }
+}
@@ -0,0 +1,60 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockHttpServletRequest;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ClientIpResolver Unit Tests")
+class ClientIpResolverTest {
+
+    private final ClientIpResolver resolver = new ClientIpResolver(List.of("10.0.0.0/8", "::1"));
+
+    @Test
+    @DisplayName("Forwarding headers from an untrusted peer are ignored")
+    void testResolve_UntrustedPeer() {
+        MockHttpServletRequest request = request("203.0.113.5");
+        request.addHeader("X-Forwarded-For", "198.51.100.1");
+        request.addHeader("X-Real-IP", "198.51.100.2");
+
+        assertEquals("203.0.113.5", resolver.resolve(request));
+    }
+
+    @Test
+    @DisplayName("Behind a trusted proxy the nearest untrusted hop is the client")
+    void testResolve_TrustedProxy() {
+        MockHttpServletRequest request = request("10.0.0.7");
+        request.addHeader("X-Forwarded-For", "1.1.1.1, 198.51.100.9, 10.0.0.3");
+
+        assertEquals("198.51.100.9", resolver.resolve(request));
+    }
+
+    @Test
+    @DisplayName("Forged non-address hops are never taken for a proxy")
+    void testResolve_ForgedHop() {
+        MockHttpServletRequest request = request("10.0.0.7");
+        request.addHeader("X-Forwarded-For", "not-an-ip");
+
+        assertEquals("not-an-ip", resolver.resolve(request));
+    }
+
+    @Test
+    @DisplayName("X-Real-IP and then the socket address are used when there is no forwarded chain")
+    void testResolve_Fallbacks() {
+        MockHttpServletRequest withRealIp = request("0:0:0:0:0:0:0:1");
+        withRealIp.addHeader("X-Real-IP", "198.51.100.4");
+        assertEquals("198.51.100.4", resolver.resolve(withRealIp));
+
+        assertEquals("10.0.0.7", resolver.resolve(request("10.0.0.7")));
+        assertEquals("10.0.0.7", new ClientIpResolver(List.of()).resolve(request("10.0.0.7")));
+    }
+
+    private static MockHttpServletRequest request(String remoteAddr) {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        return request;
+    }
+}
@@ -0,0 +1,77 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpHeaders;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("RateLimitFilter Unit Tests")
+class RateLimitFilterTest {
+
+    private static final String PROXY = "10.0.0.1";
+
+    private RateLimitFilter filter;
+
+    @BeforeEach
+    void setUp() {
+        SecurityContextHolder.clearContext();
+        TokenBucketRateLimiter rateLimiter = new TokenBucketRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxClients", 100);
+        ReflectionTestUtils.setField(rateLimiter, "ruleSpecs", List.of("/api/v1/auth/**=2:0.01"));
+        rateLimiter.init();
+        filter = new RateLimitFilter(rateLimiter, new ClientIpResolver(List.of(PROXY)), new ObjectMapper());
+    }
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("A direct caller rotating X-Forwarded-For still shares one bucket")
+    void testDoFilter_SpoofedHeaderFromUntrustedPeer() throws Exception {
+        assertEquals(200, login("203.0.113.5", "198.51.100.1").getStatus());
+        assertEquals(200, login("203.0.113.5", "198.51.100.2").getStatus());
+
+        MockHttpServletResponse rejected = login("203.0.113.5", "198.51.100.3");
+        assertEquals(429, rejected.getStatus());
+        assertNotNull(rejected.getHeader(HttpHeaders.RETRY_AFTER));
+        assertEquals("0", rejected.getHeader(RateLimitFilter.HEADER_REMAINING));
+        assertTrue(rejected.getContentAsString().contains("Too many requests"));
+    }
+
+    @Test
+    @DisplayName("Behind the trusted proxy callers are keyed by the hop the proxy appended")
+    void testDoFilter_TrustedProxy() throws Exception {
+        assertEquals(200, login(PROXY, "1.1.1.1, 198.51.100.7").getStatus());
+        assertEquals(200, login(PROXY, "2.2.2.2, 198.51.100.7").getStatus());
+        assertEquals(429, login(PROXY, "3.3.3.3, 198.51.100.7").getStatus());
+
+        assertEquals(200, login(PROXY, "198.51.100.8").getStatus());
+    }
+
+    private MockHttpServletResponse login(String remoteAddr, String xForwardedFor) throws Exception {
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/login");
+        request.setRemoteAddr(remoteAddr);
+        request.addHeader("X-Forwarded-For", xForwardedFor);
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        MockFilterChain chain = new MockFilterChain();
+
+        filter.doFilter(request, response, chain);
+
+        assertEquals(response.getStatus() != 429, chain.getRequest() != null);
+        return response;
+    }
+}
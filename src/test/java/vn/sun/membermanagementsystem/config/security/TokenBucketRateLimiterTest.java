@@ -0,0 +1,112 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("TokenBucketRateLimiter Unit Tests")
+class TokenBucketRateLimiterTest {
+
+    private static final long SECOND = TimeUnit.SECONDS.toNanos(1);
+
+    private TokenBucketRateLimiter rateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        rateLimiter = new TokenBucketRateLimiter();
+        ReflectionTestUtils.setField(rateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(rateLimiter, "maxClients", 100);
+        ReflectionTestUtils.setField(rateLimiter, "ruleSpecs", List.of("/api/v1/auth/**=3:1", "/api/**=100:50"));
+        rateLimiter.init();
+    }
+
+    @Test
+    @DisplayName("Allows a burst up to the capacity, then rejects with Retry-After")
+    void testTryAcquire_BurstThenReject() {
+        long now = 1_000 * SECOND;
+
+        for (int expectedRemaining = 2; expectedRemaining >= 0; expectedRemaining--) {
+            TokenBucketRateLimiter.Decision decision = rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now);
+            assertTrue(decision.allowed());
+            assertEquals(3, decision.limit());
+            assertEquals(expectedRemaining, decision.remaining());
+        }
+
+        TokenBucketRateLimiter.Decision rejected = rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now);
+        assertFalse(rejected.allowed());
+        assertEquals(0, rejected.remaining());
+        assertEquals(1, rejected.retryAfterSeconds());
+    }
+
+    @Test
+    @DisplayName("Tokens refill at the configured rate")
+    void testTryAcquire_Refills() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now);
+        }
+
+        assertFalse(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now + SECOND / 2).allowed());
+        assertTrue(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now + SECOND).allowed());
+    }
+
+    @Test
+    @DisplayName("Clients and routes have separate buckets, unmatched paths are not limited")
+    void testTryAcquire_SeparateBuckets() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now);
+        }
+
+        assertTrue(rateLimiter.tryAcquire("ip:5.6.7.8", "/api/v1/auth/login", now).allowed());
+        assertTrue(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/teams", now).allowed());
+        assertNull(rateLimiter.tryAcquire("ip:1.2.3.4", "/swagger-ui/index.html", now));
+    }
+
+    @Test
+    @DisplayName("A full map evicts refilled buckets and gives a newcomer a bucket of its own")
+    void testTryAcquire_FullMapEvictsIdle() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 100; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0." + i, "/api/v1/auth/login", now);
+        }
+        assertEquals(100, rateLimiter.getBucketCount());
+
+        long later = now + 5 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            assertTrue(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", later).allowed());
+        }
+        assertFalse(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", later).allowed());
+        assertTrue(rateLimiter.tryAcquire("ip:5.6.7.8", "/api/v1/auth/login", later).allowed());
+        assertTrue(rateLimiter.getBucketCount() <= 100);
+    }
+
+    @Test
+    @DisplayName("Without idle buckets the nearly-full ones are evicted and exhausted ones are kept")
+    void testTryAcquire_FullMapKeepsExhausted() {
+        long now = 1_000 * SECOND;
+        for (int i = 0; i < 3; i++) {
+            rateLimiter.tryAcquire("ip:6.6.6.6", "/api/v1/auth/login", now);
+        }
+        for (int i = 0; i < 99; i++) {
+            rateLimiter.tryAcquire("ip:10.0.0." + i, "/api/v1/auth/login", now);
+        }
+
+        assertTrue(rateLimiter.tryAcquire("ip:1.2.3.4", "/api/v1/auth/login", now).allowed());
+        assertFalse(rateLimiter.tryAcquire("ip:6.6.6.6", "/api/v1/auth/login", now).allowed());
+        assertTrue(rateLimiter.getBucketCount() <= 100);
+    }
+
+    @Test
+    @DisplayName("Rejects malformed rules")
+    void testParseRule_Invalid() {
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketRateLimiter.parseRule("/api/**=10"));
+        assertThrows(IllegalArgumentException.class, () -> TokenBucketRateLimiter.parseRule("/api/**=0:1"));
+    }
+}
@@ -0,0 +1,142 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.sql.ResultSet;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenEpochRegistry Unit Tests")
+class TokenEpochRegistryTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TokenEpochRegistry registry;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        // Active users 1 (epoch 0) and 2 (epoch 4)
+        List<ResultSet> rows = List.of(epochRow(1L, 0), epochRow(2L, 4));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : rows) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id, token_epoch"), any(RowCallbackHandler.class));
+        registry.onApplicationReady();
+    }
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Only the current epoch of a loaded user is accepted, without a per-user query")
+    void testIsCurrent_LoadedUser() {
+        assertTrue(registry.isCurrent(2L, 4));
+        assertFalse(registry.isCurrent(2L, 3));
+        assertTrue(registry.isCurrent(1L, 0));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("A deleted or deactivated user is rejected and remembered as absent")
+    void testIsCurrent_AbsentUser() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(9L))).thenReturn(List.of());
+
+        // Act & Assert
+        assertFalse(registry.isCurrent(9L, 0));
+        assertFalse(registry.isCurrent(9L, -1));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Integer.class), eq(9L));
+    }
+
+    @Test
+    @DisplayName("A user created since the last refresh is loaded on first use")
+    void testIsCurrent_NewUser() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(5L))).thenReturn(List.of(1));
+
+        // Act & Assert
+        assertTrue(registry.isCurrent(5L, 1));
+        assertFalse(registry.isCurrent(5L, 0));
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(Integer.class), eq(5L));
+    }
+
+    @Test
+    @DisplayName("An eviction inside a transaction only takes effect after commit")
+    void testEvictAfterCommit() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(2L))).thenReturn(List.of(5));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        registry.evictAfterCommit(2L);
+
+        // Assert: still the old epoch until the change is committed
+        assertTrue(registry.isCurrent(2L, 4));
+        verify(jdbcTemplate, never()).queryForList(anyString(), eq(Integer.class), any());
+
+        TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+        TransactionSynchronizationManager.clearSynchronization();
+
+        assertFalse(registry.isCurrent(2L, 4));
+        assertTrue(registry.isCurrent(2L, 5));
+    }
+
+    @Test
+    @DisplayName("Outside a transaction an eviction applies immediately")
+    void testEvictAfterCommit_NoTransaction() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(Integer.class), eq(1L))).thenReturn(List.of());
+
+        // Act
+        registry.evictAfterCommit(1L);
+
+        // Assert
+        assertFalse(registry.isCurrent(1L, 0));
+    }
+
+    @Test
+    @DisplayName("A failed refresh keeps serving the previous snapshot")
+    void testRefresh_FailureKeepsSnapshot() {
+        // Arrange
+        doThrow(new DataAccessResourceFailureException("down"))
+                .when(jdbcTemplate).query(startsWith("SELECT id, token_epoch"), any(RowCallbackHandler.class));
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertTrue(registry.isCurrent(2L, 4));
+    }
+
+    private static ResultSet epochRow(long userId, int epoch) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(userId);
+        when(rs.getInt(2)).thenReturn(epoch);
+        return rs;
+    }
+}
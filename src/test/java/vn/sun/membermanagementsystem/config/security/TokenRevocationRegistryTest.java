@@ -0,0 +1,156 @@
+package vn.sun.membermanagementsystem.config.security;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Date;
+import java.util.List;
+import java.util.Map;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("TokenRevocationRegistry Unit Tests")
+class TokenRevocationRegistryTest {
+
+    private static final long HOUR = 3_600_000L;
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private TokenRevocationRegistry registry;
+
+    /** Rows of revoked_tokens handed to the next refresh. */
+    private final List<ResultSet> rowsFromOtherNodes = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(registry, "expectedEntries", 1_000);
+        ReflectionTestUtils.setField(registry, "falsePositiveRate", 0.01);
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : rowsFromOtherNodes) {
+                handler.processRow(rs);
+            }
+            rowsFromOtherNodes.clear();
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT"), any(RowCallbackHandler.class), any(), any());
+        registry.onApplicationReady();
+    }
+
+    @Test
+    @DisplayName("A revoked token is persisted and rejected, other tokens are not")
+    void testRevoke() {
+        // Act
+        registry.revoke("jti-1", 7L, new Date(System.currentTimeMillis() + HOUR));
+
+        // Assert
+        verify(jdbcTemplate).update(startsWith("INSERT IGNORE INTO revoked_tokens"), eq("jti-1"), eq(7L),
+                any(Timestamp.class));
+        assertTrue(registry.isRevoked("jti-1"));
+        assertFalse(registry.isRevoked("jti-2"));
+        assertFalse(registry.isRevoked(null));
+    }
+
+    @Test
+    @DisplayName("Tokens already expired or without an id are not recorded")
+    void testRevoke_Ignored() {
+        // Act
+        registry.revoke("jti-1", 7L, new Date(System.currentTimeMillis() - 1));
+        registry.revoke(null, 7L, new Date(System.currentTimeMillis() + HOUR));
+        registry.revoke("jti-2", 7L, null);
+
+        // Assert
+        verify(jdbcTemplate, never()).update(startsWith("INSERT"), any(Object[].class));
+        assertEquals(0, registry.getRevokedCount());
+    }
+
+    @Test
+    @DisplayName("Revocations from other nodes are loaded and stay rejected after the watermark moves on")
+    void testRefresh_WatermarkKeepsRevocations() throws Exception {
+        // Arrange
+        LocalDateTime revokedAt = LocalDateTime.now().withNano(0);
+        registry.revoke("local", 1L, new Date(System.currentTimeMillis() + HOUR));
+        rowsFromOtherNodes.add(row("remote", System.currentTimeMillis() + HOUR, revokedAt));
+
+        // Act
+        registry.refresh();
+        registry.refresh();
+        registry.refresh();
+
+        // Assert
+        assertTrue(registry.isRevoked("local"));
+        assertTrue(registry.isRevoked("remote"));
+
+        ArgumentCaptor<Object> since = ArgumentCaptor.forClass(Object.class);
+        verify(jdbcTemplate, times(4)).query(startsWith("SELECT"), any(RowCallbackHandler.class), any(), since.capture());
+        // Later refreshes start a minute before the newest revocation seen, and empty ones do not move it back
+        Timestamp expectedSince = Timestamp.valueOf(revokedAt.minusSeconds(60));
+        assertEquals(expectedSince, since.getAllValues().get(2));
+        assertEquals(expectedSince, since.getAllValues().get(3));
+    }
+
+    @Test
+    @DisplayName("Evicting expired entries rebuilds the filter without losing live revocations")
+    void testRefresh_RebuildOnEvict() {
+        // Arrange
+        registry.revoke("live", 1L, new Date(System.currentTimeMillis() + HOUR));
+        Map<String, Long> revoked = revokedMap();
+        revoked.put("expired", System.currentTimeMillis() - 1);
+        Object filterBefore = ReflectionTestUtils.getField(registry, "bloomFilter");
+
+        // Act
+        registry.refresh();
+
+        // Assert
+        assertNotSame(filterBefore, ReflectionTestUtils.getField(registry, "bloomFilter"));
+        assertTrue(registry.isRevoked("live"));
+        assertFalse(registry.isRevoked("expired"));
+        assertEquals(1, registry.getRevokedCount());
+
+        registry.revoke("after-rebuild", 1L, new Date(System.currentTimeMillis() + HOUR));
+        assertTrue(registry.isRevoked("after-rebuild"));
+    }
+
+    @Test
+    @DisplayName("A failing refresh keeps what is already known")
+    void testRefresh_DatabaseDown() {
+        // Arrange
+        registry.revoke("jti-1", 1L, new Date(System.currentTimeMillis() + HOUR));
+        when(jdbcTemplate.update(startsWith("DELETE"), any(Object[].class)))
+                .thenThrow(new IllegalStateException("down"));
+
+        // Act & Assert
+        assertDoesNotThrow(() -> registry.refresh());
+        assertTrue(registry.isRevoked("jti-1"));
+    }
+
+    @SuppressWarnings("unchecked")
+    private Map<String, Long> revokedMap() {
+        return (Map<String, Long>) ReflectionTestUtils.getField(registry, "revoked");
+    }
+
+    private static ResultSet row(String jti, long expiresAtMs, LocalDateTime revokedAt) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(jti);
+        when(rs.getTimestamp(2)).thenReturn(new Timestamp(expiresAtMs));
+        when(rs.getTimestamp(3)).thenReturn(Timestamp.valueOf(revokedAt));
+        return rs;
+    }
+}
@@ -0,0 +1,94 @@
+package vn.sun.membermanagementsystem.controller;
+
+import io.jsonwebtoken.Claims;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.security.authentication.AuthenticationManager;
+import org.springframework.security.authentication.UsernamePasswordAuthenticationToken;
+import org.springframework.security.core.context.SecurityContextHolder;
+import vn.sun.membermanagementsystem.config.jwt.JwtUtils;
+import vn.sun.membermanagementsystem.config.security.AuthenticationLoggingHandler;
+import vn.sun.membermanagementsystem.config.security.TokenRevocationRegistry;
+import vn.sun.membermanagementsystem.config.security.UserPrincipal;
+import vn.sun.membermanagementsystem.enums.UserRole;
+
+import java.util.Date;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("AuthUserController Unit Tests")
+class AuthUserControllerTest {
+
+    @Mock
+    private AuthenticationManager authenticationManager;
+
+    @Mock
+    private JwtUtils jwtUtils;
+
+    @Mock
+    private AuthenticationLoggingHandler authLoggingHandler;
+
+    @Mock
+    private TokenRevocationRegistry tokenRevocationRegistry;
+
+    @InjectMocks
+    private AuthUserController authUserController;
+
+    @AfterEach
+    void tearDown() {
+        SecurityContextHolder.clearContext();
+    }
+
+    @Test
+    @DisplayName("Logout revokes the presented token until it expires")
+    void testLogout_RevokesToken() {
+        // Arrange
+        UserPrincipal principal = new UserPrincipal(7L, "alice@example.com", null, UserRole.MEMBER);
+        SecurityContextHolder.getContext().setAuthentication(
+                new UsernamePasswordAuthenticationToken(principal, null, principal.getAuthorities()));
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        Date expiration = new Date(System.currentTimeMillis() + 3_600_000L);
+        Claims claims = mock(Claims.class);
+        when(claims.getId()).thenReturn("jti-1");
+        when(claims.getExpiration()).thenReturn(expiration);
+        when(jwtUtils.resolveToken(request)).thenReturn("token");
+        when(jwtUtils.getVerifiedClaims("token")).thenReturn(claims);
+
+        // Act
+        ResponseEntity<?> response = authUserController.logoutUser(request);
+
+        // Assert
+        assertEquals(200, response.getStatusCode().value());
+        verify(tokenRevocationRegistry, times(1)).revoke("jti-1", 7L, expiration);
+        verify(jwtUtils, times(1)).evictVerifiedToken("token");
+        verify(authLoggingHandler, times(1)).logApiLogout(any(), eq(request));
+        assertNull(SecurityContextHolder.getContext().getAuthentication());
+    }
+
+    @Test
+    @DisplayName("Logout without a valid token revokes nothing")
+    void testLogout_NoValidToken() {
+        // Arrange
+        MockHttpServletRequest request = new MockHttpServletRequest("POST", "/api/v1/auth/logout");
+        when(jwtUtils.resolveToken(request)).thenReturn("forged");
+        when(jwtUtils.getVerifiedClaims("forged")).thenReturn(null);
+
+        // Act
+        ResponseEntity<?> response = authUserController.logoutUser(request);
+
+        // Assert
+        assertEquals(200, response.getStatusCode().value());
+        verifyNoInteractions(tokenRevocationRegistry);
+        verify(jwtUtils, never()).evictVerifiedToken(any());
+    }
+}
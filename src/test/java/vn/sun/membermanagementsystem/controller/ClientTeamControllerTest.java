@@ -0,0 +1,75 @@
+package vn.sun.membermanagementsystem.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import vn.sun.membermanagementsystem.dto.response.TeamDetailDTO;
+import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.TeamService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ClientTeamController Unit Tests")
+class ClientTeamControllerTest {
+
+    @Mock
+    private TeamService teamService;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    @InjectMocks
+    private ClientTeamController clientTeamController;
+
+    private MockHttpServletResponse servletResponse;
+    private ServletWebRequest webRequest;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/teams/3");
+        request.addHeader("If-None-Match", "\"t3-0-0\"");
+        servletResponse = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(request, servletResponse);
+    }
+
+    @Test
+    @DisplayName("An unchanged team detail is answered with 304 without loading it")
+    void testGetTeamDetail_NotModified() {
+        // Arrange
+        when(entityVersionService.teamETag(3L)).thenReturn("t3-0-0");
+
+        // Act
+        ResponseEntity<TeamDetailDTO> response = clientTeamController.getTeamDetail(3L, webRequest);
+
+        // Assert
+        assertNull(response);
+        assertEquals(304, servletResponse.getStatus());
+        verifyNoInteractions(teamService);
+    }
+
+    @Test
+    @DisplayName("An unknown team is 404 even when its never-versioned ETag is sent")
+    void testGetTeamDetail_UnknownTeam() {
+        // Arrange
+        when(entityVersionService.teamETag(3L)).thenReturn(null);
+        when(teamService.getTeamDetail(3L)).thenThrow(new ResourceNotFoundException("Team not found with ID: 3"));
+
+        // Act
+        ResponseEntity<TeamDetailDTO> response = clientTeamController.getTeamDetail(3L, webRequest);
+
+        // Assert
+        assertEquals(404, response.getStatusCode().value());
+        assertNotEquals(304, servletResponse.getStatus());
+    }
+}
@@ -0,0 +1,93 @@
+package vn.sun.membermanagementsystem.controller;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.http.ResponseEntity;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.context.request.ServletWebRequest;
+import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
+import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.UserService;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserProfileController Unit Tests")
+class UserProfileControllerTest {
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    @InjectMocks
+    private UserProfileController userProfileController;
+
+    private MockHttpServletResponse servletResponse;
+    private ServletWebRequest webRequest;
+
+    @BeforeEach
+    void setUp() {
+        MockHttpServletRequest request = new MockHttpServletRequest("GET", "/api/v1/users/1/profile");
+        request.addHeader("If-None-Match", "\"u1-5-3\"");
+        servletResponse = new MockHttpServletResponse();
+        webRequest = new ServletWebRequest(request, servletResponse);
+    }
+
+    @Test
+    @DisplayName("An unchanged profile is answered with 304 without loading it")
+    void testGetUserProfile_NotModified() {
+        // Arrange
+        when(entityVersionService.userProfileETag(1L)).thenReturn("u1-5-3");
+
+        // Act
+        ResponseEntity<?> response = userProfileController.getUserProfileById(1L, webRequest);
+
+        // Assert
+        assertNull(response);
+        assertEquals(304, servletResponse.getStatus());
+        verifyNoInteractions(userService);
+    }
+
+    @Test
+    @DisplayName("A changed profile is returned with its new ETag")
+    void testGetUserProfile_Modified() {
+        // Arrange
+        UserProfileDetailDTO profile = new UserProfileDetailDTO();
+        when(entityVersionService.userProfileETag(1L)).thenReturn("u1-6-3");
+        when(userService.getUserDetailById(1L)).thenReturn(profile);
+
+        // Act
+        ResponseEntity<?> response = userProfileController.getUserProfileById(1L, webRequest);
+
+        // Assert
+        assertEquals(200, response.getStatusCode().value());
+        assertEquals("\"u1-6-3\"", response.getHeaders().getETag());
+        assertSame(profile, response.getBody());
+    }
+
+    @Test
+    @DisplayName("An unknown user is 404 even when If-None-Match is sent")
+    void testGetUserProfile_UnknownUser() {
+        // Arrange
+        when(entityVersionService.userProfileETag(1L)).thenReturn(null);
+        when(userService.getUserDetailById(1L)).thenThrow(new ResourceNotFoundException("User not found with ID: 1"));
+
+        // Act
+        ResponseEntity<?> response = userProfileController.getUserProfileById(1L, webRequest);
+
+        // Assert
+        assertEquals(404, response.getStatusCode().value());
+        assertNotEquals(304, servletResponse.getStatus());
+        assertNull(response.getHeaders().getETag());
+    }
+}
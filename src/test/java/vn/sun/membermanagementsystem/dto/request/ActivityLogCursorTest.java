@@ -0,0 +1,47 @@
+package vn.sun.membermanagementsystem.dto.request;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDateTime;
+import java.util.Base64;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("ActivityLogCursor Unit Tests")
+class ActivityLogCursorTest {
+
+    @Test
+    @DisplayName("A cursor survives encode and decode, fractional seconds included")
+    void testRoundTrip() {
+        ActivityLogCursor cursor = new ActivityLogCursor(LocalDateTime.of(2026, 3, 1, 10, 15, 30, 123_456_000), 42L);
+
+        String token = cursor.encode();
+
+        assertEquals(cursor, ActivityLogCursor.decode(token));
+        assertFalse(token.contains("="), token);
+        assertFalse(token.contains("/") || token.contains("+"), token);
+    }
+
+    @Test
+    @DisplayName("No cursor means the first page")
+    void testDecode_Empty() {
+        assertNull(ActivityLogCursor.decode(null));
+        assertNull(ActivityLogCursor.decode(" "));
+    }
+
+    @Test
+    @DisplayName("Malformed cursors are a bad request")
+    void testDecode_Malformed() {
+        for (String token : new String[]{"not base64!", encoded("2026-03-01T10:15"), encoded("yesterday|42"),
+                encoded("2026-03-01T10:15|x"), encoded("|42")}) {
+            assertThrows(BadRequestException.class, () -> ActivityLogCursor.decode(token), token);
+        }
+    }
+
+    private static String encoded(String raw) {
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+}
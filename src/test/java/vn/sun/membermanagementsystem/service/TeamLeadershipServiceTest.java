@@ -1,5 +1,6 @@
 package vn.sun.membermanagementsystem.service;
 
+import jakarta.persistence.EntityManager;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
@@ -20,6 +21,8 @@ import vn.sun.membermanagementsystem.repositories.TeamLeadershipHistoryRepositor
 import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 import vn.sun.membermanagementsystem.services.impls.TeamLeadershipServiceImpl;
 
 import java.time.LocalDateTime;
@@ -47,6 +50,15 @@ public class TeamLeadershipServiceTest {
     @Mock
     private TeamMemberRepository teamMemberRepository;
 
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
     @InjectMocks
     private TeamLeadershipServiceImpl leadershipService;
 
@@ -99,6 +111,7 @@ public class TeamLeadershipServiceTest {
         assertEquals(testUser.getEmail(), result.getEmail());
         verify(teamMemberRepository, times(1)).save(any(TeamMember.class));
         verify(leadershipRepository, times(1)).save(any(TeamLeadershipHistory.class));
+        verify(userDirectoryService, times(1)).markUserChanged(testUser.getId());
     }
 
     @Test
@@ -115,6 +128,7 @@ public class TeamLeadershipServiceTest {
         assertNotNull(result);
         verify(teamMemberRepository, never()).save(any(TeamMember.class));
         verify(leadershipRepository, times(1)).save(any(TeamLeadershipHistory.class));
+        verify(userDirectoryService, never()).markUserChanged(any());
     }
 
     @Test
@@ -236,6 +250,7 @@ public class TeamLeadershipServiceTest {
 
         assertNotNull(testLeadership.getEndedAt());
         verify(leadershipRepository, times(1)).save(testLeadership);
+        verify(entityVersionService, times(1)).touchTeam(1L);
     }
 
     @Test
@@ -13,7 +13,10 @@ import vn.sun.membermanagementsystem.entities.Team;
 import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.TeamMapper;
+import vn.sun.membermanagementsystem.repositories.TeamMemberRepository;
 import vn.sun.membermanagementsystem.repositories.TeamRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 import vn.sun.membermanagementsystem.services.impls.TeamServiceImpl;
 
 import java.time.LocalDateTime;
@@ -34,6 +37,15 @@ public class TeamServiceTest {
     @Mock
     private vn.sun.membermanagementsystem.services.TeamLeadershipService teamLeadershipService;
 
+    @Mock
+    private TeamMemberRepository teamMemberRepository;
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
     @InjectMocks
     private TeamServiceImpl teamService;
 
@@ -71,6 +83,7 @@ public class TeamServiceTest {
         assertEquals("Team A", result.getName());
         verify(teamRepository, times(1)).save(any(Team.class));
         verify(teamLeadershipService, never()).assignLeader(any(), any());
+        verify(userDirectoryService, times(1)).markTeamChanged(1L);
     }
 
     @Test
@@ -82,6 +95,7 @@ public class TeamServiceTest {
 
         assertThrows(DuplicateResourceException.class, () -> teamService.createTeam(request));
         verify(teamRepository, never()).save(any(Team.class));
+        verify(userDirectoryService, never()).markTeamChanged(any());
     }
 
     @Test
@@ -134,6 +148,7 @@ public class TeamServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> teamService.updateTeam(teamId, request));
         verify(teamRepository, never()).save(any(Team.class));
+        verify(userDirectoryService, never()).markTeamChanged(any());
     }
 
     @Test
@@ -151,6 +166,7 @@ public class TeamServiceTest {
 
         assertThrows(DuplicateResourceException.class, () -> teamService.updateTeam(teamId, request));
         verify(teamRepository, never()).save(any(Team.class));
+        verify(userDirectoryService, never()).markTeamChanged(any());
     }
 
     @Test
@@ -171,6 +187,7 @@ public class TeamServiceTest {
         assertTrue(result);
         assertNotNull(existingTeam.getDeletedAt());
         verify(teamRepository, times(1)).save(existingTeam);
+        verify(userDirectoryService, times(1)).markTeamChanged(teamId);
     }
 
     @Test
@@ -181,6 +198,7 @@ public class TeamServiceTest {
 
         assertThrows(ResourceNotFoundException.class, () -> teamService.deleteTeam(teamId));
         verify(teamRepository, never()).save(any(Team.class));
+        verify(userDirectoryService, never()).markTeamChanged(any());
     }
 
     @Test
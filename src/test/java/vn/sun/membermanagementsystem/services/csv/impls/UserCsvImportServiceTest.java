@@ -0,0 +1,148 @@
+package vn.sun.membermanagementsystem.services.csv.impls;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.MockedStatic;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.mock.web.MockMultipartFile;
+import org.springframework.transaction.TransactionStatus;
+import org.springframework.transaction.interceptor.TransactionAspectSupport;
+import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
+import vn.sun.membermanagementsystem.dto.request.csv.CsvImportResult;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.services.SkillService;
+import vn.sun.membermanagementsystem.services.UserBulkCreateService;
+import vn.sun.membermanagementsystem.services.UserService;
+
+import java.nio.charset.StandardCharsets;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserCsvImportService Unit Tests")
+class UserCsvImportServiceTest {
+
+    private static final String CSV = "Name,Email,Birthday,Role,Status,Skills\n" +
+            "Alice,alice@example.com,2001-01-01,MEMBER,ACTIVE,\n" +
+            "Bob,bob@example.com,,admin,,\n";
+
+    @Mock
+    private UserRepository userRepository;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private UserService userService;
+
+    @Mock
+    private SkillService skillService;
+
+    @Mock
+    private UserBulkCreateService userBulkCreateService;
+
+    @InjectMocks
+    private UserCsvImportService userCsvImportService;
+
+    @Test
+    @DisplayName("Valid rows are created with one bulk call")
+    void testImportFromCsv_BulkPath() {
+        // Arrange
+        when(userRepository.existsByEmailAndNotDeleted(anyString())).thenReturn(false);
+        when(userBulkCreateService.createUsers(anyList())).thenReturn(BulkUserCreateResultDTO.builder()
+                .requested(2)
+                .created(2)
+                .failed(0)
+                .items(List.of(item(0, 1L, List.of()), item(1, 2L, List.of())))
+                .build());
+        List<User> users = List.of(User.builder().id(1L).build(), User.builder().id(2L).build());
+        when(userRepository.findAllById(List.of(1L, 2L))).thenReturn(users);
+
+        // Act
+        CsvImportResult<User> result = userCsvImportService.importFromCsv(csv(CSV));
+
+        // Assert
+        assertFalse(result.isRolledBack());
+        assertEquals(2, result.getSuccessCount());
+        assertEquals(users, result.getImportedEntities());
+
+        ArgumentCaptor<List<UserCreateDTO>> requests = ArgumentCaptor.forClass(List.class);
+        verify(userBulkCreateService, times(1)).createUsers(requests.capture());
+        assertEquals(List.of("alice@example.com", "bob@example.com"),
+                requests.getValue().stream().map(UserCreateDTO::getEmail).toList());
+        assertEquals(UserRole.ADMIN, requests.getValue().get(1).getRole());
+        verify(userService, never()).createUser(any());
+    }
+
+    @Test
+    @DisplayName("A row failing in the bulk call marks the transaction rollback-only and reports its CSV row")
+    void testImportFromCsv_BulkFailureRollsBack() {
+        // Arrange
+        when(userRepository.existsByEmailAndNotDeleted(anyString())).thenReturn(false);
+        when(userBulkCreateService.createUsers(anyList())).thenReturn(BulkUserCreateResultDTO.builder()
+                .requested(2)
+                .created(1)
+                .failed(1)
+                .items(List.of(item(0, 1L, List.of()), item(1, null, List.of("Email already exists: bob@example.com"))))
+                .build());
+        TransactionStatus status = mock(TransactionStatus.class);
+
+        // Act
+        CsvImportResult<User> result;
+        try (MockedStatic<TransactionAspectSupport> transactions = mockStatic(TransactionAspectSupport.class)) {
+            transactions.when(TransactionAspectSupport::currentTransactionStatus).thenReturn(status);
+            result = userCsvImportService.importFromCsv(csv(CSV));
+        }
+
+        // Assert
+        verify(status, times(1)).setRollbackOnly();
+        assertTrue(result.isRolledBack());
+        assertEquals(0, result.getSuccessCount());
+        assertEquals(1, result.getErrorCount());
+        assertEquals(1, result.getErrors().size());
+        assertEquals(3, result.getErrors().get(0).getRow());
+        assertEquals("Email already exists: bob@example.com", result.getErrors().get(0).getMessage());
+        verify(userRepository, never()).findAllById(any());
+    }
+
+    @Test
+    @DisplayName("Rows failing validation stop the import before the bulk call")
+    void testImportFromCsv_InvalidRow() {
+        // Arrange
+        when(userRepository.existsByEmailAndNotDeleted(anyString())).thenReturn(false);
+        String csv = CSV + "Carol,not-an-email,,MEMBER,,\n";
+
+        // Act
+        CsvImportResult<User> result = userCsvImportService.importFromCsv(csv(csv));
+
+        // Assert
+        assertTrue(result.isRolledBack());
+        assertEquals(1, result.getErrorCount());
+        assertEquals(4, result.getErrors().get(0).getRow());
+        verifyNoInteractions(userBulkCreateService);
+    }
+
+    private static MockMultipartFile csv(String content) {
+        return new MockMultipartFile("file", "users.csv", "text/csv", content.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static BulkUserCreateResultDTO.ItemResult item(int index, Long userId, List<String> errors) {
+        return BulkUserCreateResultDTO.ItemResult.builder()
+                .index(index)
+                .created(userId != null)
+                .userId(userId)
+                .errors(errors)
+                .build();
+    }
+}
@@ -0,0 +1,70 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogDictionaryImpl Unit Tests")
+class ActivityLogDictionaryImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @InjectMocks
+    private ActivityLogDictionaryImpl dictionary;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(dictionary, "cacheSize", 2);
+    }
+
+    @Test
+    @DisplayName("The cache keeps the most recently used values and evicts the least recently used one")
+    void testEncodeDescription_LeastRecentlyUsedEvicted() {
+        // Arrange
+        when(jdbcTemplate.queryForObject(anyString(), eq(Long.class), any(byte[].class))).thenReturn(1L, 2L, 3L, 4L);
+
+        // Act
+        assertEquals(1L, dictionary.encodeDescription("a"));
+        assertEquals(2L, dictionary.encodeDescription("b"));
+        assertEquals(1L, dictionary.encodeDescription("a"));
+        assertEquals(3L, dictionary.encodeDescription("c"));
+        assertEquals(1L, dictionary.encodeDescription("a"));
+        assertEquals(4L, dictionary.encodeDescription("b"));
+
+        // Assert: "a" was looked up once, "b" twice after being evicted by "c"
+        verify(jdbcTemplate, times(1)).update(anyString(), any(byte[].class), eq("a"));
+        verify(jdbcTemplate, times(2)).update(anyString(), any(byte[].class), eq("b"));
+        verify(jdbcTemplate, times(1)).update(anyString(), any(byte[].class), eq("c"));
+    }
+
+    @Test
+    @DisplayName("Values keep being cached once the cache is full")
+    void testDecodeDescription_CachesPastCapacity() {
+        // Arrange
+        when(jdbcTemplate.queryForList(anyString(), eq(String.class), anyLong()))
+                .thenAnswer(invocation -> List.of("value-" + invocation.getArgument(2)));
+
+        // Act
+        for (long id = 1; id <= 5; id++) {
+            assertEquals("value-" + id, dictionary.decodeDescription(id));
+        }
+        assertEquals("value-5", dictionary.decodeDescription(5L));
+
+        // Assert
+        verify(jdbcTemplate, times(1)).queryForList(anyString(), eq(String.class), eq(5L));
+    }
+}
@@ -0,0 +1,77 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.PreparedStatementCreator;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import vn.sun.membermanagementsystem.enums.ActivityLogExportFormat;
+
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogExportServiceImpl Unit Tests")
+class ActivityLogExportServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ResultSet resultSet;
+
+    private ActivityLogExportServiceImpl exportService;
+
+    @BeforeEach
+    void setUp() {
+        exportService = new ActivityLogExportServiceImpl(jdbcTemplate, new ObjectMapper());
+    }
+
+    @Test
+    @DisplayName("NDJSON lines are exactly one object followed by a newline, with no separator between them")
+    void testExport_NdjsonLines() throws Exception {
+        // Arrange
+        when(resultSet.getLong("id")).thenReturn(1L, 2L);
+        when(resultSet.getLong("entity_id")).thenReturn(5L, 0L);
+        when(resultSet.getLong("user_id")).thenReturn(7L, 0L);
+        when(resultSet.wasNull()).thenReturn(false, false, true, true);
+        when(resultSet.getString("action")).thenReturn("LOGIN", "DELETE_USER");
+        when(resultSet.getString("entity_type")).thenReturn("USER", null);
+        when(resultSet.getString("description")).thenReturn("Logged in", "Deleted user ");
+        when(resultSet.getString("description_detail")).thenReturn(null, "\"Bob\"");
+        when(resultSet.getTimestamp("created_at"))
+                .thenReturn(Timestamp.valueOf(LocalDateTime.of(2026, 3, 1, 10, 0, 5)));
+        doAnswer(invocation -> {
+            RowCallbackHandler handler = invocation.getArgument(1);
+            handler.processRow(resultSet);
+            handler.processRow(resultSet);
+            return null;
+        }).when(jdbcTemplate).query(any(PreparedStatementCreator.class), any(RowCallbackHandler.class));
+        ByteArrayOutputStream output = new ByteArrayOutputStream();
+
+        // Act
+        long exported = exportService.export(ActivityLogExportFormat.NDJSON, null, null, null, output);
+
+        // Assert
+        assertEquals(2, exported);
+        String expected = "{\"id\":1,\"action\":\"LOGIN\",\"entityType\":\"USER\",\"entityId\":5," +
+                "\"description\":\"Logged in\",\"userId\":7,\"userName\":null,\"userEmail\":null," +
+                "\"ipAddress\":null,\"userAgent\":null,\"createdAt\":\"2026-03-01 10:00:05\"}\n" +
+                "{\"id\":2,\"action\":\"DELETE_USER\",\"entityType\":null,\"entityId\":null," +
+                "\"description\":\"Deleted user \\\"Bob\\\"\",\"userId\":null,\"userName\":null,\"userEmail\":null," +
+                "\"ipAddress\":null,\"userAgent\":null,\"createdAt\":\"2026-03-01 10:00:05\"}\n";
+        assertArrayEquals(expected.getBytes(StandardCharsets.UTF_8), output.toByteArray());
+    }
+}
@@ -0,0 +1,101 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InOrder;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowMapper;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.enums.ActivityLogRetentionMode;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+
+import java.sql.ResultSet;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogPartitionServiceImpl Unit Tests")
+class ActivityLogPartitionServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ActivityLogSearchService activityLogSearchService;
+
+    @Mock
+    private ActivityLogRollupService activityLogRollupService;
+
+    @InjectMocks
+    private ActivityLogPartitionServiceImpl partitionService;
+
+    @BeforeEach
+    void setUp() throws Exception {
+        ReflectionTestUtils.setField(partitionService, "retentionMode", ActivityLogRetentionMode.ARCHIVE);
+        List<ResultSet> rows = List.of(partitionRow("p202401", "'2024-02-01'"),
+                partitionRow("p202402", "'2024-03-01'"), partitionRow("p_future", "MAXVALUE"));
+        when(jdbcTemplate.query(startsWith("SELECT PARTITION_NAME"), any(RowMapper.class))).thenAnswer(invocation -> {
+            RowMapper<?> mapper = invocation.getArgument(1);
+            List<Object> partitions = new ArrayList<>();
+            for (int i = 0; i < rows.size(); i++) {
+                partitions.add(mapper.mapRow(rows.get(i), i));
+            }
+            return partitions;
+        });
+    }
+
+    @Test
+    @DisplayName("Archiving copies each expired partition without failing on rows already archived, then drops it")
+    void testPurgePartitionsBefore_Archive() {
+        // Act
+        int purged = partitionService.purgePartitionsBefore(LocalDate.of(2024, 2, 1));
+
+        // Assert
+        assertEquals(1, purged);
+        InOrder inOrder = inOrder(jdbcTemplate);
+        inOrder.verify(jdbcTemplate).update(argThat((String sql) -> sql.startsWith("INSERT INTO activity_logs_archive")
+                && sql.contains("PARTITION (p202401)") && sql.contains("ON DUPLICATE KEY UPDATE")));
+        inOrder.verify(jdbcTemplate).execute("ALTER TABLE activity_logs DROP PARTITION p202401");
+        verify(activityLogSearchService).removeCreatedBefore(LocalDateTime.of(2024, 2, 1, 0, 0));
+        verify(activityLogRollupService).removeBefore(LocalDateTime.of(2024, 2, 1, 0, 0));
+    }
+
+    @Test
+    @DisplayName("A failed DROP is retried on the next run with the same archive statement")
+    void testPurgePartitionsBefore_RetryAfterFailedDrop() {
+        // Arrange
+        doThrow(new CannotAcquireLockException("lock wait timeout"))
+                .doNothing()
+                .when(jdbcTemplate).execute("ALTER TABLE activity_logs DROP PARTITION p202401");
+
+        // Act
+        assertThrows(CannotAcquireLockException.class,
+                () -> partitionService.purgePartitionsBefore(LocalDate.of(2024, 2, 1)));
+        int purged = partitionService.purgePartitionsBefore(LocalDate.of(2024, 2, 1));
+
+        // Assert
+        assertEquals(1, purged);
+        verify(jdbcTemplate, times(2)).update(contains("ON DUPLICATE KEY UPDATE"));
+        verify(activityLogSearchService, times(1)).removeCreatedBefore(any());
+    }
+
+    private static ResultSet partitionRow(String name, String description) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getString(1)).thenReturn(name);
+        when(rs.getString(2)).thenReturn(description);
+        return rs;
+    }
+}
@@ -0,0 +1,228 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.jdbc.core.RowCallbackHandler;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogPurgeRequest;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogPurgeJobDTO;
+import vn.sun.membermanagementsystem.enums.PurgeJobStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+
+import java.sql.ResultSet;
+import java.sql.Timestamp;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogPurgeServiceImpl Unit Tests")
+class ActivityLogPurgeServiceImplTest {
+
+    private static final LocalDateTime DAY = LocalDateTime.of(2026, 3, 1, 0, 0);
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ActivityLogRollupService activityLogRollupService;
+
+    @Mock
+    private ActivityLogSearchService activityLogSearchService;
+
+    @InjectMocks
+    private ActivityLogPurgeServiceImpl purgeService;
+
+    /** Keyset position passed to each chunk select */
+    private final List<Object> afterIds = new ArrayList<>();
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(purgeService, "chunkSize", 2);
+        ReflectionTestUtils.setField(purgeService, "pauseMs", 0L);
+        purgeService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        purgeService.stop();
+    }
+
+    @Test
+    @DisplayName("Chunks advance by the last deleted id and the job stops on a short chunk")
+    void testPurge_KeysetAcrossChunks() throws Exception {
+        // Arrange
+        selectReturns(List.of(row(1, DAY.plusHours(10)), row(2, DAY.plusHours(10).plusMinutes(40))),
+                List.of(row(5, DAY.plusHours(11)), row(7, DAY.plusHours(12).plusMinutes(30))),
+                List.of(row(9, DAY.plusHours(9).plusMinutes(20))));
+        when(jdbcTemplate.update(startsWith("DELETE"), any(Object[].class))).thenReturn(2, 2, 1);
+
+        // Act
+        ActivityLogPurgeJobDTO job = awaitFinished(purgeService.startPurge(request("USER")).getId());
+
+        // Assert
+        assertEquals(PurgeJobStatus.COMPLETED, job.getStatus());
+        assertEquals(List.of(0L, 2L, 7L), afterIds);
+        assertEquals(5, job.getDeletedCount());
+        assertEquals(3, job.getChunkCount());
+        assertEquals(9L, job.getLastDeletedId());
+        for (long id : new long[]{1, 2, 5, 7, 9}) {
+            verify(activityLogSearchService).remove(id);
+        }
+        verify(activityLogRollupService, timeout(1000)).rebuild(DAY.plusHours(9), DAY.plusHours(13));
+    }
+
+    @Test
+    @DisplayName("Each chunk DELETE repeats the job filters next to the selected ids")
+    void testPurge_DeleteReappliesFilters() throws Exception {
+        // Arrange
+        selectReturns(List.of(row(3, DAY), row(4, DAY)), List.of());
+        when(jdbcTemplate.update(startsWith("DELETE"), any(Object[].class))).thenReturn(1);
+        ActivityLogPurgeRequest request = ActivityLogPurgeRequest.builder()
+                .entityType(" USER ")
+                .action("LOGIN")
+                .fromDate(LocalDate.of(2026, 3, 1))
+                .build();
+
+        // Act
+        ActivityLogPurgeJobDTO job = awaitFinished(purgeService.startPurge(request).getId());
+
+        // Assert
+        assertEquals(PurgeJobStatus.COMPLETED, job.getStatus());
+        assertEquals(List.of(0L, 4L), afterIds);
+        verify(jdbcTemplate).update(
+                "DELETE FROM activity_logs WHERE id IN (?,?) AND entity_type = ? AND action = ? AND created_at >= ?",
+                3L, 4L, "USER", "LOGIN", Timestamp.valueOf(DAY));
+        assertEquals(1, job.getDeletedCount());
+    }
+
+    @Test
+    @DisplayName("A cancellation stops the job before the next chunk")
+    void testPurge_CancelBetweenChunks() throws Exception {
+        // Arrange
+        List<ResultSet> firstChunk = List.of(row(1, DAY), row(2, DAY));
+        doAnswer(invocation -> {
+            afterIds.add(invocation.getArgument(2));
+            purgeService.cancel(purgeService.getJobs().get(0).getId());
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : firstChunk) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id"), any(RowCallbackHandler.class), any(Object[].class));
+        when(jdbcTemplate.update(startsWith("DELETE"), any(Object[].class))).thenReturn(2);
+
+        // Act
+        ActivityLogPurgeJobDTO job = awaitFinished(purgeService.startPurge(request("USER")).getId());
+
+        // Assert
+        assertEquals(PurgeJobStatus.CANCELLED, job.getStatus());
+        assertEquals(List.of(0L), afterIds);
+        assertEquals(2, job.getDeletedCount());
+        verify(activityLogRollupService, timeout(1000)).rebuild(DAY, DAY.plusHours(1));
+    }
+
+    @Test
+    @DisplayName("A failed rollup rebuild marks the purged hours stale")
+    void testPurge_RollupFailureMarksStale() throws Exception {
+        // Arrange
+        selectReturns(List.of(row(1, DAY.plusHours(8))));
+        when(jdbcTemplate.update(startsWith("DELETE"), any(Object[].class))).thenReturn(1);
+        when(activityLogRollupService.rebuild(any(), any())).thenThrow(new DataAccessResourceFailureException("down"));
+
+        // Act
+        ActivityLogPurgeJobDTO job = awaitFinished(purgeService.startPurge(request("USER")).getId());
+
+        // Assert
+        assertEquals(PurgeJobStatus.COMPLETED, job.getStatus());
+        verify(activityLogRollupService, timeout(1000)).markStale(DAY.plusHours(8), DAY.plusHours(9));
+    }
+
+    @Test
+    @DisplayName("Nothing matching leaves search index and rollups untouched")
+    void testPurge_NothingMatched() throws Exception {
+        // Arrange
+        selectReturns(List.of());
+
+        // Act
+        ActivityLogPurgeJobDTO job = awaitFinished(purgeService.startPurge(request("USER")).getId());
+
+        // Assert
+        assertEquals(PurgeJobStatus.COMPLETED, job.getStatus());
+        verify(jdbcTemplate, never()).update(anyString(), any(Object[].class));
+        verifyNoInteractions(activityLogSearchService, activityLogRollupService);
+    }
+
+    @Test
+    @DisplayName("A purge needs a filter, blank values do not count")
+    void testStartPurge_NoFilter_ThrowsException() {
+        assertThrows(BadRequestException.class, () -> purgeService.startPurge(new ActivityLogPurgeRequest()));
+        assertThrows(BadRequestException.class, () -> purgeService.startPurge(request("  ")));
+        assertTrue(purgeService.getJobs().isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("A purge rejects a from date after its to date")
+    void testStartPurge_InvertedRange_ThrowsException() {
+        ActivityLogPurgeRequest request = ActivityLogPurgeRequest.builder()
+                .fromDate(LocalDate.of(2026, 3, 2))
+                .toDate(LocalDate.of(2026, 3, 1))
+                .build();
+
+        assertThrows(BadRequestException.class, () -> purgeService.startPurge(request));
+        assertTrue(purgeService.getJobs().isEmpty());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @SafeVarargs
+    private void selectReturns(List<ResultSet>... chunks) throws Exception {
+        Iterator<List<ResultSet>> remaining = List.of(chunks).iterator();
+        doAnswer(invocation -> {
+            afterIds.add(invocation.getArgument(2));
+            RowCallbackHandler handler = invocation.getArgument(1);
+            for (ResultSet rs : remaining.hasNext() ? remaining.next() : List.<ResultSet>of()) {
+                handler.processRow(rs);
+            }
+            return null;
+        }).when(jdbcTemplate).query(startsWith("SELECT id"), any(RowCallbackHandler.class), any(Object[].class));
+    }
+
+    private ActivityLogPurgeJobDTO awaitFinished(String jobId) throws InterruptedException {
+        long deadline = System.currentTimeMillis() + 5000;
+        ActivityLogPurgeJobDTO job = purgeService.getJob(jobId);
+        while (!job.getStatus().isFinished() && System.currentTimeMillis() < deadline) {
+            Thread.sleep(10);
+            job = purgeService.getJob(jobId);
+        }
+        assertTrue(job.getStatus().isFinished(), "purge job did not finish");
+        return job;
+    }
+
+    private static ActivityLogPurgeRequest request(String entityType) {
+        return ActivityLogPurgeRequest.builder().entityType(entityType).build();
+    }
+
+    private static ResultSet row(long id, LocalDateTime createdAt) throws Exception {
+        ResultSet rs = mock(ResultSet.class);
+        when(rs.getLong(1)).thenReturn(id);
+        when(rs.getTimestamp(2)).thenReturn(Timestamp.valueOf(createdAt));
+        return rs;
+    }
+}
@@ -0,0 +1,100 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.dao.DataAccessResourceFailureException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.time.temporal.ChronoUnit;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogRollupServiceImpl Unit Tests")
+class ActivityLogRollupServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private ActivityLogRollupServiceImpl rollupService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(rollupService, "catchUpHours", 48);
+        ReflectionTestUtils.setField(rollupService, "settleMinutes", 5);
+    }
+
+    @Test
+    @DisplayName("Deleting a log decrements its hour and drops the row once it reaches zero")
+    void testRemoveEvent() {
+        // Arrange
+        ActivityLog activityLog = log(LocalDateTime.of(2026, 3, 1, 10, 42));
+        when(jdbcTemplate.update(startsWith("UPDATE"), any(Object[].class))).thenReturn(1);
+
+        // Act
+        rollupService.removeEvent(activityLog);
+
+        // Assert
+        Timestamp hour = Timestamp.valueOf(LocalDateTime.of(2026, 3, 1, 10, 0));
+        verify(jdbcTemplate).update(startsWith("UPDATE"), eq(hour), eq("LOGIN"), eq("USER"), eq(7L));
+        verify(jdbcTemplate).update(startsWith("DELETE"), eq(hour), eq("LOGIN"), eq("USER"), eq(7L));
+    }
+
+    @Test
+    @DisplayName("After the startup pass only hours whose upsert failed are rebuilt")
+    void testCatchUp_OnlyStaleHours() {
+        // Arrange
+        when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<Integer>>getArgument(0).doInTransaction(null));
+        LocalDateTime closedHour = LocalDateTime.now().truncatedTo(ChronoUnit.HOURS).minusHours(3);
+
+        // Act & Assert: the first run covers the whole window, one transaction per day
+        rollupService.catchUp();
+        verify(transactionTemplate, times(2)).execute(any());
+
+        clearInvocations(transactionTemplate, jdbcTemplate);
+        assertEquals(0, rollupService.catchUp());
+        verifyNoInteractions(transactionTemplate);
+
+        when(jdbcTemplate.batchUpdate(anyString(), anyList()))
+                .thenThrow(new DataAccessResourceFailureException("down"));
+        assertThrows(DataAccessResourceFailureException.class,
+                () -> rollupService.onBatchWritten(List.of(log(closedHour), log(closedHour.plusHours(1)))));
+
+        rollupService.catchUp();
+        verify(transactionTemplate, times(1)).execute(any());
+        verify(jdbcTemplate).update(startsWith("DELETE"),
+                eq(Timestamp.valueOf(closedHour)), eq(Timestamp.valueOf(closedHour.plusHours(2))));
+
+        clearInvocations(transactionTemplate);
+        rollupService.catchUp();
+        verifyNoInteractions(transactionTemplate);
+    }
+
+    private static ActivityLog log(LocalDateTime createdAt) {
+        ActivityLog activityLog = new ActivityLog();
+        activityLog.setCreatedAt(createdAt);
+        activityLog.setAction("LOGIN");
+        activityLog.setEntityType("USER");
+        activityLog.setUserId(7L);
+        return activityLog;
+    }
+}
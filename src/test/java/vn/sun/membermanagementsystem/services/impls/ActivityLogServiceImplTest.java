@@ -0,0 +1,146 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Limit;
+import vn.sun.membermanagementsystem.dto.request.ActivityLogCursor;
+import vn.sun.membermanagementsystem.dto.response.ActivityLogDTO;
+import vn.sun.membermanagementsystem.dto.response.CursorPage;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
+import vn.sun.membermanagementsystem.repositories.ActivityLogRepository;
+import vn.sun.membermanagementsystem.services.ActivityLogPartitionService;
+import vn.sun.membermanagementsystem.services.ActivityLogRollupService;
+import vn.sun.membermanagementsystem.services.search.ActivityLogSearchService;
+
+import java.time.LocalDateTime;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogServiceImpl Unit Tests")
+class ActivityLogServiceImplTest {
+
+    /** Every row shares one timestamp, so only the id orders them */
+    private static final LocalDateTime AT = LocalDateTime.of(2026, 3, 1, 10, 15);
+
+    @Mock
+    private ActivityLogRepository activityLogRepository;
+
+    @Mock
+    private ActivityLogMapper activityLogMapper;
+
+    @Mock
+    private ActivityLogPartitionService activityLogPartitionService;
+
+    @Mock
+    private ActivityLogRollupService activityLogRollupService;
+
+    @Mock
+    private ActivityLogSearchService activityLogSearchService;
+
+    @InjectMocks
+    private ActivityLogServiceImpl activityLogService;
+
+    @Test
+    @DisplayName("The first page drops the look-ahead row and points past its last id")
+    void testGetLogsByCursor_FirstPage() {
+        // Arrange
+        when(activityLogRepository.findPageBefore(isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(log(5), log(4), log(3)));
+
+        // Act
+        CursorPage<ActivityLogDTO> page = activityLogService.getLogsByCursor(null, null, null, null, false, 2, false);
+
+        // Assert
+        assertEquals(List.of(5L, 4L), mappedIds());
+        assertTrue(page.isHasNext());
+        assertFalse(page.isHasPrevious());
+        assertEquals(new ActivityLogCursor(AT, 4L), ActivityLogCursor.decode(page.getNextCursor()));
+        assertEquals(new ActivityLogCursor(AT, 5L), ActivityLogCursor.decode(page.getPreviousCursor()));
+    }
+
+    @Test
+    @DisplayName("Paging forward on an equal created_at continues below the cursor id")
+    void testGetLogsByCursor_ForwardOnTie() {
+        // Arrange
+        String cursor = new ActivityLogCursor(AT, 4L).encode();
+        when(activityLogRepository.findPageBefore(isNull(), isNull(), isNull(), eq(AT), eq(4L), any(Limit.class)))
+                .thenReturn(List.of(log(3)));
+
+        // Act
+        CursorPage<ActivityLogDTO> page = activityLogService.getLogsByCursor(null, null, null, cursor, false, 2, false);
+
+        // Assert
+        assertEquals(List.of(3L), mappedIds());
+        assertFalse(page.isHasNext());
+        assertTrue(page.isHasPrevious());
+    }
+
+    @Test
+    @DisplayName("Paging backward on an equal created_at reads above the cursor id and restores newest first")
+    void testGetLogsByCursor_BackwardOnTie() {
+        // Arrange
+        String cursor = new ActivityLogCursor(AT, 3L).encode();
+        when(activityLogRepository.findPageAfter(isNull(), isNull(), isNull(), eq(AT), eq(3L), any(Limit.class)))
+                .thenReturn(List.of(log(4), log(5), log(6)));
+
+        // Act
+        CursorPage<ActivityLogDTO> page = activityLogService.getLogsByCursor(null, null, null, cursor, true, 2, false);
+
+        // Assert
+        assertEquals(List.of(5L, 4L), mappedIds());
+        assertTrue(page.isHasNext());
+        assertTrue(page.isHasPrevious());
+        assertEquals(new ActivityLogCursor(AT, 5L), ActivityLogCursor.decode(page.getPreviousCursor()));
+        assertEquals(new ActivityLogCursor(AT, 4L), ActivityLogCursor.decode(page.getNextCursor()));
+        verify(activityLogRepository, never()).findPageBefore(any(), any(), any(), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("Paging backward into the newest rows serves a full first page")
+    void testGetLogsByCursor_BackwardToStart() {
+        // Arrange
+        String cursor = new ActivityLogCursor(AT, 4L).encode();
+        when(activityLogRepository.findPageAfter(isNull(), isNull(), isNull(), eq(AT), eq(4L), any(Limit.class)))
+                .thenReturn(List.of(log(5)));
+        when(activityLogRepository.findPageBefore(isNull(), isNull(), isNull(), isNull(), isNull(), any(Limit.class)))
+                .thenReturn(List.of(log(5), log(4), log(3)));
+
+        // Act
+        CursorPage<ActivityLogDTO> page = activityLogService.getLogsByCursor(null, null, null, cursor, true, 2, false);
+
+        // Assert
+        assertFalse(page.isHasPrevious());
+        assertTrue(page.isHasNext());
+        assertEquals(new ActivityLogCursor(AT, 4L), ActivityLogCursor.decode(page.getNextCursor()));
+    }
+
+    @Test
+    @DisplayName("A malformed cursor is a bad request and reaches no query")
+    void testGetLogsByCursor_MalformedCursor() {
+        assertThrows(BadRequestException.class,
+                () -> activityLogService.getLogsByCursor(null, null, null, "%%%", false, 10, false));
+        verifyNoInteractions(activityLogRepository);
+    }
+
+    @SuppressWarnings("unchecked")
+    private List<Long> mappedIds() {
+        ArgumentCaptor<List<ActivityLog>> rows = ArgumentCaptor.forClass(List.class);
+        verify(activityLogMapper, atLeastOnce()).toDTOList(rows.capture());
+        return rows.getValue().stream().map(ActivityLog::getId).toList();
+    }
+
+    private static ActivityLog log(long id) {
+        return ActivityLog.builder().id(id).action("LOGIN").createdAt(AT).build();
+    }
+}
@@ -0,0 +1,75 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.exception.TooManyRequestsException;
+import vn.sun.membermanagementsystem.mapper.ActivityLogMapper;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogTailServiceImpl Unit Tests")
+class ActivityLogTailServiceImplTest {
+
+    @Mock
+    private ActivityLogMapper activityLogMapper;
+
+    @InjectMocks
+    private ActivityLogTailServiceImpl tailService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(tailService, "bufferSize", 10);
+        ReflectionTestUtils.setField(tailService, "maxSubscribers", 5);
+        ReflectionTestUtils.setField(tailService, "timeoutMs", 60_000L);
+        tailService.start();
+    }
+
+    @AfterEach
+    void tearDown() {
+        tailService.stop();
+    }
+
+    @Test
+    @DisplayName("Concurrent subscribers never exceed the cap")
+    void testSubscribe_CapIsAtomic() throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(8);
+        CountDownLatch start = new CountDownLatch(1);
+        List<Future<Boolean>> attempts = new ArrayList<>();
+        for (int i = 0; i < 40; i++) {
+            attempts.add(executor.submit(() -> {
+                start.await();
+                try {
+                    tailService.subscribe(null, null, null, null);
+                    return true;
+                } catch (TooManyRequestsException e) {
+                    return false;
+                }
+            }));
+        }
+
+        start.countDown();
+        int accepted = 0;
+        for (Future<Boolean> attempt : attempts) {
+            accepted += attempt.get() ? 1 : 0;
+        }
+        executor.shutdown();
+
+        assertEquals(5, accepted);
+        assertEquals(5, tailService.getSubscriberCount());
+    }
+}
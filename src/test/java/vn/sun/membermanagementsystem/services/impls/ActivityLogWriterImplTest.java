@@ -0,0 +1,142 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.Spy;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.entities.ActivityLog;
+import vn.sun.membermanagementsystem.enums.ActivityLogOverflowPolicy;
+import vn.sun.membermanagementsystem.services.ActivityLogDictionary;
+import vn.sun.membermanagementsystem.services.ActivityLogWriteListener;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("ActivityLogWriterImpl Unit Tests")
+class ActivityLogWriterImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private ActivityLogWriteListener writeListener;
+
+    @Mock
+    private ActivityLogDictionary activityLogDictionary;
+
+    @Spy
+    private List<ActivityLogWriteListener> writeListeners = new ArrayList<>();
+
+    @InjectMocks
+    private ActivityLogWriterImpl activityLogWriter;
+
+    private BlockingQueue<ActivityLog> queue;
+
+    @BeforeEach
+    void setUp() {
+        // The background thread is not started, the queue is driven directly
+        queue = new ArrayBlockingQueue<>(2);
+        writeListeners.add(writeListener);
+        ReflectionTestUtils.setField(activityLogWriter, "queue", queue);
+        ReflectionTestUtils.setField(activityLogWriter, "capacity", 2);
+        ReflectionTestUtils.setField(activityLogWriter, "batchSize", 10);
+    }
+
+    private ActivityLog newLog(String action) {
+        return ActivityLog.builder().action(action).entityType("TEAM").build();
+    }
+
+    @Test
+    @DisplayName("Write enqueues the entry and stamps createdAt")
+    void testWrite_Enqueues() {
+        ActivityLog activityLog = newLog("CREATE_TEAM");
+
+        assertTrue(activityLogWriter.write(activityLog));
+        assertEquals(1, activityLogWriter.getPendingCount());
+        assertNotNull(activityLog.getCreatedAt());
+        verifyNoInteractions(jdbcTemplate);
+    }
+
+    @Test
+    @DisplayName("DROP_NEWEST rejects the incoming entry when the queue is full")
+    void testWrite_DropNewest() {
+        ReflectionTestUtils.setField(activityLogWriter, "overflowPolicy", ActivityLogOverflowPolicy.DROP_NEWEST);
+        activityLogWriter.write(newLog("A"));
+        activityLogWriter.write(newLog("B"));
+
+        assertFalse(activityLogWriter.write(newLog("C")));
+        assertEquals(1, activityLogWriter.getDroppedCount());
+        assertEquals("A", queue.peek().getAction());
+    }
+
+    @Test
+    @DisplayName("DROP_OLDEST evicts the head of the queue to make room")
+    void testWrite_DropOldest() {
+        ReflectionTestUtils.setField(activityLogWriter, "overflowPolicy", ActivityLogOverflowPolicy.DROP_OLDEST);
+        activityLogWriter.write(newLog("A"));
+        activityLogWriter.write(newLog("B"));
+
+        assertTrue(activityLogWriter.write(newLog("C")));
+        assertEquals(1, activityLogWriter.getDroppedCount());
+        assertEquals("B", queue.peek().getAction());
+    }
+
+    @Test
+    @DisplayName("Flush drains the queue in one JDBC batch")
+    void testFlush_DrainsQueue() {
+        activityLogWriter.write(newLog("A"));
+        activityLogWriter.write(newLog("B"));
+
+        activityLogWriter.flush();
+
+        assertEquals(0, activityLogWriter.getPendingCount());
+        assertEquals(2, activityLogWriter.getWrittenCount());
+        verify(jdbcTemplate, times(1)).execute(any(ConnectionCallback.class));
+        verify(writeListener, times(1)).onBatchWritten(anyList());
+    }
+
+    @Test
+    @DisplayName("Flush dictionary-encodes description templates and user agents")
+    void testFlush_EncodesStrings() {
+        ActivityLog activityLog = newLog("LOGIN_FAILED");
+        activityLog.setDescription("Login failed - Email: ");
+        activityLog.setDescriptionDetail("x".repeat(300));
+        activityLog.setUserAgent("curl/8.4.0");
+        when(activityLogDictionary.encodeDescription("Login failed - Email: ")).thenReturn(7L);
+        when(activityLogDictionary.encodeUserAgent("curl/8.4.0")).thenReturn(3L);
+        activityLogWriter.write(activityLog);
+
+        activityLogWriter.flush();
+
+        assertEquals(7L, activityLog.getDescriptionId());
+        assertEquals(3L, activityLog.getUserAgentId());
+        assertEquals(255, activityLog.getDescriptionDetail().length());
+    }
+
+    @Test
+    @DisplayName("Listeners are not notified when the batch insert fails")
+    void testFlush_FailedBatchSkipsListeners() {
+        when(jdbcTemplate.execute(any(ConnectionCallback.class))).thenThrow(new RuntimeException("db down"));
+        activityLogWriter.write(newLog("A"));
+
+        activityLogWriter.flush();
+
+        assertEquals(1, activityLogWriter.getDroppedCount());
+        verifyNoInteractions(writeListener);
+    }
+}
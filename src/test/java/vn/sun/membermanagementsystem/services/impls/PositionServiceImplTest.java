@@ -20,6 +20,7 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.PositionMapper;
 import vn.sun.membermanagementsystem.repositories.PositionRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -40,6 +41,9 @@ class PositionServiceImplTest {
     @Mock
     private PositionMapper positionMapper;
 
+    @Mock
+    private EntityVersionService entityVersionService;
+
     @InjectMocks
     private PositionServiceImpl positionService;
 
@@ -20,6 +20,8 @@ import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.SkillMapper;
 import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -40,6 +42,12 @@ class SkillServiceImplTest {
     @Mock
     private SkillMapper skillMapper;
 
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
     @InjectMocks
     private SkillServiceImpl skillService;
 
@@ -319,6 +327,8 @@ class SkillServiceImplTest {
         verify(skillRepository, times(1)).save(argThat(skill -> 
             skill.getDeletedAt() != null
         ));
+        verify(entityVersionService, times(1)).touchCatalog();
+        verify(userDirectoryService, times(1)).markSkillChanged(1L);
     }
 
     @Test
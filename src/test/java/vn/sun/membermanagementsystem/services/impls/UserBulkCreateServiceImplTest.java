@@ -0,0 +1,213 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.validation.Validator;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+import vn.sun.membermanagementsystem.config.security.BoundedPasswordEncoder;
+import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
+import vn.sun.membermanagementsystem.dto.request.UserSkillRequestDTO;
+import vn.sun.membermanagementsystem.dto.response.BulkUserCreateResultDTO;
+import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.repositories.UserBatchInsertRepository;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBulkCreateServiceImpl Unit Tests")
+class UserBulkCreateServiceImplTest {
+
+    @Mock
+    private UserBatchInsertRepository userBatchInsertRepository;
+
+    @Mock
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    @Mock
+    private Validator validator;
+
+    @InjectMocks
+    private UserBulkCreateServiceImpl userBulkCreateService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userBulkCreateService, "defaultPassword", "123456");
+        ReflectionTestUtils.setField(userBulkCreateService, "maxItems", 10);
+        ReflectionTestUtils.setField(userBulkCreateService, "batchSize", 2);
+    }
+
+    @Test
+    @DisplayName("Duplicate e-mails inside the batch and against the database fail only their items")
+    void testCreateUsers_DuplicateEmails() {
+        // Arrange
+        List<UserCreateDTO> requests = List.of(
+                user("Alice", "alice@example.com"),
+                user("Alice Again", " ALICE@example.com "),
+                user("Taken", "taken@example.com"));
+        when(validator.validate(any(UserCreateDTO.class))).thenReturn(Set.of());
+        when(userBatchInsertRepository.findExistingEmails(any())).thenReturn(Set.of("taken@example.com"));
+        when(passwordEncoder.encodeAll(List.of("123456"))).thenReturn(List.of("hash-1"));
+        assignIdsFrom(100L);
+
+        // Act
+        BulkUserCreateResultDTO result = userBulkCreateService.createUsers(requests);
+
+        // Assert
+        assertEquals(3, result.getRequested());
+        assertEquals(1, result.getCreated());
+        assertEquals(2, result.getFailed());
+        assertEquals(100L, result.getItems().get(0).getUserId());
+        assertEquals(List.of("Duplicate email in request, same as item 0"), result.getItems().get(1).getErrors());
+        assertEquals(List.of("Email already exists: taken@example.com"), result.getItems().get(2).getErrors());
+        assertNull(result.getItems().get(2).getUserId());
+        verify(userBatchInsertRepository, times(1)).findExistingEmails(Set.of("alice@example.com", "taken@example.com"));
+        verify(userBatchInsertRepository, never()).findLivePositionIds(any());
+        verify(userBatchInsertRepository, never()).findLiveSkillIds(any());
+        verify(userDirectoryService, times(1)).markUserChanged(100L);
+    }
+
+    @Test
+    @DisplayName("Unknown positions and skills are found with one lookup each")
+    void testCreateUsers_UnknownPositionAndSkill() {
+        // Arrange
+        UserCreateDTO withPosition = user("Bob", "bob@example.com");
+        withPosition.setPositionId(7L);
+        UserCreateDTO withSkill = user("Carol", "carol@example.com");
+        withSkill.setSkills(List.of(skill(3L), skill(4L)));
+        when(validator.validate(any(UserCreateDTO.class))).thenReturn(Set.of());
+        when(userBatchInsertRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(userBatchInsertRepository.findLivePositionIds(Set.of(7L))).thenReturn(Set.of());
+        when(userBatchInsertRepository.findLiveSkillIds(Set.of(3L, 4L))).thenReturn(Set.of(3L));
+        when(passwordEncoder.encodeAll(List.of())).thenReturn(List.of());
+
+        // Act
+        BulkUserCreateResultDTO result = userBulkCreateService.createUsers(List.of(withPosition, withSkill));
+
+        // Assert
+        assertEquals(0, result.getCreated());
+        assertEquals(List.of("Position not found with ID: 7"), result.getItems().get(0).getErrors());
+        assertEquals(List.of("Skill not found with ID: 4"), result.getItems().get(1).getErrors());
+    }
+
+    @Test
+    @DisplayName("Users are batch inserted and their generated ids key the position and skill rows")
+    void testCreateUsers_BatchInsertWithGeneratedKeys() {
+        // Arrange
+        UserCreateDTO first = user("Dan", "dan@example.com");
+        first.setPositionId(7L);
+        UserCreateDTO second = user("Eve", "eve@example.com");
+        second.setSkills(List.of(skill(3L)));
+        when(validator.validate(any(UserCreateDTO.class))).thenReturn(Set.of());
+        when(userBatchInsertRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(userBatchInsertRepository.findLivePositionIds(any())).thenReturn(Set.of(7L));
+        when(userBatchInsertRepository.findLiveSkillIds(any())).thenReturn(Set.of(3L));
+        when(passwordEncoder.encodeAll(anyList())).thenReturn(List.of("hash-1", "hash-2"));
+        assignIdsFrom(10L);
+
+        // Act
+        BulkUserCreateResultDTO result = userBulkCreateService.createUsers(List.of(first, second));
+
+        // Assert
+        assertEquals(2, result.getCreated());
+        assertEquals(10L, result.getItems().get(0).getUserId());
+        assertEquals(11L, result.getItems().get(1).getUserId());
+
+        ArgumentCaptor<List<UserBatchInsertRepository.PositionRow>> positions = ArgumentCaptor.forClass(List.class);
+        verify(userBatchInsertRepository).insertPositionHistories(positions.capture(), eq(2));
+        assertEquals(1, positions.getValue().size());
+        assertEquals(10L, positions.getValue().get(0).userId());
+        assertEquals(7L, positions.getValue().get(0).positionId());
+
+        ArgumentCaptor<List<UserBatchInsertRepository.SkillRow>> skills = ArgumentCaptor.forClass(List.class);
+        verify(userBatchInsertRepository).insertSkills(skills.capture(), eq(2));
+        assertEquals(1, skills.getValue().size());
+        assertEquals(11L, skills.getValue().get(0).userId());
+        assertEquals(UserSkill.Level.ADVANCED, skills.getValue().get(0).level());
+
+        verify(userDirectoryService).markUserChanged(10L);
+        verify(userDirectoryService).markUserChanged(11L);
+    }
+
+    @Test
+    @DisplayName("Every user is hashed on its own, including those left on the default password")
+    void testCreateUsers_PasswordsHashedPerUser() {
+        // Arrange
+        UserCreateDTO withPassword = user("Fay", "fay@example.com");
+        withPassword.setPassword("secret12");
+        List<UserCreateDTO> requests = List.of(user("Gil", "gil@example.com"), user("Hal", "hal@example.com"),
+                withPassword);
+        when(validator.validate(any(UserCreateDTO.class))).thenReturn(Set.of());
+        when(userBatchInsertRepository.findExistingEmails(any())).thenReturn(Set.of());
+        when(passwordEncoder.encodeAll(List.of("123456", "123456", "secret12")))
+                .thenReturn(List.of("hash-1", "hash-2", "hash-3"));
+        assignIdsFrom(1L);
+
+        // Act
+        userBulkCreateService.createUsers(requests);
+
+        // Assert
+        ArgumentCaptor<List<User>> users = ArgumentCaptor.forClass(List.class);
+        verify(userBatchInsertRepository).insertUsers(users.capture(), eq(2));
+        assertEquals(List.of("hash-1", "hash-2", "hash-3"),
+                users.getValue().stream().map(User::getPasswordHash).toList());
+        verify(passwordEncoder, never()).encode(any());
+    }
+
+    @Test
+    @DisplayName("Empty and oversized batches are rejected")
+    void testCreateUsers_InvalidSize() {
+        List<UserCreateDTO> tooMany = new ArrayList<>(Collections.nCopies(11, user("Ian", "ian@example.com")));
+
+        assertThrows(BadRequestException.class, () -> userBulkCreateService.createUsers(List.of()));
+        assertThrows(BadRequestException.class, () -> userBulkCreateService.createUsers(tooMany));
+        verifyNoInteractions(userBatchInsertRepository, passwordEncoder);
+    }
+
+    private void assignIdsFrom(long firstId) {
+        doAnswer(invocation -> {
+            List<User> users = invocation.getArgument(0);
+            long id = firstId;
+            for (User user : users) {
+                user.setId(id++);
+            }
+            return null;
+        }).when(userBatchInsertRepository).insertUsers(anyList(), anyInt());
+    }
+
+    private static UserCreateDTO user(String name, String email) {
+        UserCreateDTO request = new UserCreateDTO();
+        request.setName(name);
+        request.setEmail(email);
+        request.setRole(UserRole.MEMBER);
+        return request;
+    }
+
+    private static UserSkillRequestDTO skill(Long skillId) {
+        return UserSkillRequestDTO.builder()
+                .skillId(skillId)
+                .level(UserSkill.Level.ADVANCED)
+                .usedYearNumber(BigDecimal.ONE)
+                .build();
+    }
+}
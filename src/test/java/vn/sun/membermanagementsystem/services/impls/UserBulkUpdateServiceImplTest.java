@@ -0,0 +1,156 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.dao.CannotAcquireLockException;
+import org.springframework.test.util.ReflectionTestUtils;
+import org.springframework.transaction.support.TransactionCallback;
+import org.springframework.transaction.support.TransactionTemplate;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
+import vn.sun.membermanagementsystem.dto.request.BulkUserUpdateRequest;
+import vn.sun.membermanagementsystem.dto.response.BulkUserUpdateResultDTO;
+import vn.sun.membermanagementsystem.enums.UserRole;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+import vn.sun.membermanagementsystem.exception.BadRequestException;
+import vn.sun.membermanagementsystem.repositories.UserBulkUpdateRepository;
+import vn.sun.membermanagementsystem.repositories.UserDirectoryRepository;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
+
+import java.util.Arrays;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserBulkUpdateServiceImpl Unit Tests")
+class UserBulkUpdateServiceImplTest {
+
+    @Mock
+    private UserBulkUpdateRepository userBulkUpdateRepository;
+
+    @Mock
+    private UserDirectoryRepository userDirectoryRepository;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private TransactionTemplate transactionTemplate;
+
+    @InjectMocks
+    private UserBulkUpdateServiceImpl userBulkUpdateService;
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(userBulkUpdateService, "maxItems", 10);
+        ReflectionTestUtils.setField(userBulkUpdateService, "batchSize", 2);
+        lenient().when(transactionTemplate.execute(any())).thenAnswer(invocation ->
+                invocation.<TransactionCallback<?>>getArgument(0).doInTransaction(null));
+    }
+
+    @Test
+    @DisplayName("Deactivating by ids updates live users in chunks and closes their memberships")
+    void testUpdateStatus_Inactive_ChunksAndClosesMemberships() {
+        BulkUserUpdateRequest request = BulkUserUpdateRequest.builder()
+                .userIds(Arrays.asList(3L, 1L, 2L, 3L, null))
+                .status(UserStatus.INACTIVE)
+                .build();
+        when(userBulkUpdateRepository.findLiveUserIds(List.of(3L, 1L))).thenReturn(List.of(1L, 3L));
+        when(userBulkUpdateRepository.findLiveUserIds(List.of(2L))).thenReturn(List.of(2L));
+        when(userBulkUpdateRepository.updateStatus(anyList(), eq(UserStatus.INACTIVE), any())).thenReturn(2, 1);
+        when(userBulkUpdateRepository.closeMemberships(anyList(), any()))
+                .thenReturn(new UserBulkUpdateRepository.Closure(2, 1, 1, 0),
+                        new UserBulkUpdateRepository.Closure(1, 0, 0, 1));
+
+        BulkUserUpdateResultDTO result = userBulkUpdateService.updateStatus(request);
+
+        verify(userBulkUpdateRepository).updateStatus(eq(List.of(1L, 2L)), eq(UserStatus.INACTIVE), any());
+        verify(userBulkUpdateRepository).updateStatus(eq(List.of(3L)), eq(UserStatus.INACTIVE), any());
+        assertEquals(3, result.getMatched());
+        assertEquals(3, result.getUpdated());
+        assertEquals(3, result.getClosedTeamMemberships());
+        assertEquals(1, result.getClosedProjectMemberships());
+        assertEquals(1, result.getEndedTeamLeaderships());
+        assertEquals(1, result.getEndedProjectLeaderships());
+        assertTrue(result.isCompleted());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(tokenEpochRegistry, times(3)).evictAfterCommit(anyLong());
+        verify(userDirectoryService, times(3)).markUserChanged(anyLong());
+    }
+
+    @Test
+    @DisplayName("A failing chunk stops the run and the result reports the chunks committed before it")
+    void testUpdateStatus_FailedChunk_ReturnsPartialResult() {
+        BulkUserUpdateRequest request = BulkUserUpdateRequest.builder()
+                .userIds(List.of(1L, 2L, 3L, 4L, 5L))
+                .status(UserStatus.ACTIVE)
+                .build();
+        when(userBulkUpdateRepository.findLiveUserIds(anyList())).thenAnswer(invocation -> invocation.getArgument(0));
+        when(userBulkUpdateRepository.updateStatus(anyList(), eq(UserStatus.ACTIVE), any()))
+                .thenReturn(2)
+                .thenThrow(new CannotAcquireLockException("lock wait timeout"));
+
+        BulkUserUpdateResultDTO result = userBulkUpdateService.updateStatus(request);
+
+        assertFalse(result.isCompleted());
+        assertTrue(result.getFailure().startsWith("Stopped at user 3,"));
+        assertEquals(5, result.getMatched());
+        assertEquals(2, result.getUpdated());
+        verify(transactionTemplate, times(2)).execute(any());
+        verify(userBulkUpdateRepository, never()).updateStatus(eq(List.of(5L)), any(), any());
+        verify(userDirectoryService, times(2)).markUserChanged(anyLong());
+    }
+
+    @Test
+    @DisplayName("Changing the role of filtered users keeps their memberships")
+    void testUpdateRole_ByFilter_DoesNotCloseMemberships() {
+        BulkUserUpdateRequest request = BulkUserUpdateRequest.builder()
+                .filter(BulkUserUpdateRequest.Filter.builder().teamId(5L).build())
+                .role(UserRole.ADMIN)
+                .build();
+        when(userDirectoryRepository.searchIds(isNull(), isNull(), isNull(), isNull(), eq(5L), any(Pageable.class)))
+                .thenReturn(List.of(4L, 7L));
+        when(userBulkUpdateRepository.updateRole(eq(List.of(4L, 7L)), eq(UserRole.ADMIN), any())).thenReturn(2);
+
+        BulkUserUpdateResultDTO result = userBulkUpdateService.updateRole(request);
+
+        assertEquals(2, result.getUpdated());
+        verify(userBulkUpdateRepository, never()).closeMemberships(anyList(), any());
+    }
+
+    @Test
+    @DisplayName("Bulk operation rejects requests with both ids and a filter")
+    void testDeleteUsers_IdsAndFilter_ThrowsException() {
+        BulkUserUpdateRequest request = BulkUserUpdateRequest.builder()
+                .userIds(List.of(1L))
+                .filter(BulkUserUpdateRequest.Filter.builder().status(UserStatus.INACTIVE).build())
+                .build();
+
+        assertThrows(BadRequestException.class, () -> userBulkUpdateService.deleteUsers(request));
+        verifyNoInteractions(userBulkUpdateRepository);
+    }
+
+    @Test
+    @DisplayName("Bulk operation rejects filters matching more users than allowed")
+    void testDeleteUsers_FilterTooBroad_ThrowsException() {
+        BulkUserUpdateRequest request = BulkUserUpdateRequest.builder()
+                .filter(BulkUserUpdateRequest.Filter.builder().role(UserRole.MEMBER).build())
+                .build();
+        when(userDirectoryRepository.searchIds(isNull(), isNull(), isNull(), eq(UserRole.MEMBER), isNull(),
+                any(Pageable.class))).thenReturn(List.of(1L, 2L, 3L, 4L, 5L, 6L, 7L, 8L, 9L, 10L, 11L));
+
+        assertThrows(BadRequestException.class, () -> userBulkUpdateService.deleteUsers(request));
+        verifyNoInteractions(userBulkUpdateRepository);
+    }
+}
@@ -0,0 +1,191 @@
+package vn.sun.membermanagementsystem.services.impls;
+
+import jakarta.persistence.EntityManager;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InOrder;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import vn.sun.membermanagementsystem.services.EntityVersionService;
+import vn.sun.membermanagementsystem.services.UserChangeListener;
+
+import java.util.List;
+import java.util.Set;
+import java.util.stream.LongStream;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static org.mockito.ArgumentMatchers.*;
+import static org.mockito.Mockito.*;
+
+@ExtendWith(MockitoExtension.class)
+@DisplayName("UserDirectoryServiceImpl Unit Tests")
+class UserDirectoryServiceImplTest {
+
+    @Mock
+    private JdbcTemplate jdbcTemplate;
+
+    @Mock
+    private EntityManager entityManager;
+
+    @Mock
+    private EntityVersionService entityVersionService;
+
+    @Mock
+    private UserChangeListener changeListener;
+
+    private UserDirectoryServiceImpl userDirectoryService;
+
+    @BeforeEach
+    void setUp() {
+        userDirectoryService = new UserDirectoryServiceImpl(jdbcTemplate, entityManager, entityVersionService,
+                List.of(changeListener));
+    }
+
+    @AfterEach
+    void tearDown() {
+        List.copyOf(TransactionSynchronizationManager.getResourceMap().keySet())
+                .forEach(TransactionSynchronizationManager::unbindResource);
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("Changes inside a transaction are refreshed once in beforeCommit, after a flush")
+    void testMarkUserChanged_RefreshedBeforeCommit() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+
+        // Act
+        userDirectoryService.markUserChanged(1L);
+        userDirectoryService.markUserChanged(2L);
+        userDirectoryService.markUserChanged(1L);
+
+        // Assert
+        verify(entityVersionService, times(2)).touchUser(1L);
+        verifyNoInteractions(jdbcTemplate, changeListener);
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        assertEquals(1, synchronizations.size());
+
+        synchronizations.get(0).beforeCommit(false);
+        InOrder inOrder = inOrder(entityManager, jdbcTemplate);
+        inOrder.verify(entityManager).flush();
+        inOrder.verify(jdbcTemplate).update(startsWith("DELETE FROM user_directory WHERE user_id IN (?,?)"), eq(1L), eq(2L));
+        inOrder.verify(jdbcTemplate).update(endsWith("AND u.id IN (?,?)"), eq(1L), eq(2L));
+        verifyNoInteractions(changeListener);
+
+        synchronizations.get(0).afterCommit();
+        synchronizations.get(0).afterCompletion(TransactionSynchronization.STATUS_COMMITTED);
+        verify(changeListener).onUsersChanged(Set.of(1L, 2L));
+    }
+
+    @Test
+    @DisplayName("A rolled back transaction neither refreshes nor notifies")
+    void testMarkUserChanged_RolledBack() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        userDirectoryService.markUserChanged(1L);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().get(0)
+                .afterCompletion(TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, changeListener);
+    }
+
+    @Test
+    @DisplayName("A changed team refreshes its current and active members")
+    void testMarkTeamChanged_RefreshesMembers() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        when(jdbcTemplate.queryForList(anyString(), eq(Long.class), eq(5L), eq(5L))).thenReturn(List.of(3L, 4L));
+
+        // Act
+        userDirectoryService.markTeamChanged(5L);
+        userDirectoryService.markUserChanged(3L);
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+
+        // Assert
+        verify(entityVersionService).touchTeam(5L);
+        verify(jdbcTemplate).update(startsWith("DELETE FROM user_directory"), eq(3L), eq(4L));
+        verify(jdbcTemplate).update(endsWith("AND u.id IN (?,?)"), eq(3L), eq(4L));
+    }
+
+    @Test
+    @DisplayName("Outside a transaction the row is refreshed and listeners are told at once")
+    void testMarkUserChanged_NoTransaction() {
+        // Act
+        userDirectoryService.markUserChanged(7L);
+
+        // Assert
+        verify(jdbcTemplate).update(startsWith("DELETE FROM user_directory"), eq(7L));
+        verify(jdbcTemplate).update(endsWith("AND u.id IN (?)"), eq(7L));
+        verify(changeListener).onUsersChanged(List.of(7L));
+        verify(entityManager, never()).flush();
+    }
+
+    @Test
+    @DisplayName("A failing listener does not fail the change")
+    void testMarkUserChanged_ListenerFails() {
+        // Arrange
+        doThrow(new IllegalStateException("boom")).when(changeListener).onUsersChanged(any());
+
+        // Act & Assert
+        assertDoesNotThrow(() -> userDirectoryService.markUserChanged(7L));
+    }
+
+    @Test
+    @DisplayName("Large refreshes are split into batches of 500")
+    void testRefresh_Batches() {
+        // Arrange
+        TransactionSynchronizationManager.initSynchronization();
+        LongStream.rangeClosed(1, 501).forEach(userDirectoryService::markUserChanged);
+
+        // Act
+        TransactionSynchronizationManager.getSynchronizations().get(0).beforeCommit(false);
+
+        // Assert
+        verify(jdbcTemplate, times(2)).update(startsWith("DELETE FROM user_directory"), any(Object[].class));
+        verify(jdbcTemplate).update(endsWith("AND u.id IN (?)"), eq(501L));
+    }
+
+    @Test
+    @DisplayName("The directory row takes the earliest active membership of a live team and the open position")
+    void testRefresh_SelectionRules() {
+        // Act
+        userDirectoryService.markUserChanged(1L);
+
+        // Assert
+        ArgumentCaptor<String> sql = ArgumentCaptor.forClass(String.class);
+        verify(jdbcTemplate, times(2)).update(sql.capture(), eq(1L));
+        String insert = sql.getAllValues().get(1);
+        assertTrue(insert.startsWith("INSERT INTO user_directory"));
+        assertTrue(insert.contains("tm.id = (SELECT MIN(tm2.id) FROM team_members tm2"));
+        assertTrue(insert.contains("tm2.status = 'ACTIVE'"));
+        assertTrue(insert.contains("tm2.left_at IS NULL AND t2.deleted_at IS NULL"));
+        assertTrue(insert.contains("ph.id = (SELECT MIN(ph2.id) FROM user_position_history ph2"));
+        assertTrue(insert.contains("ph2.ended_at IS NULL"));
+        assertTrue(insert.contains("WHERE us.user_id = u.id AND s.deleted_at IS NULL"));
+        assertTrue(insert.contains("WHERE u.deleted_at IS NULL AND u.id IN (?)"));
+    }
+
+    @Test
+    @DisplayName("Null ids are ignored")
+    void testMark_NullIds() {
+        // Act
+        userDirectoryService.markUserChanged(null);
+        userDirectoryService.markTeamChanged(null);
+        userDirectoryService.markSkillChanged(null);
+
+        // Assert
+        verifyNoInteractions(jdbcTemplate, entityVersionService, changeListener);
+    }
+}
@@ -4,21 +4,33 @@ import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import vn.sun.membermanagementsystem.config.security.TokenEpochRegistry;
 import vn.sun.membermanagementsystem.dto.request.UserCreateDTO;
+import vn.sun.membermanagementsystem.dto.request.UserUpdateDTO;
 import vn.sun.membermanagementsystem.dto.response.UserListItemDTO;
 import vn.sun.membermanagementsystem.dto.response.UserProfileDetailDTO;
+import vn.sun.membermanagementsystem.entities.Skill;
 import vn.sun.membermanagementsystem.entities.User;
+import vn.sun.membermanagementsystem.entities.UserSkill;
 import vn.sun.membermanagementsystem.enums.UserRole;
 import vn.sun.membermanagementsystem.enums.UserStatus;
 import vn.sun.membermanagementsystem.exception.DuplicateResourceException;
 import vn.sun.membermanagementsystem.exception.ResourceNotFoundException;
 import vn.sun.membermanagementsystem.mapper.UserMapper;
+import vn.sun.membermanagementsystem.repositories.SkillRepository;
+import vn.sun.membermanagementsystem.repositories.UserBulkUpdateRepository;
+import vn.sun.membermanagementsystem.repositories.UserDirectoryRepository;
+import vn.sun.membermanagementsystem.repositories.UserProfileQueryRepository;
 import vn.sun.membermanagementsystem.repositories.UserRepository;
+import vn.sun.membermanagementsystem.repositories.UserSkillRepository;
+import vn.sun.membermanagementsystem.services.UserDirectoryService;
 
+import java.math.BigDecimal;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
 import java.util.Arrays;
@@ -42,6 +54,27 @@ class UserServiceImplTest {
     @Mock
     private UserMapper userMapper;
 
+    @Mock
+    private TokenEpochRegistry tokenEpochRegistry;
+
+    @Mock
+    private UserProfileQueryRepository userProfileQueryRepository;
+
+    @Mock
+    private UserDirectoryRepository userDirectoryRepository;
+
+    @Mock
+    private UserDirectoryService userDirectoryService;
+
+    @Mock
+    private SkillRepository skillRepository;
+
+    @Mock
+    private UserSkillRepository userSkillRepository;
+
+    @Mock
+    private UserBulkUpdateRepository userBulkUpdateRepository;
+
     @InjectMocks
     private UserServiceImpl userService;
 
@@ -101,7 +134,7 @@ class UserServiceImplTest {
         when(userRepository.existsByEmailAndNotDeleted(userCreateDTO.getEmail())).thenReturn(false);
         when(passwordEncoder.encode(userCreateDTO.getPassword())).thenReturn("encodedPassword");
         when(userRepository.save(any(User.class))).thenReturn(testUser);
-        when(userMapper.toProfileDetailDTO(testUser)).thenReturn(userProfileDetailDTO);
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.createUser(userCreateDTO);
 
@@ -113,7 +146,7 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).existsByEmailAndNotDeleted(userCreateDTO.getEmail());
         verify(passwordEncoder, times(1)).encode(userCreateDTO.getPassword());
         verify(userRepository, times(1)).save(any(User.class));
-        verify(userMapper, times(1)).toProfileDetailDTO(testUser);
+        verify(userProfileQueryRepository, times(1)).findProfileById(1L);
     }
 
     @Test
@@ -142,7 +175,7 @@ class UserServiceImplTest {
             assertEquals(UserStatus.ACTIVE, user.getStatus());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.createUser(userCreateDTO);
 
@@ -181,22 +214,21 @@ class UserServiceImplTest {
     @Test
     @DisplayName("Get user detail by ID successfully")
     void testGetUserDetailById_Success() {
-        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(testUser));
-        when(userMapper.toProfileDetailDTO(testUser)).thenReturn(userProfileDetailDTO);
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         UserProfileDetailDTO result = userService.getUserDetailById(1L);
 
         assertNotNull(result);
         assertEquals(1L, result.getId());
         assertEquals("Lê Quốc Việt", result.getName());
-        verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
-        verify(userMapper, times(1)).toProfileDetailDTO(testUser);
+        verify(userProfileQueryRepository, times(1)).findProfileById(1L);
+        verifyNoInteractions(userMapper);
     }
 
     @Test
     @DisplayName("Get user detail by ID not found should throw ResourceNotFoundException")
     void testGetUserDetailById_NotFound_ThrowsException() {
-        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.empty());
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.empty());
 
         ResourceNotFoundException exception = assertThrows(
                 ResourceNotFoundException.class,
@@ -204,7 +236,7 @@ class UserServiceImplTest {
         );
 
         assertTrue(exception.getMessage().contains("User not found with ID"));
-        verify(userRepository, times(1)).findByIdAndNotDeleted(1L);
+        verify(userProfileQueryRepository, times(1)).findProfileById(1L);
     }
 
     @Test
@@ -327,6 +359,20 @@ class UserServiceImplTest {
         verify(userRepository, times(1)).save(argThat(user -> user.getDeletedAt() != null));
     }
 
+    @Test
+    @DisplayName("Delete user moves the token epoch so issued JWTs stop working")
+    void testDeleteUser_BumpsTokenEpoch() {
+        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+
+        userService.deleteUser(1L);
+
+        assertEquals(1, testUser.getTokenEpoch());
+        verify(tokenEpochRegistry, times(1)).evictAfterCommit(1L);
+        verify(userDirectoryService, times(1)).markUserChanged(1L);
+        verify(userBulkUpdateRepository, times(1)).closeMemberships(eq(List.of(1L)), any());
+    }
+
     @Test
     @DisplayName("Create user encodes password correctly")
     void testCreateUser_EncodesPassword() {
@@ -341,7 +387,7 @@ class UserServiceImplTest {
             assertEquals(encodedPassword, user.getPasswordHash());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         userService.createUser(userCreateDTO);
 
@@ -360,7 +406,7 @@ class UserServiceImplTest {
             assertNull(user.getDeletedAt());
             return testUser;
         });
-        when(userMapper.toProfileDetailDTO(any(User.class))).thenReturn(userProfileDetailDTO);
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
 
         userService.createUser(userCreateDTO);
 
@@ -368,4 +414,89 @@ class UserServiceImplTest {
                 user.getCreatedAt() != null && user.getUpdatedAt() != null && user.getDeletedAt() == null
         ));
     }
+
+    @Test
+    @DisplayName("Update user writes only the skill rows that changed")
+    @SuppressWarnings("unchecked")
+    void testUpdateUser_MergesSkills() {
+        Skill java = skill(1L, "Java");
+        Skill python = skill(2L, "Python");
+        Skill go = skill(3L, "Go");
+        Skill sql = skill(4L, "SQL");
+        UserSkill javaRow = userSkill(java, UserSkill.Level.BEGINNER, "1.0");
+        UserSkill pythonRow = userSkill(python, UserSkill.Level.ADVANCED, "2.0");
+        UserSkill sqlRow = userSkill(sql, UserSkill.Level.INTERMEDIATE, "3.0");
+
+        UserUpdateDTO request = UserUpdateDTO.builder()
+                .id(1L)
+                .skills(List.of(
+                        skillEntry(1L, UserSkill.Level.EXPERT, "1.0"),
+                        skillEntry(2L, UserSkill.Level.ADVANCED, "2.00"),
+                        skillEntry(3L, UserSkill.Level.BEGINNER, "0.5")))
+                .build();
+
+        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(skillRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of(java, python, go));
+        when(userSkillRepository.findByUserId(1L)).thenReturn(List.of(javaRow, pythonRow, sqlRow));
+        when(userProfileQueryRepository.findProfileById(1L)).thenReturn(Optional.of(userProfileDetailDTO));
+
+        userService.updateUser(request);
+
+        verify(skillRepository, times(1)).findAllByIdInAndNotDeleted(anyCollection());
+        verify(skillRepository, never()).findByIdAndNotDeleted(anyLong());
+        verify(userSkillRepository, times(1)).deleteAllInBatch(List.of(sqlRow));
+
+        ArgumentCaptor<List<UserSkill>> saved = ArgumentCaptor.forClass(List.class);
+        verify(userSkillRepository, times(1)).saveAll(saved.capture());
+        assertEquals(2, saved.getValue().size());
+        assertSame(javaRow, saved.getValue().get(0));
+        assertEquals(UserSkill.Level.EXPERT, javaRow.getLevel());
+        assertEquals(go, saved.getValue().get(1).getSkill());
+        assertNull(saved.getValue().get(1).getId());
+        assertEquals(UserSkill.Level.ADVANCED, pythonRow.getLevel());
+        assertNull(pythonRow.getUpdatedAt());
+    }
+
+    @Test
+    @DisplayName("Update user with an unknown skill throws ResourceNotFoundException")
+    void testUpdateUser_UnknownSkill_ThrowsException() {
+        UserUpdateDTO request = UserUpdateDTO.builder()
+                .id(1L)
+                .skills(List.of(skillEntry(99L, UserSkill.Level.BEGINNER, "1")))
+                .build();
+
+        when(userRepository.findByIdAndNotDeleted(1L)).thenReturn(Optional.of(testUser));
+        when(userRepository.save(any(User.class))).thenReturn(testUser);
+        when(skillRepository.findAllByIdInAndNotDeleted(anyCollection())).thenReturn(List.of());
+
+        assertThrows(ResourceNotFoundException.class, () -> userService.updateUser(request));
+        verify(userSkillRepository, never()).saveAll(anyList());
+        verify(userSkillRepository, never()).deleteAllInBatch(anyList());
+    }
+
+    private static Skill skill(Long id, String name) {
+        Skill skill = new Skill();
+        skill.setId(id);
+        skill.setName(name);
+        return skill;
+    }
+
+    private UserSkill userSkill(Skill skill, UserSkill.Level level, String years) {
+        UserSkill userSkill = new UserSkill();
+        userSkill.setId(skill.getId() * 10);
+        userSkill.setUser(testUser);
+        userSkill.setSkill(skill);
+        userSkill.setLevel(level);
+        userSkill.setUsedYearNumber(new BigDecimal(years));
+        return userSkill;
+    }
+
+    private static UserUpdateDTO.SkillEntry skillEntry(Long skillId, UserSkill.Level level, String years) {
+        return UserUpdateDTO.SkillEntry.builder()
+                .skillId(skillId)
+                .level(level)
+                .usedYearNumber(new BigDecimal(years))
+                .build();
+    }
 }
@@ -0,0 +1,113 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("InvertedIndex Unit Tests")
+class InvertedIndexTest {
+
+    private InvertedIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new InvertedIndex();
+        index.add(new InvertedIndex.Document(1L, "USER", 100L),
+                "Login failed for john.doe@example.com", "Mozilla/5.0 (Windows NT 10.0)");
+        index.add(new InvertedIndex.Document(2L, "USER", 200L),
+                "Login success for jane@example.com", "curl/8.4.0");
+        index.add(new InvertedIndex.Document(3L, "TEAM", 300L),
+                "Create new team - Method: createTeam", "Mozilla/5.0 (Macintosh) login-helper");
+    }
+
+    @Test
+    @DisplayName("Tokenize keeps e-mail addresses whole and as parts")
+    void testTokenize_CompoundTokens() {
+        Set<String> tokens = InvertedIndex.tokenize("Login failed for John.Doe@Example.com!");
+
+        assertTrue(tokens.contains("john.doe@example.com"));
+        assertTrue(tokens.contains("john"));
+        assertTrue(tokens.contains("example"));
+        assertTrue(tokens.contains("login"));
+        assertFalse(tokens.contains("!"));
+    }
+
+    @Test
+    @DisplayName("Search requires every query term to match")
+    void testSearch_Conjunctive() {
+        InvertedIndex.Hits hits = index.search("login example", d -> true, 0, 10);
+
+        assertEquals(2, hits.total());
+        assertEquals(Set.of(1L, 2L), Set.copyOf(hits.ids()));
+        assertEquals(0, index.search("login unknown", d -> true, 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Search finds a full e-mail address")
+    void testSearch_Email() {
+        InvertedIndex.Hits hits = index.search("john.doe@example.com", d -> true, 0, 10);
+
+        assertEquals(List.of(1L), hits.ids());
+    }
+
+    @Test
+    @DisplayName("Description matches rank above user agent matches")
+    void testSearch_RanksDescriptionFirst() {
+        InvertedIndex.Hits hits = index.search("login", d -> true, 0, 10);
+
+        assertEquals(3, hits.total());
+        assertEquals(3L, hits.ids().get(2));
+        // Equal scores are ordered newest first
+        assertEquals(List.of(2L, 1L), hits.ids().subList(0, 2));
+    }
+
+    @Test
+    @DisplayName("Filter and paging are applied to the ranked hits")
+    void testSearch_FilterAndPaging() {
+        InvertedIndex.Hits hits = index.search("login", d -> "USER".equals(d.entityType()), 1, 1);
+
+        assertEquals(2, hits.total());
+        assertEquals(List.of(1L), hits.ids());
+    }
+
+    @Test
+    @DisplayName("Removed and evicted documents are no longer returned")
+    void testRemoveAndEvict() {
+        assertTrue(index.remove(2L));
+        assertEquals(List.of(1L), index.search("example", d -> true, 0, 10).ids());
+
+        assertEquals(1, index.evict(10, 150L));
+        assertEquals(1, index.size());
+        assertEquals(0, index.search("example", d -> true, 0, 10).total());
+        assertEquals(List.of(3L), index.search("createteam", d -> true, 0, 10).ids());
+    }
+
+    @Test
+    @DisplayName("Eviction records the newest creation time it dropped")
+    void testEvict_RecordsCoverage() {
+        assertEquals(Long.MIN_VALUE, index.getEvictedUpToEpochSecond());
+
+        index.evict(1, Long.MIN_VALUE);
+
+        assertEquals(1, index.size());
+        assertEquals(200L, index.getEvictedUpToEpochSecond());
+        index.removeCreatedBefore(1_000L);
+        assertEquals(200L, index.getEvictedUpToEpochSecond());
+    }
+
+    @Test
+    @DisplayName("Documents created before a cutoff are removed whatever their insertion order")
+    void testRemoveCreatedBefore() {
+        index.add(new InvertedIndex.Document(4L, "USER", 50L), "Late login replay", "curl/8.4.0");
+
+        assertEquals(2, index.removeCreatedBefore(150L));
+        assertEquals(2, index.size());
+        assertEquals(Set.of(2L, 3L), Set.copyOf(index.search("login", d -> true, 0, 10).ids()));
+        assertEquals(0, index.search("replay", d -> true, 0, 10).total());
+    }
+}
@@ -0,0 +1,139 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import vn.sun.membermanagementsystem.entities.UserSkill;
+import vn.sun.membermanagementsystem.enums.UserStatus;
+
+import java.math.BigDecimal;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("SkillInventoryIndex Unit Tests")
+class SkillInventoryIndexTest {
+
+    private static final long JAVA = 1L;
+    private static final long SQL = 2L;
+    private static final long REACT = 3L;
+
+    private SkillInventoryIndex index;
+
+    @BeforeEach
+    void setUp() {
+        index = new SkillInventoryIndex();
+        index.put(user(1L, UserStatus.ACTIVE, 10L,
+                skill(JAVA, UserSkill.Level.EXPERT, "6.00"), skill(SQL, UserSkill.Level.INTERMEDIATE, "2.50")));
+        index.put(user(2L, UserStatus.ACTIVE, 20L,
+                skill(JAVA, UserSkill.Level.ADVANCED, "2.40"), skill(REACT, UserSkill.Level.BEGINNER, "0.50")));
+        index.put(user(3L, UserStatus.INACTIVE, 10L,
+                skill(JAVA, UserSkill.Level.BEGINNER, "1.00")));
+        index.put(user(4L, UserStatus.ACTIVE, null,
+                skill(SQL, UserSkill.Level.EXPERT, "10.00"), skill(REACT, UserSkill.Level.ADVANCED, "3.00")));
+    }
+
+    @Test
+    @DisplayName("Criterion matches the level and everything above it")
+    void testCriterion_MinLevel() {
+        assertEquals(List.of(1L, 2L, 3L), ids(criterion(JAVA, null, null)));
+        assertEquals(List.of(1L, 2L), ids(criterion(JAVA, UserSkill.Level.ADVANCED, null)));
+        assertEquals(List.of(1L), ids(criterion(JAVA, UserSkill.Level.EXPERT, null)));
+    }
+
+    @Test
+    @DisplayName("Criterion checks exact years inside the straddled bucket")
+    void testCriterion_MinYears() {
+        assertEquals(List.of(1L, 2L), ids(criterion(JAVA, null, "2.4")));
+        assertEquals(List.of(1L), ids(criterion(JAVA, null, "2.41")));
+        assertEquals(List.of(1L, 2L, 3L), ids(criterion(JAVA, null, "1")));
+        assertEquals(List.of(4L), ids(criterion(SQL, null, "10")));
+    }
+
+    @Test
+    @DisplayName("AND and OR groups nest")
+    void testGroups() {
+        SkillInventoryIndex.Query query = new SkillInventoryIndex.Or(List.of(
+                new SkillInventoryIndex.And(List.of(criterion(JAVA, null, null), criterion(SQL, null, null))),
+                criterion(REACT, UserSkill.Level.ADVANCED, null)));
+
+        assertEquals(List.of(1L, 4L), ids(query));
+        assertEquals(List.of(), ids(new SkillInventoryIndex.And(List.of(
+                criterion(JAVA, null, null), criterion(99L, null, null)))));
+    }
+
+    @Test
+    @DisplayName("Status and team filters narrow the matches")
+    void testSearch_Filters() {
+        SkillInventoryIndex.Query java = criterion(JAVA, null, null);
+
+        assertEquals(List.of(1L, 2L), index.search(java, UserStatus.ACTIVE, null, 0, 10).ids());
+        assertEquals(List.of(1L, 3L), index.search(java, null, 10L, 0, 10).ids());
+        assertEquals(List.of(1L), index.search(java, UserStatus.ACTIVE, 10L, 0, 10).ids());
+        assertEquals(0, index.search(java, null, 30L, 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("A member of several teams is found under each of them until removed")
+    void testSearch_SeveralTeams() {
+        SkillInventoryIndex.Query react = criterion(REACT, null, null);
+        index.put(new SkillInventoryIndex.UserEntry(4L, UserStatus.ACTIVE, List.of(10L, 30L, 10L),
+                List.of(skill(REACT, UserSkill.Level.ADVANCED, "3.00"))));
+
+        assertEquals(List.of(4L), index.search(react, null, 10L, 0, 10).ids());
+        assertEquals(List.of(4L), index.search(react, null, 30L, 0, 10).ids());
+
+        index.put(new SkillInventoryIndex.UserEntry(4L, UserStatus.ACTIVE, List.of(30L),
+                List.of(skill(REACT, UserSkill.Level.ADVANCED, "3.00"))));
+
+        assertEquals(0, index.search(react, null, 10L, 0, 10).total());
+        assertEquals(List.of(4L), index.search(react, null, 30L, 0, 10).ids());
+
+        index.remove(4L);
+        assertEquals(0, index.search(react, null, 30L, 0, 10).total());
+    }
+
+    @Test
+    @DisplayName("Search pages the matches and reports the total")
+    void testSearch_Paging() {
+        SkillInventoryIndex.Hits hits = index.search(criterion(JAVA, null, null), null, null, 1, 1);
+
+        assertEquals(3, hits.total());
+        assertEquals(List.of(2L), hits.ids());
+    }
+
+    @Test
+    @DisplayName("Put replaces what was indexed and remove forgets the user")
+    void testPutAndRemove() {
+        index.put(user(1L, UserStatus.INACTIVE, 20L, skill(REACT, UserSkill.Level.EXPERT, "4.00")));
+
+        assertEquals(List.of(2L, 3L), ids(criterion(JAVA, null, null)));
+        assertEquals(List.of(1L, 2L, 4L), ids(criterion(REACT, null, null)));
+        assertEquals(List.of(1L, 2L), index.search(criterion(REACT, null, null), null, 20L, 0, 10).ids());
+        assertEquals(List.of(2L, 4L), index.search(criterion(REACT, null, null), UserStatus.ACTIVE, null, 0, 10).ids());
+
+        index.remove(1L);
+        index.remove(3L);
+
+        assertEquals(List.of(2L), ids(criterion(JAVA, null, null)));
+        assertEquals(List.of(2L, 4L), ids(criterion(REACT, null, null)));
+        assertEquals(2, index.size());
+    }
+
+    private List<Long> ids(SkillInventoryIndex.Query query) {
+        return index.search(query, null, null, 0, 100).ids();
+    }
+
+    private static SkillInventoryIndex.Criterion criterion(long skillId, UserSkill.Level minLevel, String minYears) {
+        return new SkillInventoryIndex.Criterion(skillId, minLevel, minYears != null ? new BigDecimal(minYears) : null);
+    }
+
+    private static SkillInventoryIndex.UserEntry user(long id, UserStatus status, Long teamId,
+                                                      SkillInventoryIndex.SkillEntry... skills) {
+        return new SkillInventoryIndex.UserEntry(id, status, teamId != null ? List.of(teamId) : List.of(), List.of(skills));
+    }
+
+    private static SkillInventoryIndex.SkillEntry skill(long skillId, UserSkill.Level level, String years) {
+        return new SkillInventoryIndex.SkillEntry(skillId, level, new BigDecimal(years));
+    }
+}
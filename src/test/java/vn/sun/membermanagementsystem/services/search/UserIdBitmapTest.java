@@ -0,0 +1,118 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserIdBitmap Unit Tests")
+class UserIdBitmapTest {
+
+    @Test
+    @DisplayName("Add, contains and remove behave like a set")
+    void testAddContainsRemove() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+
+        assertTrue(bitmap.add(5));
+        assertFalse(bitmap.add(5));
+        assertTrue(bitmap.add(70_000));
+        assertTrue(bitmap.contains(5));
+        assertTrue(bitmap.contains(70_000));
+        assertFalse(bitmap.contains(6));
+        assertEquals(2, bitmap.cardinality());
+
+        assertTrue(bitmap.remove(5));
+        assertFalse(bitmap.remove(5));
+        assertFalse(bitmap.contains(5));
+        assertEquals(1, bitmap.cardinality());
+        assertThrows(IllegalArgumentException.class, () -> bitmap.add(-1));
+    }
+
+    @Test
+    @DisplayName("Dense groups switch to the bitmap form and back without losing ids")
+    void testDenseGroup() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (int id = 0; id < 10_000; id++) {
+            bitmap.add(id * 2);
+        }
+        assertEquals(10_000, bitmap.cardinality());
+        assertTrue(bitmap.contains(19_998));
+        assertFalse(bitmap.contains(19_999));
+
+        for (int id = 0; id < 9_000; id++) {
+            bitmap.remove(id * 2);
+        }
+        assertEquals(1_000, bitmap.cardinality());
+        assertFalse(bitmap.contains(0));
+        assertTrue(bitmap.contains(18_000));
+        assertArrayEquals(new int[]{18_000, 18_002}, bitmap.toArray(0, 2));
+    }
+
+    @Test
+    @DisplayName("AND and OR match set intersection and union in every container combination")
+    void testAndOr_MatchSets() {
+        Random random = new Random(42);
+        TreeSet<Integer> sparse = new TreeSet<>();
+        TreeSet<Integer> dense = new TreeSet<>();
+        UserIdBitmap sparseBitmap = new UserIdBitmap();
+        UserIdBitmap denseBitmap = new UserIdBitmap();
+        for (int i = 0; i < 3_000; i++) {
+            int id = random.nextInt(200_000);
+            sparse.add(id);
+            sparseBitmap.add(id);
+        }
+        for (int i = 0; i < 60_000; i++) {
+            int id = random.nextInt(140_000);
+            dense.add(id);
+            denseBitmap.add(id);
+        }
+
+        TreeSet<Integer> intersection = new TreeSet<>(sparse);
+        intersection.retainAll(dense);
+        TreeSet<Integer> union = new TreeSet<>(sparse);
+        union.addAll(dense);
+
+        assertEquals(List.copyOf(intersection), toList(UserIdBitmap.and(sparseBitmap, denseBitmap)));
+        assertEquals(List.copyOf(intersection), toList(UserIdBitmap.and(denseBitmap, sparseBitmap)));
+        assertEquals(List.copyOf(union), toList(UserIdBitmap.or(sparseBitmap, denseBitmap)));
+        assertEquals(List.copyOf(dense), toList(UserIdBitmap.and(denseBitmap, denseBitmap)));
+        assertEquals(List.copyOf(sparse), toList(UserIdBitmap.or(sparseBitmap, new UserIdBitmap())));
+        assertEquals(sparse.size(), sparseBitmap.cardinality());
+    }
+
+    @Test
+    @DisplayName("Results do not share state with their operands")
+    void testOr_CopiesOperands() {
+        UserIdBitmap left = new UserIdBitmap();
+        left.add(1);
+        UserIdBitmap union = UserIdBitmap.or(left, new UserIdBitmap());
+
+        union.add(2);
+
+        assertFalse(left.contains(2));
+    }
+
+    @Test
+    @DisplayName("toArray pages through the ids in ascending order")
+    void testToArray_Paging() {
+        UserIdBitmap bitmap = new UserIdBitmap();
+        for (int id = 0; id < 100_000; id += 3) {
+            bitmap.add(id);
+        }
+
+        assertArrayEquals(new int[]{0, 3, 6}, bitmap.toArray(0, 3));
+        assertArrayEquals(new int[]{65_535, 65_538}, bitmap.toArray(21_845, 2));
+        assertEquals(0, bitmap.toArray(bitmap.cardinality(), 10).length);
+    }
+
+    private static List<Integer> toList(UserIdBitmap bitmap) {
+        List<Integer> ids = new ArrayList<>();
+        bitmap.forEach(ids::add);
+        return ids;
+    }
+}
@@ -0,0 +1,53 @@
+package vn.sun.membermanagementsystem.services.search;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+@DisplayName("UserSearchText Unit Tests")
+class UserSearchTextTest {
+
+    @Test
+    @DisplayName("Normalizing folds diacritics, đ and case and collapses separators")
+    void testNormalize() {
+        assertEquals("nguyen van duc", UserSearchText.normalize("  Nguyễn   Văn ĐỨC "));
+        assertEquals("an nguyen example com", UserSearchText.normalize("an.nguyen@example.com"));
+        assertEquals("c java", UserSearchText.normalize("C++, Java!"));
+        assertEquals("", UserSearchText.normalize("--"));
+        assertEquals("", UserSearchText.normalize(null));
+    }
+
+    @Test
+    @DisplayName("search_text joins the folded name and e-mail")
+    void testOf() {
+        assertEquals("le thi hoa hoa le example com", UserSearchText.of("Lê Thị Hoa", "hoa.le@example.com"));
+        assertEquals("hoa example com", UserSearchText.of(null, "hoa@example.com"));
+    }
+
+    @Test
+    @DisplayName("Every indexable term is required as a phrase")
+    void testToMatchQuery() {
+        assertEquals("+\"nguyen\" +\"van\"", UserSearchText.toMatchQuery("Nguyễn Văn"));
+        assertEquals("+\"java\"", UserSearchText.toMatchQuery("C java"));
+        assertNull(UserSearchText.toMatchQuery("a b"));
+        assertNull(UserSearchText.toMatchQuery("  "));
+        assertNull(UserSearchText.toMatchQuery(null));
+    }
+
+    @Test
+    @DisplayName("Keywords of one-character terms only are matched as a whole phrase")
+    void testToLikePattern_ShortTermsOnly() {
+        assertEquals("%a b%", UserSearchText.toLikePattern("A  b"));
+        assertEquals("%d%", UserSearchText.toLikePattern("Đ"));
+    }
+
+    @Test
+    @DisplayName("One-character terms of a mixed keyword are kept as a LIKE pattern next to the match query")
+    void testToLikePattern_MixedKeyword() {
+        assertEquals("%c%", UserSearchText.toLikePattern("C java"));
+        assertEquals("%c%x%", UserSearchText.toLikePattern("c java x"));
+        assertNull(UserSearchText.toLikePattern("java spring"));
+        assertNull(UserSearchText.toLikePattern(""));
+    }
+}